@@ -1,9 +1,16 @@
 package com.agms.backend.config;
 
 import com.agms.backend.model.*;
+import com.agms.backend.model.ubys.UbysStaffRecord;
 import com.agms.backend.model.users.*;
 import com.agms.backend.repository.*;
+import com.agms.backend.service.GraduationHierarchyBuilder;
 import com.agms.backend.service.UbysService;
+import com.agms.backend.service.UbysSyncService;
+import com.agms.backend.service.ubys.UbysEntityMapper;
+import com.agms.backend.service.ubys.UbysSection;
+import com.agms.backend.service.ubys.UbysSnapshot;
+import com.agms.backend.service.ubys.UbysStreamingImporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,7 +19,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.sql.Timestamp;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,10 +38,9 @@ public class DataInitializer implements CommandLineRunner {
     private final StudentAffairsRepository studentAffairsRepository;
     private final GraduationRepository graduationRepository;
     private final GraduationListRepository graduationListRepository;
-    private final FacultyListRepository facultyListRepository;
-    private final DepartmentListRepository departmentListRepository;
-    private final AdvisorListRepository advisorListRepository;
     private final UbysService ubysService;
+    private final GraduationHierarchyBuilder graduationHierarchyBuilder;
+    private final UbysSyncService ubysSyncService;
     private final PasswordEncoder passwordEncoder;
 
     @Value("${app.data.initialization.enabled:true}")
@@ -62,6 +68,9 @@ public class DataInitializer implements CommandLineRunner {
             // Initialize graduation hierarchy
             initializeGraduationHierarchy();
 
+            // Mark the imported records as synced so the first UBYS sync only writes real changes
+            ubysSyncService.recordBaseline();
+
             log.info("Data initialization completed successfully!");
 
         } catch (Exception e) {
@@ -87,14 +96,18 @@ public class DataInitializer implements CommandLineRunner {
         log.debug("Initializing student affairs from ubys.json...");
 
         try {
-            List<StudentAffairs> studentAffairsList = ubysService.getAllStudentAffairsForDbInitialization();
-            log.info("Found {} student affairs in ubys.json to initialize", studentAffairsList.size());
-
-            for (StudentAffairs studentAffairs : studentAffairsList) {
-                studentAffairs.setPassword(passwordEncoder.encode("Password123!"));
-                studentAffairsRepository.save(studentAffairs);
-                log.debug("Initialized StudentAffairs: {}", studentAffairs.getEmpId());
-            }
+            int count = ubysService.importSection(UbysSection.STUDENT_AFFAIRS,
+                    (empId, ubysRecord) -> {
+                        StudentAffairs studentAffairs = UbysEntityMapper.toStudentAffairs(empId, ubysRecord);
+                        studentAffairs.setPassword(passwordEncoder.encode("Password123!"));
+                        return studentAffairs;
+                    },
+                    UbysStreamingImporter.DEFAULT_BATCH_SIZE,
+                    batch -> {
+                        studentAffairsRepository.saveAll(batch);
+                        log.debug("Initialized {} StudentAffairs", batch.size());
+                    });
+            log.info("Initialized {} student affairs from ubys.json", count);
 
         } catch (Exception e) {
             log.error("Error initializing student affairs from ubys.json: {}", e.getMessage());
@@ -106,25 +119,27 @@ public class DataInitializer implements CommandLineRunner {
         log.debug("Initializing dean officers from ubys.json...");
 
         try {
-            List<DeanOfficer> deanOfficers = ubysService.getAllDeanOfficersForDbInitialization();
-            log.info("Found {} dean officers in ubys.json to initialize", deanOfficers.size());
-
             // Get the StudentAffairs (assuming there's only one)
             StudentAffairs studentAffairs = studentAffairsRepository.findAll().get(0);
 
-            for (DeanOfficer deanOfficer : deanOfficers) {
-                deanOfficer.setPassword(passwordEncoder.encode("Password123!"));
-                deanOfficer.setStudentAffairs(studentAffairs);
+            int count = ubysService.importSection(UbysSection.DEAN_OFFICERS,
+                    (empId, ubysRecord) -> {
+                        DeanOfficer deanOfficer = UbysEntityMapper.toDeanOfficer(empId, ubysRecord);
+                        deanOfficer.setPassword(passwordEncoder.encode("Password123!"));
+                        deanOfficer.setStudentAffairs(studentAffairs);
 
-                // The faculty field should already be set from UBYS data
-                String faculty = deanOfficer.getFaculty();
-                if (faculty == null) {
-                    log.warn("DeanOfficer {} has no faculty field from UBYS data", deanOfficer.getEmpId());
-                }
-
-                deanOfficerRepository.save(deanOfficer);
-                log.debug("Initialized DeanOfficer: {} for faculty: {}", deanOfficer.getEmpId(), faculty);
-            }
+                        // The faculty field should already be set from UBYS data
+                        if (deanOfficer.getFaculty() == null) {
+                            log.warn("DeanOfficer {} has no faculty field from UBYS data", deanOfficer.getEmpId());
+                        }
+                        return deanOfficer;
+                    },
+                    UbysStreamingImporter.DEFAULT_BATCH_SIZE,
+                    batch -> {
+                        deanOfficerRepository.saveAll(batch);
+                        log.debug("Initialized {} DeanOfficers", batch.size());
+                    });
+            log.info("Initialized {} dean officers from ubys.json", count);
 
         } catch (Exception e) {
             log.error("Error initializing dean officers from ubys.json: {}", e.getMessage());
@@ -136,41 +151,55 @@ public class DataInitializer implements CommandLineRunner {
         log.debug("Initializing department secretaries from ubys.json...");
 
         try {
-            List<DepartmentSecretary> departmentSecretaries = ubysService
-                    .getAllDepartmentSecretariesForDbInitialization();
-            log.info("Found {} department secretaries in ubys.json to initialize", departmentSecretaries.size());
-
-            for (DepartmentSecretary departmentSecretary : departmentSecretaries) {
-                departmentSecretary.setPassword(passwordEncoder.encode("Password123!"));
-
-                // The department field should already be set from UBYS data
-                String department = departmentSecretary.getDepartment();
-                if (department == null) {
-                    log.warn("DepartmentSecretary {} has no department field from UBYS data",
-                            departmentSecretary.getEmpId());
-                    continue;
+            // Dean officers are few; index the ones just imported instead of querying per secretary.
+            // Faculties are resolved from them rather than from a UBYS snapshot, which would parse the
+            // whole export, students included, in the middle of the streaming import
+            Map<String, DeanOfficer> deanOfficersByEmpId = new HashMap<>();
+            Map<String, DeanOfficer> deanOfficersByFaculty = new HashMap<>();
+            for (DeanOfficer deanOfficer : deanOfficerRepository.findAll()) {
+                deanOfficersByEmpId.put(deanOfficer.getEmpId(), deanOfficer);
+                if (deanOfficer.getFaculty() != null) {
+                    deanOfficersByFaculty.putIfAbsent(deanOfficer.getFaculty(), deanOfficer);
                 }
+            }
 
-                // Auto-match dean officer based on department -> faculty mapping
-                String facultyName = getFacultyForDepartment(department);
-                if (facultyName != null) {
-                    DeanOfficer deanOfficer = deanOfficerRepository.findByFaculty(facultyName).orElse(null);
-                    if (deanOfficer != null) {
-                        departmentSecretary.setDeanOfficer(deanOfficer);
-                        log.debug("Auto-matched DepartmentSecretary {} (dept: {}) with DeanOfficer {} (faculty: {})",
-                                departmentSecretary.getEmpId(), department,
-                                deanOfficer.getEmpId(), facultyName);
-                    } else {
-                        log.warn("No dean officer found for faculty: {}", facultyName);
-                    }
-                } else {
-                    log.warn("Could not determine faculty for department: {}", department);
-                }
+            int count = ubysService.importSection(UbysSection.DEPARTMENT_SECRETARIES,
+                    (empId, ubysRecord) -> {
+                        DepartmentSecretary departmentSecretary = UbysEntityMapper.toDepartmentSecretary(empId,
+                                ubysRecord);
+                        departmentSecretary.setPassword(passwordEncoder.encode("Password123!"));
+
+                        // The department field should already be set from UBYS data
+                        String department = departmentSecretary.getDepartment();
+                        if (department == null) {
+                            log.warn("DepartmentSecretary {} has no department field from UBYS data",
+                                    departmentSecretary.getEmpId());
+                            return null;
+                        }
 
-                secretaryRepository.save(departmentSecretary);
-                log.debug("Initialized DepartmentSecretary: {} for department: {}",
-                        departmentSecretary.getEmpId(), department);
-            }
+                        // Auto-match dean officer based on department -> faculty mapping
+                        String facultyName = getFacultyForDepartment(ubysRecord, deanOfficersByEmpId);
+                        if (facultyName != null) {
+                            DeanOfficer deanOfficer = deanOfficersByFaculty.get(facultyName);
+                            if (deanOfficer != null) {
+                                departmentSecretary.setDeanOfficer(deanOfficer);
+                                log.debug("Auto-matched DepartmentSecretary {} (dept: {}) with DeanOfficer {} (faculty: {})",
+                                        departmentSecretary.getEmpId(), department,
+                                        deanOfficer.getEmpId(), facultyName);
+                            } else {
+                                log.warn("No dean officer found for faculty: {}", facultyName);
+                            }
+                        } else {
+                            log.warn("Could not determine faculty for department: {}", department);
+                        }
+                        return departmentSecretary;
+                    },
+                    UbysStreamingImporter.DEFAULT_BATCH_SIZE,
+                    batch -> {
+                        secretaryRepository.saveAll(batch);
+                        log.debug("Initialized {} DepartmentSecretaries", batch.size());
+                    });
+            log.info("Read {} department secretaries from ubys.json", count);
 
         } catch (Exception e) {
             log.error("Error initializing department secretaries from ubys.json: {}", e.getMessage());
@@ -182,32 +211,42 @@ public class DataInitializer implements CommandLineRunner {
         log.debug("Initializing advisors from ubys.json...");
 
         try {
-            List<Advisor> advisors = ubysService.getAllAdvisorsForDbInitialization();
-            log.info("Found {} advisors in ubys.json to initialize", advisors.size());
-
-            for (Advisor advisor : advisors) {
-                advisor.setPassword(passwordEncoder.encode("Password123!"));
-
-                // The department field should already be set from UBYS data
-                String department = advisor.getDepartment();
-                if (department == null) {
-                    log.warn("Advisor {} has no department field from UBYS data", advisor.getEmpId());
-                    continue;
+            Map<String, DepartmentSecretary> secretariesByDepartment = new HashMap<>();
+            for (DepartmentSecretary secretary : secretaryRepository.findAll()) {
+                if (secretary.getDepartment() != null) {
+                    secretariesByDepartment.putIfAbsent(secretary.getDepartment(), secretary);
                 }
+            }
 
-                // Auto-match department secretary based on advisor's department
-                DepartmentSecretary departmentSecretary = secretaryRepository.findByDepartment(department).orElse(null);
-                if (departmentSecretary != null) {
-                    advisor.setDepartmentSecretary(departmentSecretary);
-                    log.debug("Auto-matched Advisor {} with DepartmentSecretary {} (dept: {})",
-                            advisor.getEmpId(), departmentSecretary.getEmpId(), department);
-                } else {
-                    log.warn("No department secretary found for department: {}", department);
-                }
+            int count = ubysService.importSection(UbysSection.ADVISORS,
+                    (empId, ubysRecord) -> {
+                        Advisor advisor = UbysEntityMapper.toAdvisor(empId, ubysRecord);
+                        advisor.setPassword(passwordEncoder.encode("Password123!"));
 
-                advisorRepository.save(advisor);
-                log.debug("Initialized Advisor: {}", advisor.getEmpId());
-            }
+                        // The department field should already be set from UBYS data
+                        String department = advisor.getDepartment();
+                        if (department == null) {
+                            log.warn("Advisor {} has no department field from UBYS data", advisor.getEmpId());
+                            return null;
+                        }
+
+                        // Auto-match department secretary based on advisor's department
+                        DepartmentSecretary departmentSecretary = secretariesByDepartment.get(department);
+                        if (departmentSecretary != null) {
+                            advisor.setDepartmentSecretary(departmentSecretary);
+                            log.debug("Auto-matched Advisor {} with DepartmentSecretary {} (dept: {})",
+                                    advisor.getEmpId(), departmentSecretary.getEmpId(), department);
+                        } else {
+                            log.warn("No department secretary found for department: {}", department);
+                        }
+                        return advisor;
+                    },
+                    UbysStreamingImporter.DEFAULT_BATCH_SIZE,
+                    batch -> {
+                        advisorRepository.saveAll(batch);
+                        log.debug("Initialized {} Advisors", batch.size());
+                    });
+            log.info("Read {} advisors from ubys.json", count);
 
         } catch (Exception e) {
             log.error("Error initializing advisors from ubys.json: {}", e.getMessage());
@@ -219,65 +258,47 @@ public class DataInitializer implements CommandLineRunner {
         log.debug("Initializing students from ubys.json...");
 
         try {
-            // Get the raw UBYS data to access advisorId information
-            Map<String, Object> ubysData = ubysService.getAllData();
-            Map<String, Object> studentsSection = (Map<String, Object>) ubysData.get("students");
-
-            List<Student> studentsFromUbys = ubysService.getAllStudentsForDbInitialization();
-            log.info("Found {} students in ubys.json to initialize", studentsFromUbys.size());
-
-            int successCount = 0;
-            int failCount = 0;
-
-            for (Student student : studentsFromUbys) {
-                try {
-                    student.setPassword(passwordEncoder.encode("Password123!"));
-
-                    // Get the advisorId from the original UBYS data (object-oriented approach)
-                    Map<String, Object> studentData = (Map<String, Object>) studentsSection
-                            .get(student.getStudentNumber());
-                    String advisorId = studentData != null ? (String) studentData.get("advisorId") : null;
-
-                    if (advisorId != null) {
-                        // Find the specific advisor by empId
-                        Advisor assignedAdvisor = advisorRepository.findByEmpId(advisorId).orElse(null);
-                        if (assignedAdvisor != null) {
-                            // Verify that the advisor's department matches the student's department
-                            if (assignedAdvisor.getDepartment().equals(student.getDepartment())) {
-                                student.setAdvisor(assignedAdvisor);
-
-                                if (successCount % 10 == 0) {
-                                    log.debug("Assigned student {} (dept: {}) to advisor {} (dept: {})",
-                                            student.getStudentNumber(), student.getDepartment(),
-                                            assignedAdvisor.getEmpId(), assignedAdvisor.getDepartment());
+            // Advisors are bounded by staff size, students are not: keep only the advisors in memory
+            Map<String, Advisor> advisorsByEmpId = new HashMap<>();
+            for (Advisor advisor : advisorRepository.findAll()) {
+                advisorsByEmpId.put(advisor.getEmpId(), advisor);
+            }
+
+            int[] successCount = { 0 };
+            int[] failCount = { 0 };
+
+            int count = ubysService.importSection(UbysSection.STUDENTS,
+                    (studentNumber, ubysRecord) -> {
+                        Student student = UbysEntityMapper.toStudent(studentNumber, ubysRecord);
+                        student.setPassword(passwordEncoder.encode("Password123!"));
+                        assignAdvisor(student, ubysRecord.getAdvisorId(), advisorsByEmpId);
+                        return student;
+                    },
+                    UbysStreamingImporter.DEFAULT_BATCH_SIZE,
+                    batch -> {
+                        try {
+                            studentRepository.saveAll(batch);
+                            successCount[0] += batch.size();
+                        } catch (Exception batchError) {
+                            // Fall back to row-by-row so one bad record does not drop the whole batch
+                            log.warn("Batch insert of {} students failed, retrying individually: {}",
+                                    batch.size(), batchError.getMessage());
+                            for (Student student : batch) {
+                                try {
+                                    studentRepository.save(student);
+                                    successCount[0]++;
+                                } catch (Exception e) {
+                                    failCount[0]++;
+                                    log.warn("Failed to initialize student {}: {}", student.getStudentNumber(),
+                                            e.getMessage());
                                 }
-                            } else {
-                                log.warn("Department mismatch: Student {} (dept: {}) assigned to advisor {} (dept: {})",
-                                        student.getStudentNumber(), student.getDepartment(),
-                                        assignedAdvisor.getEmpId(), assignedAdvisor.getDepartment());
                             }
-                        } else {
-                            log.warn("Advisor with ID {} not found for student {}", advisorId,
-                                    student.getStudentNumber());
                         }
-                    } else {
-                        log.warn("Student {} has no advisorId field from UBYS data", student.getStudentNumber());
-                    }
-
-                    studentRepository.save(student);
-                    successCount++;
-
-                    if (successCount % 50 == 0) {
-                        log.debug("Initialized {} students so far...", successCount);
-                    }
+                        log.debug("Initialized {} students so far...", successCount[0]);
+                    });
 
-                } catch (Exception e) {
-                    failCount++;
-                    log.warn("Failed to initialize student {}: {}", student.getStudentNumber(), e.getMessage());
-                }
-            }
-
-            log.info("Student initialization completed. Success: {}, Failed: {}", successCount, failCount);
+            log.info("Student initialization completed. Read: {}, Success: {}, Failed: {}",
+                    count, successCount[0], failCount[0]);
 
         } catch (Exception e) {
             log.error("Error initializing students from ubys.json: {}", e.getMessage());
@@ -285,62 +306,32 @@ public class DataInitializer implements CommandLineRunner {
         }
     }
 
-    private Graduation createGraduation(String graduationId, Timestamp requestDate, String term,
-            String status, StudentAffairs studentAffairs) {
-        var graduation = Graduation.builder()
-                .graduationId(graduationId)
-                .requestDate(requestDate)
-                .term(term)
-                .status(status)
-                .studentAffairs(studentAffairs)
-                .build();
-        return graduationRepository.save(graduation);
-    }
-
-    private GraduationList createGraduationList(String listId, Graduation graduation) {
-        var graduationList = GraduationList.builder()
-                .listId(listId)
-                .creationDate(new Timestamp(System.currentTimeMillis()))
-                .graduation(graduation)
-                .build();
-        return graduationListRepository.save(graduationList);
-    }
-
-    private FacultyList createFacultyList(String facultyListId, String faculty, DeanOfficer deanOfficer,
-            GraduationList graduationList) {
-        var facultyList = FacultyList.builder()
-                .facultyListId(facultyListId)
-                .faculty(faculty)
-                .creationDate(new Timestamp(System.currentTimeMillis()))
-                .deanOfficer(deanOfficer)
-                .graduationList(graduationList)
-                .build();
-        return facultyListRepository.save(facultyList);
-    }
+    private void assignAdvisor(Student student, String advisorId, Map<String, Advisor> advisorsByEmpId) {
+        if (advisorId == null) {
+            log.warn("Student {} has no advisorId field from UBYS data", student.getStudentNumber());
+            return;
+        }
 
-    private DepartmentList createDepartmentList(String deptListId, String department,
-            DepartmentSecretary departmentSecretary, FacultyList facultyList) {
-        var departmentList = DepartmentList.builder()
-                .deptListId(deptListId)
-                .department(department)
-                .creationDate(new Timestamp(System.currentTimeMillis()))
-                .secretary(departmentSecretary)
-                .facultyList(facultyList)
-                .build();
-        return departmentListRepository.save(departmentList);
-    }
+        // Find the specific advisor by empId
+        Advisor assignedAdvisor = advisorsByEmpId.get(advisorId);
+        if (assignedAdvisor == null) {
+            log.warn("Advisor with ID {} not found for student {}", advisorId, student.getStudentNumber());
+            return;
+        }
 
-    private AdvisorList createAdvisorList(String advisorListId, Advisor advisor, DepartmentList departmentList) {
-        var advisorList = AdvisorList.builder()
-                .advisorListId(advisorListId)
-                .creationDate(new Timestamp(System.currentTimeMillis()))
-                .advisor(advisor)
-                .departmentList(departmentList)
-                .build();
-        return advisorListRepository.save(advisorList);
+        // Verify that the advisor's department matches the student's department
+        if (assignedAdvisor.getDepartment().equals(student.getDepartment())) {
+            student.setAdvisor(assignedAdvisor);
+            log.trace("Assigned student {} (dept: {}) to advisor {} (dept: {})",
+                    student.getStudentNumber(), student.getDepartment(),
+                    assignedAdvisor.getEmpId(), assignedAdvisor.getDepartment());
+        } else {
+            log.warn("Department mismatch: Student {} (dept: {}) assigned to advisor {} (dept: {})",
+                    student.getStudentNumber(), student.getDepartment(),
+                    assignedAdvisor.getEmpId(), assignedAdvisor.getDepartment());
+        }
     }
 
-    @org.springframework.transaction.annotation.Transactional
     private void initializeGraduationHierarchy() {
         log.debug("Initializing graduation hierarchy...");
 
@@ -361,50 +352,9 @@ public class DataInitializer implements CommandLineRunner {
                 return;
             }
 
-            // Create a default graduation for current term
+            // Create a default graduation for current term with all lists in one batched pass
             StudentAffairs studentAffairs = studentAffairsRepository.findAll().get(0);
-            String graduationId = "GRAD_" + currentTerm.replace("-", "_");
-
-            Graduation graduation = createGraduation(graduationId, new Timestamp(System.currentTimeMillis()),
-                    currentTerm, "IN_PROGRESS", studentAffairs);
-
-            // Create graduation list
-            String graduationListId = "GL_" + graduationId;
-            GraduationList graduationList = createGraduationList(graduationListId, graduation);
-
-            // Create faculty lists for each dean officer
-            List<DeanOfficer> deanOfficers = deanOfficerRepository.findAll();
-            for (DeanOfficer deanOfficer : deanOfficers) {
-                String facultyListId = "FL_" + deanOfficer.getEmpId();
-                FacultyList facultyList = createFacultyList(facultyListId, deanOfficer.getFaculty(),
-                        deanOfficer, graduationList);
-                log.debug("Created FacultyList: {} for faculty: {}", facultyListId, deanOfficer.getFaculty());
-
-                // Create department lists for each department secretary under this specific
-                // dean officer
-                List<DepartmentSecretary> departmentSecretaries = secretaryRepository
-                        .findByDeanOfficerEmpId(deanOfficer.getEmpId());
-                for (DepartmentSecretary secretary : departmentSecretaries) {
-                    String deptListId = "DL_" + secretary.getEmpId();
-                    DepartmentList departmentList = createDepartmentList(deptListId, secretary.getDepartment(),
-                            secretary, facultyList);
-                    log.debug("Created DepartmentList: {} for department: {}", deptListId, secretary.getDepartment());
-
-                    // Create advisor lists for each advisor under this specific department
-                    // secretary
-                    List<Advisor> advisors = advisorRepository.findByDepartmentSecretaryEmpId(secretary.getEmpId());
-                    for (Advisor advisor : advisors) {
-                        String advisorListId = "AL_" + advisor.getEmpId();
-                        AdvisorList advisorList = createAdvisorList(advisorListId, advisor, departmentList);
-                        
-                        // Set the bidirectional relationship
-                        advisor.setAdvisorList(advisorList);
-                        advisorRepository.save(advisor);
-                        
-                        log.debug("Created AdvisorList: {} for advisor: {}", advisorListId, advisor.getEmpId());
-                    }
-                }
-            }
+            graduationHierarchyBuilder.build(currentTerm, studentAffairs);
 
             log.info("Graduation hierarchy initialized successfully for term: {}", currentTerm);
 
@@ -415,42 +365,25 @@ public class DataInitializer implements CommandLineRunner {
     }
 
     /**
-     * Maps department names to their corresponding faculty names based on UBYS data
-     * structure.
-     * This method uses the actual faculty names from the dean officers in UBYS.
+     * Maps a department secretary's department to its faculty: as the UBYS record links it,
+     * through the secretary's faculty or dean officer, or else from the built-in catalog.
      */
-    private String getFacultyForDepartment(String department) {
-        switch (department) {
-            // Engineering departments (matches UBYS data: "Engineering")
-            case "Computer Engineering":
-            case "Electronics and Communication Engineering":
-            case "Civil Engineering":
-            case "Mechanical Engineering":
-            case "Bioengineering":
-            case "Environmental Engineering":
-            case "Energy Systems Engineering":
-            case "Food Engineering":
-            case "Chemical Engineering":
-            case "Materials Science and Engineering":
-                return "Faculty of Engineering";
-
-            // Science departments
-            case "Physics":
-            case "Photonics":
-            case "Chemistry":
-            case "Mathematics":
-            case "Molecular Biology and Genetics":
-                return "Faculty of Science";
-
-            // Architecture and Design departments
-            case "Industrial Design":
-            case "Architecture":
-            case "City and Regional Planning":
-                return "Faculty of Architecture and Design";
-
-            default:
-                log.warn("Unknown department: {}. Cannot determine faculty.", department);
-                return null;
+    private String getFacultyForDepartment(UbysStaffRecord secretaryRecord,
+            Map<String, DeanOfficer> deanOfficersByEmpId) {
+        String faculty = UbysSnapshot.exportedFacultyOf(secretaryRecord, deanOfficerId -> {
+            DeanOfficer deanOfficer = deanOfficersByEmpId.get(deanOfficerId);
+            return deanOfficer != null ? deanOfficer.getFaculty() : null;
+        });
+        if (faculty == null) {
+            faculty = UbysSnapshot.catalogFacultyOf(secretaryRecord.getDepartment());
+            if (faculty != null) {
+                log.warn("Department {} is not linked to a faculty in UBYS, using the built-in catalog",
+                        secretaryRecord.getDepartment());
+            }
+        }
+        if (faculty == null) {
+            log.warn("Unknown department: {}. Cannot determine faculty.", secretaryRecord.getDepartment());
         }
+        return faculty;
     }
 }
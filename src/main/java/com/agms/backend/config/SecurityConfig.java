@@ -7,6 +7,7 @@ import java.util.Arrays;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -47,6 +48,9 @@ public class SecurityConfig {
                         })
                         .cacheControl(cache -> cache.disable()))
                 .authorizeHttpRequests(auth -> auth
+                        // Which UBYS data is served is for staff only; the rest of /api/ubys is public
+                        .requestMatchers(HttpMethod.GET, "/api/ubys/snapshot")
+                        .hasAnyAuthority("STUDENT_AFFAIRS", "DEAN_OFFICER", "DEPARTMENT_SECRETARY", "ADVISOR")
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/api/ubys/**",
@@ -65,6 +69,11 @@ public class SecurityConfig {
                                 "/swagger-ui/favicon-32x32.png",
                                 "/swagger-ui/favicon-16x16.png")
                         .permitAll()
+                        // Admin operations; authorities are the bare role names
+                        .requestMatchers("/api/admin/**").hasAuthority("STUDENT_AFFAIRS")
+                        .requestMatchers(HttpMethod.POST, "/api/eligibility/*/refresh").hasAuthority("STUDENT_AFFAIRS")
+                        .requestMatchers(HttpMethod.GET, "/api/eligibility/**")
+                        .hasAnyAuthority("STUDENT_AFFAIRS", "DEAN_OFFICER", "DEPARTMENT_SECRETARY")
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -0,0 +1,75 @@
+package com.agms.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.agms.backend.dto.EligibilitySnapshotResponse;
+import com.agms.backend.dto.RefreshEligibilityRequest;
+import com.agms.backend.exception.UbysUnavailableException;
+import com.agms.backend.service.EligibilitySnapshotService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/eligibility")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Eligibility", description = "APIs for the per-term eligibility snapshots")
+public class EligibilityController {
+
+    private final EligibilitySnapshotService eligibilitySnapshotService;
+
+    /**
+     * Get the eligibility snapshots of a graduation term; for student affairs, dean
+     * officers and department secretaries, as enforced in SecurityConfig
+     */
+    @GetMapping("/{term}")
+    @Operation(summary = "Get the eligibility snapshots of a graduation term")
+    public ResponseEntity<List<EligibilitySnapshotResponse>> getSnapshotsForTerm(
+            @PathVariable String term,
+            @RequestParam(defaultValue = "false") boolean eligibleOnly) {
+        try {
+            return ResponseEntity.ok(eligibilitySnapshotService.getSnapshotsForTerm(term, eligibleOnly));
+        } catch (Exception e) {
+            log.error("Error getting eligibility snapshots of term {}: {}", term, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Recompute the snapshots of some students, e.g. after a late grade change; for
+     * student affairs only, as enforced in SecurityConfig
+     */
+    @PostMapping("/{term}/refresh")
+    @Operation(summary = "Recompute the eligibility snapshots of some students from UBYS")
+    public ResponseEntity<List<EligibilitySnapshotResponse>> refreshStudents(
+            @PathVariable String term,
+            @Valid @RequestBody RefreshEligibilityRequest request) {
+        log.info("Refreshing eligibility of {} students for term {}", request.getStudentNumbers().size(), term);
+
+        try {
+            return ResponseEntity.ok(eligibilitySnapshotService.refreshStudents(term, request.getStudentNumbers()));
+        } catch (UbysUnavailableException e) {
+            log.warn("Cannot refresh eligibility, UBYS unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (Exception e) {
+            log.error("Error refreshing eligibility of term {}: {}", term, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
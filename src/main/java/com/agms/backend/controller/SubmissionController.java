@@ -1,9 +1,13 @@
 package com.agms.backend.controller;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -16,15 +20,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.agms.backend.dto.BulkDecisionRequest;
+import com.agms.backend.dto.BulkDecisionResponse;
 import com.agms.backend.dto.CreateSubmissionRequest;
+import com.agms.backend.dto.RegularGraduationPreviewEntry;
 import com.agms.backend.dto.RegularGraduationTrackResponse;
 import com.agms.backend.dto.StartRegularGraduationRequest;
 import com.agms.backend.dto.SubmissionResponse;
+import com.agms.backend.dto.SubmissionTimelineResponse;
 import com.agms.backend.dto.SubordinateStatusResponse;
 import com.agms.backend.dto.TopStudentsResponse;
+import com.agms.backend.exception.TransitionConflictException;
+import com.agms.backend.exception.UbysUnavailableException;
 import com.agms.backend.model.SubmissionStatus;
 import com.agms.backend.service.SubmissionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -39,6 +51,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SubmissionController {
 
     private final SubmissionService submissionService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Create a new graduation submission (for students)
@@ -102,6 +115,22 @@ public class SubmissionController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get the history of a submission, one page at a time
+     */
+    @GetMapping("/{submissionId}/timeline")
+    @PreAuthorize("hasRole('STUDENT') or hasRole('ADVISOR') or hasRole('DEPARTMENT_SECRETARY') or hasRole('DEAN_OFFICER') or hasRole('STUDENT_AFFAIRS')")
+    @Operation(summary = "Get the history of a submission - creation, every status change with who made it and why, " +
+            "and deletion, oldest first; pass the returned cursor as 'after' for the next page")
+    public ResponseEntity<SubmissionTimelineResponse> getSubmissionTimeline(
+            @PathVariable String submissionId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("Getting timeline of submission {} after {}", submissionId, after);
+
+        return ResponseEntity.ok(submissionService.getSubmissionTimeline(submissionId, after, limit));
+    }
+
     /**
      * Get submissions by status
      */
@@ -254,6 +283,10 @@ public class SubmissionController {
         try {
             SubmissionResponse response = submissionService.approveSubmission(submissionId);
             return ResponseEntity.ok(response);
+        } catch (TransitionConflictException | OptimisticLockingFailureException e) {
+            // Answered with a structured 409 by the global exception handler
+            log.warn("Approval conflicts with a concurrent change: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Error approving submission: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -273,12 +306,42 @@ public class SubmissionController {
         try {
             SubmissionResponse response = submissionService.rejectSubmission(submissionId, rejectionReason);
             return ResponseEntity.ok(response);
+        } catch (TransitionConflictException | OptimisticLockingFailureException e) {
+            // Answered with a structured 409 by the global exception handler
+            log.warn("Rejection conflicts with a concurrent change: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Error rejecting submission: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * Approve or reject many submissions at once (role-agnostic, like approve and reject)
+     */
+    @PostMapping("/bulk-decision")
+    @PreAuthorize("hasRole('ADVISOR') or hasRole('DEPARTMENT_SECRETARY') or hasRole('DEAN_OFFICER') or hasRole('STUDENT_AFFAIRS')")
+    @Operation(summary = "Approve or reject many submissions at once - ownership and status are checked for the " +
+            "whole set, decisions are applied together and the outcome of every item is returned")
+    public ResponseEntity<BulkDecisionResponse> applyBulkDecision(@Valid @RequestBody BulkDecisionRequest request) {
+        log.info("Applying bulk decision on {} submissions", request.getItems().size());
+
+        try {
+            BulkDecisionResponse response = submissionService.applyBulkDecision(request);
+            return ResponseEntity.ok(response);
+        } catch (TransitionConflictException | OptimisticLockingFailureException e) {
+            // Answered with a structured 409 by the global exception handler
+            log.warn("Bulk decision conflicts with a concurrent change: {}", e.getMessage());
+            throw e;
+        } catch (IllegalStateException e) {
+            log.warn("Bulk decision not applied: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("Error applying bulk decision: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * Get submissions pending for advisor review
      */
@@ -293,34 +356,81 @@ public class SubmissionController {
     }
 
     /**
-     * Start regular graduation process - creates submissions for all eligible students
+     * Start regular graduation process - queues a job that creates submissions for all eligible students
      */
     @PostMapping("/regular-graduation/start")
     @PreAuthorize("hasRole('STUDENT_AFFAIRS')")
-    @Operation(summary = "Start regular graduation process - automatically creates submissions for all eligible students")
-    public ResponseEntity<List<SubmissionResponse>> startRegularGraduation(
+    @Operation(summary = "Start regular graduation process - returns the job id at once; the job creates " +
+            "submissions for all eligible students in the background, progress is reported by the track endpoint")
+    public ResponseEntity<RegularGraduationTrackResponse> startRegularGraduation(
             @Valid @RequestBody StartRegularGraduationRequest request) {
         log.info("Starting regular graduation process for term: {}", request.getTerm());
 
         try {
-            List<SubmissionResponse> createdSubmissions = submissionService.startRegularGraduation(request.getTerm());
-            log.info("Regular graduation process completed. Created {} submissions", createdSubmissions.size());
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdSubmissions);
+            RegularGraduationTrackResponse response = submissionService.startRegularGraduation(request.getTerm());
+            log.info("Regular graduation job {} queued for term: {}", response.getJobId(), request.getTerm());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
         } catch (IllegalStateException e) {
             log.warn("Cannot start regular graduation: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (UbysUnavailableException e) {
+            log.warn("Cannot start regular graduation, UBYS unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (Exception e) {
             log.error("Error starting regular graduation: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * Preview regular graduation for a term as newline-delimited JSON, one line per student
+     */
+    @GetMapping(value = "/regular-graduation/preview", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('STUDENT_AFFAIRS')")
+    @Operation(summary = "Preview regular graduation process - streams one JSON line per student telling whether " +
+            "starting the term would create a submission or skip the student and why; nothing is written")
+    public ResponseEntity<StreamingResponseBody> previewRegularGraduation(@RequestParam String term) {
+        Stream<RegularGraduationPreviewEntry> entries;
+        try {
+            entries = submissionService.previewRegularGraduation(term);
+        } catch (IllegalStateException e) {
+            log.warn("Cannot preview regular graduation: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (UbysUnavailableException e) {
+            log.warn("Cannot preview regular graduation, UBYS unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (Exception e) {
+            log.error("Error previewing regular graduation: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            int count = 0;
+            try (entries) {
+                Iterator<RegularGraduationPreviewEntry> iterator = entries.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                    // Each line goes out as soon as the student has been evaluated
+                    outputStream.flush();
+                    count++;
+                }
+                log.info("Streamed regular graduation preview of {} students for term: {}", count, term);
+            } catch (UbysUnavailableException e) {
+                // The status line is already sent; the client sees the stream end early
+                log.warn("Regular graduation preview for term {} aborted after {} students, UBYS unavailable: {}",
+                        term, count, e.getMessage());
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Track regular graduation process status for a specific term
      */
     @GetMapping("/regular-graduation/track")
     @PreAuthorize("hasRole('STUDENT_AFFAIRS') or hasRole('DEAN_OFFICER') or hasRole('DEPARTMENT_SECRETARY') or hasRole('ADVISOR')")
-    @Operation(summary = "Track regular graduation process status - check if regular graduation has been started for a specific term")
+    @Operation(summary = "Track regular graduation process status - check if regular graduation has been started for a specific term, with the progress of its job")
     public ResponseEntity<RegularGraduationTrackResponse> trackRegularGraduation(@RequestParam String term) {
         log.debug("Tracking regular graduation process for term: {}", term);
 
@@ -351,6 +461,10 @@ public class SubmissionController {
                 log.warn("Cannot finalize list - prerequisites not met");
                 return ResponseEntity.status(HttpStatus.CONFLICT).body(false);
             }
+        } catch (TransitionConflictException | OptimisticLockingFailureException e) {
+            // Answered with a structured 409 by the global exception handler
+            log.warn("Finalization conflicts with a concurrent change: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Error finalizing list: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(false);
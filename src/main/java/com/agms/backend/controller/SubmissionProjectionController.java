@@ -0,0 +1,51 @@
+package com.agms.backend.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.agms.backend.service.SubmissionEventService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/submission-projections")
+@RequiredArgsConstructor
+@Tag(name = "Submission Projections", description = "Admin APIs for the projections of the submission event log")
+public class SubmissionProjectionController {
+
+    private final SubmissionEventService submissionEventService;
+
+    /**
+     * Rebuild the submission statuses and list counters from the event log, to repair
+     * them after a manual database change or a failed deployment
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('STUDENT_AFFAIRS')")
+    @Operation(summary = "Rebuild the submission statuses and list workflow counters from the event log")
+    public ResponseEntity<Map<String, Object>> rebuildProjections() {
+        log.info("Manual rebuild of the submission projections requested");
+
+        try {
+            long startMillis = System.currentTimeMillis();
+            int corrected = submissionEventService.rebuildProjections();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("correctedSubmissions", corrected);
+            result.put("durationMs", System.currentTimeMillis() - startMillis);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Error rebuilding the submission projections: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.agms.backend.controller;
 
+import com.agms.backend.exception.UbysUnavailableException;
 import com.agms.backend.service.UbysService;
+import com.agms.backend.service.ubys.UbysSnapshot;
 import com.agms.backend.model.users.Student;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -56,6 +58,10 @@ public class UbysController {
         try {
             Student student = ubysService.getStudentWithTransientAttributes(studentNumber);
             return ResponseEntity.ok(student);
+        } catch (UbysUnavailableException e) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("UBYS is currently unavailable: " + e.getMessage());
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -97,4 +103,25 @@ public class UbysController {
                     .body("Error checking student existence: " + e.getMessage());
         }
     }
+
+    @Operation(summary = "Get UBYS snapshot info", description = "Returns the version and size of the UBYS snapshot currently served, so callers can tell which data they saw")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshot info retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "Error reading UBYS data")
+    })
+    @GetMapping("/snapshot")
+    public ResponseEntity<?> getSnapshotInfo() {
+        try {
+            UbysSnapshot snapshot = ubysService.getSnapshot();
+            return ResponseEntity.ok(Map.of(
+                    "version", snapshot.getVersion(),
+                    "loadedAt", snapshot.getLoadedAt().toString(),
+                    "studentCount", snapshot.getStudentCount(),
+                    "source", ubysService.getDataSourceStatus()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Error retrieving UBYS snapshot info: " + e.getMessage());
+        }
+    }
 }
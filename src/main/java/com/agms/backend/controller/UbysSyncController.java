@@ -0,0 +1,63 @@
+package com.agms.backend.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.agms.backend.dto.UbysSyncReport;
+import com.agms.backend.service.UbysSyncService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/ubys-sync")
+@RequiredArgsConstructor
+@Tag(name = "UBYS Sync", description = "Admin APIs for the incremental UBYS sync job")
+public class UbysSyncController {
+
+    private final UbysSyncService ubysSyncService;
+
+    /**
+     * Get whether a sync is running and the report of the last finished one
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('STUDENT_AFFAIRS')")
+    @Operation(summary = "Get the status and last report of the UBYS sync")
+    public ResponseEntity<Map<String, Object>> getSyncStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", ubysSyncService.isRunning());
+        status.put("lastReport", ubysSyncService.getLastReport().orElse(null));
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * Run a sync now instead of waiting for the schedule
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('STUDENT_AFFAIRS')")
+    @Operation(summary = "Run the UBYS sync now")
+    public ResponseEntity<UbysSyncReport> synchronize() {
+        log.info("Manual UBYS sync requested");
+
+        try {
+            return ResponseEntity.ok(ubysSyncService.synchronize());
+        } catch (IllegalStateException e) {
+            log.warn("Cannot start UBYS sync: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("Error running UBYS sync: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
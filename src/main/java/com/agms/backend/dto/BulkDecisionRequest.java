@@ -0,0 +1,47 @@
+package com.agms.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionRequest {
+
+    public enum Decision {
+        APPROVE,
+        REJECT
+    }
+
+    @NotEmpty(message = "At least one decision is required")
+    @Size(max = 1000, message = "At most 1000 decisions can be sent at once")
+    private List<@Valid Item> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotBlank(message = "Submission id is required")
+        private String submissionId;
+
+        @NotNull(message = "Decision is required")
+        private Decision decision;
+
+        /**
+         * Rejection reason, stored as the submission's content; ignored for approvals
+         */
+        private String reason;
+    }
+}
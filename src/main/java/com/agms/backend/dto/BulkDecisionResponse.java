@@ -0,0 +1,56 @@
+package com.agms.backend.dto;
+
+import com.agms.backend.model.SubmissionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionResponse {
+
+    public enum Outcome {
+        APPROVED,
+        REJECTED,
+        NOT_FOUND,
+        /**
+         * The submission is not in the reviewer's list
+         */
+        NOT_OWNED,
+        /**
+         * The submission is not waiting for the reviewer's decision
+         */
+        INVALID_STATUS,
+        /**
+         * The submission appeared earlier in the same request
+         */
+        DUPLICATE
+    }
+
+    private int approvedCount;
+    private int rejectedCount;
+    private int skippedCount;
+
+    // One result per requested item, in request order
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private String submissionId;
+        private Outcome outcome;
+        /**
+         * Status after the request; null unless the submission was decided or is in the
+         * reviewer's list in another status
+         */
+        private SubmissionStatus status;
+        private String message;
+    }
+}
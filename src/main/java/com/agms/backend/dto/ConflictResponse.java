@@ -0,0 +1,26 @@
+package com.agms.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of a 409 answer to a state change that lost against a concurrent one
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConflictResponse {
+    private String message;
+    private String resourceType;
+    private String resourceId;
+    private String expectedState;
+    private String actualState;
+    /**
+     * Whether sending the same request again may succeed: true when only a version
+     * changed underneath, false when the resource has moved to another state
+     */
+    private boolean retryable;
+}
@@ -0,0 +1,26 @@
+package com.agms.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilitySnapshotResponse {
+
+    private String term;
+    private String studentNumber;
+    private String department;
+    private double gpa;
+    private int totalCredit;
+    private int semester;
+    private boolean isCurriculumCompleted;
+    private boolean isEligibleForGraduation;
+    private long ubysVersion;
+    private Timestamp computedAt;
+}
@@ -0,0 +1,19 @@
+package com.agms.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshEligibilityRequest {
+
+    @NotEmpty(message = "At least one student number is required")
+    private List<String> studentNumbers;
+}
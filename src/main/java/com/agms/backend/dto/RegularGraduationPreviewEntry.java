@@ -0,0 +1,30 @@
+package com.agms.backend.dto;
+
+import com.agms.backend.model.RegularGraduationDecision;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of the regular graduation preview: what starting the term would do
+ * with a student, and why
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegularGraduationPreviewEntry {
+
+    private String studentNumber;
+    private String studentName;
+    private String advisorEmpId;
+    private String advisorListId;
+    private RegularGraduationDecision decision;
+    private String reason;
+
+    // Academic standing from UBYS; null if the student is not found there
+    private Double gpa;
+    private Integer totalCredit;
+    private Boolean isCurriculumCompleted;
+}
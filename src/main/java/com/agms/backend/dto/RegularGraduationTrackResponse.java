@@ -1,5 +1,6 @@
 package com.agms.backend.dto;
 
+import com.agms.backend.model.RegularGraduationJobStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,4 +20,28 @@ public class RegularGraduationTrackResponse {
     private String graduationId;
     private Timestamp requestDate;
     private String studentAffairsEmpId;
+
+    // Progress of the job creating the submissions; null if the term has no job
+    private String jobId;
+    private RegularGraduationJobStatus jobStatus;
+    private Long totalStudents;
+    /**
+     * Department lists the job is split into, and how many of them are done
+     */
+    private Long partitionCount;
+    private Long completedPartitionCount;
+    private Long processedCount;
+    /**
+     * Students a submission was created for
+     */
+    private Long eligibleCount;
+    private Long skippedCount;
+    private Long failedCount;
+    /**
+     * Students per second since the job was last started or resumed; null unless running
+     */
+    private Double throughputPerSecond;
+    private Long estimatedSecondsRemaining;
+    private Timestamp jobFinishedAt;
+    private String jobError;
 } 
\ No newline at end of file
@@ -18,6 +18,10 @@ public class SubmissionResponse {
     private String submissionId;
     private Timestamp submissionDate;
     private String content;
+    /**
+     * Reason given with the rejection, null unless rejected
+     */
+    private String rejectionReason;
     private SubmissionStatus status;
     /**
      * Student number - submissions are only for students
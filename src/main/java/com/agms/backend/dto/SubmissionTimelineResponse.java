@@ -0,0 +1,41 @@
+package com.agms.backend.dto;
+
+import com.agms.backend.model.SubmissionEventType;
+import com.agms.backend.model.SubmissionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionTimelineResponse {
+
+    private String submissionId;
+    // Oldest first
+    private List<Event> events;
+    /**
+     * Pass as "after" to get the next page; null on the last page
+     */
+    private String nextCursor;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Event {
+        private String eventId;
+        private SubmissionEventType eventType;
+        private SubmissionStatus oldStatus;
+        private SubmissionStatus newStatus;
+        private String reason;
+        private String actor;
+        private String actorRole;
+        private Timestamp occurredAt;
+    }
+}
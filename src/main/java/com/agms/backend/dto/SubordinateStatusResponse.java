@@ -18,4 +18,12 @@ public class SubordinateStatusResponse {
     private Boolean isFinalized;
     private String listId;
     private String role;
+    /**
+     * Submissions waiting for the subordinate's review
+     */
+    private Integer pendingCount;
+    /**
+     * Submissions in the subordinate's list in any status
+     */
+    private Integer submissionCount;
 } 
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.agms.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UbysSyncReport {
+
+    // COMPLETED or FAILED
+    private String status;
+    private String error;
+    private Timestamp startedAt;
+    private Timestamp finishedAt;
+    private long durationMs;
+
+    // Version of the UBYS snapshot loaded for the run
+    private long ubysVersion;
+
+    private int totalRead;
+    private int totalWritten;
+
+    // Records read from UBYS per second, changed or not
+    private double rowsPerSecond;
+
+    // Inserted and updated rows per second
+    private double writtenRowsPerSecond;
+
+    private List<SectionReport> sections;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SectionReport {
+        private String section;
+        private int read;
+        private int inserted;
+        private int updated;
+        private int unchanged;
+        // Changed records that could not be mapped, e.g. missing department
+        private int skipped;
+        // Records of batches that failed to write; they are retried on the next run
+        private int failed;
+        private long durationMs;
+    }
+}
@@ -1,8 +1,11 @@
 package com.agms.backend.exception;
 
+import com.agms.backend.dto.ConflictResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -29,6 +32,38 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(UbysUnavailableException.class)
+    public ResponseEntity<String> handleUbysUnavailableException(UbysUnavailableException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TransitionConflictException.class)
+    public ResponseEntity<ConflictResponse> handleTransitionConflictException(TransitionConflictException ex) {
+        ConflictResponse body = ConflictResponse.builder()
+                .message(ex.getMessage())
+                .resourceType(ex.getResourceType())
+                .resourceId(ex.getResourceId())
+                .expectedState(ex.getExpectedState())
+                .actualState(ex.getActualState())
+                .retryable(false)
+                .build();
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ConflictResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex) {
+        ConflictResponse.ConflictResponseBuilder body = ConflictResponse.builder()
+                .message("The resource was changed by another request, reload it and try again")
+                .retryable(true);
+        if (ex instanceof ObjectOptimisticLockingFailureException objectEx) {
+            String className = objectEx.getPersistentClassName();
+            body.resourceType(className.substring(className.lastIndexOf('.') + 1))
+                    .resourceId(String.valueOf(objectEx.getIdentifier()));
+        }
+        return new ResponseEntity<>(body.build(), HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<String> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
         String message = "Invalid request format. Please ensure your request contains valid JSON data with proper UTF-8 encoding.";
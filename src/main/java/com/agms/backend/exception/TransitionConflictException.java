@@ -0,0 +1,43 @@
+package com.agms.backend.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a state transition was applied against a stale view: the submission
+ * or list is no longer in the state the caller expected, usually because another
+ * reviewer got there first. Answered with a 409 that says what was expected and
+ * what was found, so the client can refresh instead of retrying blindly.
+ */
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class TransitionConflictException extends RuntimeException {
+
+    private final String resourceType;
+    /**
+     * Id of the conflicting resource, null if the conflict concerns a batch
+     */
+    private final String resourceId;
+    private final String expectedState;
+    /**
+     * State found instead, null if unknown
+     */
+    private final String actualState;
+
+    public TransitionConflictException(String resourceType, String resourceId, String expectedState,
+            String actualState) {
+        this(resourceType, resourceId, expectedState, actualState, resourceType + " " + resourceId
+                + " was expected to be " + expectedState
+                + (actualState != null ? " but is " + actualState : " but was changed concurrently"));
+    }
+
+    public TransitionConflictException(String resourceType, String resourceId, String expectedState,
+            String actualState, String message) {
+        super(message);
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.expectedState = expectedState;
+        this.actualState = actualState;
+    }
+}
@@ -0,0 +1,20 @@
+package com.agms.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when UBYS cannot answer in time: the remote registrar is down, slow,
+ * or calls to it are being shed by the bulkhead or circuit breaker.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class UbysUnavailableException extends RuntimeException {
+
+    public UbysUnavailableException(String message) {
+        super(message);
+    }
+
+    public UbysUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,268 @@
+package com.agms.backend.model;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compact, immutable view of a student's courses used to compute academic
+ * metrics. Course codes are interned to dense int ids, grades are stored as
+ * byte codes and credits as primitives, and the taken/passed courses are kept
+ * as bitsets indexed by course id. GPA, credits and the passing state are
+ * computed once while the record is built; curriculum checks afterwards are a
+ * few word-wise ANDs and allocate nothing.
+ */
+public final class AcademicRecord {
+
+    /** Grade code of a missing or unrecognized grade */
+    public static final byte GRADE_UNKNOWN = 0;
+
+    // Index + 1 is the grade code of each letter grade
+    private static final String[] GRADES = { "AA", "BA", "BB", "CB", "CC", "DC", "DD", "FD", "FF" };
+    // GPA points doubled, so they stay integral: AA = 4.0 -> 8
+    private static final int[] DOUBLED_POINTS = { 0, 8, 7, 6, 5, 4, 3, 2, 0, 0 };
+    private static final boolean[] PASSING = { false, true, true, true, true, true, false, true, false, false };
+
+    /**
+     * Set on top of the grade code when the grade was not written in upper case.
+     * Such grades still count as passing, but earn no GPA points, exactly as the
+     * String based Course/Student logic treated them.
+     */
+    private static final byte NON_CANONICAL_CASE = 0x10;
+    private static final byte GRADE_MASK = 0x0F;
+
+    private static final ConcurrentHashMap<String, Integer> COURSE_IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_COURSE_ID = new AtomicInteger();
+
+    private static final long[] NO_COURSES = new long[0];
+
+    private final int courseCount;
+    private final int[] courseIds;
+    private final byte[] gradeCodes;
+    private final int[] credits;
+    private final long[] takenCourses;
+    private final long[] passedCourses;
+    private final int totalCredit;
+    private final double gpa;
+    private final boolean allCoursesPassing;
+
+    private AcademicRecord(int courseCount, int[] courseIds, byte[] gradeCodes, int[] credits,
+            long[] takenCourses, long[] passedCourses, int totalCredit, double gpa, boolean allCoursesPassing) {
+        this.courseCount = courseCount;
+        this.courseIds = courseIds;
+        this.gradeCodes = gradeCodes;
+        this.credits = credits;
+        this.takenCourses = takenCourses;
+        this.passedCourses = passedCourses;
+        this.totalCredit = totalCredit;
+        this.gpa = gpa;
+        this.allCoursesPassing = allCoursesPassing;
+    }
+
+    /**
+     * Builds the record from a course list in a single pass.
+     * Null entries count towards the number of courses but are never passing.
+     */
+    public static AcademicRecord of(List<Course> courses) {
+        int courseCount = courses == null ? 0 : courses.size();
+        int[] courseIds = new int[courseCount];
+        byte[] gradeCodes = new byte[courseCount];
+        int[] credits = new int[courseCount];
+
+        int totalCredit = 0;
+        long doubledPointSum = 0;
+        boolean allCoursesPassing = true;
+        int maxCourseId = -1;
+
+        for (int i = 0; i < courseCount; i++) {
+            Course course = courses.get(i);
+            if (course == null) {
+                courseIds[i] = -1;
+                allCoursesPassing = false;
+                continue;
+            }
+
+            int courseId = courseId(course.getCode());
+            byte gradeCode = gradeCode(course.getGrade());
+            courseIds[i] = courseId;
+            gradeCodes[i] = gradeCode;
+            credits[i] = course.getCredit();
+            maxCourseId = Math.max(maxCourseId, courseId);
+
+            // Only courses with credit count towards GPA and total credits
+            if (course.getCredit() > 0) {
+                totalCredit += course.getCredit();
+                doubledPointSum += (long) doubledPoints(gradeCode) * course.getCredit();
+            }
+            allCoursesPassing &= isPassing(gradeCode);
+        }
+
+        long[] takenCourses = maxCourseId < 0 ? NO_COURSES : new long[(maxCourseId >>> 6) + 1];
+        long[] passedCourses = maxCourseId < 0 ? NO_COURSES : new long[(maxCourseId >>> 6) + 1];
+        for (int i = 0; i < courseCount; i++) {
+            int courseId = courseIds[i];
+            if (courseId < 0) {
+                continue;
+            }
+            takenCourses[courseId >>> 6] |= 1L << courseId;
+            if (isPassing(gradeCodes[i])) {
+                passedCourses[courseId >>> 6] |= 1L << courseId;
+            }
+        }
+
+        // Same arithmetic as summing double GPA points, which are all exact halves
+        double gpa = totalCredit > 0
+                ? Math.round(((doubledPointSum / 2.0) / totalCredit) * 100.0) / 100.0
+                : 0.0;
+
+        return new AcademicRecord(courseCount, courseIds, gradeCodes, credits, takenCourses, passedCourses,
+                totalCredit, gpa, allCoursesPassing);
+    }
+
+    // ========== COURSE IDS ==========
+
+    /**
+     * Interns a course code to its dense id; ids are stable for the lifetime of
+     * the application.
+     *
+     * @return the course id, or -1 for a null code
+     */
+    public static int courseId(String code) {
+        if (code == null) {
+            return -1;
+        }
+        Integer courseId = COURSE_IDS.get(code);
+        return courseId != null ? courseId : COURSE_IDS.computeIfAbsent(code, c -> NEXT_COURSE_ID.getAndIncrement());
+    }
+
+    /**
+     * Builds a course bitset for the given codes, to be checked with
+     * {@link #hasTakenAll(long[])} or {@link #hasPassedAll(long[])}.
+     */
+    public static long[] courseMask(String... codes) {
+        int maxCourseId = -1;
+        int[] courseIds = new int[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            courseIds[i] = courseId(codes[i]);
+            maxCourseId = Math.max(maxCourseId, courseIds[i]);
+        }
+
+        long[] mask = maxCourseId < 0 ? NO_COURSES : new long[(maxCourseId >>> 6) + 1];
+        for (int courseId : courseIds) {
+            if (courseId >= 0) {
+                mask[courseId >>> 6] |= 1L << courseId;
+            }
+        }
+        return mask;
+    }
+
+    // ========== GRADE CODES ==========
+
+    /**
+     * Encodes a letter grade as a byte code
+     */
+    public static byte gradeCode(String grade) {
+        if (grade == null) {
+            return GRADE_UNKNOWN;
+        }
+        byte code = canonicalGradeCode(grade);
+        if (code != GRADE_UNKNOWN) {
+            return code;
+        }
+        code = canonicalGradeCode(grade.toUpperCase());
+        return code == GRADE_UNKNOWN ? GRADE_UNKNOWN : (byte) (code | NON_CANONICAL_CASE);
+    }
+
+    private static byte canonicalGradeCode(String grade) {
+        for (int i = 0; i < GRADES.length; i++) {
+            if (GRADES[i].equals(grade)) {
+                return (byte) (i + 1);
+            }
+        }
+        return GRADE_UNKNOWN;
+    }
+
+    /**
+     * @return GPA points of the grade code, e.g. 4.0 for AA
+     */
+    public static double gpaPoints(byte gradeCode) {
+        return doubledPoints(gradeCode) / 2.0;
+    }
+
+    /**
+     * @return true if the grade code is a passing grade (DD or better, DC excluded)
+     */
+    public static boolean isPassing(byte gradeCode) {
+        return PASSING[gradeCode & GRADE_MASK];
+    }
+
+    private static int doubledPoints(byte gradeCode) {
+        return (gradeCode & NON_CANONICAL_CASE) != 0 ? 0 : DOUBLED_POINTS[gradeCode & GRADE_MASK];
+    }
+
+    // ========== METRICS ==========
+
+    /**
+     * @return number of course entries, including null ones
+     */
+    public int getCourseCount() {
+        return courseCount;
+    }
+
+    public int getTotalCredit() {
+        return totalCredit;
+    }
+
+    /**
+     * @return credit weighted GPA rounded to two decimals
+     */
+    public double getGpa() {
+        return gpa;
+    }
+
+    /**
+     * @return true if every course entry has a passing grade
+     */
+    public boolean isAllCoursesPassing() {
+        return allCoursesPassing;
+    }
+
+    /**
+     * @return true if every course of the mask appears in this record
+     */
+    public boolean hasTakenAll(long[] courseMask) {
+        return containsAll(takenCourses, courseMask);
+    }
+
+    /**
+     * @return true if every course of the mask was passed
+     */
+    public boolean hasPassedAll(long[] courseMask) {
+        return containsAll(passedCourses, courseMask);
+    }
+
+    public int getCourseId(int index) {
+        return courseIds[index];
+    }
+
+    public byte getGradeCode(int index) {
+        return gradeCodes[index];
+    }
+
+    public int getCredit(int index) {
+        return credits[index];
+    }
+
+    private static boolean containsAll(long[] courses, long[] courseMask) {
+        for (int word = 0; word < courseMask.length; word++) {
+            long required = courseMask[word];
+            if (required == 0) {
+                continue;
+            }
+            if (word >= courses.length || (courses[word] & required) != required) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
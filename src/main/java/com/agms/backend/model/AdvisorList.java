@@ -29,6 +29,9 @@ public class AdvisorList {
     @Builder.Default
     private Boolean isFinalized = false;
 
+    @Version
+    private Long version;
+
     @ManyToOne(cascade = CascadeType.REFRESH, fetch = FetchType.EAGER)
     @JoinColumn(name = "advisorId", nullable = false)
     @JsonBackReference
@@ -19,26 +19,7 @@ public class Course {
      * @return GPA points for this course
      */
     public double getGpaPoints() {
-        switch (grade) {
-            case "AA":
-                return 4.0;
-            case "BA":
-                return 3.5;
-            case "BB":
-                return 3.0;
-            case "CB":
-                return 2.5;
-            case "CC":
-                return 2.0;
-            case "DC":
-                return 1.5;
-            case "DD":
-                return 1.0;
-            case "FF":
-                return 0.0;
-            default:
-                return 0.0;
-        }
+        return AcademicRecord.gpaPoints(AcademicRecord.gradeCode(grade));
     }
 
     /**
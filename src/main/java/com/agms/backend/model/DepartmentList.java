@@ -31,6 +31,9 @@ public class DepartmentList {
     @Builder.Default
     private Boolean isFinalized = false;
 
+    @Version
+    private Long version;
+
     @ManyToOne(cascade = CascadeType.REFRESH, fetch = FetchType.EAGER)
     @JoinColumn(name = "secretaryId", nullable = false)
     @JsonBackReference
@@ -0,0 +1,66 @@
+package com.agms.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * Academic standing of a student as it was read from UBYS for a graduation
+ * term. Decisions taken during the term (eligibility, rankings, reports) are
+ * made from these rows. UBYS corrections are applied to a row only until a
+ * submission of the student in the term is approved or rejected, so every
+ * decision can be explained later from the standing it was based on.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "EligibilitySnapshot", uniqueConstraints = {
+    @UniqueConstraint(columnNames = { "term", "studentNumber" }, name = "uk_eligibility_snapshot_term_student")
+}, indexes = {
+    @Index(columnList = "studentNumber, computedAt", name = "idx_eligibility_snapshot_student"),
+    @Index(columnList = "term, isEligibleForGraduation", name = "idx_eligibility_snapshot_term_eligible")
+})
+public class EligibilitySnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eligibility_snapshot_seq")
+    @SequenceGenerator(name = "eligibility_snapshot_seq", sequenceName = "eligibility_snapshot_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String term;
+
+    @Column(nullable = false)
+    private String studentNumber;
+
+    private String department;
+
+    @Column(nullable = false)
+    private double gpa;
+
+    @Column(nullable = false)
+    private int totalCredit;
+
+    @Column(nullable = false)
+    private int semester;
+
+    @Column(nullable = false)
+    private boolean isCurriculumCompleted;
+
+    @Column(nullable = false)
+    private boolean isEligibleForGraduation;
+
+    /**
+     * Version of the UBYS snapshot the values were computed from
+     */
+    @Column(nullable = false)
+    private long ubysVersion;
+
+    @Column(nullable = false)
+    private Timestamp computedAt;
+}
@@ -30,6 +30,9 @@ public class FacultyList {
     @Builder.Default
     private Boolean isFinalized = false;
 
+    @Version
+    private Long version;
+
     @ManyToOne(cascade = CascadeType.REFRESH, fetch = FetchType.EAGER)
     @JoinColumn(name = "deanOfficerId", nullable = false)
     private DeanOfficer deanOfficer;
@@ -25,6 +25,9 @@ public class GraduationList {
     @Builder.Default
     private Boolean isFinalized = false;
 
+    @Version
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "graduationId")
     private Graduation graduation;
@@ -0,0 +1,113 @@
+package com.agms.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running totals of one advisor, department, faculty or graduation list: its
+ * submissions by status, counting everything below the list, and how many of
+ * its child lists there are and how many are finalized. Finalization checks
+ * and subordinate dashboards read these rows by primary key instead of
+ * counting submissions. Status counts move with every status change, in the
+ * same transaction; see {@link com.agms.backend.service.ListWorkflowCounterService}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "ListWorkflowCounter", indexes = {
+    @Index(columnList = "parentListId", name = "idx_list_workflow_counter_parent")
+})
+public class ListWorkflowCounter {
+    @Id
+    private String listId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrgUnitType listType;
+
+    private String parentListId;
+
+    private int childCount;
+    private int finalizedChildCount;
+
+    private int pendingCount;
+    private int approvedByAdvisorCount;
+    private int rejectedByAdvisorCount;
+    private int approvedByDeptCount;
+    private int rejectedByDeptCount;
+    private int approvedByDeanCount;
+    private int rejectedByDeanCount;
+    private int finalApprovedCount;
+    private int finalRejectedCount;
+
+    public int getCount(SubmissionStatus status) {
+        return switch (status) {
+            case PENDING -> pendingCount;
+            case APPROVED_BY_ADVISOR -> approvedByAdvisorCount;
+            case REJECTED_BY_ADVISOR -> rejectedByAdvisorCount;
+            case APPROVED_BY_DEPT -> approvedByDeptCount;
+            case REJECTED_BY_DEPT -> rejectedByDeptCount;
+            case APPROVED_BY_DEAN -> approvedByDeanCount;
+            case REJECTED_BY_DEAN -> rejectedByDeanCount;
+            case FINAL_APPROVED -> finalApprovedCount;
+            case FINAL_REJECTED -> finalRejectedCount;
+        };
+    }
+
+    public void addCount(SubmissionStatus status, int delta) {
+        switch (status) {
+            case PENDING -> pendingCount += delta;
+            case APPROVED_BY_ADVISOR -> approvedByAdvisorCount += delta;
+            case REJECTED_BY_ADVISOR -> rejectedByAdvisorCount += delta;
+            case APPROVED_BY_DEPT -> approvedByDeptCount += delta;
+            case REJECTED_BY_DEPT -> rejectedByDeptCount += delta;
+            case APPROVED_BY_DEAN -> approvedByDeanCount += delta;
+            case REJECTED_BY_DEAN -> rejectedByDeanCount += delta;
+            case FINAL_APPROVED -> finalApprovedCount += delta;
+            case FINAL_REJECTED -> finalRejectedCount += delta;
+        }
+    }
+
+    /**
+     * Status of the submissions waiting for the owner of this list
+     */
+    public SubmissionStatus getAwaitingStatus() {
+        return switch (listType) {
+            case ADVISOR_LIST -> SubmissionStatus.PENDING;
+            case DEPARTMENT_LIST -> SubmissionStatus.APPROVED_BY_ADVISOR;
+            case FACULTY_LIST -> SubmissionStatus.APPROVED_BY_DEPT;
+            case GRADUATION_LIST -> SubmissionStatus.APPROVED_BY_DEAN;
+            default -> throw new IllegalStateException("Not a list type: " + listType);
+        };
+    }
+
+    /**
+     * Submissions waiting for the owner of this list
+     */
+    public int getAwaitingCount() {
+        return getCount(getAwaitingStatus());
+    }
+
+    /**
+     * Submissions in the list in any status
+     */
+    public int getTotalCount() {
+        int total = 0;
+        for (SubmissionStatus status : SubmissionStatus.values()) {
+            total += getCount(status);
+        }
+        return total;
+    }
+
+    /**
+     * @return true if the list has child lists and all of them are finalized
+     */
+    public boolean isAllChildrenFinalized() {
+        return childCount > 0 && finalizedChildCount == childCount;
+    }
+}
@@ -0,0 +1,75 @@
+package com.agms.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * A notification waiting to be sent. Rows are written in the transaction of the
+ * workflow change they are about, so a notification exists exactly when the
+ * change committed, and are sent afterwards by the
+ * {@link com.agms.backend.service.notification.NotificationDispatcher}; the
+ * request that made the change never waits for the mail relay.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "NotificationOutbox", indexes = {
+    @Index(columnList = "status, nextAttemptAt", name = "idx_notification_outbox_due")
+})
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    /**
+     * Submission the notification is about, null for summaries
+     */
+    private String submissionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private NotificationStatus status = NotificationStatus.PENDING;
+
+    /**
+     * Send attempts started so far, including one that may be in progress
+     */
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private Timestamp createdAt;
+
+    /**
+     * When the notification is due, or, while a dispatcher is sending it, when its claim
+     * runs out and another dispatcher may try
+     */
+    @Column(nullable = false)
+    private Timestamp nextAttemptAt;
+
+    private Timestamp sentAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,7 @@
+package com.agms.backend.model;
+
+public enum NotificationStatus {
+    PENDING, // Waiting to be sent, or to be retried after a failed attempt
+    SENT,    // Delivered to the mail relay
+    DEAD     // Gave up after the maximum number of attempts; kept for inspection and manual resend
+}
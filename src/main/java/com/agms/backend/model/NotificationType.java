@@ -0,0 +1,9 @@
+package com.agms.backend.model;
+
+public enum NotificationType {
+    SUBMISSIONS_AWAITING_REVIEW, // Submissions were forwarded to the recipient's level
+    SUBMISSION_APPROVED,         // A student's submission received final approval
+    SUBMISSION_REJECTED,         // A student's submission was rejected
+    GRADUATION_COMPLETED,        // The graduation list was finalized
+    GRADUATION_SUMMARY           // Summary of a completed graduation for student affairs
+}
@@ -0,0 +1,51 @@
+package com.agms.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per ancestor/descendant pair of the organisation hierarchy, including
+ * each node paired with itself at depth 0. "Everything under X" is then a single
+ * indexed lookup on the ancestor, whatever the depth. Rows are derived from the
+ * list tables and rebuilt in the transaction that changes the hierarchy, see
+ * {@link com.agms.backend.service.OrgClosureService}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "OrgClosure", uniqueConstraints = {
+    @UniqueConstraint(columnNames = { "ancestorType", "ancestorId", "descendantType", "descendantId" },
+            name = "uk_org_closure_ancestor_descendant")
+}, indexes = {
+    @Index(columnList = "descendantType, descendantId", name = "idx_org_closure_descendant")
+})
+public class OrgClosure {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrgUnitType ancestorType;
+
+    @Column(nullable = false)
+    private String ancestorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrgUnitType descendantType;
+
+    @Column(nullable = false)
+    private String descendantId;
+
+    /**
+     * Number of edges between the two nodes
+     */
+    @Column(nullable = false)
+    private int depth;
+}
@@ -0,0 +1,22 @@
+package com.agms.backend.model;
+
+/**
+ * Kinds of node in the organisation hierarchy. Reviewers and the lists they own
+ * alternate: a reviewer's parent is the list of their superior, and a list's
+ * parent is the reviewer who owns it.
+ * <pre>
+ * STUDENT_AFFAIRS → GRADUATION_LIST → DEAN_OFFICER → FACULTY_LIST
+ *   → DEPARTMENT_SECRETARY → DEPARTMENT_LIST → ADVISOR → ADVISOR_LIST
+ * </pre>
+ * Reviewers are identified by their empId, lists by their list id.
+ */
+public enum OrgUnitType {
+    STUDENT_AFFAIRS,
+    GRADUATION_LIST,
+    DEAN_OFFICER,
+    FACULTY_LIST,
+    DEPARTMENT_SECRETARY,
+    DEPARTMENT_LIST,
+    ADVISOR,
+    ADVISOR_LIST
+}
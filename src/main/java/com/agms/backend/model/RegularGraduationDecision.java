@@ -0,0 +1,30 @@
+package com.agms.backend.model;
+
+/**
+ * What starting regular graduation does with a student, checked in this order
+ */
+public enum RegularGraduationDecision {
+    NOT_IN_UBYS("Student not found in UBYS"),
+    INELIGIBLE("Not eligible for graduation"),
+    PENDING_SUBMISSION("Already has an active pending submission"),
+    NO_ADVISOR("No assigned advisor"),
+    NO_ADVISOR_LIST("Advisor has no advisor list"),
+    CREATE_SUBMISSION("Eligible, a submission is created");
+
+    private final String reason;
+
+    RegularGraduationDecision(String reason) {
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * @return true if the student is eligible but left out; ineligible students are not counted as skipped
+     */
+    public boolean isSkipped() {
+        return this != CREATE_SUBMISSION && this != INELIGIBLE;
+    }
+}
@@ -0,0 +1,61 @@
+package com.agms.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * Background job that creates the regular graduation submissions of a term.
+ * The work is split into {@link RegularGraduationPartition}s that any node of
+ * the cluster can claim; progress is kept on the partitions.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "RegularGraduationJob", uniqueConstraints = {
+    @UniqueConstraint(columnNames = "term", name = "uk_regular_graduation_job_term")
+})
+public class RegularGraduationJob {
+    @Id
+    private String jobId;
+
+    @Column(nullable = false)
+    private String term;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private RegularGraduationJobStatus status = RegularGraduationJobStatus.RUNNING;
+
+    /**
+     * Number of students when the job was started
+     */
+    @Column(nullable = false)
+    private long totalStudents;
+
+    @Column(nullable = false)
+    private Timestamp startedAt;
+
+    /**
+     * When the job was last started or resumed, with the processed count at that
+     * moment; throughput is measured from here so downtime does not skew it
+     */
+    @Column(nullable = false)
+    private Timestamp runStartedAt;
+
+    @Column(nullable = false)
+    private long processedAtRunStart;
+
+    private Timestamp updatedAt;
+
+    private Timestamp finishedAt;
+
+    @Column(length = 1000)
+    private String errorMessage;
+}
@@ -0,0 +1,7 @@
+package com.agms.backend.model;
+
+public enum RegularGraduationJobStatus {
+    RUNNING,    // Queued or processing students; resumed after a restart
+    COMPLETED,  // Every student has been processed
+    FAILED      // Stopped on an error; starting the term again resumes from the checkpoint
+}
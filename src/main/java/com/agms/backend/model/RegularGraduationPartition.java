@@ -0,0 +1,79 @@
+package com.agms.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * Students of one department list of a regular graduation job, processed by
+ * whichever node holds the lease. Nodes claim partitions with
+ * {@code FOR UPDATE SKIP LOCKED}, renew the lease with every chunk, and take
+ * over partitions whose lease expired because their node died.
+ * <p>
+ * Students are processed in student number order, one chunk per transaction;
+ * the checkpoint and the counters are written in the same transaction as the
+ * chunk's submissions, so a partition picked up again continues exactly after
+ * the last committed chunk and never creates a submission twice.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "RegularGraduationPartition", indexes = {
+    @Index(columnList = "jobId, completed", name = "idx_regular_graduation_partition_job")
+})
+public class RegularGraduationPartition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "regular_graduation_partition_seq")
+    @SequenceGenerator(name = "regular_graduation_partition_seq", sequenceName = "regular_graduation_partition_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String jobId;
+
+    /**
+     * Department list whose advisors' students belong to this partition; null for
+     * the students whose advisor list is not part of any department list
+     */
+    private String deptListId;
+
+    /**
+     * Student number of the last processed student; empty before the first chunk
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private String checkpoint = "";
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    /**
+     * Students a submission was created for
+     */
+    @Column(nullable = false)
+    private long eligibleCount;
+
+    @Column(nullable = false)
+    private long skippedCount;
+
+    @Column(nullable = false)
+    private long failedCount;
+
+    /**
+     * Node currently working on the partition; null when it is free
+     */
+    private String leaseOwner;
+
+    private Timestamp leaseExpiresAt;
+
+    private Timestamp updatedAt;
+}
@@ -1,23 +1,35 @@
 package com.agms.backend.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 import com.agms.backend.model.users.Student;
 import java.sql.Timestamp;
 import java.util.List;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "Submission")
-public class Submission {
+@Table(name = "Submission", indexes = {
+    @Index(columnList = "advisor_list_id, status", name = "idx_submission_advisor_list_status"),
+    @Index(columnList = "deptListId, status", name = "idx_submission_dept_list_status"),
+    @Index(columnList = "facultyListId, status", name = "idx_submission_faculty_list_status"),
+    @Index(columnList = "graduationListId, term, status", name = "idx_submission_graduation_list_status")
+})
+public class Submission implements Persistable<String> {
     @Id
     private String submissionId;
 
@@ -27,10 +39,25 @@ public class Submission {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * Reason given with the rejection, if the submission was rejected; the full history
+     * is in the submission's events
+     */
+    @Column(columnDefinition = "TEXT")
+    private String rejectionReason;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private SubmissionStatus status;
 
+    /**
+     * Optimistic lock. Status transitions are conditional updates that increment it
+     * themselves, so a submission changed by a transition cannot be overwritten by a
+     * stale copy saved afterwards.
+     */
+    @Version
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "studentNumber")
     @JsonBackReference
@@ -45,4 +72,53 @@ public class Submission {
     @JsonManagedReference
     private List<File> files;
 
+    /**
+     * Ids of the lists above the advisor list, copied from the hierarchy so that a
+     * reviewer's inbox is one indexed query instead of a walk down the hierarchy.
+     * Realigned in bulk whenever lists move, see
+     * {@link com.agms.backend.repository.SubmissionRepository#alignHierarchyKeys()}.
+     */
+    private String deptListId;
+
+    private String facultyListId;
+
+    private String graduationListId;
+
+    /**
+     * Term of the graduation the submission was made for; unlike the list ids it
+     * does not change when the lists are reused for a later term
+     */
+    private String term;
+
+    /**
+     * Submission ids are assigned by the application, so Spring Data cannot tell
+     * new submissions from existing ones by the id. Without this flag every save
+     * of a new submission would first SELECT it to decide between persist and
+     * merge, which also defeats JDBC insert batching.
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return submissionId;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
 }
@@ -0,0 +1,110 @@
+package com.agms.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * One entry of a submission's history: its creation, every status change with
+ * who made it and why, and its deletion. Rows are only ever inserted. The
+ * submission row and the list workflow counters are projections of this log,
+ * kept current in the transaction that appends to it and rebuildable from it.
+ * <p>
+ * Event ids are time-ordered (UUID version 7), so a submission's events sort by
+ * id in the order they happened and timelines page by id alone.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "SubmissionEvent", indexes = {
+    @Index(columnList = "submissionId, eventId", name = "idx_submission_event_submission")
+})
+public class SubmissionEvent implements Persistable<UUID> {
+    @Id
+    private UUID eventId;
+
+    // Not a reference, the events outlive a deleted submission
+    @Column(nullable = false)
+    private String submissionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SubmissionEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    private SubmissionStatus oldStatus;
+
+    @Enumerated(EnumType.STRING)
+    private SubmissionStatus newStatus;
+
+    @Column(columnDefinition = "TEXT")
+    private String reason;
+
+    /**
+     * Email of the user who made the change, or "system" for background jobs
+     */
+    @Column(nullable = false)
+    private String actor;
+
+    @Column(nullable = false)
+    private String actorRole;
+
+    @Column(nullable = false)
+    private Timestamp occurredAt;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static long lastMillis;
+    private static int sequence;
+
+    /**
+     * A new UUID version 7: 48 bits of Unix milliseconds, a 12 bit counter that keeps ids
+     * of the same millisecond in order on this node, and 62 random bits
+     */
+    public static UUID newEventId() {
+        long millis;
+        int counter;
+        synchronized (SubmissionEvent.class) {
+            millis = Math.max(System.currentTimeMillis(), lastMillis);
+            if (millis == lastMillis && ++sequence > 0xFFF) {
+                // Counter exhausted, borrow the next millisecond
+                millis++;
+                sequence = 0;
+            } else if (millis != lastMillis) {
+                sequence = 0;
+            }
+            lastMillis = millis;
+            counter = sequence;
+        }
+        long mostSignificant = (millis << 16) | 0x7000L | counter;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    @JsonIgnore
+    public UUID getId() {
+        return eventId;
+    }
+
+    /**
+     * Events are never updated, so saving one is always an insert; without this Spring
+     * Data would SELECT every event before inserting it because its id is assigned here
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return true;
+    }
+}
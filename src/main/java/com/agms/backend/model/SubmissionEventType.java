@@ -0,0 +1,7 @@
+package com.agms.backend.model;
+
+public enum SubmissionEventType {
+    CREATED,        // Submission created, by the student or the regular graduation job
+    STATUS_CHANGED, // Moved from one status to another by a reviewer
+    DELETED         // Submission removed; its earlier events are kept
+}
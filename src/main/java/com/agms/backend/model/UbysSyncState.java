@@ -0,0 +1,50 @@
+package com.agms.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * Content hash of a UBYS record as it was last written to the database. The
+ * sync job compares fresh records against these hashes and only writes the
+ * ones that changed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "UbysSyncState", uniqueConstraints = {
+    @UniqueConstraint(columnNames = { "section", "recordKey" }, name = "uk_ubys_sync_state_section_key")
+})
+public class UbysSyncState {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ubys_sync_state_seq")
+    @SequenceGenerator(name = "ubys_sync_state_seq", sequenceName = "ubys_sync_state_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Name of the UBYS section, e.g. "students"
+     */
+    @Column(nullable = false)
+    private String section;
+
+    /**
+     * Student number or employee id of the record
+     */
+    @Column(nullable = false)
+    private String recordKey;
+
+    /**
+     * Hex SHA-256 of the persisted fields of the record
+     */
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Timestamp syncedAt;
+}
@@ -0,0 +1,84 @@
+package com.agms.backend.model.curriculum;
+
+import com.agms.backend.model.AcademicRecord;
+
+import java.util.List;
+
+/**
+ * Compiled, immutable form of a {@link CurriculumDefinition}. Required courses
+ * become a course bitmask and every threshold a primitive, so evaluating a
+ * student is a handful of comparisons against their {@link AcademicRecord}.
+ * Instances are meant to be compiled once and shared across all students.
+ */
+public final class Curriculum {
+
+    private static final int ANY_COURSE_COUNT = -1;
+
+    /**
+     * The rules AGMS always applied: exactly 4 courses including ENG101,
+     * ENG102 and MATH101, all passing, GPA at least 2.0 and at least 23 credits.
+     */
+    public static final Curriculum LEGACY = compile("legacy", CurriculumDefinition.builder()
+            .courseCount(4)
+            .requiredCourses(List.of("ENG101", "ENG102", "MATH101"))
+            .allCoursesPassing(true)
+            .minGpa(2.0)
+            .minTotalCredit(23)
+            .build());
+
+    private final String name;
+    private final int courseCount;
+    private final long[] requiredCourses;
+    private final boolean allCoursesPassing;
+    private final double minGpa;
+    private final int minTotalCredit;
+
+    private Curriculum(String name, int courseCount, long[] requiredCourses, boolean allCoursesPassing,
+            double minGpa, int minTotalCredit) {
+        this.name = name;
+        this.courseCount = courseCount;
+        this.requiredCourses = requiredCourses;
+        this.allCoursesPassing = allCoursesPassing;
+        this.minGpa = minGpa;
+        this.minTotalCredit = minTotalCredit;
+    }
+
+    public static Curriculum compile(String name, CurriculumDefinition definition) {
+        List<String> requiredCourses = definition.getRequiredCourses() == null ? List.of()
+                : definition.getRequiredCourses();
+
+        return new Curriculum(
+                name,
+                definition.getCourseCount() == null ? ANY_COURSE_COUNT : definition.getCourseCount(),
+                AcademicRecord.courseMask(requiredCourses.toArray(new String[0])),
+                Boolean.TRUE.equals(definition.getAllCoursesPassing()),
+                definition.getMinGpa() == null ? 0.0 : definition.getMinGpa(),
+                definition.getMinTotalCredit() == null ? 0 : definition.getMinTotalCredit());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true if the record satisfies the course requirements of the curriculum
+     */
+    public boolean isCompletedBy(AcademicRecord academicRecord) {
+        if (academicRecord == null) {
+            return false;
+        }
+        return (courseCount == ANY_COURSE_COUNT || academicRecord.getCourseCount() == courseCount)
+                && academicRecord.hasTakenAll(requiredCourses)
+                && (!allCoursesPassing || academicRecord.isAllCoursesPassing());
+    }
+
+    /**
+     * @return true if the curriculum is completed and the GPA and credit
+     *         thresholds are met
+     */
+    public boolean isEligibleForGraduation(AcademicRecord academicRecord, boolean curriculumCompleted) {
+        return curriculumCompleted
+                && academicRecord.getGpa() >= minGpa
+                && academicRecord.getTotalCredit() >= minTotalCredit;
+    }
+}
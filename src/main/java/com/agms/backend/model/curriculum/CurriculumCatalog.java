@@ -0,0 +1,23 @@
+package com.agms.backend.model.curriculum;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.Map;
+
+/**
+ * Root of curricula.json: the default curriculum and per-department overrides
+ * keyed by department name.
+ */
+@Value
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CurriculumCatalog {
+    @JsonProperty("default")
+    CurriculumDefinition defaultCurriculum;
+    Map<String, CurriculumDefinition> departments;
+}
@@ -0,0 +1,31 @@
+package com.agms.backend.model.curriculum;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * Declarative graduation rules of one curriculum, as stored in curricula.json.
+ * Unset values do not constrain the student.
+ */
+@Value
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CurriculumDefinition {
+    /** Exact number of courses the student must have taken */
+    Integer courseCount;
+    /** Course codes that must appear in the student's record */
+    @Singular
+    List<String> requiredCourses;
+    /** Whether every course taken must have a passing grade */
+    Boolean allCoursesPassing;
+    /** Minimum GPA to be eligible for graduation */
+    Double minGpa;
+    /** Minimum total credit to be eligible for graduation */
+    Integer minTotalCredit;
+}
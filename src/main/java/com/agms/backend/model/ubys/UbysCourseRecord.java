@@ -0,0 +1,28 @@
+package com.agms.backend.model.ubys;
+
+import com.agms.backend.model.Course;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Immutable course entry of a UBYS student record.
+ */
+@Value
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UbysCourseRecord {
+    String code;
+    String name;
+    String grade;
+    int credit;
+
+    /**
+     * Creates a fresh, mutable Course for callers that expose it through the API
+     */
+    public Course toCourse() {
+        return new Course(code, name, grade, credit);
+    }
+}
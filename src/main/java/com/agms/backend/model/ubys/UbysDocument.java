@@ -0,0 +1,23 @@
+package com.agms.backend.model.ubys;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.Map;
+
+/**
+ * Typed view of a complete UBYS export (the layout of data/ubys.json).
+ */
+@Value
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UbysDocument {
+    Map<String, UbysStaffRecord> studentAffairs;
+    Map<String, UbysStaffRecord> deanOfficers;
+    Map<String, UbysStaffRecord> departmentSecretaries;
+    Map<String, UbysStaffRecord> advisors;
+    Map<String, UbysStudentRecord> students;
+}
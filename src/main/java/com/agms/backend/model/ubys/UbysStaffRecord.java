@@ -0,0 +1,23 @@
+package com.agms.backend.model.ubys;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Immutable entry of the UBYS staff sections (studentAffairs, deanOfficers,
+ * departmentSecretaries, advisors). Fields that do not apply to a section are
+ * left null.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UbysStaffRecord {
+    String empId;
+    String department;
+    String faculty;
+    String deanOfficerId;
+    UbysUser user;
+}
@@ -0,0 +1,24 @@
+package com.agms.backend.model.ubys;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * Immutable student entry of the UBYS "students" section.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UbysStudentRecord {
+    String studentNumber;
+    String advisorId;
+    String department;
+    UbysUser user;
+    int semester;
+    List<UbysCourseRecord> courses;
+}
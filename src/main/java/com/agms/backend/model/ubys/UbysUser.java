@@ -0,0 +1,21 @@
+package com.agms.backend.model.ubys;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Nested "user" block shared by every UBYS record type.
+ */
+@Value
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UbysUser {
+    String id;
+    String firstName;
+    String lastName;
+    String email;
+    String role;
+}
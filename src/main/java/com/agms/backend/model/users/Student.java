@@ -2,15 +2,18 @@ package com.agms.backend.model.users;
 
 import java.util.List;
 
+import com.agms.backend.model.AcademicRecord;
 import com.agms.backend.model.Course;
 import com.agms.backend.model.AdvisorList;
 import com.agms.backend.model.Submission;
+import com.agms.backend.model.curriculum.Curriculum;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
@@ -62,11 +65,28 @@ public class Student extends User {
     @Transient
     private boolean isEligibleForGraduation;
 
+    @Transient
+    @JsonIgnore
+    private AcademicRecord academicRecord;
+
+    /**
+     * Graduation rules of the student's department; the legacy rules apply
+     * until one is set
+     */
+    @Transient
+    @JsonIgnore
+    private Curriculum curriculum;
+
     public void setCourses(List<Course> courses) {
         this.courses = courses;
         calculateAcademicMetrics();
     }
 
+    public void setCurriculum(Curriculum curriculum) {
+        this.curriculum = curriculum;
+        evaluateCurriculum();
+    }
+
     /**
      * Calculates GPA, total credits, and curriculum completion status from the
      * student's courses.
@@ -75,6 +95,7 @@ public class Student extends User {
      */
     public void calculateAcademicMetrics() {
         if (courses == null || courses.isEmpty()) {
+            this.academicRecord = null;
             this.gpa = 0.0;
             this.totalCredit = 0;
             this.isCurriculumCompleted = false;
@@ -82,105 +103,21 @@ public class Student extends User {
             return;
         }
 
-        double totalGpaPoints = 0.0;
-        int totalCredits = 0;
+        // One pass over the courses computes everything below
+        this.academicRecord = AcademicRecord.of(courses);
+        this.totalCredit = academicRecord.getTotalCredit();
+        this.gpa = academicRecord.getGpa();
 
-        for (Course course : courses) {
-            if (course != null && course.getCredit() > 0) {
-                totalCredits += course.getCredit();
-                totalGpaPoints += (course.getGpaPoints() * course.getCredit());
-            }
-        }
-
-        this.totalCredit = totalCredits;
-        this.gpa = totalCredits > 0 ? Math.round((totalGpaPoints / totalCredits) * 100.0) / 100.0 : 0.0;
-
-        // Calculate curriculum completion
-        // A curriculum is considered completed if:
-        // 1. Exactly 4 courses
-        // 2. Must have the 3 required courses: ENG101, ENG102, MATH101
-        // 3. All courses must have passing grades (DD or better)
-        this.isCurriculumCompleted = checkCurriculumCompletion();
-        
-        // Calculate graduation eligibility
-        this.isEligibleForGraduation = checkGraduationEligibility();
-    }
-
-    /**
-     * Checks if the curriculum is completed based on required courses and passing
-     * grades.
-     * 
-     * @return true if curriculum is completed, false otherwise
-     */
-    private boolean checkCurriculumCompletion() {
-        // Must have exactly 4 courses
-        if (courses == null || courses.size() != 4) {
-            return false;
-        }
-
-        // Required courses that must be present
-        String[] requiredCourses = { "ENG101", "ENG102", "MATH101" };
-        int requiredCoursesFound = 0;
-
-        // Check if all required courses are present
-        for (String requiredCourse : requiredCourses) {
-            boolean found = courses.stream()
-                    .anyMatch(course -> course != null && requiredCourse.equals(course.getCode()));
-            if (found) {
-                requiredCoursesFound++;
-            }
-        }
-
-        // Must have all 3 required courses
-        if (requiredCoursesFound != 3) {
-            return false;
-        }
-
-        // Check if all courses have passing grades (DD or better)
-        for (Course course : courses) {
-            if (course == null || !isPassingGrade(course.getGrade())) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
-    /**
-     * Checks if a grade is passing (DD or better).
-     * 
-     * @param grade the grade to check
-     * @return true if the grade is passing, false otherwise
-     */
-    private boolean isPassingGrade(String grade) {
-        if (grade == null) {
-            return false;
-        }
-
-        // Passing grades: AA, BA, BB, CB, CC, DD
-        // Failing grades: FD, FF
-        switch (grade.toUpperCase()) {
-            case "AA":
-            case "BA":
-            case "BB":
-            case "CB":
-            case "CC":
-            case "DD":
-                return true;
-            case "FD":
-            case "FF":
-            default:
-                return false;
-        }
+        evaluateCurriculum();
     }
 
     /**
-     * Checks if the student is eligible for graduation based on GPA, total credits,
-     * and curriculum completion status.
-     * 
-     * @return true if the student is eligible for graduation, false otherwise
+     * Evaluates curriculum completion and graduation eligibility against the
+     * student's curriculum, reusing the already computed academic record.
      */
-    private boolean checkGraduationEligibility() {
-        return gpa >= 2.0 && isCurriculumCompleted && totalCredit >= 23;
+    private void evaluateCurriculum() {
+        Curriculum rules = curriculum != null ? curriculum : Curriculum.LEGACY;
+        this.isCurriculumCompleted = rules.isCompletedBy(academicRecord);
+        this.isEligibleForGraduation = rules.isEligibleForGraduation(academicRecord, isCurriculumCompleted);
     }
-}
\ No newline at end of file
+}
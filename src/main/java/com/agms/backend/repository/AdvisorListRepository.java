@@ -1,6 +1,7 @@
 package com.agms.backend.repository;
 
 import com.agms.backend.model.AdvisorList;
+import com.agms.backend.model.OrgUnitType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -19,10 +20,75 @@ public interface AdvisorListRepository extends JpaRepository<AdvisorList, String
     Optional<AdvisorList> findByAdvisorEmpId(String advisorEmpId);
     
     @Modifying
-    @Query("UPDATE AdvisorList al SET al.isFinalized = :isFinalized WHERE al.advisorListId = :advisorListId")
+    @Query("UPDATE AdvisorList al SET al.isFinalized = :isFinalized, al.version = al.version + 1 " +
+            "WHERE al.advisorListId = :advisorListId")
     int updateFinalizationStatus(@Param("advisorListId") String advisorListId, @Param("isFinalized") Boolean isFinalized);
     
+    /**
+     * Finalize the advisor list unless it already is or still has a pending submission. The
+     * check and the update are one statement, so a submission created in between cannot be
+     * left behind; {@link #isFinalized} tells the two apart when nothing was updated.
+     *
+     * @return 1 if this call finalized the list, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE AdvisorList al SET al.isFinalized = true, al.version = al.version + 1 " +
+            "WHERE al.advisorListId = :advisorListId AND al.isFinalized = false " +
+            "AND NOT EXISTS (SELECT s FROM Submission s WHERE s.advisorList = al " +
+            "AND s.status = com.agms.backend.model.SubmissionStatus.PENDING)")
+    int finalizeIfNoPendingSubmissions(@Param("advisorListId") String advisorListId);
+
+    /**
+     * Whether the advisor list is finalized, read from the database rather than from a
+     * possibly stale entity
+     */
+    @Query("SELECT al.isFinalized FROM AdvisorList al WHERE al.advisorListId = :advisorListId")
+    boolean isFinalized(@Param("advisorListId") String advisorListId);
+
+    /**
+     * Finalize, in one statement, the open advisor lists of the term's hierarchy that have
+     * no submissions. Not a {@code @Modifying} query because the statement returns the ids
+     * of the finalized lists; it must run inside a transaction.
+     */
+    @Query(value = "UPDATE advisor_list al SET is_finalized = true, version = al.version + 1 " +
+            "FROM department_list dl " +
+            "JOIN faculty_list fl ON fl.faculty_list_id = dl.faculty_list_id " +
+            "JOIN graduation_list gl ON gl.list_id = fl.t_graduation_list_id " +
+            "JOIN graduation g ON g.graduation_id = gl.graduation_id " +
+            "WHERE al.dept_list_id = dl.dept_list_id AND g.term = :term " +
+            "AND al.is_finalized IS NOT TRUE " +
+            "AND NOT EXISTS (SELECT 1 FROM submission s WHERE s.advisor_list_id = al.advisor_list_id) " +
+            "RETURNING al.advisor_list_id", nativeQuery = true)
+    List<String> finalizeEmptyAdvisorListsOfTerm(@Param("term") String term);
+
+    /**
+     * Move every advisor list under the department list of the advisor's current
+     * department secretary
+     *
+     * @return number of advisor lists moved
+     */
+    @Modifying
+    @Query(value = "UPDATE advisor_list al SET dept_list_id = dl.dept_list_id, version = al.version + 1 " +
+            "FROM advisors a JOIN department_list dl ON dl.secretary_id = a.department_secretary_id " +
+            "WHERE al.advisor_id = a.id AND al.dept_list_id <> dl.dept_list_id", nativeQuery = true)
+    int alignWithDepartmentSecretaries();
+
+    /**
+     * Find the advisor lists anywhere below a node of the organisation hierarchy
+     */
+    @Query("SELECT al FROM AdvisorList al, OrgClosure c WHERE c.ancestorType = :ancestorType " +
+            "AND c.ancestorId = :ancestorId AND c.descendantType = com.agms.backend.model.OrgUnitType.ADVISOR_LIST " +
+            "AND c.descendantId = al.advisorListId")
+    List<AdvisorList> findUnder(@Param("ancestorType") OrgUnitType ancestorType,
+            @Param("ancestorId") String ancestorId);
+
     List<AdvisorList> findByDepartmentListDeptListIdAndIsFinalized(String departmentListId, Boolean isFinalized);
     
     boolean existsByDepartmentListDeptListIdAndIsFinalized(String departmentListId, Boolean isFinalized);
+
+    /**
+     * Find the ids of all department lists that have advisor lists
+     */
+    @Query("SELECT DISTINCT al.departmentList.deptListId FROM AdvisorList al")
+    List<String> findDepartmentListIds();
 } 
\ No newline at end of file
@@ -2,8 +2,10 @@ package com.agms.backend.repository;
 
 import com.agms.backend.model.users.Advisor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +18,9 @@ public interface AdvisorRepository extends JpaRepository<Advisor, String> {
     List<Advisor> findByDepartmentSecretaryEmpId(String deptSecretaryEmpId);
     
     List<Advisor> findByDepartmentSecretaryDepartment(String department);
+
+    List<Advisor> findByEmpIdIn(Collection<String> empIds);
+
+    @Query("SELECT a FROM Advisor a LEFT JOIN FETCH a.advisorList")
+    List<Advisor> findAllWithAdvisorList();
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.agms.backend.model.users.DeanOfficer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +14,5 @@ public interface DeanOfficerRepository extends JpaRepository<DeanOfficer, Long>
     Optional<DeanOfficer> findByEmail(String email);
     Optional<DeanOfficer> findByFaculty(String faculty);
     List<DeanOfficer> findByStudentAffairsEmpId(String studentAffairsEmpId);
+    List<DeanOfficer> findByEmpIdIn(Collection<String> empIds);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.agms.backend.repository;
 
 import com.agms.backend.model.DepartmentList;
+import com.agms.backend.model.OrgUnitType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -20,9 +21,42 @@ public interface DepartmentListRepository extends JpaRepository<DepartmentList,
     Optional<DepartmentList> findBySecretaryEmpId(String secretaryEmpId);
     
     @Modifying
-    @Query("UPDATE DepartmentList dl SET dl.isFinalized = :isFinalized WHERE dl.deptListId = :deptListId")
+    @Query("UPDATE DepartmentList dl SET dl.isFinalized = :isFinalized, dl.version = dl.version + 1 " +
+            "WHERE dl.deptListId = :deptListId")
     int updateFinalizationStatus(@Param("deptListId") String deptListId, @Param("isFinalized") Boolean isFinalized);
+
+    /**
+     * Finalize the list unless it already is
+     *
+     * @return 1 if this call finalized the list, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE DepartmentList dl SET dl.isFinalized = true, dl.version = dl.version + 1 " +
+            "WHERE dl.deptListId = :deptListId AND dl.isFinalized = false")
+    int finalizeIfOpen(@Param("deptListId") String deptListId);
     
+    /**
+     * Move every department list under the faculty list of the secretary's current
+     * dean officer
+     *
+     * @return number of department lists moved
+     */
+    @Modifying
+    @Query(value = "UPDATE department_list dl SET faculty_list_id = fl.faculty_list_id, version = dl.version + 1 " +
+            "FROM department_secretaries ds JOIN faculty_list fl ON fl.dean_officer_id = ds.dean_officer_id " +
+            "WHERE dl.secretary_id = ds.id AND dl.faculty_list_id <> fl.faculty_list_id", nativeQuery = true)
+    int alignWithDeanOfficers();
+
+    /**
+     * Find the department lists anywhere below a node of the organisation hierarchy
+     */
+    @Query("SELECT dl FROM DepartmentList dl, OrgClosure c WHERE c.ancestorType = :ancestorType " +
+            "AND c.ancestorId = :ancestorId " +
+            "AND c.descendantType = com.agms.backend.model.OrgUnitType.DEPARTMENT_LIST " +
+            "AND c.descendantId = dl.deptListId")
+    List<DepartmentList> findUnder(@Param("ancestorType") OrgUnitType ancestorType,
+            @Param("ancestorId") String ancestorId);
+
     List<DepartmentList> findByFacultyListFacultyListIdAndIsFinalized(String facultyListId, Boolean isFinalized);
     
     boolean existsByFacultyListFacultyListIdAndIsFinalized(String facultyListId, Boolean isFinalized);
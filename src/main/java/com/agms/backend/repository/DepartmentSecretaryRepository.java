@@ -4,6 +4,7 @@ import com.agms.backend.model.users.DepartmentSecretary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,5 @@ public interface DepartmentSecretaryRepository extends JpaRepository<DepartmentS
     Optional<DepartmentSecretary> findByDepartment(String department);
     List<DepartmentSecretary> findByDeanOfficerEmpId(String deanOfficerEmpId);
     List<DepartmentSecretary> findByDeanOfficerFaculty(String faculty);
+    List<DepartmentSecretary> findByEmpIdIn(Collection<String> empIds);
 }
\ No newline at end of file
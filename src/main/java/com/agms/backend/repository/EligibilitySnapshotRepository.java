@@ -0,0 +1,29 @@
+package com.agms.backend.repository;
+
+import com.agms.backend.model.EligibilitySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EligibilitySnapshotRepository extends JpaRepository<EligibilitySnapshot, Long> {
+
+    Optional<EligibilitySnapshot> findByTermAndStudentNumber(String term, String studentNumber);
+
+    List<EligibilitySnapshot> findByTermAndStudentNumberIn(String term, Collection<String> studentNumbers);
+
+    List<EligibilitySnapshot> findByTermOrderByStudentNumber(String term);
+
+    List<EligibilitySnapshot> findByTermAndIsEligibleForGraduationOrderByStudentNumber(String term,
+            boolean isEligibleForGraduation);
+
+    /**
+     * Find the most recently computed snapshot of a student, whatever the term
+     */
+    Optional<EligibilitySnapshot> findFirstByStudentNumberOrderByComputedAtDesc(String studentNumber);
+
+    boolean existsByTerm(String term);
+}
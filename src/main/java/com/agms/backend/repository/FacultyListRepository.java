@@ -19,8 +19,19 @@ public interface FacultyListRepository extends JpaRepository<FacultyList, String
     Optional<FacultyList> findByDeanOfficerEmpId(String deanOfficerEmpId);
     
     @Modifying
-    @Query("UPDATE FacultyList fl SET fl.isFinalized = :isFinalized WHERE fl.facultyListId = :facultyListId")
+    @Query("UPDATE FacultyList fl SET fl.isFinalized = :isFinalized, fl.version = fl.version + 1 " +
+            "WHERE fl.facultyListId = :facultyListId")
     int updateFinalizationStatus(@Param("facultyListId") String facultyListId, @Param("isFinalized") Boolean isFinalized);
+
+    /**
+     * Finalize the list unless it already is
+     *
+     * @return 1 if this call finalized the list, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE FacultyList fl SET fl.isFinalized = true, fl.version = fl.version + 1 " +
+            "WHERE fl.facultyListId = :facultyListId AND fl.isFinalized = false")
+    int finalizeIfOpen(@Param("facultyListId") String facultyListId);
     
     List<FacultyList> findByGraduationListListIdAndIsFinalized(String graduationListId, Boolean isFinalized);
     
@@ -0,0 +1,28 @@
+package com.agms.backend.repository;
+
+/**
+ * Flat view of a student with the advisor list their graduation submission
+ * would go to and the lists above it, read in one query when a term starts.
+ * Advisor and list fields are null when the student has no advisor or the
+ * advisor has no list.
+ */
+public interface GraduationCandidate {
+
+    String getStudentId();
+
+    String getStudentNumber();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getAdvisorEmpId();
+
+    String getAdvisorListId();
+
+    String getDeptListId();
+
+    String getFacultyListId();
+
+    String getGraduationListId();
+}
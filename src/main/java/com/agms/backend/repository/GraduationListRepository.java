@@ -13,11 +13,25 @@ import java.util.Optional;
 @Repository
 public interface GraduationListRepository extends JpaRepository<GraduationList, String> {
     List<GraduationList> findByGraduationGraduationId(String graduationId);
+
+    @Query("SELECT gl.listId FROM GraduationList gl")
+    List<String> findAllListIds();
     
     // Finalization related methods
     @Modifying
-    @Query("UPDATE GraduationList gl SET gl.isFinalized = :isFinalized WHERE gl.listId = :listId")
+    @Query("UPDATE GraduationList gl SET gl.isFinalized = :isFinalized, gl.version = gl.version + 1 " +
+            "WHERE gl.listId = :listId")
     int updateFinalizationStatus(@Param("listId") String listId, @Param("isFinalized") Boolean isFinalized);
+
+    /**
+     * Finalize the list unless it already is
+     *
+     * @return 1 if this call finalized the list, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE GraduationList gl SET gl.isFinalized = true, gl.version = gl.version + 1 " +
+            "WHERE gl.listId = :listId AND gl.isFinalized = false")
+    int finalizeIfOpen(@Param("listId") String listId);
     
     List<GraduationList> findByGraduationGraduationIdAndIsFinalized(String graduationId, Boolean isFinalized);
     
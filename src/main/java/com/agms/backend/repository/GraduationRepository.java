@@ -4,6 +4,7 @@ import com.agms.backend.model.Graduation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +19,9 @@ public interface GraduationRepository extends JpaRepository<Graduation, String>
      * Check if graduation exists for a specific term with IN_PROGRESS status
      */
     boolean existsByTermAndStatus(String term, String status);
+
+    /**
+     * Find all graduations with the given status
+     */
+    List<Graduation> findByStatus(String status);
 } 
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.agms.backend.repository;
+
+import com.agms.backend.model.ListWorkflowCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ListWorkflowCounterRepository extends JpaRepository<ListWorkflowCounter, String> {
+
+    /**
+     * Lock the counters of the lists, always in id order so that concurrent status
+     * changes touching the same lists cannot deadlock
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ListWorkflowCounter c WHERE c.listId IN :listIds ORDER BY c.listId")
+    List<ListWorkflowCounter> findAllForUpdate(@Param("listIds") Collection<String> listIds);
+
+    List<ListWorkflowCounter> findByParentListId(String parentListId);
+
+    /**
+     * Recount the finalized children of a list from the child lists themselves
+     *
+     * @return number of counters updated, 0 if the list has no counter
+     */
+    @Modifying
+    @Query(value = "UPDATE list_workflow_counter c SET finalized_child_count = (" +
+            "  SELECT COUNT(*) FROM advisor_list WHERE dept_list_id = c.list_id AND is_finalized) + (" +
+            "  SELECT COUNT(*) FROM department_list WHERE faculty_list_id = c.list_id AND is_finalized) + (" +
+            "  SELECT COUNT(*) FROM faculty_list WHERE t_graduation_list_id = c.list_id AND is_finalized) " +
+            "WHERE c.list_id = :listId", nativeQuery = true)
+    int refreshFinalizedChildCount(@Param("listId") String listId);
+
+    /**
+     * Recount the finalized children of every department list, after advisor lists were
+     * finalized in bulk
+     *
+     * @return number of counters whose count changed
+     */
+    @Modifying
+    @Query(value = "UPDATE list_workflow_counter c SET finalized_child_count = f.finalized " +
+            "FROM (SELECT dept_list_id, COUNT(*) FILTER (WHERE is_finalized) AS finalized " +
+            "      FROM advisor_list GROUP BY dept_list_id) f " +
+            "WHERE c.list_id = f.dept_list_id AND c.list_type = 'DEPARTMENT_LIST' " +
+            "AND c.finalized_child_count <> f.finalized", nativeQuery = true)
+    int refreshDepartmentListFinalizedChildCounts();
+
+    /**
+     * Lock the counter table until the end of the transaction. EXCLUSIVE mode waits for
+     * and blocks other rebuilds and every counter write or row lock, but not plain reads.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE list_workflow_counter IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockTable();
+
+    @Modifying
+    @Query("DELETE FROM ListWorkflowCounter")
+    int deleteAllRows();
+
+    /**
+     * Derive every counter from the list and submission tables in one statement. Each
+     * submission is counted in its advisor list and, through its hierarchy keys, in the
+     * department, faculty and graduation lists above it.
+     *
+     * @return number of counters inserted
+     */
+    @Modifying
+    @Query(value = "INSERT INTO list_workflow_counter (list_id, list_type, parent_list_id, child_count, " +
+            "finalized_child_count, pending_count, approved_by_advisor_count, rejected_by_advisor_count, " +
+            "approved_by_dept_count, rejected_by_dept_count, approved_by_dean_count, rejected_by_dean_count, " +
+            "final_approved_count, final_rejected_count) " +
+            "WITH list (list_id, list_type, parent_list_id, is_finalized) AS (" +
+            "  SELECT advisor_list_id, 'ADVISOR_LIST', dept_list_id, is_finalized FROM advisor_list " +
+            "  UNION ALL " +
+            "  SELECT dept_list_id, 'DEPARTMENT_LIST', faculty_list_id, is_finalized FROM department_list " +
+            "  UNION ALL " +
+            "  SELECT faculty_list_id, 'FACULTY_LIST', t_graduation_list_id, is_finalized FROM faculty_list " +
+            "  UNION ALL " +
+            "  SELECT list_id, 'GRADUATION_LIST', NULL, is_finalized FROM graduation_list" +
+            "), child (list_type, list_id, children, finalized) AS (" +
+            "  SELECT CASE list_type WHEN 'ADVISOR_LIST' THEN 'DEPARTMENT_LIST' " +
+            "    WHEN 'DEPARTMENT_LIST' THEN 'FACULTY_LIST' ELSE 'GRADUATION_LIST' END, " +
+            "    parent_list_id, COUNT(*), COUNT(*) FILTER (WHERE is_finalized) " +
+            "  FROM list WHERE parent_list_id IS NOT NULL GROUP BY 1, 2" +
+            "), status_count (list_type, list_id, status, submissions) AS (" +
+            "  SELECT 'ADVISOR_LIST', advisor_list_id, status, COUNT(*) FROM submission GROUP BY 2, 3 " +
+            "  UNION ALL " +
+            "  SELECT 'DEPARTMENT_LIST', dept_list_id, status, COUNT(*) FROM submission " +
+            "  WHERE dept_list_id IS NOT NULL GROUP BY 2, 3 " +
+            "  UNION ALL " +
+            "  SELECT 'FACULTY_LIST', faculty_list_id, status, COUNT(*) FROM submission " +
+            "  WHERE faculty_list_id IS NOT NULL GROUP BY 2, 3 " +
+            "  UNION ALL " +
+            "  SELECT 'GRADUATION_LIST', graduation_list_id, status, COUNT(*) FROM submission " +
+            "  WHERE graduation_list_id IS NOT NULL GROUP BY 2, 3" +
+            ") " +
+            "SELECT l.list_id, l.list_type, l.parent_list_id, " +
+            "  COALESCE(MAX(c.children), 0), COALESCE(MAX(c.finalized), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'PENDING'), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'APPROVED_BY_ADVISOR'), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'REJECTED_BY_ADVISOR'), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'APPROVED_BY_DEPT'), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'REJECTED_BY_DEPT'), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'APPROVED_BY_DEAN'), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'REJECTED_BY_DEAN'), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'FINAL_APPROVED'), 0), " +
+            "  COALESCE(SUM(s.submissions) FILTER (WHERE s.status = 'FINAL_REJECTED'), 0) " +
+            "FROM list l " +
+            "LEFT JOIN child c ON c.list_type = l.list_type AND c.list_id = l.list_id " +
+            "LEFT JOIN status_count s ON s.list_type = l.list_type AND s.list_id = l.list_id " +
+            "GROUP BY l.list_id, l.list_type, l.parent_list_id", nativeQuery = true)
+    int insertFromLists();
+}
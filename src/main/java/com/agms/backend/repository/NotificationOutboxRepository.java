@@ -0,0 +1,26 @@
+package com.agms.backend.repository;
+
+import com.agms.backend.model.NotificationOutbox;
+import com.agms.backend.model.NotificationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Lock the pending notifications that are due, oldest first. Rows another dispatcher
+     * has locked are skipped rather than waited for, so several instances can drain the
+     * outbox side by side without sending a notification twice.
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> lockDue(@Param("now") Timestamp now, @Param("limit") int limit);
+
+    long countByStatus(NotificationStatus status);
+}
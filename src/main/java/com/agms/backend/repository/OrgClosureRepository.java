@@ -0,0 +1,77 @@
+package com.agms.backend.repository;
+
+import com.agms.backend.model.OrgClosure;
+import com.agms.backend.model.OrgUnitType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrgClosureRepository extends JpaRepository<OrgClosure, Long> {
+
+    /**
+     * Check whether the descendant is the ancestor itself or anywhere below it
+     */
+    boolean existsByAncestorTypeAndAncestorIdAndDescendantTypeAndDescendantId(OrgUnitType ancestorType,
+            String ancestorId, OrgUnitType descendantType, String descendantId);
+
+    /**
+     * Find the ids of all nodes of a type below the ancestor, at any depth
+     */
+    @Query("SELECT c.descendantId FROM OrgClosure c WHERE c.ancestorType = :ancestorType " +
+            "AND c.ancestorId = :ancestorId AND c.descendantType = :descendantType")
+    List<String> findDescendantIds(@Param("ancestorType") OrgUnitType ancestorType,
+            @Param("ancestorId") String ancestorId, @Param("descendantType") OrgUnitType descendantType);
+
+    @Modifying
+    @Query("DELETE FROM OrgClosure")
+    int deleteAllRows();
+
+    /**
+     * Derive every ancestor/descendant pair from the list tables with one recursive
+     * query. Each node has a single parent, the shortest path is kept should that
+     * ever not hold.
+     *
+     * @return number of rows inserted
+     */
+    @Modifying
+    @Query(value = "INSERT INTO org_closure (ancestor_type, ancestor_id, descendant_type, descendant_id, depth) " +
+            "WITH RECURSIVE edge (parent_type, parent_id, child_type, child_id) AS (" +
+            "  SELECT 'STUDENT_AFFAIRS', sa.emp_id, 'GRADUATION_LIST', gl.list_id FROM graduation_list gl " +
+            "  JOIN graduation g ON g.graduation_id = gl.graduation_id " +
+            "  JOIN student_affairs sa ON sa.id = g.student_affairs_id " +
+            "  UNION ALL " +
+            "  SELECT 'GRADUATION_LIST', fl.t_graduation_list_id, 'DEAN_OFFICER', d.emp_id FROM faculty_list fl " +
+            "  JOIN dean_officers d ON d.id = fl.dean_officer_id " +
+            "  UNION ALL " +
+            "  SELECT 'DEAN_OFFICER', d.emp_id, 'FACULTY_LIST', fl.faculty_list_id FROM faculty_list fl " +
+            "  JOIN dean_officers d ON d.id = fl.dean_officer_id " +
+            "  UNION ALL " +
+            "  SELECT 'FACULTY_LIST', dl.faculty_list_id, 'DEPARTMENT_SECRETARY', ds.emp_id FROM department_list dl " +
+            "  JOIN department_secretaries ds ON ds.id = dl.secretary_id " +
+            "  UNION ALL " +
+            "  SELECT 'DEPARTMENT_SECRETARY', ds.emp_id, 'DEPARTMENT_LIST', dl.dept_list_id FROM department_list dl " +
+            "  JOIN department_secretaries ds ON ds.id = dl.secretary_id " +
+            "  UNION ALL " +
+            "  SELECT 'DEPARTMENT_LIST', al.dept_list_id, 'ADVISOR', a.emp_id FROM advisor_list al " +
+            "  JOIN advisors a ON a.id = al.advisor_id " +
+            "  UNION ALL " +
+            "  SELECT 'ADVISOR', a.emp_id, 'ADVISOR_LIST', al.advisor_list_id FROM advisor_list al " +
+            "  JOIN advisors a ON a.id = al.advisor_id" +
+            "), node (unit_type, unit_id) AS (" +
+            "  SELECT parent_type, parent_id FROM edge UNION SELECT child_type, child_id FROM edge" +
+            "), closure (ancestor_type, ancestor_id, descendant_type, descendant_id, depth) AS (" +
+            "  SELECT unit_type, unit_id, unit_type, unit_id, 0 FROM node " +
+            "  UNION ALL " +
+            "  SELECT c.ancestor_type, c.ancestor_id, e.child_type, e.child_id, c.depth + 1 FROM closure c " +
+            "  JOIN edge e ON e.parent_type = c.descendant_type AND e.parent_id = c.descendant_id " +
+            "  WHERE c.depth < 16" +
+            ") " +
+            "SELECT ancestor_type, ancestor_id, descendant_type, descendant_id, MIN(depth) FROM closure " +
+            "GROUP BY ancestor_type, ancestor_id, descendant_type, descendant_id", nativeQuery = true)
+    int insertFromHierarchy();
+}
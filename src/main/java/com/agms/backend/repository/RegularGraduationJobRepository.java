@@ -0,0 +1,27 @@
+package com.agms.backend.repository;
+
+import com.agms.backend.model.RegularGraduationJob;
+import com.agms.backend.model.RegularGraduationJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RegularGraduationJobRepository extends JpaRepository<RegularGraduationJob, String> {
+
+    Optional<RegularGraduationJob> findByTerm(String term);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM RegularGraduationJob j WHERE j.jobId = :jobId")
+    Optional<RegularGraduationJob> findByIdForUpdate(@Param("jobId") String jobId);
+
+    boolean existsByStatus(RegularGraduationJobStatus status);
+
+    List<RegularGraduationJob> findByStatus(RegularGraduationJobStatus status);
+}
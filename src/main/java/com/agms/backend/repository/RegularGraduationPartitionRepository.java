@@ -0,0 +1,52 @@
+package com.agms.backend.repository;
+
+import com.agms.backend.model.RegularGraduationPartition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+@Repository
+public interface RegularGraduationPartitionRepository extends JpaRepository<RegularGraduationPartition, Long> {
+
+    /**
+     * Lock the next unfinished partition of a running job that nobody holds a valid
+     * lease on. Rows locked by other nodes are skipped rather than waited for, so
+     * concurrent claims never block each other or hand out the same partition.
+     */
+    @Query(value = "SELECT p.id FROM regular_graduation_partition p " +
+            "JOIN regular_graduation_job j ON j.job_id = p.job_id " +
+            "WHERE j.status = 'RUNNING' AND p.completed = false " +
+            "AND (p.lease_expires_at IS NULL OR p.lease_expires_at < :now) " +
+            "ORDER BY p.id LIMIT 1 FOR UPDATE OF p SKIP LOCKED", nativeQuery = true)
+    Optional<Long> lockNextClaimable(@Param("now") Timestamp now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM RegularGraduationPartition p WHERE p.id = :id")
+    Optional<RegularGraduationPartition> findByIdForUpdate(@Param("id") Long id);
+
+    boolean existsByJobIdAndCompletedFalse(String jobId);
+
+    /**
+     * Release the leases of a job's unfinished partitions, so they can be claimed at once
+     */
+    @Modifying
+    @Query("UPDATE RegularGraduationPartition p SET p.leaseOwner = NULL, p.leaseExpiresAt = NULL " +
+            "WHERE p.jobId = :jobId AND p.completed = false")
+    int releaseLeases(@Param("jobId") String jobId);
+
+    @Query("SELECT COUNT(p) AS partitionCount, " +
+            "COALESCE(SUM(CASE WHEN p.completed = true THEN 1 ELSE 0 END), 0) AS completedPartitionCount, " +
+            "COALESCE(SUM(p.processedCount), 0) AS processedCount, " +
+            "COALESCE(SUM(p.eligibleCount), 0) AS eligibleCount, " +
+            "COALESCE(SUM(p.skippedCount), 0) AS skippedCount, " +
+            "COALESCE(SUM(p.failedCount), 0) AS failedCount " +
+            "FROM RegularGraduationPartition p WHERE p.jobId = :jobId")
+    RegularGraduationProgress sumProgress(@Param("jobId") String jobId);
+}
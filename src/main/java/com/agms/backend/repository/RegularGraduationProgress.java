@@ -0,0 +1,19 @@
+package com.agms.backend.repository;
+
+/**
+ * Counters of a regular graduation job summed over its partitions
+ */
+public interface RegularGraduationProgress {
+
+    long getPartitionCount();
+
+    long getCompletedPartitionCount();
+
+    long getProcessedCount();
+
+    long getEligibleCount();
+
+    long getSkippedCount();
+
+    long getFailedCount();
+}
@@ -1,9 +1,14 @@
 package com.agms.backend.repository;
 
 import com.agms.backend.model.users.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,51 @@ public interface StudentRepository extends JpaRepository<Student, String> {
     boolean existsByStudentNumber(String studentNumber);
 
     Optional<Student> findByEmail(String email);
+
+    List<Student> findByStudentNumberIn(Collection<String> studentNumbers);
+
+    /**
+     * Find the next students after the given student number, in student number
+     * order, together with their advisor and the advisor's list, without loading
+     * the entities
+     */
+    @Query("SELECT s.id AS studentId, s.studentNumber AS studentNumber, s.firstName AS firstName, " +
+            "s.lastName AS lastName, a.empId AS advisorEmpId, al.advisorListId AS advisorListId, " +
+            "dl.deptListId AS deptListId, fl.facultyListId AS facultyListId, gl.listId AS graduationListId " +
+            "FROM Student s LEFT JOIN s.advisor a LEFT JOIN a.advisorList al LEFT JOIN al.departmentList dl " +
+            "LEFT JOIN dl.facultyList fl LEFT JOIN fl.graduationList gl " +
+            "WHERE s.studentNumber > :afterStudentNumber ORDER BY s.studentNumber")
+    List<GraduationCandidate> findGraduationCandidatesAfter(
+            @Param("afterStudentNumber") String afterStudentNumber, Pageable pageable);
+
+    /**
+     * Same as {@link #findGraduationCandidatesAfter}, limited to the students whose
+     * advisor list belongs to the given department list
+     */
+    @Query("SELECT s.id AS studentId, s.studentNumber AS studentNumber, s.firstName AS firstName, " +
+            "s.lastName AS lastName, a.empId AS advisorEmpId, al.advisorListId AS advisorListId, " +
+            "dl.deptListId AS deptListId, fl.facultyListId AS facultyListId, gl.listId AS graduationListId " +
+            "FROM Student s JOIN s.advisor a JOIN a.advisorList al JOIN al.departmentList dl " +
+            "JOIN dl.facultyList fl JOIN fl.graduationList gl " +
+            "WHERE dl.deptListId = :deptListId AND s.studentNumber > :afterStudentNumber " +
+            "ORDER BY s.studentNumber")
+    List<GraduationCandidate> findGraduationCandidatesOfDepartmentListAfter(
+            @Param("deptListId") String deptListId,
+            @Param("afterStudentNumber") String afterStudentNumber, Pageable pageable);
+
+    /**
+     * Same as {@link #findGraduationCandidatesAfter}, limited to the students that
+     * {@link #findGraduationCandidatesOfDepartmentListAfter} never returns: those without
+     * an advisor or an advisor list, and those whose list is not linked all the way up to
+     * a graduation list
+     */
+    @Query("SELECT s.id AS studentId, s.studentNumber AS studentNumber, s.firstName AS firstName, " +
+            "s.lastName AS lastName, a.empId AS advisorEmpId, al.advisorListId AS advisorListId, " +
+            "dl.deptListId AS deptListId, fl.facultyListId AS facultyListId, gl.listId AS graduationListId " +
+            "FROM Student s LEFT JOIN s.advisor a LEFT JOIN a.advisorList al LEFT JOIN al.departmentList dl " +
+            "LEFT JOIN dl.facultyList fl LEFT JOIN fl.graduationList gl " +
+            "WHERE gl.listId IS NULL AND s.studentNumber > :afterStudentNumber " +
+            "ORDER BY s.studentNumber")
+    List<GraduationCandidate> findGraduationCandidatesWithoutDepartmentListAfter(
+            @Param("afterStudentNumber") String afterStudentNumber, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.agms.backend.repository;
+
+import com.agms.backend.model.SubmissionEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SubmissionEventRepository extends JpaRepository<SubmissionEvent, UUID> {
+
+    /**
+     * Find the first events of a submission's timeline, oldest first
+     */
+    @Query("SELECT e FROM SubmissionEvent e WHERE e.submissionId = :submissionId ORDER BY e.eventId")
+    List<SubmissionEvent> findTimeline(@Param("submissionId") String submissionId, Pageable pageable);
+
+    /**
+     * Find the events of a submission's timeline that follow the given event
+     */
+    @Query("SELECT e FROM SubmissionEvent e WHERE e.submissionId = :submissionId AND e.eventId > :afterEventId " +
+            "ORDER BY e.eventId")
+    List<SubmissionEvent> findTimelineAfter(@Param("submissionId") String submissionId,
+            @Param("afterEventId") UUID afterEventId, Pageable pageable);
+
+    /**
+     * Set the status and rejection reason of every submission to those of its latest
+     * event, touching only the rows that disagree with the log
+     *
+     * @return number of submissions updated
+     */
+    @Modifying
+    @Query(value = "UPDATE submission s SET status = e.new_status, rejection_reason = e.reason, " +
+            "version = s.version + 1 " +
+            "FROM (SELECT DISTINCT ON (submission_id) submission_id, new_status, reason " +
+            "      FROM submission_event WHERE event_type <> 'DELETED' " +
+            "      ORDER BY submission_id, event_id DESC) e " +
+            "WHERE s.submission_id = e.submission_id " +
+            "AND (s.status IS DISTINCT FROM e.new_status OR s.rejection_reason IS DISTINCT FROM e.reason)",
+            nativeQuery = true)
+    int projectSubmissionStatuses();
+}
@@ -4,16 +4,40 @@ import com.agms.backend.model.Submission;
 import com.agms.backend.model.SubmissionStatus;
 import com.agms.backend.model.users.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SubmissionRepository extends JpaRepository<Submission, String> {
 
+    /**
+     * Status and hierarchy keys of a submission, all a reviewer decision and the
+     * notifications about it need
+     */
+    interface DecisionKeys {
+        String getSubmissionId();
+
+        SubmissionStatus getStatus();
+
+        String getStudentNumber();
+
+        String getStudentEmail();
+
+        String getAdvisorListId();
+
+        String getDeptListId();
+
+        String getFacultyListId();
+
+        String getGraduationListId();
+    }
+
     /**
      * Find all submissions by student
      */
@@ -55,10 +79,114 @@ public interface SubmissionRepository extends JpaRepository<Submission, String>
     @Query("SELECT COUNT(s) > 0 FROM Submission s WHERE s.student.studentNumber = :studentNumber AND s.status = 'PENDING'")
     boolean hasActivePendingSubmission(@Param("studentNumber") String studentNumber);
 
+    /**
+     * Find which of the given students have a pending submission
+     */
+    @Query("SELECT DISTINCT s.student.studentNumber FROM Submission s " +
+            "WHERE s.status = 'PENDING' AND s.student.studentNumber IN :studentNumbers")
+    List<String> findStudentNumbersWithPendingSubmission(
+            @Param("studentNumbers") Collection<String> studentNumbers);
+
+    /**
+     * Find which of the given students have a submission of the term that was
+     * already approved or rejected at some level
+     */
+    @Query("SELECT DISTINCT s.student.studentNumber FROM Submission s " +
+            "WHERE s.term = :term AND s.status <> 'PENDING' AND s.student.studentNumber IN :studentNumbers")
+    List<String> findStudentNumbersWithDecidedSubmission(
+            @Param("term") String term,
+            @Param("studentNumbers") Collection<String> studentNumbers);
+
     /**
      * Find submissions by advisor list id and status
      */
     @Query("SELECT s FROM Submission s WHERE s.advisorList.advisorListId = :advisorListId AND s.status = :status")
     List<Submission> findByAdvisorListIdAndStatus(@Param("advisorListId") String advisorListId,
             @Param("status") SubmissionStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Find submissions of a department list by status, the department secretary's inbox
+     */
+    @Query("SELECT s FROM Submission s JOIN FETCH s.student LEFT JOIN FETCH s.files " +
+            "WHERE s.deptListId = :deptListId AND s.status = :status")
+    List<Submission> findByDeptListIdAndStatus(@Param("deptListId") String deptListId,
+            @Param("status") SubmissionStatus status);
+
+    /**
+     * Find submissions of a faculty list by status, the dean officer's inbox
+     */
+    @Query("SELECT s FROM Submission s JOIN FETCH s.student LEFT JOIN FETCH s.files " +
+            "WHERE s.facultyListId = :facultyListId AND s.status = :status")
+    List<Submission> findByFacultyListIdAndStatus(@Param("facultyListId") String facultyListId,
+            @Param("status") SubmissionStatus status);
+
+    /**
+     * Find the submissions of a term in a graduation list by status
+     */
+    @Query("SELECT s FROM Submission s JOIN FETCH s.student " +
+            "WHERE s.graduationListId = :graduationListId AND s.term = :term AND s.status = :status")
+    List<Submission> findByGraduationListIdAndTermAndStatus(@Param("graduationListId") String graduationListId,
+            @Param("term") String term, @Param("status") SubmissionStatus status);
+
+    /**
+     * Find submissions of any of the advisor lists with any of the statuses
+     */
+    @Query("SELECT s FROM Submission s JOIN FETCH s.student " +
+            "WHERE s.advisorList.advisorListId IN :advisorListIds AND s.status IN :statuses")
+    List<Submission> findByAdvisorListIdInAndStatusIn(@Param("advisorListIds") Collection<String> advisorListIds,
+            @Param("statuses") Collection<SubmissionStatus> statuses);
+
+    /**
+     * Find the status and hierarchy keys of the submissions without loading them
+     */
+    @Query("SELECT s.submissionId AS submissionId, s.status AS status, " +
+            "st.studentNumber AS studentNumber, st.email AS studentEmail, " +
+            "s.advisorList.advisorListId AS advisorListId, s.deptListId AS deptListId, " +
+            "s.facultyListId AS facultyListId, s.graduationListId AS graduationListId " +
+            "FROM Submission s JOIN s.student st WHERE s.submissionId IN :submissionIds")
+    List<DecisionKeys> findDecisionKeysByIdIn(@Param("submissionIds") Collection<String> submissionIds);
+
+    /**
+     * Move the submissions that are still in the expected status to the new status. The
+     * persistence context is cleared so that submissions read afterwards show the update.
+     *
+     * @return number of submissions updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Submission s SET s.status = :to, s.version = s.version + 1 " +
+            "WHERE s.submissionId IN :submissionIds AND s.status = :from")
+    int updateStatus(@Param("submissionIds") Collection<String> submissionIds,
+            @Param("from") SubmissionStatus from, @Param("to") SubmissionStatus to);
+
+    /**
+     * Move the submissions that are still in the expected status to the new status and
+     * record the reason, used for rejections sharing a reason
+     *
+     * @return number of submissions updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Submission s SET s.status = :to, s.rejectionReason = :reason, s.version = s.version + 1 " +
+            "WHERE s.submissionId IN :submissionIds AND s.status = :from")
+    int updateStatusAndReason(@Param("submissionIds") Collection<String> submissionIds,
+            @Param("from") SubmissionStatus from, @Param("to") SubmissionStatus to,
+            @Param("reason") String reason);
+
+    /**
+     * Copy the current department, faculty and graduation list ids of each submission's
+     * advisor list onto the submission, touching only the rows that are out of date
+     *
+     * @return number of submissions updated
+     */
+    @Modifying
+    @Query(value = "UPDATE submission s SET dept_list_id = al.dept_list_id, " +
+            "faculty_list_id = dl.faculty_list_id, graduation_list_id = fl.t_graduation_list_id, " +
+            "version = s.version + 1 " +
+            "FROM advisor_list al " +
+            "JOIN department_list dl ON dl.dept_list_id = al.dept_list_id " +
+            "JOIN faculty_list fl ON fl.faculty_list_id = dl.faculty_list_id " +
+            "WHERE s.advisor_list_id = al.advisor_list_id " +
+            "AND (s.dept_list_id IS DISTINCT FROM al.dept_list_id " +
+            "OR s.faculty_list_id IS DISTINCT FROM dl.faculty_list_id " +
+            "OR s.graduation_list_id IS DISTINCT FROM fl.t_graduation_list_id)", nativeQuery = true)
+    int alignHierarchyKeys();
+}
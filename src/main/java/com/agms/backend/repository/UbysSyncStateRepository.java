@@ -0,0 +1,25 @@
+package com.agms.backend.repository;
+
+import com.agms.backend.model.UbysSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UbysSyncStateRepository extends JpaRepository<UbysSyncState, Long> {
+
+    List<UbysSyncState> findBySectionAndRecordKeyIn(String section, Collection<String> recordKeys);
+
+    /**
+     * Find the record keys and content hashes of a section without loading the
+     * entities, as [recordKey, contentHash] pairs
+     */
+    @Query("SELECT s.recordKey, s.contentHash FROM UbysSyncState s WHERE s.section = :section")
+    List<Object[]> findHashesBySection(@Param("section") String section);
+
+    boolean existsBySection(String section);
+}
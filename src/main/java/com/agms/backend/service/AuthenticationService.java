@@ -12,8 +12,10 @@ import com.agms.backend.exception.InvalidRoleException;
 import com.agms.backend.exception.ResourceNotFoundException;
 import com.agms.backend.model.users.*;
 import com.agms.backend.repository.*;
+import com.agms.backend.service.org.OrgChangedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -32,6 +34,7 @@ public class AuthenticationService {
     private final DeanOfficerRepository deanOfficerRepository;
     private final DepartmentSecretaryRepository departmentSecretaryRepository;
     private final StudentAffairsRepository studentAffairsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     private EmailService emailService;
@@ -52,6 +55,9 @@ public class AuthenticationService {
         }
 
         User user = createUserByRole(request, userRole);
+        if (userRole != Role.STUDENT) {
+            eventPublisher.publishEvent(new OrgChangedEvent("registered " + userRole));
+        }
 
         var jwtToken = jwtService.generateToken(user);
         return AuthenticationResponse.builder()
@@ -0,0 +1,77 @@
+package com.agms.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bounded retry for internal operations that are safe to repeat. Each attempt runs
+ * in a transaction of its own and re-reads what it acts on, so a retry either
+ * applies the same outcome or finds it already applied. Only concurrency failures
+ * are retried: version conflicts, lost deadlocks and lock timeouts. A
+ * {@link com.agms.backend.exception.TransitionConflictException} means the state
+ * really moved on and is passed to the caller as is.
+ * <p>
+ * Not for request handlers: a reviewer's decision that conflicts is answered with a
+ * 409 rather than silently replayed against a state the reviewer has not seen.
+ */
+@Slf4j
+@Service
+public class ConflictRetryService {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public ConflictRetryService(
+            PlatformTransactionManager transactionManager,
+            @Value("${concurrency.retry.max-attempts:3}") int maxAttempts,
+            @Value("${concurrency.retry.backoff-ms:20}") long backoffMs) {
+        // Callers may run in after-commit listeners while the committed transaction is still bound
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+    }
+
+    /**
+     * Runs the action in a new transaction, retrying it with jittered exponential backoff
+     * while it fails on a concurrent change, at most the configured number of times
+     *
+     * @throws ConcurrencyFailureException if the last attempt failed on a concurrent change
+     */
+    public <T> T execute(String operation, TransactionCallback<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(action);
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} failed on a concurrent change {} times, giving up: {}", operation, attempt,
+                            e.getMessage());
+                    throw e;
+                }
+                long delayMs = backoffMs << (attempt - 1);
+                delayMs += ThreadLocalRandom.current().nextLong(delayMs + 1);
+                log.debug("{} failed on a concurrent change (attempt {} of {}), retrying in {} ms", operation,
+                        attempt, maxAttempts, delayMs);
+                sleep(delayMs);
+            }
+        }
+    }
+
+    private static void sleep(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+}
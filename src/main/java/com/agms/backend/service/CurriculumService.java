@@ -0,0 +1,80 @@
+package com.agms.backend.service;
+
+import com.agms.backend.model.curriculum.Curriculum;
+import com.agms.backend.model.curriculum.CurriculumCatalog;
+import com.agms.backend.model.curriculum.CurriculumDefinition;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serves the graduation rules of each department. Curricula are read from
+ * curricula.json once and compiled into immutable {@link Curriculum}
+ * evaluators that are shared by every lookup.
+ * <p>
+ * The file holds a {@code default} curriculum and optional overrides under
+ * {@code departments}, keyed by department name. Without the file the legacy
+ * AGMS rules apply to everyone.
+ */
+@Slf4j
+@Service
+public class CurriculumService {
+
+    private final Curriculum defaultCurriculum;
+    private final Map<String, Curriculum> curriculaByDepartment;
+
+    public CurriculumService(ObjectMapper objectMapper,
+            @Value("${curriculum.location:classpath:data/curricula.json}") Resource curriculaResource) {
+        CurriculumCatalog catalog = readCatalog(objectMapper, curriculaResource);
+
+        this.defaultCurriculum = catalog == null || catalog.getDefaultCurriculum() == null
+                ? Curriculum.LEGACY
+                : Curriculum.compile("default", catalog.getDefaultCurriculum());
+
+        Map<String, Curriculum> compiled = new HashMap<>();
+        if (catalog != null && catalog.getDepartments() != null) {
+            for (Map.Entry<String, CurriculumDefinition> entry : catalog.getDepartments().entrySet()) {
+                compiled.put(entry.getKey(), Curriculum.compile(entry.getKey(), entry.getValue()));
+            }
+        }
+        this.curriculaByDepartment = Map.copyOf(compiled);
+
+        log.info("Loaded {} department curricula from {}", curriculaByDepartment.size(),
+                curriculaResource.getDescription());
+    }
+
+    private static CurriculumCatalog readCatalog(ObjectMapper objectMapper, Resource curriculaResource) {
+        if (!curriculaResource.exists()) {
+            log.warn("No curricula found at {}, using the legacy graduation rules", curriculaResource.getDescription());
+            return null;
+        }
+
+        try (InputStream inputStream = curriculaResource.getInputStream()) {
+            return objectMapper.copy()
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                    .readValue(inputStream, CurriculumCatalog.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading or parsing curricula from " + curriculaResource.getDescription(),
+                    e);
+        }
+    }
+
+    /**
+     * @return the compiled curriculum of the department, or the default one if
+     *         the department has none of its own
+     */
+    public Curriculum getCurriculumForDepartment(String department) {
+        if (department == null) {
+            return defaultCurriculum;
+        }
+        return curriculaByDepartment.getOrDefault(department, defaultCurriculum);
+    }
+}
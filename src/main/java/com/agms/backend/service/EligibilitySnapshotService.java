@@ -0,0 +1,61 @@
+package com.agms.backend.service;
+
+import com.agms.backend.dto.EligibilitySnapshotResponse;
+import com.agms.backend.model.EligibilitySnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service interface for the per-term eligibility snapshots.
+ */
+public interface EligibilitySnapshotService {
+
+    /**
+     * Computes the academic standing of the given students from UBYS and writes
+     * it for the term in bulk, replacing any earlier rows of the same students.
+     * Students unknown to UBYS get no row.
+     *
+     * @return the written snapshots keyed by student number
+     */
+    Map<String, EligibilitySnapshot> captureTerm(String term, Collection<String> studentNumbers);
+
+    /**
+     * Computes the academic standing of the given students from UBYS the same way
+     * as {@link #captureTerm}, without storing it. Students unknown to UBYS are
+     * left out.
+     *
+     * @return unsaved snapshots keyed by student number
+     */
+    Map<String, EligibilitySnapshot> computeTerm(String term, Collection<String> studentNumbers);
+
+    /**
+     * Recomputes the snapshots of a subset of students for the term. Unlike the
+     * automatic refresh after a UBYS change, this also overwrites the standing
+     * of students whose submission was already decided on.
+     */
+    List<EligibilitySnapshotResponse> refreshStudents(String term, Collection<String> studentNumbers);
+
+    /**
+     * Get the stored snapshots of the given students for the term
+     */
+    Map<String, EligibilitySnapshot> getSnapshots(String term, Collection<String> studentNumbers);
+
+    /**
+     * Get the stored snapshots of the given students for the term; students
+     * without one are computed from UBYS on the fly but not stored
+     */
+    Map<String, EligibilitySnapshot> getSnapshotsOrCompute(String term, Collection<String> studentNumbers);
+
+    /**
+     * Get the most recent snapshot of a student, whatever the term
+     */
+    Optional<EligibilitySnapshot> getLatestSnapshot(String studentNumber);
+
+    /**
+     * Get all snapshots of a term, optionally only the eligible students
+     */
+    List<EligibilitySnapshotResponse> getSnapshotsForTerm(String term, boolean eligibleOnly);
+}
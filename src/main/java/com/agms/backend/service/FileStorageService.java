@@ -11,8 +11,10 @@ import com.agms.backend.repository.FileRepository;
 import com.agms.backend.dto.FileResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.agms.backend.model.OrgUnitType;
 import com.agms.backend.model.Submission;
 import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.service.org.OrgGraph;
 import com.agms.backend.model.users.*;
 import com.agms.backend.exception.ResourceNotFoundException;
 import org.springframework.http.HttpStatus;
@@ -43,10 +45,13 @@ public class FileStorageService {
 
     private final FileRepository fileRepository;
     private final SubmissionRepository submissionRepository;
+    private final OrgGraphService orgGraphService;
 
-    public FileStorageService(FileRepository fileRepository, SubmissionRepository submissionRepository) {
+    public FileStorageService(FileRepository fileRepository, SubmissionRepository submissionRepository,
+            OrgGraphService orgGraphService) {
         this.fileRepository = fileRepository;
         this.submissionRepository = submissionRepository;
+        this.orgGraphService = orgGraphService;
     }
 
     @PostConstruct
@@ -240,24 +245,28 @@ public class FileStorageService {
         deleteFile(filename);
     }
 
-    private boolean hasAccessToSubmission(Submission submission, User user) {
+    /**
+     * Whether the user may see the submission: students their own, student affairs
+     * every one, reviewers the ones in their part of the hierarchy
+     */
+    public boolean hasAccessToSubmission(Submission submission, User user) {
         if (user instanceof Student) {
             // Students can access their own submissions
             return submission.getStudent().getStudentNumber().equals(((Student) user).getStudentNumber());
-        } else if (user instanceof Advisor) {
-            // Advisors can access submissions they are advising
-            return submission.getAdvisorList() != null && 
-                   submission.getAdvisorList().getAdvisor().equals(user);
-        } else if (user instanceof DepartmentSecretary) {
-            // Department secretaries can access submissions from their department
-            return submission.getAdvisorList() != null && 
-                   submission.getAdvisorList().getDepartmentList() != null &&
-                   submission.getAdvisorList().getDepartmentList().getSecretary().equals(user);
-        } else if (user instanceof DeanOfficer || user instanceof StudentAffairs) {
-            // Dean officers and student affairs can access all submissions
+        } else if (user instanceof StudentAffairs) {
+            // Student affairs can access all submissions
             return true;
         }
-        return false;
+        // Advisors, department secretaries and dean officers can access the submissions in
+        // their part of the hierarchy
+        OrgUnitType reviewerType = OrgGraph.reviewerType(user);
+        if (reviewerType == null || submission.getAdvisorList() == null) {
+            return false;
+        }
+        OrgGraph graph = orgGraphService.getGraph();
+        return graph.findListOwner(OrgUnitType.ADVISOR, submission.getAdvisorList().getAdvisorListId())
+               .map(advisor -> graph.isUnder(advisor, reviewerType, OrgGraph.reviewerEmpId(user)))
+               .orElse(false);
     }
 
     private boolean canDeleteFile(File file, User user) {
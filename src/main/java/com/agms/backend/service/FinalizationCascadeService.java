@@ -0,0 +1,167 @@
+package com.agms.backend.service;
+
+import com.agms.backend.model.ListWorkflowCounter;
+import com.agms.backend.model.OrgUnitType;
+import com.agms.backend.repository.DepartmentListRepository;
+import com.agms.backend.repository.FacultyListRepository;
+import com.agms.backend.repository.GraduationListRepository;
+import com.agms.backend.service.org.ListFinalizedEvent;
+import com.agms.backend.service.org.OrgChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves finalization up the hierarchy without anyone polling for it. When
+ * lists are finalized, their parents are re-checked once the finalizing
+ * transaction has committed: a parent whose children are now all finalized
+ * is marked ready, and department and faculty lists with nothing left to
+ * review are finalized on the spot, which in turn re-checks their parents.
+ * The graduation list is only marked ready; finalizing it completes the
+ * graduation and stays with student affairs.
+ * <p>
+ * Readiness answers come from a short-lived in-memory cache, kept current by
+ * the cascade on this node and expiring to pick up finalizations done on
+ * other nodes.
+ */
+@Slf4j
+@Service
+public class FinalizationCascadeService {
+
+    private record Readiness(boolean ready, long expiresAtMillis) {
+    }
+
+    private final ListWorkflowCounterService listWorkflowCounterService;
+    private final DepartmentListRepository departmentListRepository;
+    private final FacultyListRepository facultyListRepository;
+    private final GraduationListRepository graduationListRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConflictRetryService conflictRetryService;
+    private final long readinessCacheMs;
+
+    private final Map<String, Readiness> readinessByListId = new ConcurrentHashMap<>();
+    private volatile List<String> graduationListIds;
+
+    public FinalizationCascadeService(
+            ListWorkflowCounterService listWorkflowCounterService,
+            DepartmentListRepository departmentListRepository,
+            FacultyListRepository facultyListRepository,
+            GraduationListRepository graduationListRepository,
+            ApplicationEventPublisher eventPublisher,
+            ConflictRetryService conflictRetryService,
+            @Value("${finalization.readiness-cache-ms:5000}") long readinessCacheMs) {
+        this.listWorkflowCounterService = listWorkflowCounterService;
+        this.departmentListRepository = departmentListRepository;
+        this.facultyListRepository = facultyListRepository;
+        this.graduationListRepository = graduationListRepository;
+        this.eventPublisher = eventPublisher;
+        this.conflictRetryService = conflictRetryService;
+        this.readinessCacheMs = readinessCacheMs;
+    }
+
+    /**
+     * @return true if the list has child lists and all of them are finalized
+     */
+    public boolean isReady(String listId) {
+        Readiness cached = readinessByListId.get(listId);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.ready();
+        }
+        boolean ready = listWorkflowCounterService.find(listId)
+                .map(ListWorkflowCounter::isAllChildrenFinalized)
+                .orElse(false);
+        remember(listId, ready);
+        return ready;
+    }
+
+    /**
+     * @return true if there is a graduation list and all its faculty lists are finalized
+     */
+    public boolean isGraduationReady() {
+        List<String> listIds = graduationListIds;
+        if (listIds == null) {
+            listIds = graduationListRepository.findAllListIds();
+            graduationListIds = listIds;
+        }
+        return !listIds.isEmpty() && listIds.stream().allMatch(this::isReady);
+    }
+
+    @TransactionalEventListener
+    public void onListFinalized(ListFinalizedEvent event) {
+        Set<String> parentListIds = new TreeSet<>();
+        listWorkflowCounterService.findAll(event.getListIds()).values().forEach(counter -> {
+            if (counter.getParentListId() != null) {
+                parentListIds.add(counter.getParentListId());
+            }
+        });
+
+        for (String parentListId : parentListIds) {
+            try {
+                // Idempotent, so losing against a concurrent finalization is simply re-checked
+                Boolean ready = conflictRetryService.execute("Finalization cascade to list " + parentListId,
+                        status -> cascadeTo(parentListId));
+                remember(parentListId, Boolean.TRUE.equals(ready));
+            } catch (Exception e) {
+                // The parent's owner can still finalize by hand
+                readinessByListId.remove(parentListId);
+                log.error("Finalization cascade to list {} failed: {}", parentListId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Lists may have been created, moved or reopened
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrgChanged(OrgChangedEvent event) {
+        readinessByListId.clear();
+        graduationListIds = null;
+    }
+
+    /**
+     * Re-checks a list after some of its children were finalized and finalizes it if it
+     * has nothing left to do. The counter stays locked until commit, so a status change
+     * cannot add work between the check and the update.
+     *
+     * @return whether all children of the list are finalized
+     */
+    private boolean cascadeTo(String listId) {
+        ListWorkflowCounter counter = listWorkflowCounterService.findForUpdate(listId).orElse(null);
+        if (counter == null || !counter.isAllChildrenFinalized()) {
+            return false;
+        }
+
+        OrgUnitType listType = counter.getListType();
+        if (listType == OrgUnitType.GRADUATION_LIST) {
+            log.info("All faculty lists of graduation list {} are finalized, ready for final approval", listId);
+            return true;
+        }
+        if (counter.getAwaitingCount() > 0) {
+            log.info("All child lists of {} are finalized, {} submissions still wait for review", listId,
+                    counter.getAwaitingCount());
+            return true;
+        }
+
+        int updated = listType == OrgUnitType.DEPARTMENT_LIST
+                ? departmentListRepository.finalizeIfOpen(listId)
+                : facultyListRepository.finalizeIfOpen(listId);
+        if (updated > 0) {
+            listWorkflowCounterService.recordChildFinalized(counter.getParentListId());
+            eventPublisher.publishEvent(new ListFinalizedEvent(listType, List.of(listId), true));
+            log.info("Auto-finalized {} {}: all child lists finalized and nothing left to review", listType, listId);
+        }
+        return true;
+    }
+
+    private void remember(String listId, boolean ready) {
+        readinessByListId.put(listId, new Readiness(ready, System.currentTimeMillis() + readinessCacheMs));
+    }
+}
@@ -0,0 +1,250 @@
+package com.agms.backend.service;
+
+import com.agms.backend.model.AdvisorList;
+import com.agms.backend.model.DepartmentList;
+import com.agms.backend.model.FacultyList;
+import com.agms.backend.model.Graduation;
+import com.agms.backend.model.GraduationList;
+import com.agms.backend.model.users.Advisor;
+import com.agms.backend.model.users.DeanOfficer;
+import com.agms.backend.model.users.DepartmentSecretary;
+import com.agms.backend.model.users.StudentAffairs;
+import com.agms.backend.repository.AdvisorListRepository;
+import com.agms.backend.repository.AdvisorRepository;
+import com.agms.backend.repository.DeanOfficerRepository;
+import com.agms.backend.repository.DepartmentListRepository;
+import com.agms.backend.repository.DepartmentSecretaryRepository;
+import com.agms.backend.repository.FacultyListRepository;
+import com.agms.backend.repository.GraduationListRepository;
+import com.agms.backend.repository.GraduationRepository;
+import com.agms.backend.repository.SubmissionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the list hierarchy of a graduation term: Graduation, GraduationList,
+ * one FacultyList per dean officer, one DepartmentList per department secretary
+ * and one AdvisorList per advisor. The org chart and the existing lists are
+ * read in six queries, however many people there are, and the whole hierarchy
+ * is assembled in memory, then written in one flush so new lists go out as
+ * batched inserts and reused ones as batched updates.
+ * <p>
+ * Lists belong to people rather than terms: every dean officer, secretary and
+ * advisor keeps the one list they have, moved under the new term and reopened.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GraduationHierarchyBuilder {
+
+    private final GraduationRepository graduationRepository;
+    private final GraduationListRepository graduationListRepository;
+    private final FacultyListRepository facultyListRepository;
+    private final DepartmentListRepository departmentListRepository;
+    private final DeanOfficerRepository deanOfficerRepository;
+    private final DepartmentSecretaryRepository secretaryRepository;
+    private final AdvisorRepository advisorRepository;
+    private final AdvisorListRepository advisorListRepository;
+    private final SubmissionRepository submissionRepository;
+    private final OrgClosureService orgClosureService;
+    private final ListWorkflowCounterService listWorkflowCounterService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Id of the graduation of a term, e.g. GRAD_2024_SPRING for "2024-Spring"
+     */
+    public static String graduationIdFor(String term) {
+        return "GRAD_" + term.replace(" ", "_").replace("-", "_").toUpperCase();
+    }
+
+    /**
+     * Creates the graduation of the term with its whole list hierarchy
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException if the term already has a graduation
+     */
+    @Transactional
+    public Graduation build(String term, StudentAffairs studentAffairs) {
+        long startNanos = System.nanoTime();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        String graduationId = graduationIdFor(term);
+
+        // Written first so a concurrent start of the same term fails here, before anything else
+        Graduation graduation = graduationRepository.saveAndFlush(Graduation.builder()
+                .graduationId(graduationId)
+                .requestDate(now)
+                .term(term)
+                .status("IN_PROGRESS")
+                .studentAffairs(studentAffairs)
+                .build());
+
+        // Six queries: dean officers, secretaries, then the existing graduation, faculty and
+        // department lists, then the advisors. Each level is read after the one it references, so
+        // eager references resolve from the persistence context instead of one query per row; the
+        // advisor query brings the advisor lists along
+        List<DeanOfficer> deanOfficers = deanOfficerRepository.findAll();
+        List<DepartmentSecretary> secretaries = secretaryRepository.findAll();
+        GraduationList graduationList = graduationListRepository.findAll().stream().findFirst().orElse(null);
+        Map<String, FacultyList> facultyListsByDean = new HashMap<>();
+        for (FacultyList facultyList : facultyListRepository.findAll()) {
+            facultyListsByDean.putIfAbsent(facultyList.getDeanOfficer().getEmpId(), facultyList);
+        }
+        Map<String, DepartmentList> departmentListsBySecretary = new HashMap<>();
+        for (DepartmentList departmentList : departmentListRepository.findAll()) {
+            departmentListsBySecretary.putIfAbsent(departmentList.getSecretary().getEmpId(), departmentList);
+        }
+        List<Advisor> advisors = advisorRepository.findAllWithAdvisorList();
+
+        int created = 0;
+        int reused = 0;
+
+        // New lists are persisted once complete, their insert is built from the state at persist time
+        boolean newGraduationList = graduationList == null;
+        if (newGraduationList) {
+            graduationList = GraduationList.builder()
+                    .listId("GL_" + graduationId)
+                    .creationDate(now)
+                    .build();
+        }
+        graduationList.setGraduation(graduation);
+        graduationList.setIsFinalized(false);
+        if (newGraduationList) {
+            entityManager.persist(graduationList);
+            created++;
+        } else {
+            reused++;
+        }
+
+        Map<String, FacultyList> facultyListByDean = new HashMap<>();
+        for (DeanOfficer deanOfficer : deanOfficers) {
+            if (deanOfficer.getFaculty() == null) {
+                log.warn("Dean officer {} has no faculty, no faculty list created", deanOfficer.getEmpId());
+                continue;
+            }
+            FacultyList facultyList = facultyListsByDean.get(deanOfficer.getEmpId());
+            boolean isNew = facultyList == null;
+            if (isNew) {
+                facultyList = FacultyList.builder()
+                        .facultyListId("FL_" + deanOfficer.getEmpId())
+                        .creationDate(now)
+                        .build();
+            }
+            facultyList.setFaculty(deanOfficer.getFaculty());
+            facultyList.setDeanOfficer(deanOfficer);
+            facultyList.setGraduationList(graduationList);
+            facultyList.setIsFinalized(false);
+            if (isNew) {
+                entityManager.persist(facultyList);
+                created++;
+            } else {
+                reused++;
+            }
+            facultyListByDean.put(deanOfficer.getEmpId(), facultyList);
+        }
+
+        Map<String, DepartmentList> departmentListBySecretary = new HashMap<>();
+        for (DepartmentSecretary secretary : secretaries) {
+            FacultyList facultyList = secretary.getDeanOfficer() != null
+                    ? facultyListByDean.get(secretary.getDeanOfficer().getEmpId())
+                    : null;
+            if (facultyList == null || secretary.getDepartment() == null) {
+                log.warn("Department secretary {} has no faculty list or department, no department list created",
+                        secretary.getEmpId());
+                continue;
+            }
+            DepartmentList departmentList = departmentListsBySecretary.get(secretary.getEmpId());
+            boolean isNew = departmentList == null;
+            if (isNew) {
+                departmentList = DepartmentList.builder()
+                        .deptListId("DL_" + secretary.getEmpId())
+                        .creationDate(now)
+                        .build();
+            }
+            departmentList.setDepartment(secretary.getDepartment());
+            departmentList.setSecretary(secretary);
+            departmentList.setFacultyList(facultyList);
+            departmentList.setIsFinalized(false);
+            if (isNew) {
+                entityManager.persist(departmentList);
+                created++;
+            } else {
+                reused++;
+            }
+            departmentListBySecretary.put(secretary.getEmpId(), departmentList);
+        }
+
+        for (Advisor advisor : advisors) {
+            DepartmentList departmentList = advisor.getDepartmentSecretary() != null
+                    ? departmentListBySecretary.get(advisor.getDepartmentSecretary().getEmpId())
+                    : null;
+            if (departmentList == null) {
+                log.warn("Advisor {} has no department list, no advisor list created", advisor.getEmpId());
+                continue;
+            }
+            AdvisorList advisorList = advisor.getAdvisorList();
+            boolean isNew = advisorList == null;
+            if (isNew) {
+                advisorList = AdvisorList.builder()
+                        .advisorListId("AL_" + advisor.getEmpId())
+                        .creationDate(now)
+                        .advisor(advisor)
+                        .build();
+                advisor.setAdvisorList(advisorList);
+            }
+            advisorList.setDepartmentList(departmentList);
+            advisorList.setIsFinalized(false);
+            if (isNew) {
+                entityManager.persist(advisorList);
+                created++;
+            } else {
+                reused++;
+            }
+        }
+
+        // New lists are inserted and reused ones updated in JDBC batches
+        entityManager.flush();
+        orgClosureService.rebuild();
+
+        // Reused lists may have moved, so their submissions follow
+        int realignedSubmissions = submissionRepository.alignHierarchyKeys();
+        if (realignedSubmissions > 0) {
+            log.info("Realigned the hierarchy keys of {} submissions", realignedSubmissions);
+        }
+        // Every list was reopened and may have moved
+        listWorkflowCounterService.rebuild();
+
+        log.info("Created graduation hierarchy for term: {} with graduation ID: {} ({} lists created, {} reused) " +
+                "in {} ms", term, graduationId, created, reused, (System.nanoTime() - startNanos) / 1_000_000);
+        return graduation;
+    }
+
+    /**
+     * Moves department and advisor lists under the lists of the secretary's current dean
+     * officer and the advisor's current secretary, then brings the hierarchy keys of the
+     * submissions up to date. Run after the org chart changes; each step is one statement.
+     */
+    @Transactional
+    public void alignWithOrgChart() {
+        int departmentLists = departmentListRepository.alignWithDeanOfficers();
+        int advisorLists = advisorListRepository.alignWithDepartmentSecretaries();
+        int submissions = submissionRepository.alignHierarchyKeys();
+        if (departmentLists + advisorLists > 0) {
+            orgClosureService.rebuild();
+        }
+        if (departmentLists + advisorLists + submissions > 0) {
+            listWorkflowCounterService.rebuild();
+            log.info("Aligned the graduation hierarchy with the org chart: moved {} department lists and {} " +
+                    "advisor lists, realigned {} submissions", departmentLists, advisorLists, submissions);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.agms.backend.service;
+
+import com.agms.backend.model.ListWorkflowCounter;
+import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionStatus;
+import com.agms.backend.repository.ListWorkflowCounterRepository;
+import com.agms.backend.repository.SubmissionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@link ListWorkflowCounter} rows in step with the submissions and
+ * lists. Status changes and new submissions adjust the counters of the lists
+ * they belong to in the caller's transaction, so a counter never disagrees
+ * with committed data. Changes to the shape of the hierarchy (lists created,
+ * moved or reopened) rebuild all counters in one statement instead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ListWorkflowCounterService {
+
+    private final ListWorkflowCounterRepository counterRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Rebuilds every counter from the list and submission tables. Must be called in
+     * the transaction that changed the hierarchy. The counter table stays locked until
+     * that transaction ends, so rebuilds run one at a time and a status change either
+     * commits before the rebuild reads the submissions or adjusts the rebuilt rows.
+     */
+    @Transactional
+    public void rebuild() {
+        long startNanos = System.nanoTime();
+
+        // Pending list and submission changes must be in the tables the counters are derived from
+        entityManager.flush();
+        // Without the lock, two rebuilds insert the same keys, and a transition can update a
+        // counter row that is being replaced
+        counterRepository.lockTable();
+        counterRepository.deleteAllRows();
+        int rows = counterRepository.insertFromLists();
+
+        log.debug("Rebuilt the list workflow counters: {} rows in {} ms", rows,
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Counts new submissions in their lists
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Submission> submissions) {
+        Map<String, Map<SubmissionStatus, Integer>> deltas = new TreeMap<>();
+        for (Submission submission : submissions) {
+            addDelta(deltas, submission, submission.getStatus(), 1);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Moves a submission from one status count to the other in all its lists
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Submission submission, SubmissionStatus from, SubmissionStatus to) {
+        if (from == to) {
+            return;
+        }
+        Map<String, Map<SubmissionStatus, Integer>> deltas = new TreeMap<>();
+        addDelta(deltas, submission, from, -1);
+        addDelta(deltas, submission, to, 1);
+        apply(deltas);
+    }
+
+    /**
+     * Moves a batch of submissions written in bulk, keyed by their new status, from their
+     * old status count to the new one. The keys must hold the status before the update.
+     * All counters of the batch are locked together, in id order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(
+            Map<SubmissionStatus, ? extends Collection<SubmissionRepository.DecisionKeys>> submissionsByNewStatus) {
+        Map<String, Map<SubmissionStatus, Integer>> deltas = new TreeMap<>();
+        submissionsByNewStatus.forEach((to, submissions) -> {
+            for (SubmissionRepository.DecisionKeys submission : submissions) {
+                if (submission.getStatus() == to) {
+                    continue;
+                }
+                addDelta(deltas, submission.getAdvisorListId(), submission.getDeptListId(),
+                        submission.getFacultyListId(), submission.getGraduationListId(), submission.getStatus(), -1);
+                addDelta(deltas, submission.getAdvisorListId(), submission.getDeptListId(),
+                        submission.getFacultyListId(), submission.getGraduationListId(), to, 1);
+            }
+        });
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Submission submission) {
+        Map<String, Map<SubmissionStatus, Integer>> deltas = new TreeMap<>();
+        addDelta(deltas, submission, submission.getStatus(), -1);
+        apply(deltas);
+    }
+
+    /**
+     * Recounts the finalized children of the parent list after one of its children was
+     * finalized. Idempotent, so finalizing a list twice cannot count it twice.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChildFinalized(String parentListId) {
+        if (parentListId != null && counterRepository.refreshFinalizedChildCount(parentListId) == 0) {
+            log.warn("No workflow counter for list {}, finalized children not recorded", parentListId);
+        }
+    }
+
+    /**
+     * Recounts the finalized children of all department lists after advisor lists were
+     * finalized in one statement
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdvisorListsFinalized() {
+        int updated = counterRepository.refreshDepartmentListFinalizedChildCounts();
+        log.debug("Recounted finalized advisor lists of {} department lists", updated);
+    }
+
+    /**
+     * The counter of the list, locked until the end of the caller's transaction so that no
+     * status change can move it while a decision based on it is written
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<ListWorkflowCounter> findForUpdate(String listId) {
+        if (listId == null) {
+            return Optional.empty();
+        }
+        return counterRepository.findAllForUpdate(List.of(listId)).stream().findFirst();
+    }
+
+    public Optional<ListWorkflowCounter> find(String listId) {
+        return listId != null ? counterRepository.findById(listId) : Optional.empty();
+    }
+
+    /**
+     * Counters of the lists by list id, lists without a counter are left out
+     */
+    public Map<String, ListWorkflowCounter> findAll(Collection<String> listIds) {
+        return counterRepository.findAllById(listIds).stream()
+                .collect(Collectors.toMap(ListWorkflowCounter::getListId, Function.identity()));
+    }
+
+    private static void addDelta(Map<String, Map<SubmissionStatus, Integer>> deltas, Submission submission,
+            SubmissionStatus status, int delta) {
+        addDelta(deltas, submission.getAdvisorList() != null ? submission.getAdvisorList().getAdvisorListId() : null,
+                submission.getDeptListId(), submission.getFacultyListId(), submission.getGraduationListId(),
+                status, delta);
+    }
+
+    private static void addDelta(Map<String, Map<SubmissionStatus, Integer>> deltas, String advisorListId,
+            String deptListId, String facultyListId, String graduationListId, SubmissionStatus status, int delta) {
+        for (String listId : Arrays.asList(advisorListId, deptListId, facultyListId, graduationListId)) {
+            if (listId != null) {
+                deltas.computeIfAbsent(listId, key -> new EnumMap<>(SubmissionStatus.class))
+                        .merge(status, delta, Integer::sum);
+            }
+        }
+    }
+
+    private void apply(Map<String, Map<SubmissionStatus, Integer>> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<ListWorkflowCounter> counters = counterRepository.findAllForUpdate(deltas.keySet());
+        for (ListWorkflowCounter counter : counters) {
+            deltas.get(counter.getListId()).forEach(counter::addCount);
+        }
+        if (counters.size() < deltas.size()) {
+            // A list created outside the hierarchy builder; the next rebuild counts it
+            log.warn("No workflow counter for {} of {} lists, their counts are not updated",
+                    deltas.size() - counters.size(), deltas.size());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.agms.backend.service;
+
+import com.agms.backend.model.OrgUnitType;
+import com.agms.backend.repository.OrgClosureRepository;
+import com.agms.backend.service.org.OrgChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Maintains the {@link com.agms.backend.model.OrgClosure} table, which answers
+ * "everything under X" questions about the organisation hierarchy in queries
+ * at the same cost whatever the depth between the two nodes. Single lookups
+ * of who reports to whom go through the in-memory {@link OrgGraphService}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrgClosureService {
+
+    private final OrgClosureRepository orgClosureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Rebuilds the closure table from the list tables. Must be called in the
+     * transaction that created or moved lists, so readers never see the closure
+     * out of step with the hierarchy.
+     */
+    @Transactional
+    public void rebuild() {
+        long startNanos = System.nanoTime();
+
+        // Pending list changes must be in the tables the closure is derived from
+        entityManager.flush();
+        orgClosureRepository.deleteAllRows();
+        int rows = orgClosureRepository.insertFromHierarchy();
+        // The in-memory org graph follows once this transaction commits
+        eventPublisher.publishEvent(new OrgChangedEvent("hierarchy lists changed"));
+
+        log.debug("Rebuilt the org closure: {} rows in {} ms", rows, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Ids of all nodes of the type below the given node, at any depth
+     */
+    public List<String> findDescendantIds(OrgUnitType ancestorType, String ancestorId, OrgUnitType descendantType) {
+        return orgClosureRepository.findDescendantIds(ancestorType, ancestorId, descendantType);
+    }
+}
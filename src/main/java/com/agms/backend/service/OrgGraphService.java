@@ -0,0 +1,177 @@
+package com.agms.backend.service;
+
+import com.agms.backend.model.DepartmentList;
+import com.agms.backend.model.FacultyList;
+import com.agms.backend.model.OrgUnitType;
+import com.agms.backend.model.users.Advisor;
+import com.agms.backend.model.users.DeanOfficer;
+import com.agms.backend.model.users.DepartmentSecretary;
+import com.agms.backend.model.users.StudentAffairs;
+import com.agms.backend.repository.AdvisorRepository;
+import com.agms.backend.repository.DeanOfficerRepository;
+import com.agms.backend.repository.DepartmentListRepository;
+import com.agms.backend.repository.DepartmentSecretaryRepository;
+import com.agms.backend.repository.FacultyListRepository;
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.service.org.OrgChangedEvent;
+import com.agms.backend.service.org.OrgGraph;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the current {@link OrgGraph} in memory so "who reports to whom" is
+ * answered without a query. The graph is built on first use and rebuilt after
+ * every {@link OrgChangedEvent}, once the transaction that changed the chart
+ * has committed; readers keep using the previous graph until the new one is
+ * swapped in. A periodic refresh picks up changes made on other nodes.
+ */
+@Slf4j
+@Service
+public class OrgGraphService {
+
+    private final StudentAffairsRepository studentAffairsRepository;
+    private final DeanOfficerRepository deanOfficerRepository;
+    private final DepartmentSecretaryRepository secretaryRepository;
+    private final AdvisorRepository advisorRepository;
+    private final FacultyListRepository facultyListRepository;
+    private final DepartmentListRepository departmentListRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<OrgGraph> graph = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public OrgGraphService(
+            StudentAffairsRepository studentAffairsRepository,
+            DeanOfficerRepository deanOfficerRepository,
+            DepartmentSecretaryRepository secretaryRepository,
+            AdvisorRepository advisorRepository,
+            FacultyListRepository facultyListRepository,
+            DepartmentListRepository departmentListRepository,
+            PlatformTransactionManager transactionManager) {
+        this.studentAffairsRepository = studentAffairsRepository;
+        this.deanOfficerRepository = deanOfficerRepository;
+        this.secretaryRepository = secretaryRepository;
+        this.advisorRepository = advisorRepository;
+        this.facultyListRepository = facultyListRepository;
+        this.departmentListRepository = departmentListRepository;
+        // Listeners run after the changing transaction committed, while it may still be bound to the thread
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * The current graph, built on the first call
+     */
+    public OrgGraph getGraph() {
+        OrgGraph current = graph.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = graph.get();
+            return current != null ? current : rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrgChanged(OrgChangedEvent event) {
+        log.debug("Org chart changed ({}), rebuilding the org graph", event.getReason());
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${org-graph.refresh-interval-ms:600000}",
+            fixedDelayString = "${org-graph.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        if (graph.get() != null) {
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuilds the graph, keeping the previous one if the org chart cannot be read
+     */
+    private void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Could not rebuild the org graph, keeping version {}: {}",
+                    graph.get() != null ? graph.get().getVersion() : 0, e.getMessage());
+        }
+    }
+
+    private synchronized OrgGraph rebuild() {
+        long startNanos = System.nanoTime();
+        OrgGraph built = transactionTemplate.execute(status -> load(versions.incrementAndGet()));
+        graph.set(built);
+        log.info("Built org graph version {} with {} members in {} ms", built.getVersion(), built.size(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return built;
+    }
+
+    private OrgGraph load(long version) {
+        // Each level is read after the one it references, so eager references resolve from the
+        // persistence context; the advisor query brings the advisor lists along
+        List<StudentAffairs> studentAffairs = studentAffairsRepository.findAll();
+        List<DeanOfficer> deanOfficers = deanOfficerRepository.findAll();
+        List<DepartmentSecretary> secretaries = secretaryRepository.findAll();
+        Map<String, String> facultyListIdByDean = new HashMap<>();
+        for (FacultyList facultyList : facultyListRepository.findAll()) {
+            facultyListIdByDean.putIfAbsent(facultyList.getDeanOfficer().getEmpId(), facultyList.getFacultyListId());
+        }
+        Map<String, String> departmentListIdBySecretary = new HashMap<>();
+        for (DepartmentList departmentList : departmentListRepository.findAll()) {
+            departmentListIdBySecretary.putIfAbsent(departmentList.getSecretary().getEmpId(),
+                    departmentList.getDeptListId());
+        }
+        List<Advisor> advisors = advisorRepository.findAllWithAdvisorList();
+
+        OrgGraph.Builder builder = OrgGraph.builder(version);
+        for (StudentAffairs member : studentAffairs) {
+            builder.add(new OrgGraph.Member(OrgUnitType.STUDENT_AFFAIRS, member.getEmpId(), member.getFirstName(),
+                    member.getLastName(), member.getEmail(), null, null, null, null));
+        }
+
+        Map<String, String> facultyByDean = new HashMap<>();
+        for (DeanOfficer member : deanOfficers) {
+            facultyByDean.put(member.getEmpId(), member.getFaculty());
+            builder.add(new OrgGraph.Member(OrgUnitType.DEAN_OFFICER, member.getEmpId(), member.getFirstName(),
+                    member.getLastName(), member.getEmail(), null, member.getFaculty(),
+                    facultyListIdByDean.get(member.getEmpId()),
+                    member.getStudentAffairs() != null ? member.getStudentAffairs().getEmpId() : null));
+        }
+
+        Map<String, String> facultyBySecretary = new HashMap<>();
+        for (DepartmentSecretary member : secretaries) {
+            String deanEmpId = member.getDeanOfficer() != null ? member.getDeanOfficer().getEmpId() : null;
+            String faculty = deanEmpId != null ? facultyByDean.get(deanEmpId) : null;
+            facultyBySecretary.put(member.getEmpId(), faculty);
+            builder.add(new OrgGraph.Member(OrgUnitType.DEPARTMENT_SECRETARY, member.getEmpId(),
+                    member.getFirstName(), member.getLastName(), member.getEmail(), member.getDepartment(), faculty,
+                    departmentListIdBySecretary.get(member.getEmpId()), deanEmpId));
+        }
+
+        for (Advisor member : advisors) {
+            String secretaryEmpId = member.getDepartmentSecretary() != null
+                    ? member.getDepartmentSecretary().getEmpId()
+                    : null;
+            builder.add(new OrgGraph.Member(OrgUnitType.ADVISOR, member.getEmpId(), member.getFirstName(),
+                    member.getLastName(), member.getEmail(), member.getDepartment(),
+                    secretaryEmpId != null ? facultyBySecretary.get(secretaryEmpId) : null,
+                    member.getAdvisorList() != null ? member.getAdvisorList().getAdvisorListId() : null,
+                    secretaryEmpId));
+        }
+        return builder.build();
+    }
+}
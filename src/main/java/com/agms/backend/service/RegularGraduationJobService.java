@@ -0,0 +1,50 @@
+package com.agms.backend.service;
+
+import com.agms.backend.dto.RegularGraduationPreviewEntry;
+import com.agms.backend.dto.RegularGraduationTrackResponse;
+import com.agms.backend.model.RegularGraduationJob;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Service interface for the background jobs that create the regular graduation
+ * submissions of a term. A job is split into one partition per department list;
+ * every node of the cluster works on the partitions in parallel.
+ */
+public interface RegularGraduationJobService {
+
+    /**
+     * Creates the job of a term and its partitions, in the caller's transaction.
+     * The graduation hierarchy of the term must already exist.
+     */
+    RegularGraduationJob createJob(String term);
+
+    /**
+     * Sets the failed job of a term running again, in the caller's transaction.
+     * Its partitions continue from their checkpoints.
+     *
+     * @return the job, or empty if the term has no job
+     * @throws IllegalStateException if the job of the term is running or completed
+     */
+    Optional<RegularGraduationJob> resumeFailedJob(String term);
+
+    /**
+     * Starts local workers on the claimable partitions of running jobs. Called on a
+     * schedule on every node, and right after a job was created or resumed.
+     */
+    void processJobs();
+
+    /**
+     * Evaluates every student the way the job of the term would, without writing
+     * anything. Students are read lazily a chunk at a time in student number
+     * order, so the first entries are available at once and memory stays flat
+     * however large the cohort is.
+     */
+    Stream<RegularGraduationPreviewEntry> preview(String term);
+
+    /**
+     * Fills the job progress of the response if the term has a job
+     */
+    void applyProgress(String term, RegularGraduationTrackResponse response);
+}
@@ -0,0 +1,145 @@
+package com.agms.backend.service;
+
+import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionEvent;
+import com.agms.backend.model.SubmissionEventType;
+import com.agms.backend.model.SubmissionStatus;
+import com.agms.backend.repository.SubmissionEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Appends to the {@link SubmissionEvent} log. Every change to a submission is
+ * recorded here in the transaction that applies it to the submission row and
+ * the list workflow counters, so the log and its projections commit or roll
+ * back together. The actor is taken from the security context; changes made
+ * without an authenticated user, such as by the regular graduation job, are
+ * recorded as the system's.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmissionEventService {
+
+    public static final String SYSTEM_ACTOR = "system";
+    public static final String SYSTEM_ROLE = "SYSTEM";
+
+    private record Actor(String name, String role) {
+    }
+
+    private final SubmissionEventRepository eventRepository;
+    private final ListWorkflowCounterService listWorkflowCounterService;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Submission> submissions) {
+        if (submissions.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Actor actor = currentActor();
+        // Inserted in JDBC batches, the ids are assigned here
+        eventRepository.saveAll(submissions.stream()
+                .map(submission -> event(submission.getSubmissionId(), SubmissionEventType.CREATED, null,
+                        submission.getStatus(), null, actor, now))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Records that the submissions moved from one status to another, after the move was
+     * applied to their rows
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(Collection<String> submissionIds, SubmissionStatus from, SubmissionStatus to,
+            String reason) {
+        if (submissionIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Actor actor = currentActor();
+        eventRepository.saveAll(submissionIds.stream()
+                .map(submissionId -> event(submissionId, SubmissionEventType.STATUS_CHANGED, from, to, reason,
+                        actor, now))
+                .collect(Collectors.toList()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Submission submission) {
+        eventRepository.save(event(submission.getSubmissionId(), SubmissionEventType.DELETED,
+                submission.getStatus(), null, null, currentActor(), new Timestamp(System.currentTimeMillis())));
+    }
+
+    /**
+     * A page of the submission's events in the order they happened
+     *
+     * @param afterEventId id of the last event of the previous page, null for the first page
+     */
+    @Transactional(readOnly = true)
+    public List<SubmissionEvent> findTimeline(String submissionId, UUID afterEventId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return afterEventId == null
+                ? eventRepository.findTimeline(submissionId, page)
+                : eventRepository.findTimelineAfter(submissionId, afterEventId, page);
+    }
+
+    /**
+     * Rebuilds the projections from the log: each submission's status and rejection reason
+     * from its latest event, then every list counter from the submissions. For repairs and
+     * offline replays; the live write paths keep the projections current on their own.
+     *
+     * @return the number of submissions whose status or rejection reason was corrected
+     */
+    @Transactional
+    public int rebuildProjections() {
+        long startNanos = System.nanoTime();
+        int updated = eventRepository.projectSubmissionStatuses();
+        listWorkflowCounterService.rebuild();
+        log.info("Rebuilt submission projections from the event log: {} submissions corrected in {} ms", updated,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return updated;
+    }
+
+    private static SubmissionEvent event(String submissionId, SubmissionEventType eventType,
+            SubmissionStatus oldStatus, SubmissionStatus newStatus, String reason, Actor actor,
+            Timestamp occurredAt) {
+        return SubmissionEvent.builder()
+                .eventId(SubmissionEvent.newEventId())
+                .submissionId(submissionId)
+                .eventType(eventType)
+                .oldStatus(oldStatus)
+                .newStatus(newStatus)
+                .reason(reason)
+                .actor(actor.name())
+                .actorRole(actor.role())
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    /**
+     * Email and role of the authenticated user, or the system's
+     */
+    private static Actor currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return new Actor(SYSTEM_ACTOR, SYSTEM_ROLE);
+        }
+        String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .map(authority -> authority.startsWith("ROLE_") ? authority.substring(5) : authority)
+                .findFirst()
+                .orElse(SYSTEM_ROLE);
+        return new Actor(authentication.getName(), role);
+    }
+}
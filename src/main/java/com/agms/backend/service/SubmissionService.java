@@ -1,8 +1,12 @@
 package com.agms.backend.service;
 
+import com.agms.backend.dto.BulkDecisionRequest;
+import com.agms.backend.dto.BulkDecisionResponse;
 import com.agms.backend.dto.CreateSubmissionRequest;
+import com.agms.backend.dto.RegularGraduationPreviewEntry;
 import com.agms.backend.dto.RegularGraduationTrackResponse;
 import com.agms.backend.dto.SubmissionResponse;
+import com.agms.backend.dto.SubmissionTimelineResponse;
 import com.agms.backend.dto.SubordinateStatusResponse;
 import com.agms.backend.dto.TopStudentsResponse;
 import com.agms.backend.model.Submission;
@@ -10,6 +14,7 @@ import com.agms.backend.model.SubmissionStatus;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service interface for managing submission operations.
@@ -41,6 +46,13 @@ public interface SubmissionService {
      */
     SubmissionResponse updateSubmissionStatus(String submissionId, SubmissionStatus status);
     
+    /**
+     * Get a page of a submission's history, oldest first; after is the cursor returned
+     * with the previous page, or null for the first page. Only users who may see the
+     * submission get its history, and only student affairs that of a deleted one
+     */
+    SubmissionTimelineResponse getSubmissionTimeline(String submissionId, String after, int limit);
+
     /**
      * Get all submissions with a specific status
      */
@@ -90,6 +102,13 @@ public interface SubmissionService {
      */
     SubmissionResponse rejectSubmission(String submissionId, String rejectionReason);
 
+    /**
+     * Role-agnostic approval and rejection of many submissions at once. Ownership and status
+     * are checked for the whole set with one query and the decisions are written with one
+     * update per target status; items that cannot be decided are reported, not failed.
+     */
+    BulkDecisionResponse applyBulkDecision(BulkDecisionRequest request);
+
     /**
      * Get all submissions for the current authenticated user (role-agnostic)
      * - STUDENT: returns their own submissions
@@ -110,14 +129,26 @@ public interface SubmissionService {
     List<SubmissionResponse> getMyPendingSubmissions();
 
     /**
-     * Start regular graduation process - creates submissions for all eligible students
-     * This method is called by Student Affairs to initiate the regular graduation workflow
+     * Start regular graduation process - creates the graduation hierarchy and queues a
+     * background job that creates submissions for all eligible students.
+     * This method is called by Student Affairs to initiate the regular graduation workflow.
+     * Starting a term whose job failed resumes that job from its checkpoint.
+     *
+     * @return the tracking information of the term, including the job id
+     */
+    RegularGraduationTrackResponse startRegularGraduation(String term);
+
+    /**
+     * Preview regular graduation for a term - what starting it would do with every student and why,
+     * without writing anything. Access and UBYS availability are checked right away; the students are
+     * evaluated lazily while the stream is consumed, which must happen before it is closed.
      */
-    List<SubmissionResponse> startRegularGraduation(String term);
+    Stream<RegularGraduationPreviewEntry> previewRegularGraduation(String term);
 
     /**
      * Track regular graduation process status for a specific term
-     * Returns information about whether regular graduation has been started and its current status
+     * Returns information about whether regular graduation has been started and its current status,
+     * and the progress of its submission job
      */
     RegularGraduationTrackResponse trackRegularGraduation(String term);
 
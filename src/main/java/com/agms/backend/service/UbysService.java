@@ -1,42 +1,217 @@
 package com.agms.backend.service;
 
 import com.agms.backend.model.users.*;
-import com.agms.backend.model.Course;
+import com.agms.backend.model.ubys.UbysDocument;
+import com.agms.backend.model.ubys.UbysStaffRecord;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import com.agms.backend.service.ubys.MappedUbysStudents;
+import com.agms.backend.service.ubys.UbysBinaryCompiler;
+import com.agms.backend.service.ubys.UbysDataSource;
+import com.agms.backend.service.ubys.UbysEntityMapper;
+import com.agms.backend.service.ubys.UbysSection;
+import com.agms.backend.service.ubys.UbysSnapshot;
+import com.agms.backend.service.ubys.UbysSnapshotChangedEvent;
+import com.agms.backend.service.ubys.UbysStreamingImporter;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.agms.backend.exception.ResourceNotFoundException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ClassPathResource;
+import com.agms.backend.exception.UbysUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Service
 public class UbysService {
     private final ObjectMapper objectMapper;
-
-    public UbysService(ObjectMapper objectMapper) {
+    private final UbysDataSource dataSource;
+    private final UbysStreamingImporter streamingImporter;
+    private final CurriculumService curriculumService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path binarySnapshotFile;
+    private final AtomicReference<UbysSnapshot> currentSnapshot = new AtomicReference<>();
+    private final AtomicLong snapshotVersions = new AtomicLong();
+
+    public UbysService(ObjectMapper objectMapper, UbysDataSource dataSource,
+            UbysStreamingImporter streamingImporter, CurriculumService curriculumService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${ubys.binary.enabled:false}") boolean binarySnapshotEnabled,
+            @Value("${ubys.binary.location:${java.io.tmpdir}/agms/ubys-snapshot.bin}") String binarySnapshotLocation) {
         this.objectMapper = objectMapper.copy();
+        this.dataSource = dataSource;
+        this.streamingImporter = streamingImporter;
+        this.curriculumService = curriculumService;
+        this.eventPublisher = eventPublisher;
+        this.binarySnapshotFile = binarySnapshotEnabled ? Path.of(binarySnapshotLocation) : null;
         this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
+    // ========== SNAPSHOT MANAGEMENT ==========
+
+    /**
+     * Returns the live UBYS snapshot, parsing ubys.json on first use.
+     * Callers that need a consistent view across several lookups should hold on
+     * to the returned snapshot instead of calling the lookup methods repeatedly.
+     */
+    public UbysSnapshot getSnapshot() {
+        UbysSnapshot snapshot = currentSnapshot.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            snapshot = currentSnapshot.get();
+            return snapshot != null ? snapshot : reload();
+        }
+    }
+
+    /**
+     * @return version of the snapshot currently served; increases on every reload
+     */
+    public long getSnapshotVersion() {
+        return getSnapshot().getVersion();
+    }
+
+    /**
+     * Parses the UBYS export into a new snapshot and atomically swaps it in.
+     * Readers holding the previous snapshot keep a consistent view until they
+     * finish. If the export cannot be read the previous snapshot, if any, keeps
+     * being served. When a previous snapshot existed and the content differs, a
+     * {@link UbysSnapshotChangedEvent} with the per-student delta is published.
+     *
+     * @return the newly published snapshot
+     * @throws UbysUnavailableException if a remote UBYS cannot be reached
+     * @throws RuntimeException         if there's an error reading or parsing the data file
+     */
+    public UbysSnapshot reload() {
+        UbysSnapshot snapshot;
+        UbysSnapshotChangedEvent changedEvent = null;
+        synchronized (this) {
+            UbysSnapshot previous = currentSnapshot.get();
+            snapshot = readSnapshot();
+            currentSnapshot.set(snapshot);
+            if (previous != null) {
+                changedEvent = UbysSnapshotChangedEvent.between(previous, snapshot);
+            }
+        }
+
+        // Listeners run outside the lock, so they may read the new snapshot freely
+        if (changedEvent != null && !changedEvent.isEmpty()) {
+            log.info("UBYS snapshot {} -> {}: {} students changed{}", changedEvent.getPreviousVersion(),
+                    changedEvent.getVersion(), changedEvent.getChangedStudentNumbers().size(),
+                    changedEvent.isStaffChanged() ? ", staff changed" : "");
+            try {
+                eventPublisher.publishEvent(changedEvent);
+            } catch (Exception e) {
+                // The new snapshot is already live; a failing listener must not fail the reload
+                log.error("Error handling UBYS snapshot change: {}", e.getMessage());
+            }
+        }
+        return snapshot;
+    }
+
+    private UbysSnapshot readSnapshot() {
+        try {
+            if (binarySnapshotFile != null) {
+                return readBinarySnapshot();
+            }
+            try (InputStream inputStream = openExport()) {
+                UbysDocument document = objectMapper.readValue(inputStream, UbysDocument.class);
+                return UbysSnapshot.of(snapshotVersions.incrementAndGet(), document);
+            }
+        } catch (IOException e) {
+            if (dataSource.isRemote()) {
+                throw new UbysUnavailableException("Error reading UBYS data from " + dataSource.getDescription(), e);
+            }
+            throw new RuntimeException("Error reading or parsing UBYS data from ubys.json", e);
+        }
+    }
+
+    /**
+     * Serves the students from the memory-mapped binary snapshot, compiling it
+     * first unless it is newer than the export. Sources that cannot tell when
+     * the export changed are compiled on every reload.
+     */
+    private UbysSnapshot readBinarySnapshot() throws IOException {
+        long exportModified = dataSource.getLastModified();
+        if (exportModified < 0 || !Files.exists(binarySnapshotFile)
+                || Files.getLastModifiedTime(binarySnapshotFile).toMillis() < exportModified) {
+            long startNanos = System.nanoTime();
+            try (InputStream inputStream = openExport()) {
+                int studentCount = UbysBinaryCompiler.compile(inputStream, binarySnapshotFile, objectMapper);
+                log.info("Compiled {} UBYS students into {} in {} ms", studentCount, binarySnapshotFile,
+                        (System.nanoTime() - startNanos) / 1_000_000);
+            }
+        }
+
+        MappedUbysStudents students = MappedUbysStudents.open(binarySnapshotFile);
+        UbysDocument staff = students.readStaff(objectMapper);
+        return UbysSnapshot.of(snapshotVersions.incrementAndGet(), staff, students.hasStudents() ? students : null);
+    }
+
+    /**
+     * Opens the raw UBYS export. The caller is responsible for closing the stream.
+     */
+    public InputStream openExport() throws IOException {
+        return dataSource.openExport();
+    }
+
+    /**
+     * @return description and health of the configured UBYS data source
+     */
+    public Map<String, Object> getDataSourceStatus() {
+        return dataSource.getStatus();
+    }
+
+    // ========== STREAMING IMPORT ==========
+
+    /**
+     * Streams one section of ubys.json straight from the export, mapping each
+     * record and handing them to the consumer in batches of at most batchSize.
+     * Unlike the getAll*ForDbInitialization methods this never materializes the
+     * whole section, so memory stays flat regardless of the export size.
+     *
+     * @return number of records read from the section
+     * @throws RuntimeException if the export cannot be read or the section is missing
+     */
+    public <R, E> int importSection(UbysSection<R> section, BiFunction<String, R, E> mapper, int batchSize,
+            Consumer<List<E>> batchConsumer) {
+        try (InputStream inputStream = openExport()) {
+            return streamingImporter.importSection(inputStream, section, mapper, batchSize, batchConsumer);
+        } catch (IOException e) {
+            throw new RuntimeException("Error streaming '" + section.getName() + "' section from ubys.json", e);
+        }
+    }
+
+    // ========== SNAPSHOT QUERIES ==========
+
     /**
      * Retrieves all data from ubys.json
      */
-    public Map<String, Object> getAllData() throws IOException {
-        ClassPathResource resource = new ClassPathResource("data/ubys.json");
-        return objectMapper.readValue(
-                resource.getInputStream(),
-                new TypeReference<Map<String, Object>>() {
-                });
+    public Map<String, Object> getAllData() {
+        return objectMapper.convertValue(getSnapshot().toDocument(), new TypeReference<Map<String, Object>>() {
+        });
     }
 
     /**
      * Retrieves student data from the JSON file based on the student number
-     * 
+     *
      * @param studentNumber The student number to look up
      * @return Map containing the student's data
      * @throws ResourceNotFoundException if the student is not found
@@ -47,33 +222,21 @@ public class UbysService {
             throw new IllegalArgumentException("Student number cannot be null or empty");
         }
 
-        try {
-            ClassPathResource resource = new ClassPathResource("data/ubys.json");
-            Map<String, Map<String, Object>> allData = objectMapper.readValue(
-                    resource.getInputStream(),
-                    new TypeReference<Map<String, Map<String, Object>>>() {
-                    });
-
-            Map<String, Object> studentsSection = allData.get("students");
-            if (studentsSection == null) {
-                throw new RuntimeException("Error reading student data: 'students' section not found in ubys.json");
-            }
-
-            Map<String, Object> studentData = (Map<String, Object>) studentsSection.get(studentNumber);
+        UbysSnapshot snapshot = getSnapshot();
+        if (snapshot.getStudentsByNumber() == null) {
+            throw new RuntimeException("Error reading student data: 'students' section not found in ubys.json");
+        }
 
-            if (studentData == null) {
-                throw new ResourceNotFoundException("Student with number " + studentNumber + " not found");
-            }
+        UbysStudentRecord studentRecord = snapshot.findStudent(studentNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Student with number " + studentNumber + " not found"));
 
-            return studentData;
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading student data file", e);
-        }
+        return objectMapper.convertValue(studentRecord, new TypeReference<Map<String, Object>>() {
+        });
     }
 
     /**
      * Validates if a student exists in the system
-     * 
+     *
      * @param studentNumber The student number to validate
      * @return true if the student exists, false otherwise
      */
@@ -82,50 +245,48 @@ public class UbysService {
             return getStudentWithTransientAttributes(studentNumber) != null;
         } catch (ResourceNotFoundException e) {
             return false;
+        } catch (UbysUnavailableException e) {
+            // "Unknown" must not be reported as "does not exist"
+            throw e;
         } catch (RuntimeException e) {
             System.err.println("Error checking if student exists: " + e.getMessage());
             return false;
         }
     }
 
+    /**
+     * Looks up the faculty a department belongs to
+     *
+     * @param department The department name
+     * @return faculty name, or null if the department is unknown
+     */
+    public String getFacultyForDepartment(String department) {
+        return getSnapshot().getFacultyForDepartment(department);
+    }
+
     /**
      * Retrieves all student data from ubys.json and maps them to Student objects
      * for database initialization.
      * This method creates Student objects WITHOUT populating transient attributes
      * (gpa, totalCredit, courses, semester).
      * These are meant to be persisted to the database.
-     * 
+     *
      * @return List of Student objects ready for database persistence
      * @throws RuntimeException if there's an error reading or parsing the data file
      */
     public List<Student> getAllStudentsForDbInitialization() {
-        try {
-            ClassPathResource resource = new ClassPathResource("data/ubys.json");
-            Map<String, Object> allData = objectMapper.readValue(
-                    resource.getInputStream(),
-                    new TypeReference<Map<String, Object>>() {
-                    });
-
-            Map<String, Object> studentsSection = (Map<String, Object>) allData.get("students");
-            if (studentsSection == null) {
-                throw new RuntimeException(
-                        "Error reading student data: 'students' section not found or empty in ubys.json");
-            }
-
-            List<Student> students = new ArrayList<>();
-
-            for (Map.Entry<String, Object> entry : studentsSection.entrySet()) {
-                String studentNumber = entry.getKey();
-                Map<String, Object> studentData = (Map<String, Object>) entry.getValue();
-
-                Student student = createStudentForDatabase(studentNumber, studentData, allData);
-                students.add(student);
-            }
+        Map<String, UbysStudentRecord> studentsSection = getSnapshot().getStudentsByNumber();
+        if (studentsSection == null) {
+            throw new RuntimeException(
+                    "Error reading student data: 'students' section not found or empty in ubys.json");
+        }
 
-            return students;
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading or parsing student data from ubys.json for DB initialization", e);
+        List<Student> students = new ArrayList<>(studentsSection.size());
+        for (Map.Entry<String, UbysStudentRecord> entry : studentsSection.entrySet()) {
+            students.add(UbysEntityMapper.toStudent(entry.getKey(), entry.getValue()));
         }
+
+        return students;
     }
 
     /**
@@ -135,7 +296,7 @@ public class UbysService {
      * calculated from the JSON data.
      * This method is for retrieving complete student information including academic
      * performance.
-     * 
+     *
      * @param studentNumber The student number to look up
      * @return Student object with all transient attributes populated
      * @throws ResourceNotFoundException if the student is not found
@@ -147,98 +308,71 @@ public class UbysService {
             throw new IllegalArgumentException("Student number cannot be null or empty");
         }
 
-        try {
-            ClassPathResource resource = new ClassPathResource("data/ubys.json");
-            Map<String, Object> allData = objectMapper.readValue(
-                    resource.getInputStream(),
-                    new TypeReference<Map<String, Object>>() {
-                    });
-
-            Map<String, Object> studentsSection = (Map<String, Object>) allData.get("students");
-            if (studentsSection == null) {
-                throw new ResourceNotFoundException("Student data not found in ubys.json");
-            }
+        UbysSnapshot snapshot = getSnapshot();
+        if (snapshot.getStudentsByNumber() == null && !dataSource.isRemote()) {
+            throw new ResourceNotFoundException("Student data not found in ubys.json");
+        }
 
-            Map<String, Object> studentData = (Map<String, Object>) studentsSection.get(studentNumber);
-            if (studentData == null) {
-                throw new ResourceNotFoundException("Student with number " + studentNumber + " not found");
-            }
+        // Students registered after the snapshot was taken are only known to a remote UBYS
+        UbysStudentRecord studentRecord = snapshot.findStudent(studentNumber)
+                .or(() -> dataSource.fetchStudent(studentNumber))
+                .orElseThrow(() -> new ResourceNotFoundException("Student with number " + studentNumber + " not found"));
 
-            return createStudentWithTransientAttributes(studentNumber, studentData, allData);
-        } catch (IOException e) {
-            throw new RuntimeException(
-                    "Error reading or parsing student data from ubys.json for student " + studentNumber, e);
-        }
+        return toStudentWithTransientAttributes(studentNumber, studentRecord);
     }
 
     /**
-     * Creates a Student object for database persistence (without transient
-     * attributes)
+     * Batch form of {@link #getStudentWithTransientAttributes(String)}: resolves
+     * every student against one snapshot and, for a remote UBYS, fetches all
+     * snapshot misses in a single round-trip.
+     *
+     * @param studentNumbers The student numbers to look up; null, blank and
+     *                       duplicate entries are ignored
+     * @return Students with transient attributes keyed by student number, in
+     *         request order; unknown students are left out
+     * @throws UbysUnavailableException if a remote UBYS cannot be reached
      */
-    private Student createStudentForDatabase(String studentNumber, Map<String, Object> studentData,
-            Map<String, Object> allData) {
-        // Set user information from nested user object
-        Map<String, Object> userData = (Map<String, Object>) studentData.get("user");
-
-        // Get department directly from student data (object-oriented approach)
-        String department = (String) studentData.get("department");
-        if (department == null) {
-            department = "Unknown"; // Default department
-            System.err.println("Warning: department not found for student " + studentNumber);
+    public Map<String, Student> getStudentsWithTransientAttributes(Collection<String> studentNumbers) {
+        Map<String, Student> students = new LinkedHashMap<>();
+        if (studentNumbers == null || studentNumbers.isEmpty()) {
+            return students;
         }
 
-        Student student = Student.builder()
-                .studentNumber(studentNumber)
-                .department(department)
-                .build();
-
-        if (userData != null) {
-            // ID will be auto-generated, so we don't need to set it manually
-            student.setFirstName((String) userData.get("firstName"));
-            student.setLastName((String) userData.get("lastName"));
-            student.setEmail((String) userData.get("email"));
+        UbysSnapshot snapshot = getSnapshot();
+        Map<String, UbysStudentRecord> records = new LinkedHashMap<>();
+        Collection<String> misses = new LinkedHashSet<>();
+        for (String studentNumber : studentNumbers) {
+            if (studentNumber == null || studentNumber.trim().isEmpty() || records.containsKey(studentNumber)) {
+                continue;
+            }
+            UbysStudentRecord studentRecord = snapshot.findStudent(studentNumber).orElse(null);
+            if (studentRecord != null) {
+                records.put(studentNumber, studentRecord);
+            } else {
+                // Keep the slot so the result follows request order even for remote hits
+                records.put(studentNumber, null);
+                misses.add(studentNumber);
+            }
         }
 
-        // Note: The advisor relationship will be set during database initialization
-        // by looking up the advisorId from the original JSON data
-
-        return student;
+        Map<String, UbysStudentRecord> fetched = misses.isEmpty() ? Map.of() : dataSource.fetchStudents(misses);
+        for (Map.Entry<String, UbysStudentRecord> entry : records.entrySet()) {
+            UbysStudentRecord studentRecord = entry.getValue() != null ? entry.getValue() : fetched.get(entry.getKey());
+            if (studentRecord != null) {
+                students.put(entry.getKey(), toStudentWithTransientAttributes(entry.getKey(), studentRecord));
+            }
+        }
+        return students;
     }
 
     /**
-     * Creates a Student object with all transient attributes calculated
+     * Maps the record and evaluates it against the curriculum of the student's
+     * department; compiled curricula are shared, so this costs no more than the
+     * mapping itself.
      */
-    private Student createStudentWithTransientAttributes(String studentNumber, Map<String, Object> studentData,
-            Map<String, Object> allData) {
-        // Start with the base student for database
-        Student student = createStudentForDatabase(studentNumber, studentData, allData);
-
-        // Set semester
-        Object semesterObj = studentData.get("semester");
-        if (semesterObj != null) {
-            student.setSemester(((Number) semesterObj).intValue());
-        }
-
-        // Process courses and calculate GPA and total credits
-        List<Object> coursesData = (List<Object>) studentData.get("courses");
-        if (coursesData != null) {
-            List<Course> courses = new ArrayList<>();
-
-            for (Object courseObj : coursesData) {
-                Map<String, Object> courseData = (Map<String, Object>) courseObj;
-
-                Course course = new Course(
-                        (String) courseData.get("code"),
-                        (String) courseData.get("name"),
-                        (String) courseData.get("grade"),
-                        ((Number) courseData.get("credit")).intValue());
-
-                courses.add(course);
-            }
-
-            student.setCourses(courses);
-        }
-
+    private Student toStudentWithTransientAttributes(String studentNumber, UbysStudentRecord studentRecord) {
+        Student student = UbysEntityMapper.toStudentWithTransientAttributes(studentNumber, studentRecord);
+        student.setCurriculum(curriculumService.getCurriculumForDepartment(student.getDepartment()));
         return student;
     }
 
@@ -249,46 +383,18 @@ public class UbysService {
      * initialization
      */
     public List<StudentAffairs> getAllStudentAffairsForDbInitialization() {
-        try {
-            Map<String, Object> allData = getAllData();
-            Map<String, Object> studentAffairsSection = (Map<String, Object>) allData.get("studentAffairs");
-
-            if (studentAffairsSection == null) {
-                throw new RuntimeException(
-                        "Error reading student affairs data: 'studentAffairs' section not found in ubys.json");
-            }
-
-            List<StudentAffairs> studentAffairsList = new ArrayList<>();
-
-            for (Map.Entry<String, Object> entry : studentAffairsSection.entrySet()) {
-                String empId = entry.getKey();
-                Map<String, Object> studentAffairsData = (Map<String, Object>) entry.getValue();
-
-                StudentAffairs studentAffairs = createStudentAffairsForDatabase(empId, studentAffairsData);
-                studentAffairsList.add(studentAffairs);
-            }
-
-            return studentAffairsList;
-        } catch (IOException e) {
+        Map<String, UbysStaffRecord> studentAffairsSection = getSnapshot().getStudentAffairsByEmpId();
+        if (studentAffairsSection == null) {
             throw new RuntimeException(
-                    "Error reading or parsing student affairs data from ubys.json for DB initialization", e);
+                    "Error reading student affairs data: 'studentAffairs' section not found in ubys.json");
         }
-    }
-
-    private StudentAffairs createStudentAffairsForDatabase(String empId, Map<String, Object> studentAffairsData) {
-        Map<String, Object> userData = (Map<String, Object>) studentAffairsData.get("user");
-
-        StudentAffairs studentAffairs = StudentAffairs.builder()
-                .empId(empId)
-                .build();
 
-        if (userData != null) {
-            studentAffairs.setFirstName((String) userData.get("firstName"));
-            studentAffairs.setLastName((String) userData.get("lastName"));
-            studentAffairs.setEmail((String) userData.get("email"));
+        List<StudentAffairs> studentAffairsList = new ArrayList<>(studentAffairsSection.size());
+        for (Map.Entry<String, UbysStaffRecord> entry : studentAffairsSection.entrySet()) {
+            studentAffairsList.add(UbysEntityMapper.toStudentAffairs(entry.getKey(), entry.getValue()));
         }
 
-        return studentAffairs;
+        return studentAffairsList;
     }
 
     // ========== DEAN OFFICER METHODS ==========
@@ -297,47 +403,18 @@ public class UbysService {
      * Retrieves all DeanOfficer entities from ubys.json for database initialization
      */
     public List<DeanOfficer> getAllDeanOfficersForDbInitialization() {
-        try {
-            Map<String, Object> allData = getAllData();
-            Map<String, Object> deanOfficersSection = (Map<String, Object>) allData.get("deanOfficers");
-
-            if (deanOfficersSection == null) {
-                throw new RuntimeException(
-                        "Error reading dean officers data: 'deanOfficers' section not found in ubys.json");
-            }
-
-            List<DeanOfficer> deanOfficers = new ArrayList<>();
-
-            for (Map.Entry<String, Object> entry : deanOfficersSection.entrySet()) {
-                String empId = entry.getKey();
-                Map<String, Object> deanOfficerData = (Map<String, Object>) entry.getValue();
-
-                DeanOfficer deanOfficer = createDeanOfficerForDatabase(empId, deanOfficerData);
-                deanOfficers.add(deanOfficer);
-            }
-
-            return deanOfficers;
-        } catch (IOException e) {
+        Map<String, UbysStaffRecord> deanOfficersSection = getSnapshot().getDeanOfficersByEmpId();
+        if (deanOfficersSection == null) {
             throw new RuntimeException(
-                    "Error reading or parsing dean officers data from ubys.json for DB initialization", e);
+                    "Error reading dean officers data: 'deanOfficers' section not found in ubys.json");
         }
-    }
-
-    private DeanOfficer createDeanOfficerForDatabase(String empId, Map<String, Object> deanOfficerData) {
-        Map<String, Object> userData = (Map<String, Object>) deanOfficerData.get("user");
-
-        DeanOfficer deanOfficer = DeanOfficer.builder()
-                .empId(empId)
-                .faculty((String) deanOfficerData.get("faculty"))
-                .build();
 
-        if (userData != null) {
-            deanOfficer.setFirstName((String) userData.get("firstName"));
-            deanOfficer.setLastName((String) userData.get("lastName"));
-            deanOfficer.setEmail((String) userData.get("email"));
+        List<DeanOfficer> deanOfficers = new ArrayList<>(deanOfficersSection.size());
+        for (Map.Entry<String, UbysStaffRecord> entry : deanOfficersSection.entrySet()) {
+            deanOfficers.add(UbysEntityMapper.toDeanOfficer(entry.getKey(), entry.getValue()));
         }
 
-        return deanOfficer;
+        return deanOfficers;
     }
 
     // ========== DEPARTMENT SECRETARY METHODS ==========
@@ -347,50 +424,18 @@ public class UbysService {
      * initialization
      */
     public List<DepartmentSecretary> getAllDepartmentSecretariesForDbInitialization() {
-        try {
-            Map<String, Object> allData = getAllData();
-            Map<String, Object> departmentSecretariesSection = (Map<String, Object>) allData
-                    .get("departmentSecretaries");
-
-            if (departmentSecretariesSection == null) {
-                throw new RuntimeException(
-                        "Error reading department secretaries data: 'departmentSecretaries' section not found in ubys.json");
-            }
-
-            List<DepartmentSecretary> departmentSecretaries = new ArrayList<>();
-
-            for (Map.Entry<String, Object> entry : departmentSecretariesSection.entrySet()) {
-                String empId = entry.getKey();
-                Map<String, Object> departmentSecretaryData = (Map<String, Object>) entry.getValue();
-
-                DepartmentSecretary departmentSecretary = createDepartmentSecretaryForDatabase(empId,
-                        departmentSecretaryData);
-                departmentSecretaries.add(departmentSecretary);
-            }
-
-            return departmentSecretaries;
-        } catch (IOException e) {
+        Map<String, UbysStaffRecord> departmentSecretariesSection = getSnapshot().getDepartmentSecretariesByEmpId();
+        if (departmentSecretariesSection == null) {
             throw new RuntimeException(
-                    "Error reading or parsing department secretaries data from ubys.json for DB initialization", e);
+                    "Error reading department secretaries data: 'departmentSecretaries' section not found in ubys.json");
         }
-    }
-
-    private DepartmentSecretary createDepartmentSecretaryForDatabase(String empId,
-            Map<String, Object> departmentSecretaryData) {
-        Map<String, Object> userData = (Map<String, Object>) departmentSecretaryData.get("user");
 
-        DepartmentSecretary departmentSecretary = DepartmentSecretary.builder()
-                .empId(empId)
-                .department((String) departmentSecretaryData.get("department"))
-                .build();
-
-        if (userData != null) {
-            departmentSecretary.setFirstName((String) userData.get("firstName"));
-            departmentSecretary.setLastName((String) userData.get("lastName"));
-            departmentSecretary.setEmail((String) userData.get("email"));
+        List<DepartmentSecretary> departmentSecretaries = new ArrayList<>(departmentSecretariesSection.size());
+        for (Map.Entry<String, UbysStaffRecord> entry : departmentSecretariesSection.entrySet()) {
+            departmentSecretaries.add(UbysEntityMapper.toDepartmentSecretary(entry.getKey(), entry.getValue()));
         }
 
-        return departmentSecretary;
+        return departmentSecretaries;
     }
 
     // ========== ADVISOR METHODS ==========
@@ -399,45 +444,16 @@ public class UbysService {
      * Retrieves all Advisor entities from ubys.json for database initialization
      */
     public List<Advisor> getAllAdvisorsForDbInitialization() {
-        try {
-            Map<String, Object> allData = getAllData();
-            Map<String, Object> advisorsSection = (Map<String, Object>) allData.get("advisors");
-
-            if (advisorsSection == null) {
-                throw new RuntimeException("Error reading advisors data: 'advisors' section not found in ubys.json");
-            }
-
-            List<Advisor> advisors = new ArrayList<>();
-
-            for (Map.Entry<String, Object> entry : advisorsSection.entrySet()) {
-                String empId = entry.getKey();
-                Map<String, Object> advisorData = (Map<String, Object>) entry.getValue();
-
-                Advisor advisor = createAdvisorForDatabase(empId, advisorData);
-                advisors.add(advisor);
-            }
-
-            return advisors;
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading or parsing advisors data from ubys.json for DB initialization",
-                    e);
+        Map<String, UbysStaffRecord> advisorsSection = getSnapshot().getAdvisorsByEmpId();
+        if (advisorsSection == null) {
+            throw new RuntimeException("Error reading advisors data: 'advisors' section not found in ubys.json");
         }
-    }
-
-    private Advisor createAdvisorForDatabase(String empId, Map<String, Object> advisorData) {
-        Map<String, Object> userData = (Map<String, Object>) advisorData.get("user");
-
-        Advisor advisor = Advisor.builder()
-                .empId(empId)
-                .department((String) advisorData.get("department"))
-                .build();
 
-        if (userData != null) {
-            advisor.setFirstName((String) userData.get("firstName"));
-            advisor.setLastName((String) userData.get("lastName"));
-            advisor.setEmail((String) userData.get("email"));
+        List<Advisor> advisors = new ArrayList<>(advisorsSection.size());
+        for (Map.Entry<String, UbysStaffRecord> entry : advisorsSection.entrySet()) {
+            advisors.add(UbysEntityMapper.toAdvisor(entry.getKey(), entry.getValue()));
         }
 
-        return advisor;
+        return advisors;
     }
-}
\ No newline at end of file
+}
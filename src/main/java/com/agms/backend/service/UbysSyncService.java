@@ -0,0 +1,35 @@
+package com.agms.backend.service;
+
+import com.agms.backend.dto.UbysSyncReport;
+
+import java.util.Optional;
+
+/**
+ * Service interface for keeping the database in sync with UBYS after the
+ * initial import.
+ */
+public interface UbysSyncService {
+
+    /**
+     * Reloads UBYS and writes the dean officers, department secretaries,
+     * advisors and students whose data changed since the last sync, re-linking
+     * their relations.
+     *
+     * @throws IllegalStateException if a sync is already running
+     */
+    UbysSyncReport synchronize();
+
+    /**
+     * Records the content hashes of the current UBYS export as already synced,
+     * without writing any users. Used right after the initial import so the
+     * first sync does not rewrite every row.
+     */
+    void recordBaseline();
+
+    /**
+     * Get the report of the last finished sync, if any
+     */
+    Optional<UbysSyncReport> getLastReport();
+
+    boolean isRunning();
+}
@@ -9,6 +9,8 @@ import com.agms.backend.repository.AdvisorListRepository;
 import com.agms.backend.service.AdvisorService;
 import com.agms.backend.service.UserService;
 import com.agms.backend.service.DepartmentService;
+import com.agms.backend.service.ListWorkflowCounterService;
+import com.agms.backend.service.OrgClosureService;
 import com.agms.backend.exception.ResourceNotFoundException;
 import com.agms.backend.repository.DepartmentListRepository;
 import com.agms.backend.repository.UserRepository;
@@ -25,17 +27,23 @@ public class AdvisorServiceImpl implements AdvisorService {
     private final AdvisorListRepository advisorListRepository;
     private final UserService userService;
     private final DepartmentService departmentService;
+    private final OrgClosureService orgClosureService;
+    private final ListWorkflowCounterService listWorkflowCounterService;
 
     @Autowired
     public AdvisorServiceImpl(
             AdvisorRepository advisorRepository,
             AdvisorListRepository advisorListRepository,
             UserService userService,
-            DepartmentService departmentService) {
+            DepartmentService departmentService,
+            OrgClosureService orgClosureService,
+            ListWorkflowCounterService listWorkflowCounterService) {
         this.advisorRepository = advisorRepository;
         this.advisorListRepository = advisorListRepository;
         this.userService = userService;
         this.departmentService = departmentService;
+        this.orgClosureService = orgClosureService;
+        this.listWorkflowCounterService = listWorkflowCounterService;
     }
 
     @Override
@@ -78,7 +86,10 @@ public class AdvisorServiceImpl implements AdvisorService {
                 .departmentList(departmentList)
                 .build();
 
-        return advisorListRepository.save(advisorList);
+        advisorList = advisorListRepository.save(advisorList);
+        orgClosureService.rebuild();
+        listWorkflowCounterService.rebuild();
+        return advisorList;
     }
 
     @Override
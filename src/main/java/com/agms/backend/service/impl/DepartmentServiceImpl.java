@@ -9,6 +9,8 @@ import com.agms.backend.repository.DepartmentSecretaryRepository;
 import com.agms.backend.repository.UserRepository;
 import com.agms.backend.repository.FacultyListRepository;
 import com.agms.backend.service.DepartmentService;
+import com.agms.backend.service.ListWorkflowCounterService;
+import com.agms.backend.service.OrgClosureService;
 import com.agms.backend.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -22,17 +24,23 @@ public class DepartmentServiceImpl implements DepartmentService {
         private final DepartmentSecretaryRepository secretaryRepository;
         private final UserRepository userRepository;
         private final FacultyListRepository facultyListRepository;
+        private final OrgClosureService orgClosureService;
+        private final ListWorkflowCounterService listWorkflowCounterService;
 
         @Autowired
         public DepartmentServiceImpl(
                         DepartmentListRepository departmentListRepository,
                         DepartmentSecretaryRepository secretaryRepository,
                         UserRepository userRepository,
-                        FacultyListRepository facultyListRepository) {
+                        FacultyListRepository facultyListRepository,
+                        OrgClosureService orgClosureService,
+                        ListWorkflowCounterService listWorkflowCounterService) {
                 this.departmentListRepository = departmentListRepository;
                 this.secretaryRepository = secretaryRepository;
                 this.userRepository = userRepository;
                 this.facultyListRepository = facultyListRepository;
+                this.orgClosureService = orgClosureService;
+                this.listWorkflowCounterService = listWorkflowCounterService;
         }
 
         @Override
@@ -52,7 +60,10 @@ public class DepartmentServiceImpl implements DepartmentService {
                                 .facultyList(facultyList)
                                 .build();
 
-                return departmentListRepository.save(departmentList);
+                departmentList = departmentListRepository.save(departmentList);
+                orgClosureService.rebuild();
+                listWorkflowCounterService.rebuild();
+                return departmentList;
         }
 
         @Override
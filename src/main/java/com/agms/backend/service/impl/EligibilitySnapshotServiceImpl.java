@@ -0,0 +1,224 @@
+package com.agms.backend.service.impl;
+
+import com.agms.backend.dto.EligibilitySnapshotResponse;
+import com.agms.backend.model.EligibilitySnapshot;
+import com.agms.backend.model.Graduation;
+import com.agms.backend.model.users.Student;
+import com.agms.backend.repository.EligibilitySnapshotRepository;
+import com.agms.backend.repository.GraduationRepository;
+import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.service.EligibilitySnapshotService;
+import com.agms.backend.service.UbysService;
+import com.agms.backend.service.ubys.UbysSnapshotChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EligibilitySnapshotServiceImpl implements EligibilitySnapshotService {
+
+    /**
+     * Upper bound of student numbers per IN query
+     */
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final EligibilitySnapshotRepository eligibilitySnapshotRepository;
+    private final GraduationRepository graduationRepository;
+    private final SubmissionRepository submissionRepository;
+    private final UbysService ubysService;
+
+    @Override
+    @Transactional
+    public Map<String, EligibilitySnapshot> captureTerm(String term, Collection<String> studentNumbers) {
+        log.info("Capturing eligibility snapshots of {} students for term: {}", studentNumbers.size(), term);
+
+        long ubysVersion = ubysService.getSnapshotVersion();
+        Timestamp computedAt = new Timestamp(System.currentTimeMillis());
+        Map<String, Student> students = ubysService.getStudentsWithTransientAttributes(studentNumbers);
+        Map<String, EligibilitySnapshot> existing = getSnapshots(term, students.keySet());
+
+        Map<String, EligibilitySnapshot> snapshots = new LinkedHashMap<>();
+        for (Map.Entry<String, Student> entry : students.entrySet()) {
+            EligibilitySnapshot snapshot = existing.getOrDefault(entry.getKey(),
+                    EligibilitySnapshot.builder().term(term).studentNumber(entry.getKey()).build());
+            applyStanding(snapshot, entry.getValue(), ubysVersion, computedAt);
+            snapshots.put(entry.getKey(), snapshot);
+        }
+
+        // New rows are inserted in JDBC batches, existing ones updated in place
+        eligibilitySnapshotRepository.saveAll(snapshots.values());
+
+        log.info("Captured {} eligibility snapshots for term: {} (UBYS version {})", snapshots.size(), term,
+                ubysVersion);
+        return snapshots;
+    }
+
+    @Override
+    @Transactional
+    public List<EligibilitySnapshotResponse> refreshStudents(String term, Collection<String> studentNumbers) {
+        return captureTerm(term, new LinkedHashSet<>(studentNumbers)).values().stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, EligibilitySnapshot> getSnapshots(String term, Collection<String> studentNumbers) {
+        Map<String, EligibilitySnapshot> snapshots = new HashMap<>();
+        if (term == null || studentNumbers.isEmpty()) {
+            return snapshots;
+        }
+
+        List<String> pending = new ArrayList<>(studentNumbers);
+        for (int from = 0; from < pending.size(); from += QUERY_CHUNK_SIZE) {
+            List<String> chunk = pending.subList(from, Math.min(from + QUERY_CHUNK_SIZE, pending.size()));
+            for (EligibilitySnapshot snapshot : eligibilitySnapshotRepository.findByTermAndStudentNumberIn(term, chunk)) {
+                snapshots.put(snapshot.getStudentNumber(), snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, EligibilitySnapshot> getSnapshotsOrCompute(String term, Collection<String> studentNumbers) {
+        Map<String, EligibilitySnapshot> snapshots = getSnapshots(term, studentNumbers);
+
+        List<String> missing = studentNumbers.stream()
+                .filter(studentNumber -> !snapshots.containsKey(studentNumber))
+                .distinct()
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return snapshots;
+        }
+
+        log.debug("No eligibility snapshot for {} students of term {}, computing from UBYS", missing.size(), term);
+        snapshots.putAll(computeTerm(term, missing));
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, EligibilitySnapshot> computeTerm(String term, Collection<String> studentNumbers) {
+        long ubysVersion = ubysService.getSnapshotVersion();
+        Timestamp computedAt = new Timestamp(System.currentTimeMillis());
+        Map<String, EligibilitySnapshot> snapshots = new LinkedHashMap<>();
+        for (Map.Entry<String, Student> entry : ubysService.getStudentsWithTransientAttributes(studentNumbers)
+                .entrySet()) {
+            EligibilitySnapshot snapshot = EligibilitySnapshot.builder()
+                    .term(term)
+                    .studentNumber(entry.getKey())
+                    .build();
+            applyStanding(snapshot, entry.getValue(), ubysVersion, computedAt);
+            snapshots.put(entry.getKey(), snapshot);
+        }
+        return snapshots;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EligibilitySnapshot> getLatestSnapshot(String studentNumber) {
+        return eligibilitySnapshotRepository.findFirstByStudentNumberOrderByComputedAtDesc(studentNumber);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EligibilitySnapshotResponse> getSnapshotsForTerm(String term, boolean eligibleOnly) {
+        List<EligibilitySnapshot> snapshots = eligibleOnly
+                ? eligibilitySnapshotRepository.findByTermAndIsEligibleForGraduationOrderByStudentNumber(term, true)
+                : eligibilitySnapshotRepository.findByTermOrderByStudentNumber(term);
+        return snapshots.stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Keeps the snapshots of graduations in progress in line with UBYS: only the
+     * students whose records changed and who already have a snapshot in such a
+     * term are recomputed. Once a submission of the student was approved or
+     * rejected at any level its snapshot is left as captured, so the decision
+     * can still be explained; completed terms stay frozen as a whole.
+     */
+    @EventListener
+    @Transactional
+    public void onUbysSnapshotChanged(UbysSnapshotChangedEvent event) {
+        if (event.getChangedStudentNumbers().isEmpty()) {
+            return;
+        }
+
+        for (Graduation graduation : graduationRepository.findByStatus("IN_PROGRESS")) {
+            Set<String> affected = new LinkedHashSet<>(
+                    getSnapshots(graduation.getTerm(), event.getChangedStudentNumbers()).keySet());
+            int decided = removeStudentsWithDecision(graduation.getTerm(), affected);
+            if (decided > 0) {
+                log.info("Keeping the captured eligibility of {} students of term {} whose submission was decided on",
+                        decided, graduation.getTerm());
+            }
+            if (!affected.isEmpty()) {
+                log.info("Refreshing eligibility of {} students of term {} after UBYS change", affected.size(),
+                        graduation.getTerm());
+                captureTerm(graduation.getTerm(), affected);
+            }
+        }
+    }
+
+    /**
+     * @return number of students removed because a submission of theirs in the
+     *         term was already decided on
+     */
+    private int removeStudentsWithDecision(String term, Set<String> studentNumbers) {
+        List<String> pending = new ArrayList<>(studentNumbers);
+        int removed = 0;
+        for (int from = 0; from < pending.size(); from += QUERY_CHUNK_SIZE) {
+            List<String> chunk = pending.subList(from, Math.min(from + QUERY_CHUNK_SIZE, pending.size()));
+            for (String studentNumber : submissionRepository.findStudentNumbersWithDecidedSubmission(term, chunk)) {
+                if (studentNumbers.remove(studentNumber)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    private void applyStanding(EligibilitySnapshot snapshot, Student student, long ubysVersion,
+            Timestamp computedAt) {
+        snapshot.setDepartment(student.getDepartment());
+        snapshot.setGpa(student.getGpa());
+        snapshot.setTotalCredit(student.getTotalCredit());
+        snapshot.setSemester(student.getSemester());
+        snapshot.setCurriculumCompleted(student.isCurriculumCompleted());
+        snapshot.setEligibleForGraduation(student.isEligibleForGraduation());
+        snapshot.setUbysVersion(ubysVersion);
+        snapshot.setComputedAt(computedAt);
+    }
+
+    private EligibilitySnapshotResponse convertToResponse(EligibilitySnapshot snapshot) {
+        return EligibilitySnapshotResponse.builder()
+                .term(snapshot.getTerm())
+                .studentNumber(snapshot.getStudentNumber())
+                .department(snapshot.getDepartment())
+                .gpa(snapshot.getGpa())
+                .totalCredit(snapshot.getTotalCredit())
+                .semester(snapshot.getSemester())
+                .isCurriculumCompleted(snapshot.isCurriculumCompleted())
+                .isEligibleForGraduation(snapshot.isEligibleForGraduation())
+                .ubysVersion(snapshot.getUbysVersion())
+                .computedAt(snapshot.getComputedAt())
+                .build();
+    }
+}
@@ -0,0 +1,661 @@
+package com.agms.backend.service.impl;
+
+import com.agms.backend.dto.RegularGraduationPreviewEntry;
+import com.agms.backend.dto.RegularGraduationTrackResponse;
+import com.agms.backend.exception.ResourceNotFoundException;
+import com.agms.backend.exception.UbysUnavailableException;
+import com.agms.backend.model.EligibilitySnapshot;
+import com.agms.backend.model.OrgUnitType;
+import com.agms.backend.model.RegularGraduationDecision;
+import com.agms.backend.model.RegularGraduationJob;
+import com.agms.backend.model.RegularGraduationJobStatus;
+import com.agms.backend.model.RegularGraduationPartition;
+import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionStatus;
+import com.agms.backend.repository.AdvisorListRepository;
+import com.agms.backend.repository.GraduationCandidate;
+import com.agms.backend.repository.RegularGraduationJobRepository;
+import com.agms.backend.repository.RegularGraduationPartitionRepository;
+import com.agms.backend.repository.RegularGraduationProgress;
+import com.agms.backend.repository.StudentRepository;
+import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.service.EligibilitySnapshotService;
+import com.agms.backend.service.ListWorkflowCounterService;
+import com.agms.backend.service.RegularGraduationJobService;
+import com.agms.backend.service.SubmissionEventService;
+import com.agms.backend.service.org.ListFinalizedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Partitioned regular graduation jobs. Every node runs a few workers that claim
+ * partitions from the database with {@code FOR UPDATE SKIP LOCKED}, so adding
+ * nodes adds throughput without any coordination beyond the partition rows.
+ * A claim is a time-limited lease renewed with every committed chunk; when a
+ * node dies its leases run out and the partitions are taken over by the others.
+ * Each chunk transaction locks its partition row and checks the lease first, so
+ * a node that lost its lease cannot write next to the new owner.
+ */
+@Slf4j
+@Service
+public class RegularGraduationJobServiceImpl implements RegularGraduationJobService {
+
+    private final RegularGraduationJobRepository jobRepository;
+    private final RegularGraduationPartitionRepository partitionRepository;
+    private final StudentRepository studentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final AdvisorListRepository advisorListRepository;
+    private final EligibilitySnapshotService eligibilitySnapshotService;
+    private final ListWorkflowCounterService listWorkflowCounterService;
+    private final SubmissionEventService submissionEventService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int workers;
+    private final long leaseMs;
+    private final String nodeId;
+
+    private final ExecutorService workerExecutor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    public RegularGraduationJobServiceImpl(
+            RegularGraduationJobRepository jobRepository,
+            RegularGraduationPartitionRepository partitionRepository,
+            StudentRepository studentRepository,
+            SubmissionRepository submissionRepository,
+            AdvisorListRepository advisorListRepository,
+            EligibilitySnapshotService eligibilitySnapshotService,
+            ListWorkflowCounterService listWorkflowCounterService,
+            SubmissionEventService submissionEventService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${regular-graduation.chunk-size:200}") int chunkSize,
+            @Value("${regular-graduation.workers:2}") int workers,
+            @Value("${regular-graduation.lease-ms:60000}") long leaseMs,
+            @Value("${regular-graduation.node-id:}") String nodeId) {
+        this.jobRepository = jobRepository;
+        this.partitionRepository = partitionRepository;
+        this.studentRepository = studentRepository;
+        this.submissionRepository = submissionRepository;
+        this.advisorListRepository = advisorListRepository;
+        this.eligibilitySnapshotService = eligibilitySnapshotService;
+        this.listWorkflowCounterService = listWorkflowCounterService;
+        this.submissionEventService = submissionEventService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+        this.leaseMs = leaseMs;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.workerExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "regular-graduation-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Regular graduation worker node id: {}", this.nodeId);
+    }
+
+    @Override
+    @Transactional
+    public RegularGraduationJob createJob(String term) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        RegularGraduationJob job = jobRepository.save(RegularGraduationJob.builder()
+                .jobId("JOB_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase())
+                .term(term)
+                .totalStudents(studentRepository.count())
+                .startedAt(now)
+                .runStartedAt(now)
+                .updatedAt(now)
+                .build());
+
+        // One partition per department list, plus one for the students outside the hierarchy
+        // so that they are still counted
+        List<RegularGraduationPartition> partitions = new ArrayList<>();
+        for (String deptListId : advisorListRepository.findDepartmentListIds()) {
+            partitions.add(RegularGraduationPartition.builder().jobId(job.getJobId()).deptListId(deptListId).build());
+        }
+        partitions.add(RegularGraduationPartition.builder().jobId(job.getJobId()).build());
+        partitionRepository.saveAll(partitions);
+
+        log.info("Created regular graduation job {} for term {} ({} students in {} partitions)", job.getJobId(),
+                term, job.getTotalStudents(), partitions.size());
+        return job;
+    }
+
+    @Override
+    @Transactional
+    public Optional<RegularGraduationJob> resumeFailedJob(String term) {
+        Optional<RegularGraduationJob> existingJob = jobRepository.findByTerm(term);
+        if (existingJob.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RegularGraduationJob job = existingJob.get();
+        if (job.getStatus() != RegularGraduationJobStatus.FAILED) {
+            throw new IllegalStateException("Regular graduation process has already been started for term: " + term);
+        }
+
+        log.info("Resuming failed regular graduation job {} for term {}", job.getJobId(), term);
+        partitionRepository.releaseLeases(job.getJobId());
+        job.setStatus(RegularGraduationJobStatus.RUNNING);
+        job.setErrorMessage(null);
+        job.setRunStartedAt(new Timestamp(System.currentTimeMillis()));
+        job.setProcessedAtRunStart(partitionRepository.sumProgress(job.getJobId()).getProcessedCount());
+        return Optional.of(jobRepository.save(job));
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${regular-graduation.poll-interval-ms:10000}",
+            fixedDelayString = "${regular-graduation.poll-interval-ms:10000}")
+    public void processJobs() {
+        if (!jobRepository.existsByStatus(RegularGraduationJobStatus.RUNNING)) {
+            return;
+        }
+        int active;
+        while ((active = activeWorkers.get()) < workers) {
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                workerExecutor.execute(this::work);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        // Running chunks roll back; the leases run out and the partitions are picked up again
+        workerExecutor.shutdownNow();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void applyProgress(String term, RegularGraduationTrackResponse response) {
+        Optional<RegularGraduationJob> jobOpt = jobRepository.findByTerm(term);
+        if (jobOpt.isEmpty()) {
+            return;
+        }
+
+        RegularGraduationJob job = jobOpt.get();
+        RegularGraduationProgress progress = partitionRepository.sumProgress(job.getJobId());
+        response.setJobId(job.getJobId());
+        response.setJobStatus(job.getStatus());
+        response.setTotalStudents(job.getTotalStudents());
+        response.setPartitionCount(progress.getPartitionCount());
+        response.setCompletedPartitionCount(progress.getCompletedPartitionCount());
+        response.setProcessedCount(progress.getProcessedCount());
+        response.setEligibleCount(progress.getEligibleCount());
+        response.setSkippedCount(progress.getSkippedCount());
+        response.setFailedCount(progress.getFailedCount());
+        response.setJobFinishedAt(job.getFinishedAt());
+        response.setJobError(job.getErrorMessage());
+
+        if (job.getStatus() != RegularGraduationJobStatus.RUNNING) {
+            return;
+        }
+        double elapsedSeconds = (System.currentTimeMillis() - job.getRunStartedAt().getTime()) / 1000.0;
+        long processedInRun = progress.getProcessedCount() - job.getProcessedAtRunStart();
+        if (elapsedSeconds > 0 && processedInRun > 0) {
+            double throughput = processedInRun / elapsedSeconds;
+            // Students added since the start are picked up too, so the total is only an estimate
+            long remaining = Math.max(0, job.getTotalStudents() - progress.getProcessedCount());
+            response.setThroughputPerSecond(throughput);
+            response.setEstimatedSecondsRemaining(Math.round(remaining / throughput));
+        }
+    }
+
+    @Override
+    public Stream<RegularGraduationPreviewEntry> preview(String term) {
+        Iterator<List<RegularGraduationPreviewEntry>> chunks = new Iterator<>() {
+            private String checkpoint = "";
+            private boolean exhausted;
+            private List<RegularGraduationPreviewEntry> next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !exhausted) {
+                    List<GraduationCandidate> chunk = studentRepository.findGraduationCandidatesAfter(checkpoint,
+                            PageRequest.of(0, chunkSize));
+                    exhausted = chunk.size() < chunkSize;
+                    if (!chunk.isEmpty()) {
+                        checkpoint = chunk.get(chunk.size() - 1).getStudentNumber();
+                        next = previewChunk(term, chunk);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public List<RegularGraduationPreviewEntry> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<RegularGraduationPreviewEntry> current = next;
+                next = null;
+                return current;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .flatMap(List::stream);
+    }
+
+    private List<RegularGraduationPreviewEntry> previewChunk(String term, List<GraduationCandidate> candidates) {
+        List<String> studentNumbers = candidates.stream()
+                .map(GraduationCandidate::getStudentNumber)
+                .collect(Collectors.toList());
+        Set<String> studentsWithPendingSubmission = new HashSet<>(
+                submissionRepository.findStudentNumbersWithPendingSubmission(studentNumbers));
+        Map<String, EligibilitySnapshot> eligibilitySnapshots = eligibilitySnapshotService.computeTerm(term,
+                studentNumbers);
+
+        List<RegularGraduationPreviewEntry> entries = new ArrayList<>(candidates.size());
+        for (GraduationCandidate candidate : candidates) {
+            EligibilitySnapshot eligibility = eligibilitySnapshots.get(candidate.getStudentNumber());
+            RegularGraduationDecision decision = decide(candidate, eligibility, studentsWithPendingSubmission);
+            entries.add(RegularGraduationPreviewEntry.builder()
+                    .studentNumber(candidate.getStudentNumber())
+                    .studentName(candidate.getFirstName() + " " + candidate.getLastName())
+                    .advisorEmpId(candidate.getAdvisorEmpId())
+                    .advisorListId(candidate.getAdvisorListId())
+                    .decision(decision)
+                    .reason(decision.getReason())
+                    .gpa(eligibility != null ? eligibility.getGpa() : null)
+                    .totalCredit(eligibility != null ? eligibility.getTotalCredit() : null)
+                    .isCurriculumCompleted(eligibility != null ? eligibility.isCurriculumCompleted() : null)
+                    .build());
+        }
+        return entries;
+    }
+
+    // ========== WORKERS ==========
+
+    private void work() {
+        try {
+            Long partitionId;
+            while (!Thread.currentThread().isInterrupted() && (partitionId = claimPartition()) != null) {
+                processPartition(partitionId);
+            }
+            completeFinishedJobs();
+        } catch (Exception e) {
+            log.error("Regular graduation worker on node {} stopped: {}", nodeId, e.getMessage());
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return id of the partition this node now holds the lease of, or null if there is nothing to claim
+     */
+    private Long claimPartition() {
+        return transactionTemplate.execute(status -> {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            Optional<Long> claimable = partitionRepository.lockNextClaimable(now);
+            if (claimable.isEmpty()) {
+                return null;
+            }
+
+            RegularGraduationPartition partition = partitionRepository.findById(claimable.get()).orElseThrow();
+            if (partition.getLeaseOwner() != null) {
+                log.info("Taking over partition {} of job {} from node {} after its lease expired",
+                        partition.getId(), partition.getJobId(), partition.getLeaseOwner());
+            }
+            partition.setLeaseOwner(nodeId);
+            partition.setLeaseExpiresAt(new Timestamp(now.getTime() + leaseMs));
+            partitionRepository.save(partition);
+            log.debug("Node {} claimed partition {} of job {} (department list {})", nodeId, partition.getId(),
+                    partition.getJobId(), partition.getDeptListId());
+            return partition.getId();
+        });
+    }
+
+    private void processPartition(Long partitionId) {
+        try {
+            boolean hasMore = true;
+            while (hasMore) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                hasMore = processChunk(partitionId);
+            }
+        } catch (Exception e) {
+            // Losing UBYS or the database stops the whole job rather than one partition after another
+            RegularGraduationPartition partition = partitionRepository.findById(partitionId).orElse(null);
+            String jobId = partition != null ? partition.getJobId() : null;
+            log.error("Partition {} of regular graduation job {} failed: {}", partitionId, jobId, e.getMessage());
+            if (jobId != null) {
+                failJob(jobId, e);
+            }
+        }
+    }
+
+    /**
+     * Process the next chunk of the partition in one transaction. If the chunk cannot
+     * be committed, its students are retried one by one so a single bad record only
+     * fails itself.
+     *
+     * @return true if the partition may have more students and this node still holds it
+     */
+    private boolean processChunk(Long partitionId) {
+        try {
+            Boolean hasMore = withLease(partitionId, (job, partition) -> {
+                List<GraduationCandidate> chunk = findCandidates(partition, chunkSize);
+                createSubmissions(job.getTerm(), partition, chunk);
+                if (chunk.size() < chunkSize) {
+                    completePartition(partition);
+                    return false;
+                }
+                return true;
+            });
+            return Boolean.TRUE.equals(hasMore);
+        } catch (UbysUnavailableException e) {
+            // Retrying student by student would only fail them all
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Chunk of partition {} failed ({}), retrying its students one by one", partitionId,
+                    e.getMessage());
+        }
+
+        List<GraduationCandidate> chunk = withLease(partitionId,
+                (job, partition) -> findCandidates(partition, chunkSize));
+        if (chunk == null) {
+            return false;
+        }
+        for (GraduationCandidate candidate : chunk) {
+            Boolean held;
+            try {
+                held = withLease(partitionId, (job, partition) -> {
+                    createSubmissions(job.getTerm(), partition, List.of(candidate));
+                    return true;
+                });
+            } catch (UbysUnavailableException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                log.warn("Error processing student {} for regular graduation: {}",
+                        candidate.getStudentNumber(), e.getMessage());
+                held = withLease(partitionId, (job, partition) -> {
+                    partition.setCheckpoint(candidate.getStudentNumber());
+                    partition.setProcessedCount(partition.getProcessedCount() + 1);
+                    partition.setFailedCount(partition.getFailedCount() + 1);
+                    return true;
+                });
+            }
+            if (held == null) {
+                return false;
+            }
+        }
+        return !chunk.isEmpty();
+    }
+
+    /**
+     * Run the work in a transaction holding the partition's row lock, provided this
+     * node still holds the partition's lease and the job is running; the lease is
+     * renewed when the transaction commits.
+     *
+     * @return the result of the work, or null if the partition is no longer this node's to work on
+     */
+    private <T> T withLease(Long partitionId, BiFunction<RegularGraduationJob, RegularGraduationPartition, T> work) {
+        return transactionTemplate.execute(status -> {
+            RegularGraduationPartition partition = partitionRepository.findByIdForUpdate(partitionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Partition not found: " + partitionId));
+            if (partition.isCompleted() || !nodeId.equals(partition.getLeaseOwner())) {
+                log.info("Node {} no longer holds partition {}, leaving it", nodeId, partitionId);
+                return null;
+            }
+            RegularGraduationJob job = findJob(partition.getJobId());
+            if (job.getStatus() != RegularGraduationJobStatus.RUNNING) {
+                return null;
+            }
+
+            T result = work.apply(job, partition);
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            partition.setUpdatedAt(now);
+            if (!partition.isCompleted()) {
+                partition.setLeaseExpiresAt(new Timestamp(now.getTime() + leaseMs));
+            }
+            partitionRepository.save(partition);
+            return result;
+        });
+    }
+
+    private List<GraduationCandidate> findCandidates(RegularGraduationPartition partition, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return partition.getDeptListId() != null
+                ? studentRepository.findGraduationCandidatesOfDepartmentListAfter(partition.getDeptListId(),
+                        partition.getCheckpoint(), page)
+                : studentRepository.findGraduationCandidatesWithoutDepartmentListAfter(partition.getCheckpoint(),
+                        page);
+    }
+
+    private void completePartition(RegularGraduationPartition partition) {
+        partition.setCompleted(true);
+        partition.setLeaseOwner(null);
+        partition.setLeaseExpiresAt(null);
+        log.debug("Node {} completed partition {} of job {}: {} students processed", nodeId, partition.getId(),
+                partition.getJobId(), partition.getProcessedCount());
+    }
+
+    /**
+     * Create the submissions of the eligible students among the candidates and move the
+     * partition's checkpoint past them, in the caller's transaction
+     */
+    private void createSubmissions(String term, RegularGraduationPartition partition,
+            List<GraduationCandidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> studentNumbers = candidates.stream()
+                .map(GraduationCandidate::getStudentNumber)
+                .collect(Collectors.toList());
+        Set<String> studentsWithPendingSubmission = new HashSet<>(
+                submissionRepository.findStudentNumbersWithPendingSubmission(studentNumbers));
+
+        // Fetch academic data for the whole chunk in one pass and record it for the term. UBYS
+        // corrections still reach it until the student's submission is decided on, then it is kept
+        Map<String, EligibilitySnapshot> eligibilitySnapshots = eligibilitySnapshotService.captureTerm(term,
+                studentNumbers);
+
+        List<Submission> newSubmissions = new ArrayList<>();
+        int skippedCount = 0;
+        Timestamp submissionDate = new Timestamp(System.currentTimeMillis());
+        for (GraduationCandidate candidate : candidates) {
+            String studentNumber = candidate.getStudentNumber();
+            EligibilitySnapshot eligibility = eligibilitySnapshots.get(studentNumber);
+            RegularGraduationDecision decision = decide(candidate, eligibility, studentsWithPendingSubmission);
+
+            if (decision.isSkipped()) {
+                log.debug("Skipping student {} - {}", studentNumber, decision.getReason());
+                skippedCount++;
+                continue;
+            }
+            if (decision == RegularGraduationDecision.INELIGIBLE) {
+                log.debug("Student {} is not eligible for graduation", studentNumber);
+                continue;
+            }
+
+            log.debug("Creating submission for student {} assigned to advisor {} with advisor list {}",
+                    studentNumber, candidate.getAdvisorEmpId(), candidate.getAdvisorListId());
+
+            String submissionContent = String.format(
+                "Regular graduation application for %s term. " +
+                "GPA: %.2f, Total Credits: %d, Curriculum Completed: %s",
+                term,
+                eligibility.getGpa(),
+                eligibility.getTotalCredit(),
+                eligibility.isCurriculumCompleted() ? "Yes" : "No"
+            );
+
+            // References only carry the ids, nothing is loaded for the foreign keys
+            newSubmissions.add(Submission.builder()
+                    .submissionId(generateSubmissionId())
+                    .submissionDate(submissionDate)
+                    .content(submissionContent)
+                    .status(SubmissionStatus.PENDING)
+                    .student(studentRepository.getReferenceById(candidate.getStudentId()))
+                    .advisorList(advisorListRepository.getReferenceById(candidate.getAdvisorListId()))
+                    .deptListId(candidate.getDeptListId())
+                    .facultyListId(candidate.getFacultyListId())
+                    .graduationListId(candidate.getGraduationListId())
+                    .term(term)
+                    .build());
+        }
+
+        // New submissions are inserted in JDBC batches
+        submissionRepository.saveAll(newSubmissions);
+        listWorkflowCounterService.recordCreated(newSubmissions);
+        submissionEventService.recordCreated(newSubmissions);
+
+        // The checkpoint commits with the submissions, so a resumed partition never creates them twice
+        partition.setCheckpoint(studentNumbers.get(studentNumbers.size() - 1));
+        partition.setProcessedCount(partition.getProcessedCount() + candidates.size());
+        partition.setEligibleCount(partition.getEligibleCount() + newSubmissions.size());
+        partition.setSkippedCount(partition.getSkippedCount() + skippedCount);
+    }
+
+    /**
+     * What the job does with a student; the preview shows the same decisions
+     *
+     * @param eligibility the student's standing for the term, null if the student is not in UBYS
+     */
+    private static RegularGraduationDecision decide(GraduationCandidate candidate, EligibilitySnapshot eligibility,
+            Set<String> studentsWithPendingSubmission) {
+        if (eligibility == null) {
+            return RegularGraduationDecision.NOT_IN_UBYS;
+        }
+        if (!eligibility.isEligibleForGraduation()) {
+            return RegularGraduationDecision.INELIGIBLE;
+        }
+        if (studentsWithPendingSubmission.contains(candidate.getStudentNumber())) {
+            return RegularGraduationDecision.PENDING_SUBMISSION;
+        }
+        if (candidate.getAdvisorEmpId() == null) {
+            return RegularGraduationDecision.NO_ADVISOR;
+        }
+        if (candidate.getAdvisorListId() == null) {
+            return RegularGraduationDecision.NO_ADVISOR_LIST;
+        }
+        return RegularGraduationDecision.CREATE_SUBMISSION;
+    }
+
+    /**
+     * Complete the running jobs whose partitions are all done. The job row is locked
+     * so that only one node finalizes it.
+     */
+    private void completeFinishedJobs() {
+        for (RegularGraduationJob running : jobRepository.findByStatus(RegularGraduationJobStatus.RUNNING)) {
+            if (partitionRepository.existsByJobIdAndCompletedFalse(running.getJobId())) {
+                continue;
+            }
+
+            RegularGraduationJob completed = transactionTemplate.execute(status -> {
+                RegularGraduationJob job = jobRepository.findByIdForUpdate(running.getJobId()).orElse(null);
+                if (job == null || job.getStatus() != RegularGraduationJobStatus.RUNNING
+                        || partitionRepository.existsByJobIdAndCompletedFalse(job.getJobId())) {
+                    return null;
+                }
+
+                // Auto-finalize advisor lists that have no submissions
+                autoFinalizeEmptyAdvisorLists(job.getTerm());
+
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                job.setStatus(RegularGraduationJobStatus.COMPLETED);
+                job.setFinishedAt(now);
+                job.setUpdatedAt(now);
+                return jobRepository.save(job);
+            });
+
+            if (completed != null) {
+                RegularGraduationProgress progress = partitionRepository.sumProgress(completed.getJobId());
+                log.info("Regular graduation job {} for term {} completed. Processed {} students: created {} " +
+                        "submissions, skipped {}, failed {}", completed.getJobId(), completed.getTerm(),
+                        progress.getProcessedCount(), progress.getEligibleCount(), progress.getSkippedCount(),
+                        progress.getFailedCount());
+            }
+        }
+    }
+
+    private void failJob(String jobId, Exception cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                RegularGraduationJob job = findJob(jobId);
+                if (job.getStatus() != RegularGraduationJobStatus.RUNNING) {
+                    return;
+                }
+                String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+                job.setStatus(RegularGraduationJobStatus.FAILED);
+                job.setErrorMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+                job.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+                jobRepository.save(job);
+            });
+        } catch (Exception e) {
+            // The partition's lease runs out and another worker picks it up
+            log.error("Could not mark regular graduation job {} as failed: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * Automatically finalize advisor lists that have no submissions assigned to them.
+     * This prevents the workflow from being blocked by advisors who have no students to review.
+     */
+    private void autoFinalizeEmptyAdvisorLists(String term) {
+        log.debug("Checking for empty advisor lists to auto-finalize...");
+
+        List<String> finalizedIds = advisorListRepository.finalizeEmptyAdvisorListsOfTerm(term);
+
+        if (!finalizedIds.isEmpty()) {
+            listWorkflowCounterService.recordAdvisorListsFinalized();
+            eventPublisher.publishEvent(new ListFinalizedEvent(OrgUnitType.ADVISOR_LIST, finalizedIds, true));
+            log.info("Auto-finalized {} empty advisor lists for term {}: {}", finalizedIds.size(), term, finalizedIds);
+        } else {
+            log.debug("No empty advisor lists found to auto-finalize");
+        }
+    }
+
+    private RegularGraduationJob findJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Regular graduation job not found: " + jobId));
+    }
+
+    private String generateSubmissionId() {
+        // Generate a submission ID using UUID for guaranteed uniqueness
+        return "SUB_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        // Random suffix, so several application contexts on one host never share leases
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
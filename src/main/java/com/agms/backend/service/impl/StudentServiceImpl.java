@@ -10,24 +10,30 @@ import com.agms.backend.model.users.Role;
 import com.agms.backend.model.users.Advisor;
 import com.agms.backend.model.users.DepartmentSecretary;
 import com.agms.backend.model.AdvisorList;
+import com.agms.backend.model.EligibilitySnapshot;
 import com.agms.backend.repository.StudentRepository;
 import com.agms.backend.repository.UserRepository;
 import com.agms.backend.repository.AdvisorListRepository;
 import com.agms.backend.exception.ResourceNotFoundException;
 import com.agms.backend.exception.EmailAlreadyExistsException;
+import com.agms.backend.exception.UbysUnavailableException;
+import com.agms.backend.service.EligibilitySnapshotService;
 import com.agms.backend.service.StudentService;
 import com.agms.backend.service.UbysService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class StudentServiceImpl implements StudentService {
     private final StudentRepository studentRepository;
@@ -35,6 +41,7 @@ public class StudentServiceImpl implements StudentService {
     private final PasswordEncoder passwordEncoder;
     private final AdvisorListRepository advisorListRepository;
     private final UbysService ubysService;
+    private final EligibilitySnapshotService eligibilitySnapshotService;
 
     @Autowired
     public StudentServiceImpl(
@@ -42,12 +49,14 @@ public class StudentServiceImpl implements StudentService {
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
             AdvisorListRepository advisorListRepository,
-            UbysService ubysService) {
+            UbysService ubysService,
+            EligibilitySnapshotService eligibilitySnapshotService) {
         this.studentRepository = studentRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.advisorListRepository = advisorListRepository;
         this.ubysService = ubysService;
+        this.eligibilitySnapshotService = eligibilitySnapshotService;
     }
 
     @Override
@@ -82,9 +91,26 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public List<StudentResponse> getAllStudents() {
-        return studentRepository.findAll().stream()
-                .map(this::convertToStudentResponse)
-                .collect(Collectors.toList());
+        List<Student> students = studentRepository.findAll();
+
+        // One UBYS lookup for the whole list instead of one per student
+        Map<String, Student> enhancedStudents;
+        try {
+            enhancedStudents = ubysService.getStudentsWithTransientAttributes(
+                    students.stream().map(Student::getStudentNumber).collect(Collectors.toList()));
+        } catch (UbysUnavailableException e) {
+            log.warn("UBYS unavailable, returning {} students without academic data: {}",
+                    students.size(), e.getMessage());
+            enhancedStudents = Map.of();
+        }
+
+        List<StudentResponse> responses = new ArrayList<>(students.size());
+        for (Student student : students) {
+            // If not found in ubys.json, use database student
+            responses.add(convertToStudentResponse(student,
+                    enhancedStudents.getOrDefault(student.getStudentNumber(), student)));
+        }
+        return responses;
     }
 
     @Override
@@ -139,17 +165,12 @@ public class StudentServiceImpl implements StudentService {
         // Get student from database
         Student student = getStudentEntityByEmail(email);
 
-        // Get enhanced student data from ubys.json (includes academic info)
-        Student enhancedStudent;
-        try {
-            enhancedStudent = ubysService.getStudentWithTransientAttributes(student.getStudentNumber());
-        } catch (ResourceNotFoundException e) {
-            // If not found in ubys.json, use database student
-            enhancedStudent = student;
-        }
+        // Prefer the standing captured for the student's graduation term, so the profile
+        // shows what decisions were based on; students without one are read from UBYS
+        EligibilitySnapshot eligibility = eligibilitySnapshotService.getLatestSnapshot(student.getStudentNumber())
+                .orElseGet(() -> computeEligibility(student));
 
-        // Get department information from advisor relationship
-        String department = null;
+        // Get faculty information from advisor relationship
         String faculty = null;
         StudentProfileResponse.AdvisorInfo advisorInfo = null;
 
@@ -162,40 +183,15 @@ public class StudentServiceImpl implements StudentService {
                     .email(advisor.getEmail())
                     .build();
 
-            // Get department from advisor's department secretary
+            // Resolve faculty from advisor's department secretary
             if (advisor.getDepartmentSecretary() != null) {
                 DepartmentSecretary departmentSecretary = advisor.getDepartmentSecretary();
 
-                // Get department and faculty info from ubys.json
+                // Get faculty info from the UBYS snapshot
                 try {
-                    Map<String, Object> allData = ubysService.getAllData();
-                    Map<String, Object> departmentSecretariesSection = (Map<String, Object>) allData
-                            .get("departmentSecretaries");
-
-                    if (departmentSecretariesSection != null) {
-                        Map<String, Object> deptSecData = (Map<String, Object>) departmentSecretariesSection
-                                .get(departmentSecretary.getEmpId());
-                        if (deptSecData != null) {
-                            department = (String) deptSecData.get("department");
-
-                            // Get faculty from dean officer
-                            String deanOfficerId = (String) deptSecData.get("deanOfficerId");
-                            if (deanOfficerId != null) {
-                                Map<String, Object> deanOfficersSection = (Map<String, Object>) allData
-                                        .get("deanOfficers");
-                                if (deanOfficersSection != null) {
-                                    Map<String, Object> deanOfficerData = (Map<String, Object>) deanOfficersSection
-                                            .get(deanOfficerId);
-                                    if (deanOfficerData != null) {
-                                        faculty = (String) deanOfficerData.get("faculty");
-                                    }
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    // Log error but continue - we'll just not have department/faculty info
-                    System.err.println("Error getting department/faculty info: " + e.getMessage());
+                    faculty = ubysService.getFacultyForDepartment(departmentSecretary.getDepartment());
+                } catch (UbysUnavailableException e) {
+                    log.warn("UBYS unavailable, returning profile of {} without faculty: {}", email, e.getMessage());
                 }
             }
         }
@@ -209,9 +205,39 @@ public class StudentServiceImpl implements StudentService {
                 .department(student.getDepartment())
                 .faculty(faculty)
                 .advisor(advisorInfo)
-                .gpa(enhancedStudent.getGpa() > 0 ? enhancedStudent.getGpa() : null)
-                .totalCredits(enhancedStudent.getTotalCredit() > 0 ? enhancedStudent.getTotalCredit() : null)
-                .semester(enhancedStudent.getSemester() > 0 ? enhancedStudent.getSemester() : null)
+                .gpa(eligibility.getGpa() > 0 ? eligibility.getGpa() : null)
+                .totalCredits(eligibility.getTotalCredit() > 0 ? eligibility.getTotalCredit() : null)
+                .semester(eligibility.getSemester() > 0 ? eligibility.getSemester() : null)
+                .isCurriculumCompleted(eligibility.isCurriculumCompleted())
+                .isEligibleForGraduation(eligibility.isEligibleForGraduation())
+                .build();
+    }
+
+    /**
+     * Computes the current academic standing of a student from UBYS without
+     * storing it
+     */
+    private EligibilitySnapshot computeEligibility(Student student) {
+        // Get enhanced student data from ubys.json (includes academic info)
+        Student enhancedStudent;
+        try {
+            enhancedStudent = ubysService.getStudentWithTransientAttributes(student.getStudentNumber());
+        } catch (ResourceNotFoundException e) {
+            // If not found in ubys.json, use database student
+            enhancedStudent = student;
+        } catch (UbysUnavailableException e) {
+            // Serve the profile without academic details rather than failing it
+            log.warn("UBYS unavailable, returning student {} without academic data: {}",
+                    student.getStudentNumber(), e.getMessage());
+            enhancedStudent = student;
+        }
+
+        return EligibilitySnapshot.builder()
+                .studentNumber(student.getStudentNumber())
+                .department(student.getDepartment())
+                .gpa(enhancedStudent.getGpa())
+                .totalCredit(enhancedStudent.getTotalCredit())
+                .semester(enhancedStudent.getSemester())
                 .isCurriculumCompleted(enhancedStudent.isCurriculumCompleted())
                 .isEligibleForGraduation(enhancedStudent.isEligibleForGraduation())
                 .build();
@@ -245,8 +271,21 @@ public class StudentServiceImpl implements StudentService {
         } catch (ResourceNotFoundException e) {
             // If not found in ubys.json, use database student
             enhancedStudent = student;
+        } catch (UbysUnavailableException e) {
+            // Serve the profile without academic details rather than failing it
+            log.warn("UBYS unavailable, returning student {} without academic data: {}",
+                    student.getStudentNumber(), e.getMessage());
+            enhancedStudent = student;
         }
 
+        return convertToStudentResponse(student, enhancedStudent);
+    }
+
+    /**
+     * Converts Student entity to safe StudentResponse DTO using already resolved
+     * academic data
+     */
+    private StudentResponse convertToStudentResponse(Student student, Student enhancedStudent) {
         // Convert advisor to safe DTO
         StudentResponse.AdvisorInfo advisorInfo = null;
         if (student.getAdvisor() != null) {
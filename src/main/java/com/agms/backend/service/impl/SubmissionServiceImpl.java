@@ -1,16 +1,27 @@
 package com.agms.backend.service.impl;
 
+import com.agms.backend.dto.BulkDecisionRequest;
+import com.agms.backend.dto.BulkDecisionResponse;
 import com.agms.backend.dto.CreateSubmissionRequest;
+import com.agms.backend.dto.RegularGraduationPreviewEntry;
 import com.agms.backend.dto.RegularGraduationTrackResponse;
 import com.agms.backend.dto.SubmissionResponse;
+import com.agms.backend.dto.SubmissionTimelineResponse;
 import com.agms.backend.dto.SubordinateStatusResponse;
 import com.agms.backend.dto.TopStudentsResponse;
+import com.agms.backend.exception.ForbiddenException;
 import com.agms.backend.exception.ResourceNotFoundException;
+import com.agms.backend.exception.TransitionConflictException;
+import com.agms.backend.exception.ValidationException;
 import com.agms.backend.model.AdvisorList;
 import com.agms.backend.model.DepartmentList;
+import com.agms.backend.model.EligibilitySnapshot;
 import com.agms.backend.model.FacultyList;
+import com.agms.backend.model.ListWorkflowCounter;
 import com.agms.backend.model.File;
+import com.agms.backend.model.OrgUnitType;
 import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionEvent;
 import com.agms.backend.model.SubmissionStatus;
 import com.agms.backend.model.users.Advisor;
 import com.agms.backend.model.users.DeanOfficer;
@@ -18,32 +29,49 @@ import com.agms.backend.model.users.DepartmentSecretary;
 import com.agms.backend.model.users.Student;
 import com.agms.backend.model.users.StudentAffairs;
 import com.agms.backend.repository.AdvisorListRepository;
-import com.agms.backend.repository.AdvisorRepository;
-import com.agms.backend.repository.DeanOfficerRepository;
 import com.agms.backend.repository.DepartmentListRepository;
-import com.agms.backend.repository.DepartmentSecretaryRepository;
 import com.agms.backend.repository.FacultyListRepository;
 import com.agms.backend.repository.GraduationListRepository;
 import com.agms.backend.repository.GraduationRepository;
 import com.agms.backend.repository.StudentAffairsRepository;
 import com.agms.backend.repository.StudentRepository;
 import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.service.EligibilitySnapshotService;
+import com.agms.backend.service.FileStorageService;
+import com.agms.backend.service.FinalizationCascadeService;
+import com.agms.backend.service.GraduationHierarchyBuilder;
+import com.agms.backend.service.ListWorkflowCounterService;
+import com.agms.backend.service.OrgGraphService;
+import com.agms.backend.service.RegularGraduationJobService;
+import com.agms.backend.service.SubmissionEventService;
 import com.agms.backend.service.SubmissionService;
 import com.agms.backend.service.UbysService;
+import com.agms.backend.service.notification.WorkflowNotificationService;
+import com.agms.backend.service.org.ListFinalizedEvent;
+import com.agms.backend.service.org.OrgGraph;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -52,18 +80,25 @@ public class SubmissionServiceImpl implements SubmissionService {
 
     private final SubmissionRepository submissionRepository;
     private final StudentRepository studentRepository;
-    private final AdvisorRepository advisorRepository;
     private final AdvisorListRepository advisorListRepository;
-    private final DeanOfficerRepository deanOfficerRepository;
     private final StudentAffairsRepository studentAffairsRepository;
-    private final DepartmentSecretaryRepository departmentSecretaryRepository;
     private final DepartmentListRepository departmentListRepository;
     private final FacultyListRepository facultyListRepository;
     private final GraduationListRepository graduationListRepository;
     private final GraduationRepository graduationRepository;
     private final com.agms.backend.repository.UserRepository userRepository;
     private final UbysService ubysService;
-
+    private final GraduationHierarchyBuilder graduationHierarchyBuilder;
+    private final OrgGraphService orgGraphService;
+    private final ListWorkflowCounterService listWorkflowCounterService;
+    private final SubmissionEventService submissionEventService;
+    private final FinalizationCascadeService finalizationCascadeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EligibilitySnapshotService eligibilitySnapshotService;
+    private final RegularGraduationJobService regularGraduationJobService;
+    private final PlatformTransactionManager transactionManager;
+    private final WorkflowNotificationService workflowNotificationService;
+    private final FileStorageService fileStorageService;
     @Override
     @Transactional
     public SubmissionResponse createGraduationSubmission(CreateSubmissionRequest request) {
@@ -93,6 +128,8 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         // Create the submission (ID will be generated)
         String submissionId = generateSubmissionId();
+        DepartmentList departmentList = advisorList.getDepartmentList();
+        FacultyList facultyList = departmentList != null ? departmentList.getFacultyList() : null;
         Submission submission = Submission.builder()
                 .submissionId(submissionId)
                 .submissionDate(new Timestamp(System.currentTimeMillis()))
@@ -100,10 +137,18 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .status(SubmissionStatus.PENDING)
                 .student(student)
                 .advisorList(advisorList)
+                .deptListId(departmentList != null ? departmentList.getDeptListId() : null)
+                .facultyListId(facultyList != null ? facultyList.getFacultyListId() : null)
+                .graduationListId(facultyList != null && facultyList.getGraduationList() != null
+                        ? facultyList.getGraduationList().getListId()
+                        : null)
+                .term(getTermForAdvisorList(advisorList))
                 .build();
 
         // Save the submission
         Submission savedSubmission = submissionRepository.save(submission);
+        listWorkflowCounterService.recordCreated(List.of(savedSubmission));
+        submissionEventService.recordCreated(List.of(savedSubmission));
 
         log.info("Created graduation submission with ID: {} for student: {}", savedSubmission.getSubmissionId(),
                 request.getStudentNumber());
@@ -125,18 +170,14 @@ public class SubmissionServiceImpl implements SubmissionService {
     public List<SubmissionResponse> getSubmissionsByAdvisor(String advisorEmpId) {
         log.debug("Getting submissions for advisor: {}", advisorEmpId);
 
-        // Find the advisor
-        Advisor advisor = advisorRepository.findByEmpId(advisorEmpId)
-                .orElseThrow(() -> new ResourceNotFoundException("Advisor not found with empId: " + advisorEmpId));
-
-        // Find the advisor's advisor list
-        AdvisorList advisorList = advisor.getAdvisorList();
-        if (advisorList == null) {
+        // Find the advisor and their advisor list in the org graph
+        OrgGraph.Member advisor = findOrgMember(OrgUnitType.ADVISOR, advisorEmpId, "Advisor");
+        if (advisor.listId() == null) {
             log.warn("Advisor {} does not have an advisor list", advisorEmpId);
             return List.of();
         }
 
-        List<Submission> submissions = submissionRepository.findByAdvisorListId(advisorList.getAdvisorListId());
+        List<Submission> submissions = submissionRepository.findByAdvisorListId(advisor.listId());
         return submissions.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
@@ -150,6 +191,53 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .map(this::convertToResponse);
     }
 
+    @Override
+    public SubmissionTimelineResponse getSubmissionTimeline(String submissionId, String after, int limit) {
+        UUID afterEventId;
+        try {
+            afterEventId = after != null && !after.isBlank() ? UUID.fromString(after) : null;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid timeline cursor: " + after);
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_TIMELINE_PAGE_SIZE));
+
+        // Same access rule as the submission's files; the history of a deleted submission
+        // is left to student affairs, who could see it when it existed anyway
+        Submission submission = submissionRepository.findById(submissionId).orElse(null);
+        com.agms.backend.model.users.User user = getCurrentUser();
+        if (submission == null && !(user instanceof StudentAffairs)) {
+            throw new ResourceNotFoundException("Submission not found with ID: " + submissionId);
+        }
+        if (submission != null && !fileStorageService.hasAccessToSubmission(submission, user)) {
+            throw new ForbiddenException("You don't have access to this submission");
+        }
+
+        // One extra event tells whether there is a next page
+        List<SubmissionEvent> events = submissionEventService.findTimeline(submissionId, afterEventId, pageSize + 1);
+        if (events.isEmpty() && afterEventId == null && submission == null) {
+            throw new ResourceNotFoundException("Submission not found with ID: " + submissionId);
+        }
+        boolean hasMore = events.size() > pageSize;
+        List<SubmissionEvent> page = hasMore ? events.subList(0, pageSize) : events;
+
+        return SubmissionTimelineResponse.builder()
+                .submissionId(submissionId)
+                .events(page.stream()
+                        .map(event -> SubmissionTimelineResponse.Event.builder()
+                                .eventId(event.getEventId().toString())
+                                .eventType(event.getEventType())
+                                .oldStatus(event.getOldStatus())
+                                .newStatus(event.getNewStatus())
+                                .reason(event.getReason())
+                                .actor(event.getActor())
+                                .actorRole(event.getActorRole())
+                                .occurredAt(event.getOccurredAt())
+                                .build())
+                        .collect(Collectors.toList()))
+                .nextCursor(hasMore ? page.get(page.size() - 1).getEventId().toString() : null)
+                .build();
+    }
+
     @Override
     @Transactional
     public SubmissionResponse updateSubmissionStatus(String submissionId, SubmissionStatus status) {
@@ -158,8 +246,13 @@ public class SubmissionServiceImpl implements SubmissionService {
         Submission submission = submissionRepository.findById(submissionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Submission not found with ID: " + submissionId));
 
+        SubmissionStatus oldStatus = submission.getStatus();
         submission.setStatus(status);
         Submission updatedSubmission = submissionRepository.save(submission);
+        listWorkflowCounterService.recordTransition(updatedSubmission, oldStatus, status);
+        if (oldStatus != status) {
+            submissionEventService.recordTransitions(List.of(submissionId), oldStatus, status, null);
+        }
 
         log.info("Updated submission {} status to: {}", submissionId, status);
 
@@ -198,11 +291,12 @@ public class SubmissionServiceImpl implements SubmissionService {
     public void deleteSubmission(String submissionId) {
         log.info("Deleting submission: {}", submissionId);
 
-        if (!submissionRepository.existsById(submissionId)) {
-            throw new ResourceNotFoundException("Submission not found with ID: " + submissionId);
-        }
+        Submission submission = submissionRepository.findById(submissionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Submission not found with ID: " + submissionId));
 
-        submissionRepository.deleteById(submissionId);
+        listWorkflowCounterService.recordDeleted(submission);
+        submissionEventService.recordDeleted(submission);
+        submissionRepository.delete(submission);
 
         log.info("Deleted submission: {}", submissionId);
     }
@@ -281,12 +375,9 @@ public class SubmissionServiceImpl implements SubmissionService {
 
     private SubmissionResponse updateSubmissionWithWorkflow(String submissionId, SubmissionStatus newStatus,
             String reviewerRole) {
-        Submission submission = submissionRepository.findById(submissionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Submission not found with ID: " + submissionId));
-
-        SubmissionStatus oldStatus = submission.getStatus();
-        submission.setStatus(newStatus);
-        Submission updatedSubmission = submissionRepository.save(submission);
+        SubmissionStatus oldStatus = reviewStepFor(reviewerRole).awaiting();
+        Submission updatedSubmission = transitionSubmission(submissionId, oldStatus, newStatus, null);
+        listWorkflowCounterService.recordTransition(updatedSubmission, oldStatus, newStatus);
 
         handleWorkflowProgression(updatedSubmission, oldStatus, newStatus, reviewerRole);
 
@@ -296,13 +387,9 @@ public class SubmissionServiceImpl implements SubmissionService {
 
     private SubmissionResponse updateSubmissionWithWorkflowAndReason(String submissionId, SubmissionStatus newStatus,
             String reviewerRole, String rejectionReason) {
-        Submission submission = submissionRepository.findById(submissionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Submission not found with ID: " + submissionId));
-
-        SubmissionStatus oldStatus = submission.getStatus();
-        submission.setStatus(newStatus);
-        submission.setContent(rejectionReason);
-        Submission updatedSubmission = submissionRepository.save(submission);
+        SubmissionStatus oldStatus = reviewStepFor(reviewerRole).awaiting();
+        Submission updatedSubmission = transitionSubmission(submissionId, oldStatus, newStatus, rejectionReason);
+        listWorkflowCounterService.recordTransition(updatedSubmission, oldStatus, newStatus);
 
         handleWorkflowProgression(updatedSubmission, oldStatus, newStatus, reviewerRole);
 
@@ -311,6 +398,30 @@ public class SubmissionServiceImpl implements SubmissionService {
         return convertToResponse(updatedSubmission);
     }
 
+    /**
+     * Moves the submission to the new status in one conditional update that only matches
+     * while it is still in the expected status, so of two reviewers deciding at once exactly
+     * one succeeds and the workflow hooks run once. The submission is read after the update.
+     *
+     * @param rejectionReason reason to record with a rejection, or null
+     * @throws TransitionConflictException if the submission is no longer in the expected status
+     */
+    private Submission transitionSubmission(String submissionId, SubmissionStatus expectedStatus,
+            SubmissionStatus newStatus, String rejectionReason) {
+        int updated = rejectionReason == null
+                ? submissionRepository.updateStatus(List.of(submissionId), expectedStatus, newStatus)
+                : submissionRepository.updateStatusAndReason(List.of(submissionId), expectedStatus, newStatus,
+                        rejectionReason);
+        Submission submission = submissionRepository.findById(submissionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Submission not found with ID: " + submissionId));
+        if (updated == 0) {
+            throw new TransitionConflictException("Submission", submissionId, expectedStatus.name(),
+                    submission.getStatus().name());
+        }
+        submissionEventService.recordTransitions(List.of(submissionId), expectedStatus, newStatus, rejectionReason);
+        return submission;
+    }
+
     private void handleWorkflowProgression(Submission submission, SubmissionStatus oldStatus,
             SubmissionStatus newStatus, String reviewerRole) {
         if (isApprovalStatus(newStatus)) {
@@ -320,11 +431,16 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
     }
 
+    private static final int MAX_TIMELINE_PAGE_SIZE = 200;
+
+    private static final List<SubmissionStatus> APPROVAL_STATUSES = List.of(
+            SubmissionStatus.APPROVED_BY_ADVISOR,
+            SubmissionStatus.APPROVED_BY_DEPT,
+            SubmissionStatus.APPROVED_BY_DEAN,
+            SubmissionStatus.FINAL_APPROVED);
+
     private boolean isApprovalStatus(SubmissionStatus status) {
-        return status == SubmissionStatus.APPROVED_BY_ADVISOR ||
-                status == SubmissionStatus.APPROVED_BY_DEPT ||
-                status == SubmissionStatus.APPROVED_BY_DEAN ||
-                status == SubmissionStatus.FINAL_APPROVED;
+        return APPROVAL_STATUSES.contains(status);
     }
 
     private boolean isRejectionStatus(SubmissionStatus status) {
@@ -338,7 +454,6 @@ public class SubmissionServiceImpl implements SubmissionService {
         String nextLevel = determineNextLevel(currentStatus);
         log.info("Forwarding submission {} to {}", submission.getSubmissionId(), nextLevel);
 
-        // Here you could add notification logic, workflow tracking, etc.
         switch (nextLevel) {
             case "DEPARTMENT_SECRETARY":
                 notifyDepartmentSecretary(submission);
@@ -395,111 +510,81 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
     }
 
-    // Notification/workflow methods (implement as needed)
+    // Notification/workflow methods: notifications are queued in the outbox with the status change
     private void notifyDepartmentSecretary(Submission submission) {
         log.info("Notifying department secretary about submission: {}", submission.getSubmissionId());
-        // Implement notification logic
+        workflowNotificationService.submissionsApproved(SubmissionStatus.APPROVED_BY_ADVISOR,
+                List.of(WorkflowNotificationService.NotifiedSubmission.of(submission)));
     }
 
     private void notifyDeanOfficer(Submission submission) {
         log.info("Notifying dean officer about submission: {}", submission.getSubmissionId());
-        // Implement notification logic
+        workflowNotificationService.submissionsApproved(SubmissionStatus.APPROVED_BY_DEPT,
+                List.of(WorkflowNotificationService.NotifiedSubmission.of(submission)));
     }
 
     private void notifyStudentAffairs(Submission submission) {
         log.info("Notifying student affairs about submission: {}", submission.getSubmissionId());
-        // Implement notification logic
+        workflowNotificationService.submissionsApproved(SubmissionStatus.APPROVED_BY_DEAN,
+                List.of(WorkflowNotificationService.NotifiedSubmission.of(submission)));
     }
 
     private void handleFinalApproval(Submission submission) {
         log.info("Submission {} has received final approval", submission.getSubmissionId());
-        // Implement final approval logic (e.g., generate graduation certificate, notify
-        // student, etc.)
+        workflowNotificationService.submissionsApproved(SubmissionStatus.FINAL_APPROVED,
+                List.of(WorkflowNotificationService.NotifiedSubmission.of(submission)));
     }
 
     private void handleRejection(Submission submission, String reviewerRole) {
         log.info("Submission {} rejected by {}", submission.getSubmissionId(), reviewerRole);
-        // Implement rejection notification logic
+        workflowNotificationService.submissionsRejected(
+                List.of(WorkflowNotificationService.NotifiedSubmission.of(submission)), reviewerRole,
+                submission.getRejectionReason());
     }
 
     // Helper methods to get submissions for each role with specific status
     private List<SubmissionResponse> getSubmissionsForAdvisor(String advisorEmpId, SubmissionStatus status) {
         // Implementation similar to existing getSubmissionsByAdvisor but filtered by
         // status
-        Advisor advisor = advisorRepository.findByEmpId(advisorEmpId)
-                .orElseThrow(() -> new ResourceNotFoundException("Advisor not found with empId: " + advisorEmpId));
-
-        AdvisorList advisorList = advisor.getAdvisorList();
-        if (advisorList == null) {
+        OrgGraph.Member advisor = findOrgMember(OrgUnitType.ADVISOR, advisorEmpId, "Advisor");
+        if (advisor.listId() == null) {
             return List.of();
         }
 
-        List<Submission> submissions = submissionRepository.findByAdvisorListIdAndStatus(
-                advisorList.getAdvisorListId(), status);
+        List<Submission> submissions = submissionRepository.findByAdvisorListIdAndStatus(advisor.listId(), status);
         return submissions.stream().map(this::convertToResponse).collect(Collectors.toList());
     }
 
     private List<SubmissionResponse> getSubmissionsForDepartmentSecretary(String deptSecretaryEmpId,
             SubmissionStatus status) {
-        DepartmentSecretary departmentSecretary = departmentSecretaryRepository.findByEmpId(deptSecretaryEmpId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Department Secretary not found with empId: " + deptSecretaryEmpId));
-
-        // Simple approach: Find all advisors under this department secretary and get
-        // their submissions
-        List<Advisor> advisors = advisorRepository.findByDepartmentSecretaryEmpId(deptSecretaryEmpId);
-        List<Submission> allSubmissions = new ArrayList<>();
-
-        log.debug("Department Secretary {} has {} advisors", deptSecretaryEmpId, advisors.size());
-
-        for (Advisor advisor : advisors) {
-            if (advisor.getAdvisorList() != null) {
-                List<Submission> advisorSubmissions = submissionRepository.findByAdvisorListIdAndStatus(
-                        advisor.getAdvisorList().getAdvisorListId(), status);
-                log.debug("Advisor {} (AdvisorList {}) has {} submissions with status {}",
-                        advisor.getEmpId(), advisor.getAdvisorList().getAdvisorListId(),
-                        advisorSubmissions.size(), status);
-                allSubmissions.addAll(advisorSubmissions);
-            }
+        OrgGraph.Member departmentSecretary = findOrgMember(OrgUnitType.DEPARTMENT_SECRETARY, deptSecretaryEmpId,
+                "Department Secretary");
+        if (departmentSecretary.listId() == null) {
+            log.warn("Department Secretary {} does not have a department list", deptSecretaryEmpId);
+            return List.of();
         }
 
-        log.debug("Total submissions found for Department Secretary {}: {}", deptSecretaryEmpId, allSubmissions.size());
-        return allSubmissions.stream().map(this::convertToResponse).collect(Collectors.toList());
+        List<Submission> submissions = submissionRepository.findByDeptListIdAndStatus(
+                departmentSecretary.listId(), status);
+        log.debug("Total submissions found for Department Secretary {}: {}", deptSecretaryEmpId, submissions.size());
+        return submissions.stream().map(this::convertToResponse).collect(Collectors.toList());
     }
 
     private List<SubmissionResponse> getSubmissionsForDeanOfficer(String deanOfficerEmpId, SubmissionStatus status) {
-        DeanOfficer deanOfficer = deanOfficerRepository.findByEmpId(deanOfficerEmpId)
-                .orElseThrow(
-                        () -> new ResourceNotFoundException("Dean Officer not found with empId: " + deanOfficerEmpId));
-
-        // Simple approach: Find all department secretaries under this dean officer,
-        // then their advisors
-        List<DepartmentSecretary> departmentSecretaries = departmentSecretaryRepository
-                .findByDeanOfficerEmpId(deanOfficerEmpId);
-        List<Submission> allSubmissions = new ArrayList<>();
-
-        log.debug("Dean Officer {} has {} department secretaries", deanOfficerEmpId, departmentSecretaries.size());
-
-        for (DepartmentSecretary deptSecretary : departmentSecretaries) {
-            List<Advisor> advisors = advisorRepository.findByDepartmentSecretaryEmpId(deptSecretary.getEmpId());
-            for (Advisor advisor : advisors) {
-                if (advisor.getAdvisorList() != null) {
-                    List<Submission> advisorSubmissions = submissionRepository.findByAdvisorListIdAndStatus(
-                            advisor.getAdvisorList().getAdvisorListId(), status);
-                    allSubmissions.addAll(advisorSubmissions);
-                }
-            }
+        OrgGraph.Member deanOfficer = findOrgMember(OrgUnitType.DEAN_OFFICER, deanOfficerEmpId, "Dean Officer");
+        if (deanOfficer.listId() == null) {
+            log.warn("Dean Officer {} does not have a faculty list", deanOfficerEmpId);
+            return List.of();
         }
 
-        log.debug("Total submissions found for Dean Officer {}: {}", deanOfficerEmpId, allSubmissions.size());
-        return allSubmissions.stream().map(this::convertToResponse).collect(Collectors.toList());
+        List<Submission> submissions = submissionRepository.findByFacultyListIdAndStatus(deanOfficer.listId(), status);
+        log.debug("Total submissions found for Dean Officer {}: {}", deanOfficerEmpId, submissions.size());
+        return submissions.stream().map(this::convertToResponse).collect(Collectors.toList());
     }
 
     private List<SubmissionResponse> getSubmissionsForStudentAffairs(String studentAffairsEmpId,
             SubmissionStatus status) {
-        StudentAffairs studentAffairs = studentAffairsRepository.findByEmpId(studentAffairsEmpId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Student Affairs not found with empId: " + studentAffairsEmpId));
+        findOrgMember(OrgUnitType.STUDENT_AFFAIRS, studentAffairsEmpId, "Student Affairs");
 
         // Student Affairs sees all submissions that have been approved by dean officers
         List<Submission> submissions = submissionRepository.findByStatus(status);
@@ -527,6 +612,7 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .submissionId(submission.getSubmissionId())
                 .submissionDate(submission.getSubmissionDate())
                 .content(submission.getContent())
+                .rejectionReason(submission.getRejectionReason())
                 .status(submission.getStatus())
                 .studentNumber(student.getStudentNumber())
                 .studentName(studentName)
@@ -608,6 +694,177 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
     }
 
+    @Override
+    @Transactional
+    public BulkDecisionResponse applyBulkDecision(BulkDecisionRequest request) {
+        String userRole = getCurrentUserRole();
+        ReviewStep step = reviewStepFor(userRole);
+        String userEmpId = getCurrentUserEmpId();
+        OrgGraph.Member reviewer = findOrgMember(step.reviewerType(), userEmpId, step.roleName());
+
+        List<BulkDecisionRequest.Item> items = request.getItems();
+        log.info("User with role {} and empId {} deciding on {} submissions", userRole, userEmpId, items.size());
+
+        Set<String> submissionIds = items.stream()
+                .map(BulkDecisionRequest.Item::getSubmissionId)
+                .collect(Collectors.toSet());
+        Map<String, SubmissionRepository.DecisionKeys> keysById = submissionRepository
+                .findDecisionKeysByIdIn(submissionIds).stream()
+                .collect(Collectors.toMap(SubmissionRepository.DecisionKeys::getSubmissionId, Function.identity()));
+
+        List<SubmissionRepository.DecisionKeys> approved = new ArrayList<>();
+        // The reason is written with the status, so rejections are grouped by it; null keeps the content
+        Map<String, List<SubmissionRepository.DecisionKeys>> rejectedByReason = new HashMap<>();
+        List<BulkDecisionResponse.ItemResult> results = new ArrayList<>(items.size());
+        Set<String> seen = new HashSet<>();
+        for (BulkDecisionRequest.Item item : items) {
+            String submissionId = item.getSubmissionId();
+            SubmissionRepository.DecisionKeys keys = keysById.get(submissionId);
+            if (!seen.add(submissionId)) {
+                results.add(itemResult(submissionId, BulkDecisionResponse.Outcome.DUPLICATE, null,
+                        "Submission appears more than once in the request"));
+            } else if (keys == null) {
+                results.add(itemResult(submissionId, BulkDecisionResponse.Outcome.NOT_FOUND, null,
+                        "Submission not found"));
+            } else if (!isInReviewersList(step, reviewer, keys)) {
+                results.add(itemResult(submissionId, BulkDecisionResponse.Outcome.NOT_OWNED, null,
+                        "Submission is not in your list"));
+            } else if (keys.getStatus() != step.awaiting()) {
+                results.add(itemResult(submissionId, BulkDecisionResponse.Outcome.INVALID_STATUS, keys.getStatus(),
+                        "Submission is " + keys.getStatus() + ", not " + step.awaiting()));
+            } else if (item.getDecision() == BulkDecisionRequest.Decision.APPROVE) {
+                approved.add(keys);
+                results.add(itemResult(submissionId, BulkDecisionResponse.Outcome.APPROVED, step.approved(), null));
+            } else {
+                String reason = item.getReason() != null && !item.getReason().trim().isEmpty()
+                        ? item.getReason()
+                        : null;
+                rejectedByReason.computeIfAbsent(reason, key -> new ArrayList<>()).add(keys);
+                results.add(itemResult(submissionId, BulkDecisionResponse.Outcome.REJECTED, step.rejected(), null));
+            }
+        }
+
+        writeBulkDecision(approved, step.awaiting(), step.approved(), null);
+        rejectedByReason.forEach((reason, rejected) ->
+                writeBulkDecision(rejected, step.awaiting(), step.rejected(), reason));
+
+        Map<SubmissionStatus, List<SubmissionRepository.DecisionKeys>> decidedByStatus =
+                new EnumMap<>(SubmissionStatus.class);
+        decidedByStatus.put(step.approved(), approved);
+        decidedByStatus.put(step.rejected(), rejectedByReason.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        listWorkflowCounterService.recordTransitions(decidedByStatus);
+
+        int rejectedCount = decidedByStatus.get(step.rejected()).size();
+        handleBulkWorkflowProgression(step, approved, rejectedByReason, userRole);
+
+        return BulkDecisionResponse.builder()
+                .approvedCount(approved.size())
+                .rejectedCount(rejectedCount)
+                .skippedCount(items.size() - approved.size() - rejectedCount)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * The submissions a reviewer role decides on and the statuses it moves them to
+     */
+    private record ReviewStep(OrgUnitType reviewerType, String roleName, SubmissionStatus awaiting,
+            SubmissionStatus approved, SubmissionStatus rejected) {
+    }
+
+    private static ReviewStep reviewStepFor(String userRole) {
+        switch (userRole) {
+            case "ADVISOR":
+                return new ReviewStep(OrgUnitType.ADVISOR, "Advisor", SubmissionStatus.PENDING,
+                        SubmissionStatus.APPROVED_BY_ADVISOR, SubmissionStatus.REJECTED_BY_ADVISOR);
+            case "DEPARTMENT_SECRETARY":
+                return new ReviewStep(OrgUnitType.DEPARTMENT_SECRETARY, "Department Secretary",
+                        SubmissionStatus.APPROVED_BY_ADVISOR, SubmissionStatus.APPROVED_BY_DEPT,
+                        SubmissionStatus.REJECTED_BY_DEPT);
+            case "DEAN_OFFICER":
+                return new ReviewStep(OrgUnitType.DEAN_OFFICER, "Dean Officer", SubmissionStatus.APPROVED_BY_DEPT,
+                        SubmissionStatus.APPROVED_BY_DEAN, SubmissionStatus.REJECTED_BY_DEAN);
+            case "STUDENT_AFFAIRS":
+                return new ReviewStep(OrgUnitType.STUDENT_AFFAIRS, "Student Affairs",
+                        SubmissionStatus.APPROVED_BY_DEAN, SubmissionStatus.FINAL_APPROVED,
+                        SubmissionStatus.FINAL_REJECTED);
+            default:
+                throw new IllegalArgumentException("Role " + userRole + " is not authorized to decide on submissions");
+        }
+    }
+
+    /**
+     * Whether the submission is in the list the reviewer owns; student affairs review all of them
+     */
+    private static boolean isInReviewersList(ReviewStep step, OrgGraph.Member reviewer,
+            SubmissionRepository.DecisionKeys keys) {
+        switch (step.reviewerType()) {
+            case ADVISOR:
+                return reviewer.listId() != null && reviewer.listId().equals(keys.getAdvisorListId());
+            case DEPARTMENT_SECRETARY:
+                return reviewer.listId() != null && reviewer.listId().equals(keys.getDeptListId());
+            case DEAN_OFFICER:
+                return reviewer.listId() != null && reviewer.listId().equals(keys.getFacultyListId());
+            case STUDENT_AFFAIRS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Writes one decision for a set of submissions in one update. The update only matches
+     * submissions still in the status they were read in; if another reviewer moved any of
+     * them in the meantime the whole batch is rolled back rather than half applied.
+     */
+    private void writeBulkDecision(List<SubmissionRepository.DecisionKeys> submissions, SubmissionStatus from,
+            SubmissionStatus to, String reason) {
+        if (submissions.isEmpty()) {
+            return;
+        }
+        List<String> submissionIds = submissions.stream()
+                .map(SubmissionRepository.DecisionKeys::getSubmissionId)
+                .collect(Collectors.toList());
+        int updated = reason == null
+                ? submissionRepository.updateStatus(submissionIds, from, to)
+                : submissionRepository.updateStatusAndReason(submissionIds, from, to, reason);
+        if (updated != submissionIds.size()) {
+            throw new TransitionConflictException("Submission", null, from.name(), null,
+                    (submissionIds.size() - updated) + " of " + submissionIds.size()
+                            + " submissions changed status while being decided, nothing was applied");
+        }
+        submissionEventService.recordTransitions(submissionIds, from, to, reason);
+    }
+
+    private void handleBulkWorkflowProgression(ReviewStep step, List<SubmissionRepository.DecisionKeys> approved,
+            Map<String, List<SubmissionRepository.DecisionKeys>> rejectedByReason, String reviewerRole) {
+        // Once per batch, so a reviewer deciding on hundreds of submissions sends each recipient one digest
+        if (!approved.isEmpty()) {
+            log.info("Forwarding {} submissions to {}", approved.size(), determineNextLevel(step.approved()));
+            workflowNotificationService.submissionsApproved(step.approved(), approved.stream()
+                    .map(WorkflowNotificationService.NotifiedSubmission::of)
+                    .collect(Collectors.toList()));
+        }
+        rejectedByReason.forEach((reason, rejected) -> {
+            log.info("{} submissions rejected by {}", rejected.size(), reviewerRole);
+            workflowNotificationService.submissionsRejected(rejected.stream()
+                    .map(WorkflowNotificationService.NotifiedSubmission::of)
+                    .collect(Collectors.toList()), reviewerRole, reason);
+        });
+    }
+
+    private static BulkDecisionResponse.ItemResult itemResult(String submissionId,
+            BulkDecisionResponse.Outcome outcome, SubmissionStatus status, String message) {
+        return BulkDecisionResponse.ItemResult.builder()
+                .submissionId(submissionId)
+                .outcome(outcome)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
     @Override
     public List<SubmissionResponse> getMySubmissions() {
         String userRole = getCurrentUserRole();
@@ -737,6 +994,12 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
     }
 
+    private com.agms.backend.model.users.User getCurrentUser() {
+        String userEmail = getCurrentUserEmail();
+        return userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
+    }
+
     private String getCurrentUserEmail() {
         org.springframework.security.core.Authentication authentication = org.springframework.security.core.context.SecurityContextHolder
                 .getContext().getAuthentication();
@@ -749,8 +1012,7 @@ public class SubmissionServiceImpl implements SubmissionService {
     }
 
     @Override
-    @Transactional
-    public List<SubmissionResponse> startRegularGraduation(String term) {
+    public RegularGraduationTrackResponse startRegularGraduation(String term) {
         log.info("Starting regular graduation process for term: {}", term);
 
         // Verify that the current user is Student Affairs
@@ -759,103 +1021,49 @@ public class SubmissionServiceImpl implements SubmissionService {
             throw new IllegalStateException("Only Student Affairs can start regular graduation process");
         }
 
-        // Check if regular graduation has already been started for this term
-        if (graduationRepository.existsByTermAndStatus(term, "IN_PROGRESS")) {
+        // Make sure UBYS can be reached before anything is written; if it cannot, the
+        // caller gets a 503 instead of a graduation started with nobody eligible
+        ubysService.getSnapshot();
+
+        // The hierarchy and the job are committed together before any node starts on it, so
+        // a crash at any point leaves either nothing or a job the cluster picks up
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    regularGraduationJobService.resumeFailedJob(term).orElseGet(() -> {
+                        // Check if regular graduation has already been started for this term
+                        if (graduationRepository.existsByTermAndStatus(term, "IN_PROGRESS")) {
+                            throw new IllegalStateException(
+                                    "Regular graduation process has already been started for term: " + term);
+                        }
+
+                        // Create graduation hierarchy if it doesn't exist for this term
+                        ensureGraduationHierarchyExists(term);
+                        return regularGraduationJobService.createJob(term);
+                    }));
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            // Another request started the same term concurrently
             throw new IllegalStateException("Regular graduation process has already been started for term: " + term);
         }
 
-        // Create graduation hierarchy if it doesn't exist for this term
-        // This is done in a separate method to ensure it's completed before processing students
-        ensureGraduationHierarchyExists(term);
-        
-        // Force flush to ensure graduation hierarchy is persisted before processing students
-        graduationRepository.flush();
-
-        // Get all students from the database
-        List<Student> allStudents = studentRepository.findAll();
-        List<SubmissionResponse> createdSubmissions = new ArrayList<>();
-        int eligibleCount = 0;
-        int skippedCount = 0;
+        // Start on it right away instead of waiting for the next poll
+        regularGraduationJobService.processJobs();
+        return trackRegularGraduation(term);
+    }
 
-        for (Student student : allStudents) {
-            try {
-                // Get the student with academic data from UBYS
-                Student enhancedStudent = ubysService.getStudentWithTransientAttributes(student.getStudentNumber());
-                
-                // Check if student is eligible for graduation
-                if (enhancedStudent.isEligibleForGraduation()) {
-                    // Check if student already has a pending submission (skip if they do)
-                    if (hasActivePendingSubmission(student.getStudentNumber())) {
-                        log.debug("Skipping student {} - already has active pending submission", student.getStudentNumber());
-                        skippedCount++;
-                        continue;
-                    }
-
-                    // Verify the student has an advisor
-                    if (student.getAdvisor() == null) {
-                        log.warn("Skipping student {} - no assigned advisor", student.getStudentNumber());
-                        skippedCount++;
-                        continue;
-                    }
-
-                    // Verify the advisor has an advisor list
-                    AdvisorList advisorList = student.getAdvisor().getAdvisorList();
-                    if (advisorList == null) {
-                        log.warn("Skipping student {} - advisor {} has no advisor list", 
-                            student.getStudentNumber(), student.getAdvisor().getEmpId());
-                        skippedCount++;
-                        continue;
-                    }
-
-                    log.debug("Creating submission for student {} assigned to advisor {} with advisor list {}", 
-                        student.getStudentNumber(), student.getAdvisor().getEmpId(), advisorList.getAdvisorListId());
-
-                    // Create the submission for this eligible student
-                    String submissionId = generateSubmissionId();
-                    String submissionContent = String.format(
-                        "Regular graduation application for %s term. " +
-                        "GPA: %.2f, Total Credits: %d, Curriculum Completed: %s",
-                        term, 
-                        enhancedStudent.getGpa(),
-                        enhancedStudent.getTotalCredit(),
-                        enhancedStudent.isCurriculumCompleted() ? "Yes" : "No"
-                    );
-
-                    Submission submission = Submission.builder()
-                            .submissionId(submissionId)
-                            .submissionDate(new Timestamp(System.currentTimeMillis()))
-                            .content(submissionContent)
-                            .status(SubmissionStatus.PENDING)
-                            .student(student)
-                            .advisorList(advisorList)
-                            .build();
-
-                    // Save the submission
-                    Submission savedSubmission = submissionRepository.save(submission);
-                    createdSubmissions.add(convertToResponse(savedSubmission));
-                    eligibleCount++;
-
-                    log.debug("Created regular graduation submission for student: {} (GPA: {}, Credits: {})",
-                            student.getStudentNumber(), enhancedStudent.getGpa(), enhancedStudent.getTotalCredit());
-
-                } else {
-                    log.debug("Student {} is not eligible for graduation", student.getStudentNumber());
-                }
+    @Override
+    public Stream<RegularGraduationPreviewEntry> previewRegularGraduation(String term) {
+        log.info("Previewing regular graduation process for term: {}", term);
 
-            } catch (Exception e) {
-                log.warn("Error processing student {} for regular graduation: {}", 
-                    student.getStudentNumber(), e.getMessage());
-                skippedCount++;
-            }
+        // Verify that the current user is Student Affairs
+        String userRole = getCurrentUserRole();
+        if (!"STUDENT_AFFAIRS".equals(userRole)) {
+            throw new IllegalStateException("Only Student Affairs can preview regular graduation process");
         }
 
-        // Auto-finalize advisor lists that have no submissions
-        autoFinalizeEmptyAdvisorLists();
+        // Fail before the response starts rather than halfway through it
+        ubysService.getSnapshot();
 
-        log.info("Regular graduation process completed for term: {}. Created {} submissions, skipped {} students",
-            term, eligibleCount, skippedCount);
-
-        return createdSubmissions;
+        return regularGraduationJobService.preview(term);
     }
 
     @Override
@@ -866,7 +1074,7 @@ public class SubmissionServiceImpl implements SubmissionService {
         
         if (graduationOpt.isPresent()) {
             com.agms.backend.model.Graduation graduation = graduationOpt.get();
-            return RegularGraduationTrackResponse.builder()
+            RegularGraduationTrackResponse response = RegularGraduationTrackResponse.builder()
                     .isStarted(true)
                     .term(graduation.getTerm())
                     .status(graduation.getStatus())
@@ -874,6 +1082,8 @@ public class SubmissionServiceImpl implements SubmissionService {
                     .requestDate(graduation.getRequestDate())
                     .studentAffairsEmpId(graduation.getStudentAffairs().getEmpId())
                     .build();
+            regularGraduationJobService.applyProgress(term, response);
+            return response;
         } else {
             return RegularGraduationTrackResponse.builder()
                     .isStarted(false)
@@ -904,200 +1114,19 @@ public class SubmissionServiceImpl implements SubmissionService {
     }
 
     /**
-     * Create graduation hierarchy for a specific term if it doesn't exist
+     * Create graduation hierarchy for a specific term. A concurrent start of the same term
+     * surfaces as a DataIntegrityViolationException on the graduation's unique term.
      */
     private void createGraduationHierarchyForTerm(String term) {
         log.debug("Creating graduation hierarchy for term: {}", term);
 
-        // Check if graduation already exists for this term (double-check to prevent race conditions)
-        Optional<com.agms.backend.model.Graduation> existingGraduation = graduationRepository.findByTerm(term);
-        if (existingGraduation.isPresent()) {
-            log.debug("Graduation hierarchy already exists for term: {}", term);
-            return;
-        }
-
-        // Double-check with the specific status to be extra safe
-        if (graduationRepository.existsByTermAndStatus(term, "IN_PROGRESS")) {
-            log.debug("Graduation with IN_PROGRESS status already exists for term: {}", term);
-            return;
-        }
-
         // Get current Student Affairs user
         String currentUserEmpId = getCurrentUserEmpId();
         StudentAffairs studentAffairs = studentAffairsRepository.findByEmpId(currentUserEmpId)
-                .orElseThrow(() -> new ResourceNotFoundException("Student Affairs not found with empId: " + currentUserEmpId));
-
-        // Create graduation object with try-catch for constraint violations
-        String graduationId = "GRAD_" + term.replace(" ", "_").replace("-", "_").toUpperCase();
-        com.agms.backend.model.Graduation graduation;
-        
-        try {
-            graduation = com.agms.backend.model.Graduation.builder()
-                    .graduationId(graduationId)
-                    .requestDate(new Timestamp(System.currentTimeMillis()))
-                    .term(term)
-                    .status("IN_PROGRESS")
-                    .studentAffairs(studentAffairs)
-                    .build();
-            graduation = graduationRepository.save(graduation);
-            
-            log.info("Created graduation object with ID: {} for term: {}", graduationId, term);
-        } catch (org.springframework.dao.DataIntegrityViolationException e) {
-            // If graduation already exists (race condition), find and use existing
-            log.warn("Graduation object already exists for term {}, using existing one", term);
-            Optional<com.agms.backend.model.Graduation> existingGrad = graduationRepository.findByTerm(term);
-            if (existingGrad.isPresent()) {
-                log.info("Using existing graduation object for term: {}", term);
-                return; // Exit early since hierarchy already exists
-            } else {
-                throw new RuntimeException("Failed to create or find graduation for term: " + term, e);
-            }
-        } catch (Exception e) {
-            log.error("Unexpected error creating graduation for term {}: {}", term, e.getMessage());
-            throw e;
-        }
-
-        // Check if graduation list already exists (from DataInitializer)
-        List<com.agms.backend.model.GraduationList> existingGraduationLists = graduationListRepository.findAll();
-        com.agms.backend.model.GraduationList graduationList = null;
-        
-        if (!existingGraduationLists.isEmpty()) {
-            // Reuse existing graduation list and update its graduation reference
-            graduationList = existingGraduationLists.get(0);
-            graduationList.setGraduation(graduation);
-            graduationList = graduationListRepository.save(graduationList);
-            log.info("Reusing existing graduation list: {} for term: {}", graduationList.getListId(), term);
-        } else {
-            // Create new graduation list
-            String graduationListId = "GL_" + graduationId;
-            graduationList = com.agms.backend.model.GraduationList.builder()
-                    .listId(graduationListId)
-                    .creationDate(new Timestamp(System.currentTimeMillis()))
-                    .graduation(graduation)
-                    .build();
-            graduationList = graduationListRepository.save(graduationList);
-            log.info("Created new graduation list: {} for term: {}", graduationListId, term);
-        }
-
-        // Check if faculty lists already exist (from DataInitializer)
-        List<FacultyList> existingFacultyLists = facultyListRepository.findAll();
-        
-        if (!existingFacultyLists.isEmpty()) {
-            // Reuse existing faculty lists and update their graduation list reference
-            for (FacultyList existingFacultyList : existingFacultyLists) {
-                existingFacultyList.setGraduationList(graduationList);
-                facultyListRepository.save(existingFacultyList);
-                log.info("Reusing existing faculty list: {} for faculty: {}", 
-                    existingFacultyList.getFacultyListId(), existingFacultyList.getFaculty());
-            }
-        } else {
-            // Create new faculty lists for each dean officer
-            List<DeanOfficer> deanOfficers = deanOfficerRepository.findAll();
-            for (DeanOfficer deanOfficer : deanOfficers) {
-                String facultyListId = "FL_" + graduationId + "_" + deanOfficer.getEmpId();
-                FacultyList facultyList = FacultyList.builder()
-                        .facultyListId(facultyListId)
-                        .creationDate(new Timestamp(System.currentTimeMillis()))
-                        .faculty(deanOfficer.getFaculty())
-                        .deanOfficer(deanOfficer)
-                        .graduationList(graduationList)
-                        .build();
-                facultyList = facultyListRepository.save(facultyList);
-
-                // Create department lists for each department secretary under this dean officer
-                List<DepartmentSecretary> departmentSecretaries = departmentSecretaryRepository.findByDeanOfficerEmpId(deanOfficer.getEmpId());
-                for (DepartmentSecretary departmentSecretary : departmentSecretaries) {
-                    String departmentListId = "DL_" + graduationId + "_" + departmentSecretary.getEmpId();
-                    DepartmentList departmentList = DepartmentList.builder()
-                            .deptListId(departmentListId)
-                            .creationDate(new Timestamp(System.currentTimeMillis()))
-                            .department(departmentSecretary.getDepartment())
-                            .secretary(departmentSecretary)
-                            .facultyList(facultyList)
-                            .build();
-                    departmentList = departmentListRepository.save(departmentList);
-
-                    // Create advisor lists for each advisor under this department secretary
-                    List<Advisor> advisors = advisorRepository.findByDepartmentSecretaryEmpId(departmentSecretary.getEmpId());
-                    for (Advisor advisor : advisors) {
-                        // Check if advisor already has an advisor list
-                        if (advisor.getAdvisorList() == null) {
-                            // Check if there's an existing advisor list for this advisor (from DataInitializer)
-                            Optional<AdvisorList> existingAdvisorListOpt = advisorListRepository.findByAdvisorEmpId(advisor.getEmpId());
-                            
-                            if (existingAdvisorListOpt.isPresent()) {
-                                // Reuse existing advisor list and update its department list reference
-                                AdvisorList existingAdvisorList = existingAdvisorListOpt.get();
-                                existingAdvisorList.setDepartmentList(departmentList);
-                                existingAdvisorList = advisorListRepository.save(existingAdvisorList);
-                                
-                                // Set the bidirectional relationship
-                                advisor.setAdvisorList(existingAdvisorList);
-                                advisorRepository.save(advisor);
-                                
-                                log.info("Reusing existing advisor list: {} for advisor: {}", 
-                                    existingAdvisorList.getAdvisorListId(), advisor.getEmpId());
-                            } else {
-                                // Create new advisor list
-                                String advisorListId = "AL_" + graduationId + "_" + advisor.getEmpId();
-                                AdvisorList advisorList = AdvisorList.builder()
-                                        .advisorListId(advisorListId)
-                                        .creationDate(new Timestamp(System.currentTimeMillis()))
-                                        .advisor(advisor)
-                                        .departmentList(departmentList)
-                                        .build();
-                                advisorList = advisorListRepository.save(advisorList);
-
-                                // Update advisor with the new advisor list
-                                advisor.setAdvisorList(advisorList);
-                                advisorRepository.save(advisor);
-                                
-                                log.info("Created new advisor list: {} for advisor: {}", advisorListId, advisor.getEmpId());
-                            }
-                        }
-                    }
-                }
-            }
-        }
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Student Affairs not found with empId: " + currentUserEmpId));
 
-        log.info("Created graduation hierarchy for term: {} with graduation ID: {}", term, graduationId);
-    }
-
-    /**
-     * Automatically finalize advisor lists that have no submissions assigned to them.
-     * This prevents the workflow from being blocked by advisors who have no students to review.
-     */
-    private void autoFinalizeEmptyAdvisorLists() {
-        log.debug("Checking for empty advisor lists to auto-finalize...");
-        
-        List<AdvisorList> allAdvisorLists = advisorListRepository.findAll();
-        int autoFinalizedCount = 0;
-        
-        for (AdvisorList advisorList : allAdvisorLists) {
-            // Skip if already finalized
-            if (advisorList.getIsFinalized()) {
-                continue;
-            }
-            
-            // Check if this advisor list has any submissions
-            List<Submission> submissions = submissionRepository.findByAdvisorListId(advisorList.getAdvisorListId());
-            
-            if (submissions.isEmpty()) {
-                // Auto-finalize empty advisor list
-                int updated = advisorListRepository.updateFinalizationStatus(advisorList.getAdvisorListId(), true);
-                if (updated > 0) {
-                    autoFinalizedCount++;
-                    log.info("Auto-finalized empty advisor list: {} (advisor: {})", 
-                        advisorList.getAdvisorListId(), advisorList.getAdvisor().getEmpId());
-                }
-            }
-        }
-        
-        if (autoFinalizedCount > 0) {
-            log.info("Auto-finalized {} empty advisor lists", autoFinalizedCount);
-        } else {
-            log.debug("No empty advisor lists found to auto-finalize");
-        }
+        graduationHierarchyBuilder.build(term, studentAffairs);
     }
 
     @Override
@@ -1158,35 +1187,28 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         log.debug("Checking prerequisite lists finalization for user with role {} and empId {}", userRole, userEmpId);
 
+        // Readiness is kept current by the finalization cascade, so polling costs no query
         switch (userRole) {
             case "DEPARTMENT_SECRETARY":
                 // Check if all advisor lists under this department are finalized
-                DepartmentList departmentList = departmentListRepository.findBySecretaryEmpId(userEmpId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Department list not found for secretary: " + userEmpId));
-                
-                List<AdvisorList> advisorLists = advisorListRepository.findByDepartmentListDeptListId(
-                    departmentList.getDeptListId());
-                
-                return !advisorLists.isEmpty() && advisorLists.stream()
-                    .allMatch(AdvisorList::getIsFinalized);
+                OrgGraph.Member secretary = findOrgMember(OrgUnitType.DEPARTMENT_SECRETARY, userEmpId,
+                        "Department Secretary");
+                if (secretary.listId() == null) {
+                    throw new ResourceNotFoundException("Department list not found for secretary: " + userEmpId);
+                }
+                return finalizationCascadeService.isReady(secretary.listId());
 
             case "DEAN_OFFICER":
                 // Check if all department lists under this faculty are finalized
-                FacultyList facultyList = facultyListRepository.findByDeanOfficerEmpId(userEmpId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Faculty list not found for dean officer: " + userEmpId));
-                
-                List<DepartmentList> departmentLists = departmentListRepository.findByFacultyListFacultyListId(
-                    facultyList.getFacultyListId());
-                
-                return !departmentLists.isEmpty() && departmentLists.stream()
-                    .allMatch(DepartmentList::getIsFinalized);
+                OrgGraph.Member deanOfficer = findOrgMember(OrgUnitType.DEAN_OFFICER, userEmpId, "Dean Officer");
+                if (deanOfficer.listId() == null) {
+                    throw new ResourceNotFoundException("Faculty list not found for dean officer: " + userEmpId);
+                }
+                return finalizationCascadeService.isReady(deanOfficer.listId());
 
             case "STUDENT_AFFAIRS":
                 // Check if all faculty lists are finalized
-                List<FacultyList> facultyLists = facultyListRepository.findAll();
-                
-                return !facultyLists.isEmpty() && facultyLists.stream()
-                    .allMatch(FacultyList::getIsFinalized);
+                return finalizationCascadeService.isGraduationReady();
 
             case "ADVISOR":
                 // Advisors don't have prerequisite lists
@@ -1203,32 +1225,40 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         log.debug("Attempting to finalize advisor list {} for advisor {}", advisorList.getAdvisorListId(), advisorEmpId);
 
-        // Get all submissions assigned to this advisor list (regardless of status)
-        List<Submission> allSubmissions = submissionRepository.findByAdvisorListId(advisorList.getAdvisorListId());
-        log.debug("Found {} total submissions for advisor list {}", allSubmissions.size(), advisorList.getAdvisorListId());
-        
         // Check if all submissions in this advisor list are processed (approved or rejected)
-        List<Submission> pendingSubmissions = submissionRepository.findByAdvisorListIdAndStatus(
-            advisorList.getAdvisorListId(), SubmissionStatus.PENDING);
-        log.debug("Found {} pending submissions for advisor list {}", pendingSubmissions.size(), advisorList.getAdvisorListId());
-
-        if (!pendingSubmissions.isEmpty()) {
+        ListWorkflowCounter counter = findCounterForUpdate(advisorList.getAdvisorListId());
+        long pendingCount = counter.getAwaitingCount();
+        if (pendingCount > 0) {
             log.warn("Cannot finalize advisor list {} - {} pending submissions remain", 
-                advisorList.getAdvisorListId(), pendingSubmissions.size());
+                advisorList.getAdvisorListId(), pendingCount);
             return false;
         }
 
         // If advisor has no submissions at all, they can finalize (nothing to process)
-        if (allSubmissions.isEmpty()) {
+        long totalCount = counter.getTotalCount();
+        if (totalCount == 0) {
             log.info("Advisor list {} has no submissions - allowing finalization", advisorList.getAdvisorListId());
         } else {
             log.info("Advisor list {} has {} total submissions, all processed - allowing finalization", 
-                advisorList.getAdvisorListId(), allSubmissions.size());
+                advisorList.getAdvisorListId(), totalCount);
         }
 
-        int updated = advisorListRepository.updateFinalizationStatus(advisorList.getAdvisorListId(), true);
+        // Re-checked in the update itself in case a submission arrived since the count; conditional
+        // on the list being open, so a repeated or concurrent finalization does not cascade twice
+        int updated = advisorListRepository.finalizeIfNoPendingSubmissions(advisorList.getAdvisorListId());
+        if (updated == 0) {
+            if (advisorListRepository.isFinalized(advisorList.getAdvisorListId())) {
+                throw new TransitionConflictException("AdvisorList", advisorList.getAdvisorListId(), "OPEN",
+                        "FINALIZED");
+            }
+            log.warn("Cannot finalize advisor list {} - a pending submission was added",
+                advisorList.getAdvisorListId());
+            return false;
+        }
+        listWorkflowCounterService.recordChildFinalized(advisorList.getDepartmentList().getDeptListId());
+        eventPublisher.publishEvent(ListFinalizedEvent.of(OrgUnitType.ADVISOR_LIST, advisorList.getAdvisorListId()));
         log.info("Finalized advisor list {} for advisor {}", advisorList.getAdvisorListId(), advisorEmpId);
-        return updated > 0;
+        return true;
     }
 
     private boolean finalizeDepartmentList(String secretaryEmpId) {
@@ -1236,23 +1266,29 @@ public class SubmissionServiceImpl implements SubmissionService {
             .orElseThrow(() -> new ResourceNotFoundException("Department list not found for secretary: " + secretaryEmpId));
 
         // Check if all prerequisite advisor lists are finalized
-        if (!arePrerequisiteListsFinalized()) {
+        ListWorkflowCounter counter = findCounterForUpdate(departmentList.getDeptListId());
+        if (!counter.isAllChildrenFinalized()) {
             log.warn("Cannot finalize department list {} - not all advisor lists are finalized", 
                 departmentList.getDeptListId());
             return false;
         }
 
         // Check if all submissions in this department are processed
-        List<SubmissionResponse> pendingSubmissions = getSubmissionsForDepartmentSecretary(secretaryEmpId, SubmissionStatus.APPROVED_BY_ADVISOR);
-        if (!pendingSubmissions.isEmpty()) {
+        if (counter.getAwaitingCount() > 0) {
             log.warn("Cannot finalize department list {} - {} pending submissions remain", 
-                departmentList.getDeptListId(), pendingSubmissions.size());
+                departmentList.getDeptListId(), counter.getAwaitingCount());
             return false;
         }
 
-        int updated = departmentListRepository.updateFinalizationStatus(departmentList.getDeptListId(), true);
+        // Conditional, so a concurrent finalization does not cascade twice
+        if (departmentListRepository.finalizeIfOpen(departmentList.getDeptListId()) == 0) {
+            throw new TransitionConflictException("DepartmentList", departmentList.getDeptListId(), "OPEN",
+                    "FINALIZED");
+        }
+        listWorkflowCounterService.recordChildFinalized(departmentList.getFacultyList().getFacultyListId());
+        eventPublisher.publishEvent(ListFinalizedEvent.of(OrgUnitType.DEPARTMENT_LIST, departmentList.getDeptListId()));
         log.info("Finalized department list {} for secretary {}", departmentList.getDeptListId(), secretaryEmpId);
-        return updated > 0;
+        return true;
     }
 
     private boolean finalizeFacultyList(String deanOfficerEmpId) {
@@ -1260,56 +1296,63 @@ public class SubmissionServiceImpl implements SubmissionService {
             .orElseThrow(() -> new ResourceNotFoundException("Faculty list not found for dean officer: " + deanOfficerEmpId));
 
         // Check if all prerequisite department lists are finalized
-        if (!arePrerequisiteListsFinalized()) {
+        ListWorkflowCounter counter = findCounterForUpdate(facultyList.getFacultyListId());
+        if (!counter.isAllChildrenFinalized()) {
             log.warn("Cannot finalize faculty list {} - not all department lists are finalized", 
                 facultyList.getFacultyListId());
             return false;
         }
 
         // Check if all submissions in this faculty are processed
-        List<SubmissionResponse> pendingSubmissions = getSubmissionsForDeanOfficer(deanOfficerEmpId, SubmissionStatus.APPROVED_BY_DEPT);
-        if (!pendingSubmissions.isEmpty()) {
+        if (counter.getAwaitingCount() > 0) {
             log.warn("Cannot finalize faculty list {} - {} pending submissions remain", 
-                facultyList.getFacultyListId(), pendingSubmissions.size());
+                facultyList.getFacultyListId(), counter.getAwaitingCount());
             return false;
         }
 
-        int updated = facultyListRepository.updateFinalizationStatus(facultyList.getFacultyListId(), true);
+        if (facultyListRepository.finalizeIfOpen(facultyList.getFacultyListId()) == 0) {
+            throw new TransitionConflictException("FacultyList", facultyList.getFacultyListId(), "OPEN",
+                    "FINALIZED");
+        }
+        listWorkflowCounterService.recordChildFinalized(facultyList.getGraduationList().getListId());
+        eventPublisher.publishEvent(ListFinalizedEvent.of(OrgUnitType.FACULTY_LIST, facultyList.getFacultyListId()));
         log.info("Finalized faculty list {} for dean officer {}", facultyList.getFacultyListId(), deanOfficerEmpId);
-        return updated > 0;
+        return true;
     }
 
     private boolean finalizeGraduationList(String studentAffairsEmpId) {
+        // Find the graduation list to finalize
+        List<com.agms.backend.model.GraduationList> graduationLists = graduationListRepository.findAll();
+        if (graduationLists.isEmpty()) {
+            log.warn("No graduation list found to finalize");
+            return false;
+        }
+
+        com.agms.backend.model.GraduationList graduationList = graduationLists.get(0);
+
         // Check if all prerequisite faculty lists are finalized
-        if (!arePrerequisiteListsFinalized()) {
+        ListWorkflowCounter counter = findCounterForUpdate(graduationList.getListId());
+        if (!counter.isAllChildrenFinalized()) {
             log.warn("Cannot finalize graduation list - not all faculty lists are finalized");
             return false;
         }
 
         // Check if all submissions are processed
-        List<SubmissionResponse> pendingSubmissions = getSubmissionsForStudentAffairs(studentAffairsEmpId, SubmissionStatus.APPROVED_BY_DEAN);
-        if (!pendingSubmissions.isEmpty()) {
-            log.warn("Cannot finalize graduation list - {} pending submissions remain", pendingSubmissions.size());
+        if (counter.getAwaitingCount() > 0) {
+            log.warn("Cannot finalize graduation list - {} pending submissions remain", counter.getAwaitingCount());
             return false;
         }
 
-        // Find the graduation list to finalize
-        List<com.agms.backend.model.GraduationList> graduationLists = graduationListRepository.findAll();
-        if (graduationLists.isEmpty()) {
-            log.warn("No graduation list found to finalize");
-            return false;
+        // Conditional, so the graduation record is created once even if finalized twice at once
+        if (graduationListRepository.finalizeIfOpen(graduationList.getListId()) == 0) {
+            throw new TransitionConflictException("GraduationList", graduationList.getListId(), "OPEN",
+                    "FINALIZED");
         }
 
-        com.agms.backend.model.GraduationList graduationList = graduationLists.get(0);
-        int updated = graduationListRepository.updateFinalizationStatus(graduationList.getListId(), true);
-        
-        if (updated > 0) {
-            log.info("Finalized graduation list {} - graduation process completed", graduationList.getListId());
-            // Here you could create the final graduation object or trigger additional workflow
-            createFinalGraduationRecord(graduationList);
-        }
-        
-        return updated > 0;
+        log.info("Finalized graduation list {} - graduation process completed", graduationList.getListId());
+        // Here you could create the final graduation object or trigger additional workflow
+        createFinalGraduationRecord(graduationList);
+        return true;
     }
 
     private void createFinalGraduationRecord(com.agms.backend.model.GraduationList graduationList) {
@@ -1324,7 +1367,8 @@ public class SubmissionServiceImpl implements SubmissionService {
             }
 
             // Get all approved submissions from all advisor lists in the hierarchy
-            List<Submission> approvedSubmissions = getAllApprovedSubmissions(graduationList);
+            List<Submission> approvedSubmissions = submissionRepository.findByGraduationListIdAndTermAndStatus(
+                graduationList.getListId(), graduation.getTerm(), SubmissionStatus.FINAL_APPROVED);
             
             log.info("Found {} approved submissions for graduation", approvedSubmissions.size());
 
@@ -1348,53 +1392,17 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
     }
 
-    private List<Submission> getAllApprovedSubmissions(com.agms.backend.model.GraduationList graduationList) {
-        List<Submission> approvedSubmissions = new ArrayList<>();
-        
-        // Get all faculty lists under this graduation list
-        List<FacultyList> facultyLists = facultyListRepository.findByGraduationListListId(graduationList.getListId());
-        
-        for (FacultyList facultyList : facultyLists) {
-            // Get all department lists under each faculty
-            List<DepartmentList> departmentLists = departmentListRepository.findByFacultyListFacultyListId(
-                facultyList.getFacultyListId());
-            
-            for (DepartmentList departmentList : departmentLists) {
-                // Get all advisor lists under each department
-                List<AdvisorList> advisorLists = advisorListRepository.findByDepartmentListDeptListId(
-                    departmentList.getDeptListId());
-                
-                for (AdvisorList advisorList : advisorLists) {
-                    // Get all finally approved submissions from each advisor list
-                    List<Submission> submissions = submissionRepository.findByAdvisorListIdAndStatus(
-                        advisorList.getAdvisorListId(), SubmissionStatus.FINAL_APPROVED);
-                    approvedSubmissions.addAll(submissions);
-                }
-            }
-        }
-        
-        return approvedSubmissions;
-    }
-
     private void sendGraduationCompletionNotifications(com.agms.backend.model.Graduation graduation, 
             List<Submission> approvedSubmissions) {
         log.info("Sending graduation completion notifications for {} approved submissions", approvedSubmissions.size());
         
-        // In a real system, this would:
-        // 1. Send email notifications to all graduated students
-        // 2. Send summary report to Student Affairs
-        // 3. Send notifications to advisors, department secretaries, dean officers
-        // 4. Update external systems (registrar, alumni database, etc.)
-        // 5. Generate graduation ceremony lists
-        
-        // For now, we'll just log the notifications
-        for (Submission submission : approvedSubmissions) {
-            Student student = submission.getStudent();
-            log.info("📧 Notification sent to student: {} ({}) - GRADUATION COMPLETED", 
-                student.getEmail(), student.getStudentNumber());
-        }
-        
-        log.info("📧 Summary report sent to Student Affairs for graduation: {}", graduation.getGraduationId());
+        // Queued in the outbox with the graduation status; students and student affairs are mailed after commit
+        workflowNotificationService.graduationCompleted(graduation, approvedSubmissions.stream()
+                .map(WorkflowNotificationService.NotifiedSubmission::of)
+                .collect(Collectors.toList()));
+
+        log.info("📧 Queued completion notifications for {} students and a summary report to Student Affairs for "
+                + "graduation: {}", approvedSubmissions.size(), graduation.getGraduationId());
         log.info("🎓 Graduation process fully completed for term: {}", graduation.getTerm());
     }
 
@@ -1427,10 +1435,14 @@ public class SubmissionServiceImpl implements SubmissionService {
         // Get all advisor lists under this department
         List<AdvisorList> advisorLists = advisorListRepository.findByDepartmentListDeptListId(
             departmentList.getDeptListId());
+        Map<String, ListWorkflowCounter> counters = listWorkflowCounterService.findAll(advisorLists.stream()
+            .map(AdvisorList::getAdvisorListId)
+            .collect(Collectors.toList()));
 
         List<SubordinateStatusResponse> responses = new ArrayList<>();
         for (AdvisorList advisorList : advisorLists) {
             Advisor advisor = advisorList.getAdvisor();
+            ListWorkflowCounter counter = counters.get(advisorList.getAdvisorListId());
             
             SubordinateStatusResponse response = SubordinateStatusResponse.builder()
                 .empId(advisor.getEmpId())
@@ -1440,6 +1452,8 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .isFinalized(advisorList.getIsFinalized())
                 .listId(advisorList.getAdvisorListId())
                 .role("ADVISOR")
+                .pendingCount(counter != null ? counter.getAwaitingCount() : null)
+                .submissionCount(counter != null ? counter.getTotalCount() : null)
                 .build();
             
             responses.add(response);
@@ -1459,10 +1473,14 @@ public class SubmissionServiceImpl implements SubmissionService {
         // Get all department lists under this faculty
         List<DepartmentList> departmentLists = departmentListRepository.findByFacultyListFacultyListId(
             facultyList.getFacultyListId());
+        Map<String, ListWorkflowCounter> counters = listWorkflowCounterService.findAll(departmentLists.stream()
+            .map(DepartmentList::getDeptListId)
+            .collect(Collectors.toList()));
 
         List<SubordinateStatusResponse> responses = new ArrayList<>();
         for (DepartmentList departmentList : departmentLists) {
             DepartmentSecretary secretary = departmentList.getSecretary();
+            ListWorkflowCounter counter = counters.get(departmentList.getDeptListId());
             
             SubordinateStatusResponse response = SubordinateStatusResponse.builder()
                 .empId(secretary.getEmpId())
@@ -1473,6 +1491,8 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .isFinalized(departmentList.getIsFinalized())
                 .listId(departmentList.getDeptListId())
                 .role("DEPARTMENT_SECRETARY")
+                .pendingCount(counter != null ? counter.getAwaitingCount() : null)
+                .submissionCount(counter != null ? counter.getTotalCount() : null)
                 .build();
             
             responses.add(response);
@@ -1487,10 +1507,14 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         // Get all faculty lists (each represents a dean officer)
         List<FacultyList> facultyLists = facultyListRepository.findAll();
+        Map<String, ListWorkflowCounter> counters = listWorkflowCounterService.findAll(facultyLists.stream()
+            .map(FacultyList::getFacultyListId)
+            .collect(Collectors.toList()));
 
         List<SubordinateStatusResponse> responses = new ArrayList<>();
         for (FacultyList facultyList : facultyLists) {
             DeanOfficer deanOfficer = facultyList.getDeanOfficer();
+            ListWorkflowCounter counter = counters.get(facultyList.getFacultyListId());
             
             SubordinateStatusResponse response = SubordinateStatusResponse.builder()
                 .empId(deanOfficer.getEmpId())
@@ -1500,6 +1524,8 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .isFinalized(facultyList.getIsFinalized())
                 .listId(facultyList.getFacultyListId())
                 .role("DEAN_OFFICER")
+                .pendingCount(counter != null ? counter.getAwaitingCount() : null)
+                .submissionCount(counter != null ? counter.getTotalCount() : null)
                 .build();
             
             responses.add(response);
@@ -1538,12 +1564,9 @@ public class SubmissionServiceImpl implements SubmissionService {
         // Note: Showing top students from currently finalized lists (for testing purposes)
         log.debug("Getting top students from finalized advisor lists under department: {}", departmentList.getDeptListId());
 
-        // Get all advisor lists under this department
-        List<AdvisorList> advisorLists = advisorListRepository.findByDepartmentListDeptListId(
-            departmentList.getDeptListId());
-
-        // Get all finalized advisor lists
-        List<AdvisorList> finalizedAdvisorLists = advisorLists.stream()
+        // Get all finalized advisor lists under this department
+        List<AdvisorList> finalizedAdvisorLists = advisorListRepository
+            .findUnder(OrgUnitType.DEPARTMENT_LIST, departmentList.getDeptListId()).stream()
             .filter(AdvisorList::getIsFinalized)
             .collect(Collectors.toList());
 
@@ -1567,30 +1590,24 @@ public class SubmissionServiceImpl implements SubmissionService {
         // Note: Showing top students from currently finalized lists (for testing purposes)
         log.debug("Getting top students from finalized department lists under faculty: {}", facultyList.getFacultyListId());
 
-        // Get all department lists under this faculty
-        List<DepartmentList> departmentLists = departmentListRepository.findByFacultyListFacultyListId(
-            facultyList.getFacultyListId());
-
-        // Get all finalized department lists
-        List<DepartmentList> finalizedDepartmentLists = departmentLists.stream()
+        // Get all finalized department lists under this faculty
+        List<DepartmentList> finalizedDepartmentLists = departmentListRepository
+            .findUnder(OrgUnitType.FACULTY_LIST, facultyList.getFacultyListId()).stream()
             .filter(DepartmentList::getIsFinalized)
             .collect(Collectors.toList());
 
-        // Get all advisor lists from finalized departments
-        List<AdvisorList> allAdvisorLists = new ArrayList<>();
-        for (DepartmentList deptList : finalizedDepartmentLists) {
-            List<AdvisorList> advisorLists = advisorListRepository.findByDepartmentListDeptListId(deptList.getDeptListId());
-            List<AdvisorList> finalizedAdvisorLists = advisorLists.stream()
-                .filter(AdvisorList::getIsFinalized)
-                .collect(Collectors.toList());
-            allAdvisorLists.addAll(finalizedAdvisorLists);
-        }
+        // Get all finalized advisor lists of finalized departments, at any depth in one query
+        List<AdvisorList> allAdvisorLists = advisorListRepository
+            .findUnder(OrgUnitType.FACULTY_LIST, facultyList.getFacultyListId()).stream()
+            .filter(advisorList -> advisorList.getIsFinalized() && advisorList.getDepartmentList().getIsFinalized())
+            .collect(Collectors.toList());
 
         // Get top 3 students from all departments in this faculty (overall top 3)
         List<TopStudentsResponse.TopStudentInfo> topStudents = getTopStudentsFromAdvisorLists(allAdvisorLists, 3);
 
         // Get top 3 students from each department in this faculty
-        List<TopStudentsResponse.TopDepartmentInfo> topStudentsFromDepartments = getTopStudentsFromEachDepartment(finalizedDepartmentLists, 3);
+        List<TopStudentsResponse.TopDepartmentInfo> topStudentsFromDepartments = getTopStudentsFromEachDepartment(
+            finalizedDepartmentLists, allAdvisorLists, 3);
 
         return TopStudentsResponse.builder()
             .topStudents(topStudents)
@@ -1602,43 +1619,32 @@ public class SubmissionServiceImpl implements SubmissionService {
     private TopStudentsResponse getTopStudentsForStudentAffairs() {
         log.debug("Getting top students, departments, and faculties for student affairs");
 
-        // Get all faculty lists
-        List<FacultyList> facultyLists = facultyListRepository.findAll();
-
-        // Get all finalized faculty lists
-        List<FacultyList> finalizedFacultyLists = facultyLists.stream()
+        // Student affairs sits at the root, so every list is below it: one query per level, and a
+        // list only counts if it and every list above it are finalized
+        List<FacultyList> finalizedFacultyLists = facultyListRepository.findAll().stream()
             .filter(FacultyList::getIsFinalized)
             .collect(Collectors.toList());
 
-        // Get all department lists from finalized faculties
-        List<DepartmentList> allDepartmentLists = new ArrayList<>();
-        for (FacultyList facultyList : finalizedFacultyLists) {
-            List<DepartmentList> departmentLists = departmentListRepository.findByFacultyListFacultyListId(
-                facultyList.getFacultyListId());
-            List<DepartmentList> finalizedDepartmentLists = departmentLists.stream()
-                .filter(DepartmentList::getIsFinalized)
-                .collect(Collectors.toList());
-            allDepartmentLists.addAll(finalizedDepartmentLists);
-        }
+        List<DepartmentList> allDepartmentLists = departmentListRepository.findAll().stream()
+            .filter(deptList -> deptList.getIsFinalized() && deptList.getFacultyList().getIsFinalized())
+            .collect(Collectors.toList());
 
-        // Get all advisor lists from finalized departments
-        List<AdvisorList> allAdvisorLists = new ArrayList<>();
-        for (DepartmentList deptList : allDepartmentLists) {
-            List<AdvisorList> advisorLists = advisorListRepository.findByDepartmentListDeptListId(deptList.getDeptListId());
-            List<AdvisorList> finalizedAdvisorLists = advisorLists.stream()
-                .filter(AdvisorList::getIsFinalized)
-                .collect(Collectors.toList());
-            allAdvisorLists.addAll(finalizedAdvisorLists);
-        }
+        List<AdvisorList> allAdvisorLists = advisorListRepository.findAll().stream()
+            .filter(advisorList -> advisorList.getIsFinalized()
+                && advisorList.getDepartmentList().getIsFinalized()
+                && advisorList.getDepartmentList().getFacultyList().getIsFinalized())
+            .collect(Collectors.toList());
 
         // Get top 3 students from all faculties (overall top 3)
         List<TopStudentsResponse.TopStudentInfo> topStudents = getTopStudentsFromAdvisorLists(allAdvisorLists, 3);
 
         // Get top 3 students from each department across all faculties
-        List<TopStudentsResponse.TopDepartmentInfo> topStudentsFromDepartments = getTopStudentsFromEachDepartment(allDepartmentLists, 3);
+        List<TopStudentsResponse.TopDepartmentInfo> topStudentsFromDepartments = getTopStudentsFromEachDepartment(
+            allDepartmentLists, allAdvisorLists, 3);
 
         // Get top 3 students from each faculty
-        List<TopStudentsResponse.TopFacultyInfo> topStudentsFromFaculties = getTopStudentsFromEachFaculty(finalizedFacultyLists, 3);
+        List<TopStudentsResponse.TopFacultyInfo> topStudentsFromFaculties = getTopStudentsFromEachFaculty(
+            finalizedFacultyLists, allDepartmentLists, allAdvisorLists, 3);
 
         return TopStudentsResponse.builder()
             .topStudents(topStudents)
@@ -1650,44 +1656,65 @@ public class SubmissionServiceImpl implements SubmissionService {
     private List<TopStudentsResponse.TopStudentInfo> getTopStudentsFromAdvisorLists(List<AdvisorList> advisorLists, int limit) {
         List<TopStudentsResponse.TopStudentInfo> studentInfos = new ArrayList<>();
 
-        for (AdvisorList advisorList : advisorLists) {
-            // Get all approved submissions from this advisor list (any approval level)
-            List<Submission> approvedSubmissions = submissionRepository.findByAdvisorListId(advisorList.getAdvisorListId())
-                .stream()
-                .filter(submission -> isApprovalStatus(submission.getStatus()))
-                .collect(Collectors.toList());
+        if (advisorLists.isEmpty()) {
+            return studentInfos;
+        }
 
-            for (Submission submission : approvedSubmissions) {
-                Student student = submission.getStudent();
+        // Approved submissions of every list (any approval level) in one query, so eligibility
+        // data is read in bulk too
+        List<Submission> approvedSubmissions = submissionRepository.findByAdvisorListIdInAndStatusIn(
+            advisorLists.stream().map(AdvisorList::getAdvisorListId).collect(Collectors.toList()),
+            APPROVAL_STATUSES);
+        Map<String, List<String>> studentNumbersByTerm = new HashMap<>();
+        for (Submission submission : approvedSubmissions) {
+            studentNumbersByTerm.computeIfAbsent(submission.getTerm(), term -> new ArrayList<>())
+                .add(submission.getStudent().getStudentNumber());
+        }
+
+        // Rank on the standing captured when the term started; only students without a
+        // snapshot are looked up in UBYS
+        Map<String, Map<String, EligibilitySnapshot>> eligibilityByTerm = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : studentNumbersByTerm.entrySet()) {
+            try {
+                eligibilityByTerm.put(entry.getKey(),
+                        eligibilitySnapshotService.getSnapshotsOrCompute(entry.getKey(), entry.getValue()));
+            } catch (Exception e) {
+                log.warn("Could not get eligibility data for {} students: {}", entry.getValue().size(), e.getMessage());
+                eligibilityByTerm.put(entry.getKey(), Map.of());
+            }
+        }
+
+        for (Submission submission : approvedSubmissions) {
+            Student student = submission.getStudent();
+
+            // Get the student's GPA from the term's eligibility snapshot
+            EligibilitySnapshot eligibility = eligibilityByTerm.get(submission.getTerm())
+                .get(student.getStudentNumber());
+            if (eligibility == null) {
+                log.warn("No eligibility data for student {}: not found in UBYS", student.getStudentNumber());
+                continue;
+            }
+
+            // Only include students with valid GPA data
+            if (eligibility.getGpa() > 0) {
+                Advisor advisor = submission.getAdvisorList().getAdvisor();
+                String advisorName = advisor.getFirstName() + " " + advisor.getLastName();
                 
-                try {
-                    // Get enhanced student data with GPA from ubys service
-                    Student enhancedStudent = ubysService.getStudentWithTransientAttributes(student.getStudentNumber());
-                    
-                    // Only include students with valid GPA data
-                    if (enhancedStudent.getGpa() > 0) {
-                        Advisor advisor = advisorList.getAdvisor();
-                        String advisorName = advisor.getFirstName() + " " + advisor.getLastName();
-                        
-                        TopStudentsResponse.TopStudentInfo studentInfo = TopStudentsResponse.TopStudentInfo.builder()
-                            .studentNumber(student.getStudentNumber())
-                            .firstName(student.getFirstName())
-                            .lastName(student.getLastName())
-                            .email(student.getEmail())
-                            .department(student.getDepartment())
-                            .faculty(getFacultyForStudent(student))
-                            .gpa(enhancedStudent.getGpa())
-                            .totalCredits(enhancedStudent.getTotalCredit())
-                            .semester(enhancedStudent.getSemester())
-                            .advisorName(advisorName)
-                            .advisorEmpId(advisor.getEmpId())
-                            .build();
-                        
-                        studentInfos.add(studentInfo);
-                    }
-                } catch (Exception e) {
-                    log.warn("Could not get enhanced data for student {}: {}", student.getStudentNumber(), e.getMessage());
-                }
+                TopStudentsResponse.TopStudentInfo studentInfo = TopStudentsResponse.TopStudentInfo.builder()
+                    .studentNumber(student.getStudentNumber())
+                    .firstName(student.getFirstName())
+                    .lastName(student.getLastName())
+                    .email(student.getEmail())
+                    .department(student.getDepartment())
+                    .faculty(getFacultyForStudent(student))
+                    .gpa(eligibility.getGpa())
+                    .totalCredits(eligibility.getTotalCredit())
+                    .semester(eligibility.getSemester())
+                    .advisorName(advisorName)
+                    .advisorEmpId(advisor.getEmpId())
+                    .build();
+                
+                studentInfos.add(studentInfo);
             }
         }
 
@@ -1707,22 +1734,22 @@ public class SubmissionServiceImpl implements SubmissionService {
         return studentInfos.stream().limit(limit).collect(Collectors.toList());
     }
 
-    private List<TopStudentsResponse.TopDepartmentInfo> getTopStudentsFromEachDepartment(List<DepartmentList> departmentLists, int limit) {
+    /**
+     * @param advisorLists the finalized advisor lists to rank, grouped by department here
+     */
+    private List<TopStudentsResponse.TopDepartmentInfo> getTopStudentsFromEachDepartment(
+            List<DepartmentList> departmentLists, List<AdvisorList> advisorLists, int limit) {
         List<TopStudentsResponse.TopDepartmentInfo> departmentInfos = new ArrayList<>();
+
+        Map<String, List<AdvisorList>> advisorListsByDepartment = advisorLists.stream()
+            .collect(Collectors.groupingBy(advisorList -> advisorList.getDepartmentList().getDeptListId()));
         
         for (DepartmentList departmentList : departmentLists) {
             String departmentName = departmentList.getSecretary().getDepartment();
             
-            // Get all advisor lists under this department
-            List<AdvisorList> advisorLists = advisorListRepository.findByDepartmentListDeptListId(
-                departmentList.getDeptListId());
-            
-            List<AdvisorList> finalizedAdvisorLists = advisorLists.stream()
-                .filter(AdvisorList::getIsFinalized)
-                .collect(Collectors.toList());
-            
             // Get top 3 students from this department
-            List<TopStudentsResponse.TopStudentInfo> topStudents = getTopStudentsFromAdvisorLists(finalizedAdvisorLists, limit);
+            List<TopStudentsResponse.TopStudentInfo> topStudents = getTopStudentsFromAdvisorLists(
+                advisorListsByDepartment.getOrDefault(departmentList.getDeptListId(), List.of()), limit);
             
             if (!topStudents.isEmpty()) {
                 double averageGpa = topStudents.stream()
@@ -1748,29 +1775,27 @@ public class SubmissionServiceImpl implements SubmissionService {
         return departmentInfos;
     }
 
-    private List<TopStudentsResponse.TopFacultyInfo> getTopStudentsFromEachFaculty(List<FacultyList> facultyLists, int limit) {
+    /**
+     * @param departmentLists the finalized department lists, grouped by faculty here
+     * @param advisorLists    the finalized advisor lists of those departments, grouped by faculty here
+     */
+    private List<TopStudentsResponse.TopFacultyInfo> getTopStudentsFromEachFaculty(List<FacultyList> facultyLists,
+            List<DepartmentList> departmentLists, List<AdvisorList> advisorLists, int limit) {
         List<TopStudentsResponse.TopFacultyInfo> facultyInfos = new ArrayList<>();
+
+        Map<String, List<DepartmentList>> departmentListsByFaculty = departmentLists.stream()
+            .collect(Collectors.groupingBy(deptList -> deptList.getFacultyList().getFacultyListId()));
+        Map<String, List<AdvisorList>> advisorListsByFaculty = advisorLists.stream()
+            .collect(Collectors.groupingBy(
+                advisorList -> advisorList.getDepartmentList().getFacultyList().getFacultyListId()));
         
         for (FacultyList facultyList : facultyLists) {
             String facultyName = facultyList.getFaculty();
             
-            // Get all department lists under this faculty
-            List<DepartmentList> departmentLists = departmentListRepository.findByFacultyListFacultyListId(
-                facultyList.getFacultyListId());
-            
-            List<DepartmentList> finalizedDepartmentLists = departmentLists.stream()
-                .filter(DepartmentList::getIsFinalized)
-                .collect(Collectors.toList());
-            
-            // Get all advisor lists from finalized departments in this faculty
-            List<AdvisorList> allAdvisorLists = new ArrayList<>();
-            for (DepartmentList deptList : finalizedDepartmentLists) {
-                List<AdvisorList> advisorLists = advisorListRepository.findByDepartmentListDeptListId(deptList.getDeptListId());
-                List<AdvisorList> finalizedAdvisorLists = advisorLists.stream()
-                    .filter(AdvisorList::getIsFinalized)
-                    .collect(Collectors.toList());
-                allAdvisorLists.addAll(finalizedAdvisorLists);
-            }
+            List<DepartmentList> finalizedDepartmentLists = departmentListsByFaculty.getOrDefault(
+                facultyList.getFacultyListId(), List.of());
+            List<AdvisorList> allAdvisorLists = advisorListsByFaculty.getOrDefault(
+                facultyList.getFacultyListId(), List.of());
             
             // Get top 3 students from this faculty
             List<TopStudentsResponse.TopStudentInfo> topStudents = getTopStudentsFromAdvisorLists(allAdvisorLists, limit);
@@ -1782,7 +1807,8 @@ public class SubmissionServiceImpl implements SubmissionService {
                     .orElse(0.0);
                 
                 // Get top 3 students from each department in this faculty
-                List<TopStudentsResponse.TopDepartmentInfo> topDepartments = getTopStudentsFromEachDepartment(finalizedDepartmentLists, limit);
+                List<TopStudentsResponse.TopDepartmentInfo> topDepartments = getTopStudentsFromEachDepartment(
+                    finalizedDepartmentLists, allAdvisorLists, limit);
                 
                 TopStudentsResponse.TopFacultyInfo facultyInfo = TopStudentsResponse.TopFacultyInfo.builder()
                     .facultyName(facultyName)
@@ -1800,36 +1826,48 @@ public class SubmissionServiceImpl implements SubmissionService {
         return facultyInfos;
     }
 
+    /**
+     * Term of the graduation an advisor list currently belongs to, or null if the
+     * list is not attached to one
+     */
+    private String getTermForAdvisorList(AdvisorList advisorList) {
+        DepartmentList departmentList = advisorList.getDepartmentList();
+        if (departmentList == null || departmentList.getFacultyList() == null) {
+            return null;
+        }
+        com.agms.backend.model.GraduationList graduationList = departmentList.getFacultyList().getGraduationList();
+        if (graduationList == null || graduationList.getGraduation() == null) {
+            return null;
+        }
+        return graduationList.getGraduation().getTerm();
+    }
+
+    /**
+     * The reviewer from the org graph
+     *
+     * @throws ResourceNotFoundException if there is no such reviewer
+     */
+    private OrgGraph.Member findOrgMember(OrgUnitType type, String empId, String roleName) {
+        return orgGraphService.getGraph().findMember(type, empId)
+                .orElseThrow(() -> new ResourceNotFoundException(roleName + " not found with empId: " + empId));
+    }
+
+    /**
+     * The list's workflow counter, locked for the rest of the transaction
+     */
+    private ListWorkflowCounter findCounterForUpdate(String listId) {
+        return listWorkflowCounterService.findForUpdate(listId)
+                .orElseThrow(() -> new IllegalStateException("No workflow counter for list " + listId));
+    }
+
     private String getFacultyForStudent(Student student) {
-        try {
-            // Get the student's advisor
-            Advisor advisor = student.getAdvisor();
-            if (advisor == null) {
-                return "Unknown";
-            }
-            
-            // Get the advisor's advisor list
-            AdvisorList advisorList = advisor.getAdvisorList();
-            if (advisorList == null) {
-                return "Unknown";
-            }
-            
-            // Get the department list
-            DepartmentList departmentList = advisorList.getDepartmentList();
-            if (departmentList == null) {
-                return "Unknown";
-            }
-            
-            // Get the faculty list
-            FacultyList facultyList = departmentList.getFacultyList();
-            if (facultyList == null) {
-                return "Unknown";
-            }
-            
-            return facultyList.getFaculty();
-        } catch (Exception e) {
-            log.warn("Could not determine faculty for student {}: {}", student.getStudentNumber(), e.getMessage());
+        // The advisor's faculty is resolved up front in the org graph
+        Advisor advisor = student.getAdvisor();
+        if (advisor == null) {
             return "Unknown";
         }
+        return orgGraphService.getGraph().findMember(OrgUnitType.ADVISOR, advisor.getEmpId())
+                .map(OrgGraph.Member::faculty)
+                .orElse("Unknown");
     }
 }
@@ -0,0 +1,581 @@
+package com.agms.backend.service.impl;
+
+import com.agms.backend.dto.UbysSyncReport;
+import com.agms.backend.model.UbysSyncState;
+import com.agms.backend.model.ubys.UbysStaffRecord;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import com.agms.backend.model.users.Advisor;
+import com.agms.backend.model.users.DeanOfficer;
+import com.agms.backend.model.users.DepartmentSecretary;
+import com.agms.backend.model.users.Student;
+import com.agms.backend.model.users.StudentAffairs;
+import com.agms.backend.model.users.User;
+import com.agms.backend.repository.AdvisorRepository;
+import com.agms.backend.repository.DeanOfficerRepository;
+import com.agms.backend.repository.DepartmentSecretaryRepository;
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.repository.StudentRepository;
+import com.agms.backend.repository.UbysSyncStateRepository;
+import com.agms.backend.service.GraduationHierarchyBuilder;
+import com.agms.backend.service.UbysService;
+import com.agms.backend.service.UbysSyncService;
+import com.agms.backend.service.org.OrgChangedEvent;
+import com.agms.backend.service.ubys.UbysEntityMapper;
+import com.agms.backend.service.ubys.UbysSection;
+import com.agms.backend.service.ubys.UbysSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Incremental UBYS sync. Every record is hashed over the fields that end up in
+ * the database, together with the key of the parent it links to, and compared
+ * with the hash stored at the last sync; only new or changed records are
+ * written, in one transaction per batch. Relations are resolved from maps
+ * prefetched once per section, so a batch costs a handful of queries regardless
+ * of its size.
+ */
+@Slf4j
+@Service
+public class UbysSyncServiceImpl implements UbysSyncService {
+
+    private static final String DEFAULT_PASSWORD = "Password123!";
+
+    private final UbysService ubysService;
+    private final StudentRepository studentRepository;
+    private final AdvisorRepository advisorRepository;
+    private final DepartmentSecretaryRepository secretaryRepository;
+    private final DeanOfficerRepository deanOfficerRepository;
+    private final StudentAffairsRepository studentAffairsRepository;
+    private final UbysSyncStateRepository syncStateRepository;
+    private final GraduationHierarchyBuilder graduationHierarchyBuilder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean scheduledSyncEnabled;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<UbysSyncReport> lastReport = new AtomicReference<>();
+
+    public UbysSyncServiceImpl(
+            UbysService ubysService,
+            StudentRepository studentRepository,
+            AdvisorRepository advisorRepository,
+            DepartmentSecretaryRepository secretaryRepository,
+            DeanOfficerRepository deanOfficerRepository,
+            StudentAffairsRepository studentAffairsRepository,
+            UbysSyncStateRepository syncStateRepository,
+            GraduationHierarchyBuilder graduationHierarchyBuilder,
+            ApplicationEventPublisher eventPublisher,
+            PasswordEncoder passwordEncoder,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${ubys.sync.enabled:true}") boolean scheduledSyncEnabled,
+            @Value("${ubys.sync.batch-size:500}") int batchSize) {
+        this.ubysService = ubysService;
+        this.studentRepository = studentRepository;
+        this.advisorRepository = advisorRepository;
+        this.secretaryRepository = secretaryRepository;
+        this.deanOfficerRepository = deanOfficerRepository;
+        this.studentAffairsRepository = studentAffairsRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.graduationHierarchyBuilder = graduationHierarchyBuilder;
+        this.eventPublisher = eventPublisher;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduledSyncEnabled = scheduledSyncEnabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${ubys.sync.initial-delay-ms:60000}",
+            fixedDelayString = "${ubys.sync.interval-ms:900000}")
+    public void scheduledSynchronize() {
+        if (!scheduledSyncEnabled) {
+            return;
+        }
+        try {
+            synchronize();
+        } catch (IllegalStateException e) {
+            log.info("Skipping scheduled UBYS sync: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Scheduled UBYS sync failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public UbysSyncReport synchronize() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("UBYS sync is already running");
+        }
+
+        long startNanos = System.nanoTime();
+        Timestamp startedAt = new Timestamp(System.currentTimeMillis());
+        List<UbysSyncReport.SectionReport> sections = new ArrayList<>();
+        UbysSyncReport.UbysSyncReportBuilder report = UbysSyncReport.builder()
+                .startedAt(startedAt)
+                .sections(sections);
+
+        try {
+            log.info("Starting UBYS sync...");
+
+            // Faculty lookups below go through the snapshot, so it must match the export being synced
+            UbysSnapshot snapshot = ubysService.reload();
+            report.ubysVersion(snapshot.getVersion());
+
+            sections.add(syncDeanOfficers());
+            sections.add(syncDepartmentSecretaries());
+            sections.add(syncAdvisors());
+            boolean staffWritten = sections.stream()
+                    .anyMatch(section -> section.getInserted() + section.getUpdated() > 0);
+            sections.add(syncStudents());
+
+            // Lists follow the secretaries and advisors that moved, and submissions follow their lists
+            graduationHierarchyBuilder.alignWithOrgChart();
+            if (staffWritten) {
+                eventPublisher.publishEvent(new OrgChangedEvent("UBYS sync updated staff"));
+            }
+            report.status("COMPLETED");
+        } catch (Exception e) {
+            log.error("UBYS sync failed: {}", e.getMessage());
+            report.status("FAILED").error(e.getMessage());
+        } finally {
+            running.set(false);
+        }
+
+        long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+        int totalRead = sections.stream().mapToInt(UbysSyncReport.SectionReport::getRead).sum();
+        int totalWritten = sections.stream().mapToInt(section -> section.getInserted() + section.getUpdated()).sum();
+        double seconds = Math.max(durationMs, 1) / 1000.0;
+
+        UbysSyncReport finished = report
+                .finishedAt(new Timestamp(System.currentTimeMillis()))
+                .durationMs(durationMs)
+                .totalRead(totalRead)
+                .totalWritten(totalWritten)
+                .rowsPerSecond(Math.round(totalRead / seconds * 10.0) / 10.0)
+                .writtenRowsPerSecond(Math.round(totalWritten / seconds * 10.0) / 10.0)
+                .build();
+        lastReport.set(finished);
+
+        log.info("UBYS sync {} in {} ms: read {}, written {}", finished.getStatus(), durationMs, totalRead,
+                totalWritten);
+        return finished;
+    }
+
+    @Override
+    public void recordBaseline() {
+        recordBaseline(UbysSection.DEAN_OFFICERS, ubysRecord -> staffHash(ubysRecord, null));
+        Function<UbysStaffRecord, DeanOfficer> deanOfficers = deanOfficerResolver();
+        recordBaseline(UbysSection.DEPARTMENT_SECRETARIES,
+                ubysRecord -> staffHash(ubysRecord, empIdOf(deanOfficers.apply(ubysRecord))));
+        Function<UbysStaffRecord, DepartmentSecretary> secretaries = secretaryResolver();
+        recordBaseline(UbysSection.ADVISORS,
+                ubysRecord -> staffHash(ubysRecord, empIdOf(secretaries.apply(ubysRecord))));
+        Function<UbysStudentRecord, Advisor> advisors = advisorResolver();
+        recordBaseline(UbysSection.STUDENTS,
+                ubysRecord -> studentHash(ubysRecord, empIdOf(advisors.apply(ubysRecord))));
+    }
+
+    @Override
+    public Optional<UbysSyncReport> getLastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // ========== SECTIONS ==========
+
+    private UbysSyncReport.SectionReport syncDeanOfficers() {
+        StudentAffairs studentAffairs = studentAffairsRepository.findAll().stream().findFirst().orElse(null);
+
+        // Dean officers link to student affairs only when created, so there is no parent to hash
+        return this.<UbysStaffRecord, DeanOfficer>syncSection(UbysSection.DEAN_OFFICERS,
+                ubysRecord -> staffHash(ubysRecord, null),
+                empIds -> indexBy(deanOfficerRepository.findByEmpIdIn(empIds), DeanOfficer::getEmpId),
+                (empId, ubysRecord, existing) -> {
+                    DeanOfficer deanOfficer = UbysEntityMapper.toDeanOfficer(empId, ubysRecord);
+                    if (existing == null) {
+                        deanOfficer.setPassword(passwordEncoder.encode(DEFAULT_PASSWORD));
+                        deanOfficer.setStudentAffairs(studentAffairs);
+                        return deanOfficer;
+                    }
+                    copyUserData(deanOfficer, existing);
+                    existing.setFaculty(deanOfficer.getFaculty());
+                    return existing;
+                },
+                deanOfficerRepository::saveAll);
+    }
+
+    private UbysSyncReport.SectionReport syncDepartmentSecretaries() {
+        Function<UbysStaffRecord, DeanOfficer> deanOfficers = deanOfficerResolver();
+
+        return this.<UbysStaffRecord, DepartmentSecretary>syncSection(UbysSection.DEPARTMENT_SECRETARIES,
+                ubysRecord -> staffHash(ubysRecord, empIdOf(deanOfficers.apply(ubysRecord))),
+                empIds -> indexBy(secretaryRepository.findByEmpIdIn(empIds), DepartmentSecretary::getEmpId),
+                (empId, ubysRecord, existing) -> {
+                    if (ubysRecord.getDepartment() == null) {
+                        log.warn("DepartmentSecretary {} has no department field from UBYS data", empId);
+                        return null;
+                    }
+
+                    DepartmentSecretary departmentSecretary = UbysEntityMapper.toDepartmentSecretary(empId,
+                            ubysRecord);
+                    if (existing == null) {
+                        departmentSecretary.setPassword(passwordEncoder.encode(DEFAULT_PASSWORD));
+                    } else {
+                        copyUserData(departmentSecretary, existing);
+                        existing.setDepartment(departmentSecretary.getDepartment());
+                        departmentSecretary = existing;
+                    }
+
+                    DeanOfficer deanOfficer = deanOfficers.apply(ubysRecord);
+                    if (deanOfficer == null) {
+                        log.warn("No dean officer found for department: {}", departmentSecretary.getDepartment());
+                    }
+                    departmentSecretary.setDeanOfficer(deanOfficer);
+                    return departmentSecretary;
+                },
+                secretaryRepository::saveAll);
+    }
+
+    private UbysSyncReport.SectionReport syncAdvisors() {
+        Function<UbysStaffRecord, DepartmentSecretary> secretaries = secretaryResolver();
+
+        return this.<UbysStaffRecord, Advisor>syncSection(UbysSection.ADVISORS,
+                ubysRecord -> staffHash(ubysRecord, empIdOf(secretaries.apply(ubysRecord))),
+                empIds -> indexBy(advisorRepository.findByEmpIdIn(empIds), Advisor::getEmpId),
+                (empId, ubysRecord, existing) -> {
+                    if (ubysRecord.getDepartment() == null) {
+                        log.warn("Advisor {} has no department field from UBYS data", empId);
+                        return null;
+                    }
+
+                    Advisor advisor = UbysEntityMapper.toAdvisor(empId, ubysRecord);
+                    if (existing == null) {
+                        advisor.setPassword(passwordEncoder.encode(DEFAULT_PASSWORD));
+                    } else {
+                        copyUserData(advisor, existing);
+                        existing.setDepartment(advisor.getDepartment());
+                        advisor = existing;
+                    }
+
+                    DepartmentSecretary departmentSecretary = secretaries.apply(ubysRecord);
+                    if (departmentSecretary == null) {
+                        log.warn("No department secretary found for department: {}", advisor.getDepartment());
+                    }
+                    advisor.setDepartmentSecretary(departmentSecretary);
+                    return advisor;
+                },
+                advisorRepository::saveAll);
+    }
+
+    private UbysSyncReport.SectionReport syncStudents() {
+        Function<UbysStudentRecord, Advisor> advisors = advisorResolver();
+
+        return this.<UbysStudentRecord, Student>syncSection(UbysSection.STUDENTS,
+                ubysRecord -> studentHash(ubysRecord, empIdOf(advisors.apply(ubysRecord))),
+                studentNumbers -> indexBy(studentRepository.findByStudentNumberIn(studentNumbers),
+                        Student::getStudentNumber),
+                (studentNumber, ubysRecord, existing) -> {
+                    Student student = UbysEntityMapper.toStudent(studentNumber, ubysRecord);
+                    if (existing == null) {
+                        student.setPassword(passwordEncoder.encode(DEFAULT_PASSWORD));
+                    } else {
+                        copyUserData(student, existing);
+                        existing.setDepartment(student.getDepartment());
+                        student = existing;
+                    }
+
+                    Advisor advisor = advisors.apply(ubysRecord);
+                    if (advisor == null) {
+                        log.warn("No advisor of department {} with ID {} for student {}",
+                                student.getDepartment(), ubysRecord.getAdvisorId(), studentNumber);
+                    }
+                    student.setAdvisor(advisor);
+                    return student;
+                },
+                studentRepository::saveAll);
+    }
+
+    // ========== RELATIONS ==========
+
+    /**
+     * Resolves the dean officer of a secretary record through the faculty of
+     * its department; dean officers are prefetched once.
+     */
+    private Function<UbysStaffRecord, DeanOfficer> deanOfficerResolver() {
+        Map<String, DeanOfficer> deanOfficersByFaculty = new HashMap<>();
+        for (DeanOfficer deanOfficer : deanOfficerRepository.findAll()) {
+            if (deanOfficer.getFaculty() != null) {
+                deanOfficersByFaculty.putIfAbsent(deanOfficer.getFaculty(), deanOfficer);
+            }
+        }
+        return ubysRecord -> {
+            String faculty = ubysRecord.getDepartment() != null
+                    ? ubysService.getFacultyForDepartment(ubysRecord.getDepartment())
+                    : null;
+            return faculty != null ? deanOfficersByFaculty.get(faculty) : null;
+        };
+    }
+
+    /**
+     * Resolves the department secretary of an advisor record; secretaries are
+     * prefetched once.
+     */
+    private Function<UbysStaffRecord, DepartmentSecretary> secretaryResolver() {
+        Map<String, DepartmentSecretary> secretariesByDepartment = new HashMap<>();
+        for (DepartmentSecretary secretary : secretaryRepository.findAll()) {
+            if (secretary.getDepartment() != null) {
+                secretariesByDepartment.putIfAbsent(secretary.getDepartment(), secretary);
+            }
+        }
+        return ubysRecord -> ubysRecord.getDepartment() != null
+                ? secretariesByDepartment.get(ubysRecord.getDepartment())
+                : null;
+    }
+
+    /**
+     * Resolves the advisor of a student record. Only advisors of the student's
+     * own department are linked, as the initial import does; advisors are
+     * prefetched once.
+     */
+    private Function<UbysStudentRecord, Advisor> advisorResolver() {
+        Map<String, Advisor> advisorsByEmpId = indexBy(advisorRepository.findAll(), Advisor::getEmpId);
+        return ubysRecord -> {
+            Advisor advisor = ubysRecord.getAdvisorId() != null
+                    ? advisorsByEmpId.get(ubysRecord.getAdvisorId())
+                    : null;
+            return advisor != null && ubysRecord.getDepartment() != null
+                    && ubysRecord.getDepartment().equals(advisor.getDepartment())
+                    ? advisor
+                    : null;
+        };
+    }
+
+    private static String empIdOf(Advisor advisor) {
+        return advisor != null ? advisor.getEmpId() : null;
+    }
+
+    private static String empIdOf(DepartmentSecretary secretary) {
+        return secretary != null ? secretary.getEmpId() : null;
+    }
+
+    private static String empIdOf(DeanOfficer deanOfficer) {
+        return deanOfficer != null ? deanOfficer.getEmpId() : null;
+    }
+
+    // ========== SYNC ENGINE ==========
+
+    /**
+     * Creates a new entity for a record or applies it onto the existing one
+     */
+    @FunctionalInterface
+    private interface RecordApplier<R, E> {
+        /**
+         * @param existing the persisted entity, or null if the record is new
+         * @return the entity to save, or null to skip the record
+         */
+        E apply(String key, R ubysRecord, E existing);
+    }
+
+    private record ChangedRecord<R>(String key, R ubysRecord, String contentHash) {
+    }
+
+    private <R, E extends User> UbysSyncReport.SectionReport syncSection(UbysSection<R> section,
+            Function<R, String> hasher,
+            Function<Collection<String>, Map<String, E>> existingLoader,
+            RecordApplier<R, E> applier,
+            Function<List<E>, ?> writer) {
+        long startNanos = System.nanoTime();
+        Map<String, String> knownHashes = loadHashes(section);
+        UbysSyncReport.SectionReport report = UbysSyncReport.SectionReport.builder()
+                .section(section.getName())
+                .build();
+
+        int read = ubysService.importSection(section,
+                (key, ubysRecord) -> {
+                    String contentHash = hasher.apply(ubysRecord);
+                    if (contentHash.equals(knownHashes.get(key))) {
+                        report.setUnchanged(report.getUnchanged() + 1);
+                        return null;
+                    }
+                    return new ChangedRecord<>(key, ubysRecord, contentHash);
+                },
+                batchSize,
+                batch -> {
+                    try {
+                        transactionTemplate.executeWithoutResult(
+                                status -> writeBatch(section, batch, existingLoader, applier, writer, report));
+                    } catch (Exception e) {
+                        // Hashes of the batch were not stored either, so it is retried on the next run
+                        report.setFailed(report.getFailed() + batch.size());
+                        log.warn("Failed to sync a batch of {} {}: {}", batch.size(), section.getName(),
+                                e.getMessage());
+                    }
+                });
+
+        report.setRead(read);
+        report.setDurationMs((System.nanoTime() - startNanos) / 1_000_000);
+        log.info("Synced {}: read {}, inserted {}, updated {}, unchanged {}, skipped {}, failed {}",
+                section.getName(), read, report.getInserted(), report.getUpdated(), report.getUnchanged(),
+                report.getSkipped(), report.getFailed());
+        return report;
+    }
+
+    private <R, E extends User> void writeBatch(UbysSection<R> section, List<ChangedRecord<R>> batch,
+            Function<Collection<String>, Map<String, E>> existingLoader,
+            RecordApplier<R, E> applier,
+            Function<List<E>, ?> writer,
+            UbysSyncReport.SectionReport report) {
+        List<String> keys = batch.stream().map(ChangedRecord::key).toList();
+        Map<String, E> existing = existingLoader.apply(keys);
+        Map<String, UbysSyncState> states = indexBy(
+                syncStateRepository.findBySectionAndRecordKeyIn(section.getName(), keys), UbysSyncState::getRecordKey);
+        Timestamp syncedAt = new Timestamp(System.currentTimeMillis());
+
+        List<E> entities = new ArrayList<>(batch.size());
+        List<UbysSyncState> changedStates = new ArrayList<>(batch.size());
+        int inserted = 0;
+        int updated = 0;
+        int skipped = 0;
+        for (ChangedRecord<R> changed : batch) {
+            E current = existing.get(changed.key());
+            E entity = applier.apply(changed.key(), changed.ubysRecord(), current);
+            if (entity == null) {
+                skipped++;
+                continue;
+            }
+            if (current == null) {
+                inserted++;
+            } else {
+                updated++;
+            }
+            entities.add(entity);
+
+            UbysSyncState state = states.get(changed.key());
+            if (state == null) {
+                state = UbysSyncState.builder()
+                        .section(section.getName())
+                        .recordKey(changed.key())
+                        .build();
+            }
+            state.setContentHash(changed.contentHash());
+            state.setSyncedAt(syncedAt);
+            changedStates.add(state);
+        }
+
+        writer.apply(entities);
+        syncStateRepository.saveAll(changedStates);
+
+        // Counted only once the batch is written, so a rolled back batch shows up as failed alone
+        report.setInserted(report.getInserted() + inserted);
+        report.setUpdated(report.getUpdated() + updated);
+        report.setSkipped(report.getSkipped() + skipped);
+    }
+
+    private <R> void recordBaseline(UbysSection<R> section, Function<R, String> hasher) {
+        if (syncStateRepository.existsBySection(section.getName())) {
+            log.debug("Sync state of {} already exists, skipping baseline", section.getName());
+            return;
+        }
+
+        Timestamp syncedAt = new Timestamp(System.currentTimeMillis());
+        int count = ubysService.importSection(section,
+                (key, ubysRecord) -> UbysSyncState.builder()
+                        .section(section.getName())
+                        .recordKey(key)
+                        .contentHash(hasher.apply(ubysRecord))
+                        .syncedAt(syncedAt)
+                        .build(),
+                batchSize,
+                syncStateRepository::saveAll);
+        log.info("Recorded UBYS sync baseline of {} {}", count, section.getName());
+    }
+
+    private Map<String, String> loadHashes(UbysSection<?> section) {
+        Map<String, String> hashes = new HashMap<>();
+        for (Object[] row : syncStateRepository.findHashesBySection(section.getName())) {
+            hashes.put((String) row[0], (String) row[1]);
+        }
+        return hashes;
+    }
+
+    // ========== HASHING ==========
+
+    private String staffHash(UbysStaffRecord staffRecord, String parentKey) {
+        return contentHash(staffRecord, parentKey);
+    }
+
+    /**
+     * Courses and semester are transient on Student and read from the UBYS
+     * snapshot, so grade changes alone do not make a student row dirty
+     */
+    private String studentHash(UbysStudentRecord studentRecord, String parentKey) {
+        return contentHash(studentRecord.toBuilder()
+                .semester(0)
+                .courses(null)
+                .build(), parentKey);
+    }
+
+    /**
+     * The parent key is part of the hash, so a record is written again when the
+     * parent it resolves to appears or changes even though the record did not
+     */
+    private String contentHash(Object ubysRecord, String parentKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(objectMapper.writeValueAsBytes(ubysRecord));
+            if (parentKey != null) {
+                digest.update((byte) 0);
+                digest.update(parentKey.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash UBYS record", e);
+        }
+    }
+
+    // ========== HELPERS ==========
+
+    private static void copyUserData(User source, User target) {
+        target.setFirstName(source.getFirstName());
+        target.setLastName(source.getLastName());
+        target.setEmail(source.getEmail());
+    }
+
+    private static <E> Map<String, E> indexBy(Collection<E> entities, Function<E, String> keyExtractor) {
+        Map<String, E> index = new HashMap<>();
+        for (E entity : entities) {
+            index.put(keyExtractor.apply(entity), entity);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,101 @@
+package com.agms.backend.service.notification;
+
+import com.agms.backend.model.NotificationOutbox;
+import com.agms.backend.service.EmailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drains the notification outbox in the background. Each batch is claimed in a
+ * short transaction, sent with no transaction or row lock held, and its outcome
+ * recorded in a second one, so a slow or unreachable mail relay delays
+ * notifications but never the workflow changes that queued them.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+    private final NotificationOutboxService outboxService;
+    private final EmailService emailService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long leaseMs;
+
+    public NotificationDispatcher(
+            NotificationOutboxService outboxService,
+            EmailService emailService,
+            @Value("${notification.dispatch.enabled:true}") boolean enabled,
+            @Value("${notification.dispatch.batch-size:50}") int batchSize,
+            @Value("${notification.dispatch.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${notification.dispatch.lease-ms:120000}") long leaseMs) {
+        this.outboxService = outboxService;
+        this.emailService = emailService;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.leaseMs = leaseMs;
+    }
+
+    @Scheduled(initialDelayString = "${notification.dispatch.interval-ms:5000}",
+            fixedDelayString = "${notification.dispatch.interval-ms:5000}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.error("Notification dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sends due notifications batch by batch until the outbox has none left or the
+     * per-run limit is reached, leaving the scheduler free for the other jobs
+     *
+     * @return number of notifications sent
+     */
+    public int dispatch() {
+        int sent = 0;
+        int failed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<NotificationOutbox> claimed = outboxService.claimDue(batchSize, leaseMs);
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            List<Long> sentIds = new ArrayList<>(claimed.size());
+            Map<Long, String> errorsById = new HashMap<>();
+            for (NotificationOutbox notification : claimed) {
+                try {
+                    emailService.sendEmail(notification.getRecipient(), notification.getSubject(),
+                            notification.getBody());
+                    sentIds.add(notification.getId());
+                } catch (Exception e) {
+                    log.debug("Sending notification {} to {} failed (attempt {}): {}", notification.getId(),
+                            notification.getRecipient(), notification.getAttempts(), e.getMessage());
+                    errorsById.put(notification.getId(), e.getClass().getSimpleName() + ": " + e.getMessage());
+                }
+            }
+            outboxService.complete(sentIds, errorsById);
+            sent += sentIds.size();
+            failed += errorsById.size();
+
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+        if (sent > 0 || failed > 0) {
+            log.info("Dispatched notifications: {} sent, {} failed", sent, failed);
+        }
+        return sent;
+    }
+}
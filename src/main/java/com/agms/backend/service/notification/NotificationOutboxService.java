@@ -0,0 +1,131 @@
+package com.agms.backend.service.notification;
+
+import com.agms.backend.model.NotificationOutbox;
+import com.agms.backend.model.NotificationStatus;
+import com.agms.backend.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The notification outbox. Workflow changes enqueue their notifications here in
+ * their own transaction; the {@link NotificationDispatcher} claims due rows in
+ * batches, sends them outside any transaction and reports back. A failed send is
+ * retried with jittered exponential backoff and dead-lettered once the maximum
+ * number of attempts is used up.
+ * <p>
+ * Delivery is at least once: a dispatcher that dies after sending but before
+ * reporting leaves the row claimed, and it is sent again when the claim runs out.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+
+    public NotificationOutboxService(
+            NotificationOutboxRepository outboxRepository,
+            @Value("${notification.retry.max-attempts:8}") int maxAttempts,
+            @Value("${notification.retry.backoff-ms:30000}") long backoffMs,
+            @Value("${notification.retry.max-backoff-ms:3600000}") long maxBackoffMs) {
+        this.outboxRepository = outboxRepository;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    /**
+     * Adds the notifications to the outbox in the caller's transaction, due immediately
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<NotificationOutbox> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (NotificationOutbox notification : notifications) {
+            notification.setStatus(NotificationStatus.PENDING);
+            notification.setCreatedAt(now);
+            notification.setNextAttemptAt(now);
+        }
+        // Inserted in JDBC batches, the ids come from the pooled sequence
+        outboxRepository.saveAll(notifications);
+        log.debug("Enqueued {} notifications", notifications.size());
+    }
+
+    /**
+     * Claims up to {@code limit} due notifications for sending: each one's attempt is
+     * counted and it is not due again until the lease runs out, so other dispatchers
+     * leave it alone while this one sends it
+     */
+    @Transactional
+    public List<NotificationOutbox> claimDue(int limit, long leaseMs) {
+        long now = System.currentTimeMillis();
+        List<NotificationOutbox> due = outboxRepository.lockDue(new Timestamp(now), limit);
+        Timestamp leaseEnd = new Timestamp(now + leaseMs);
+        for (NotificationOutbox notification : due) {
+            notification.setAttempts(notification.getAttempts() + 1);
+            notification.setNextAttemptAt(leaseEnd);
+        }
+        return due;
+    }
+
+    /**
+     * Records the outcome of sending claimed notifications: the sent ones are done, the
+     * failed ones are rescheduled, or dead-lettered if they were on their last attempt
+     *
+     * @param errorsById error message of each notification that failed
+     */
+    @Transactional
+    public void complete(Collection<Long> sentIds, Map<Long, String> errorsById) {
+        long now = System.currentTimeMillis();
+        Timestamp sentAt = new Timestamp(now);
+        for (NotificationOutbox notification : outboxRepository.findAllById(sentIds)) {
+            notification.setStatus(NotificationStatus.SENT);
+            notification.setSentAt(sentAt);
+            notification.setLastError(null);
+        }
+        for (NotificationOutbox notification : outboxRepository.findAllById(errorsById.keySet())) {
+            notification.setLastError(truncate(errorsById.get(notification.getId())));
+            if (notification.getAttempts() >= maxAttempts) {
+                notification.setStatus(NotificationStatus.DEAD);
+                log.warn("Notification {} ({}) to {} failed {} times, dead-lettered: {}", notification.getId(),
+                        notification.getType(), notification.getRecipient(), notification.getAttempts(),
+                        notification.getLastError());
+            } else {
+                notification.setNextAttemptAt(new Timestamp(now + backoffDelay(notification.getAttempts())));
+            }
+        }
+    }
+
+    /**
+     * Delay before the next attempt after the given number of failed ones: doubling from
+     * the base delay, capped, plus up to as much again in jitter so notifications that
+     * failed together, e.g. while the relay was down, do not all come back at once
+     */
+    private long backoffDelay(int attempts) {
+        long delayMs = backoffMs << Math.min(attempts - 1, 30);
+        delayMs = Math.min(delayMs, maxBackoffMs);
+        return delayMs + ThreadLocalRandom.current().nextLong(delayMs + 1);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,198 @@
+package com.agms.backend.service.notification;
+
+import com.agms.backend.model.Graduation;
+import com.agms.backend.model.NotificationOutbox;
+import com.agms.backend.model.NotificationType;
+import com.agms.backend.model.OrgUnitType;
+import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionStatus;
+import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.service.OrgGraphService;
+import com.agms.backend.service.org.OrgGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Turns workflow changes into outbox entries. Recipients are resolved from the org
+ * graph and the students' emails when the change is made, and the entries are
+ * written in its transaction; nothing is sent here. Reviewers get one digest per
+ * decision, however many submissions it forwarded to them, and students one
+ * message about their own submission.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowNotificationService {
+
+    /**
+     * A submission as far as notifications about it are concerned
+     */
+    public record NotifiedSubmission(String submissionId, String studentNumber, String studentEmail,
+            String deptListId, String facultyListId) {
+
+        public static NotifiedSubmission of(Submission submission) {
+            return new NotifiedSubmission(submission.getSubmissionId(), submission.getStudent().getStudentNumber(),
+                    submission.getStudent().getEmail(), submission.getDeptListId(), submission.getFacultyListId());
+        }
+
+        public static NotifiedSubmission of(SubmissionRepository.DecisionKeys keys) {
+            return new NotifiedSubmission(keys.getSubmissionId(), keys.getStudentNumber(), keys.getStudentEmail(),
+                    keys.getDeptListId(), keys.getFacultyListId());
+        }
+    }
+
+    private final NotificationOutboxService outboxService;
+    private final OrgGraphService orgGraphService;
+
+    /**
+     * Notifies the reviewers the approved submissions now wait for, or, after final
+     * approval, their students
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void submissionsApproved(SubmissionStatus approvedStatus, Collection<NotifiedSubmission> submissions) {
+        if (submissions.isEmpty()) {
+            return;
+        }
+        if (approvedStatus == SubmissionStatus.FINAL_APPROVED) {
+            outboxService.enqueue(submissions.stream()
+                    .filter(submission -> hasAddress(submission.studentEmail(), submission.submissionId()))
+                    .map(submission -> notification(NotificationType.SUBMISSION_APPROVED, submission.studentEmail(),
+                            "Your graduation application was approved",
+                            "Your graduation application " + submission.submissionId()
+                                    + " has received final approval from student affairs.",
+                            submission.submissionId()))
+                    .collect(Collectors.toList()));
+            return;
+        }
+
+        OrgGraph graph = orgGraphService.getGraph();
+        Map<String, List<NotifiedSubmission>> byRecipient = new TreeMap<>();
+        for (NotifiedSubmission submission : submissions) {
+            for (String recipient : nextReviewers(graph, approvedStatus, submission)) {
+                byRecipient.computeIfAbsent(recipient, key -> new ArrayList<>()).add(submission);
+            }
+        }
+        List<NotificationOutbox> digests = new ArrayList<>(byRecipient.size());
+        byRecipient.forEach((recipient, awaiting) -> digests.add(notification(
+                NotificationType.SUBMISSIONS_AWAITING_REVIEW, recipient,
+                awaiting.size() == 1
+                        ? "A graduation submission awaits your review"
+                        : awaiting.size() + " graduation submissions await your review",
+                "The following graduation submissions were approved and await your review:\n\n"
+                        + submissionLines(awaiting),
+                awaiting.size() == 1 ? awaiting.get(0).submissionId() : null)));
+        outboxService.enqueue(digests);
+    }
+
+    /**
+     * Tells the students their submissions were rejected and why
+     *
+     * @param reason null if the reviewer gave none
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void submissionsRejected(Collection<NotifiedSubmission> submissions, String reviewerRole,
+            String reason) {
+        String reviewer = reviewerRole.toLowerCase().replace('_', ' ');
+        outboxService.enqueue(submissions.stream()
+                .filter(submission -> hasAddress(submission.studentEmail(), submission.submissionId()))
+                .map(submission -> notification(NotificationType.SUBMISSION_REJECTED, submission.studentEmail(),
+                        "Your graduation application was rejected",
+                        "Your graduation application " + submission.submissionId() + " was rejected by the "
+                                + reviewer + "." + (reason != null ? "\n\nReason: " + reason : ""),
+                        submission.submissionId()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Tells every graduated student, and sends student affairs a summary of the graduation
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void graduationCompleted(Graduation graduation, Collection<NotifiedSubmission> graduated) {
+        List<NotificationOutbox> notifications = new ArrayList<>(graduated.size() + 1);
+        for (NotifiedSubmission submission : graduated) {
+            if (hasAddress(submission.studentEmail(), submission.submissionId())) {
+                notifications.add(notification(NotificationType.GRADUATION_COMPLETED, submission.studentEmail(),
+                        "Your graduation is complete",
+                        "The graduation process for term " + graduation.getTerm()
+                                + " is complete and you are on the final graduation list. Congratulations!",
+                        submission.submissionId()));
+            }
+        }
+        String summary = "The graduation " + graduation.getGraduationId() + " for term " + graduation.getTerm()
+                + " is complete with " + graduated.size() + " graduated students:\n\n" + submissionLines(graduated);
+        for (OrgGraph.Member member : orgGraphService.getGraph().membersOf(OrgUnitType.STUDENT_AFFAIRS)) {
+            if (hasAddress(member.email(), graduation.getGraduationId())) {
+                notifications.add(notification(NotificationType.GRADUATION_SUMMARY, member.email(),
+                        "Graduation completed for term " + graduation.getTerm(), summary, null));
+            }
+        }
+        outboxService.enqueue(notifications);
+    }
+
+    /**
+     * Emails of the reviewers a submission waits for after the given approval
+     */
+    private static List<String> nextReviewers(OrgGraph graph, SubmissionStatus approvedStatus,
+            NotifiedSubmission submission) {
+        switch (approvedStatus) {
+            case APPROVED_BY_ADVISOR:
+                return ownerEmail(graph, OrgUnitType.DEPARTMENT_SECRETARY, submission.deptListId(), submission);
+            case APPROVED_BY_DEPT:
+                return ownerEmail(graph, OrgUnitType.DEAN_OFFICER, submission.facultyListId(), submission);
+            case APPROVED_BY_DEAN:
+                return graph.membersOf(OrgUnitType.STUDENT_AFFAIRS).stream()
+                        .map(OrgGraph.Member::email)
+                        .filter(email -> hasAddress(email, submission.submissionId()))
+                        .collect(Collectors.toList());
+            default:
+                return List.of();
+        }
+    }
+
+    private static List<String> ownerEmail(OrgGraph graph, OrgUnitType ownerType, String listId,
+            NotifiedSubmission submission) {
+        Optional<OrgGraph.Member> owner = listId != null ? graph.findListOwner(ownerType, listId) : Optional.empty();
+        if (owner.isEmpty()) {
+            log.warn("No {} owns the list of submission {}, nobody to notify", ownerType, submission.submissionId());
+            return List.of();
+        }
+        String email = owner.get().email();
+        return hasAddress(email, submission.submissionId()) ? List.of(email) : List.of();
+    }
+
+    private static boolean hasAddress(String email, String about) {
+        if (email == null || email.isBlank()) {
+            log.warn("No email address to notify about {}, skipping", about);
+            return false;
+        }
+        return true;
+    }
+
+    private static String submissionLines(Collection<NotifiedSubmission> submissions) {
+        return submissions.stream()
+                .map(submission -> "- " + submission.submissionId() + " (student " + submission.studentNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static NotificationOutbox notification(NotificationType type, String recipient, String subject,
+            String body, String submissionId) {
+        return NotificationOutbox.builder()
+                .type(type)
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .submissionId(submissionId)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.agms.backend.service.org;
+
+import com.agms.backend.model.OrgUnitType;
+
+import java.util.List;
+
+/**
+ * Published in the transaction that finalized one or more lists of the same
+ * type, and handled once that transaction has committed, so listeners only
+ * ever see finalizations that happened.
+ */
+public final class ListFinalizedEvent {
+
+    private final OrgUnitType listType;
+    private final List<String> listIds;
+    private final boolean automatic;
+
+    public ListFinalizedEvent(OrgUnitType listType, List<String> listIds, boolean automatic) {
+        this.listType = listType;
+        this.listIds = List.copyOf(listIds);
+        this.automatic = automatic;
+    }
+
+    public static ListFinalizedEvent of(OrgUnitType listType, String listId) {
+        return new ListFinalizedEvent(listType, List.of(listId), false);
+    }
+
+    public OrgUnitType getListType() {
+        return listType;
+    }
+
+    public List<String> getListIds() {
+        return listIds;
+    }
+
+    /**
+     * @return true if the lists were finalized by the system rather than by their owner
+     */
+    public boolean isAutomatic() {
+        return automatic;
+    }
+}
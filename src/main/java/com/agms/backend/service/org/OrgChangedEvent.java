@@ -0,0 +1,22 @@
+package com.agms.backend.service.org;
+
+/**
+ * Published when reviewers or their lists were created, moved or removed, so
+ * anything derived from the org chart can be rebuilt. Carries no delta: the
+ * chart is small and changes rarely, so listeners rebuild from scratch.
+ */
+public final class OrgChangedEvent {
+
+    private final String reason;
+
+    public OrgChangedEvent(String reason) {
+        this.reason = reason;
+    }
+
+    /**
+     * @return what changed, for logging
+     */
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,218 @@
+package com.agms.backend.service.org;
+
+import com.agms.backend.model.OrgUnitType;
+import com.agms.backend.model.users.Advisor;
+import com.agms.backend.model.users.DeanOfficer;
+import com.agms.backend.model.users.DepartmentSecretary;
+import com.agms.backend.model.users.StudentAffairs;
+import com.agms.backend.model.users.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the org chart: student affairs, dean officers,
+ * department secretaries and advisors, each with the list they own and the
+ * reviewer they report to. Members are indexed by empId and by list id per
+ * reviewer type, and children are grouped by parent up front, so every lookup
+ * is a map access and a walk to the top is at most three of them.
+ * <p>
+ * A graph is never modified once built; the owning service swaps in a new one
+ * when the org chart changes. Readers that hold on to a graph keep a
+ * consistent, if possibly outdated, view.
+ */
+public final class OrgGraph {
+
+    /**
+     * One reviewer of the org chart
+     *
+     * @param listId      id of the list the reviewer owns, null if they have none yet
+     * @param faculty     the reviewer's own faculty for dean officers, inherited from the dean officer below that
+     * @param parentEmpId empId of the reviewer one level up, null at the top or if unassigned
+     */
+    public record Member(OrgUnitType type, String empId, String firstName, String lastName, String email,
+            String department, String faculty, String listId, String parentEmpId) {
+    }
+
+    private static final OrgGraph EMPTY = new Builder(0).build();
+
+    private final long version;
+    private final Map<OrgUnitType, Map<String, Member>> membersByEmpId;
+    private final Map<OrgUnitType, Map<String, Member>> membersByListId;
+    private final Map<OrgUnitType, Map<String, List<Member>>> childrenByEmpId;
+
+    private OrgGraph(long version, Map<OrgUnitType, Map<String, Member>> membersByEmpId,
+            Map<OrgUnitType, Map<String, Member>> membersByListId,
+            Map<OrgUnitType, Map<String, List<Member>>> childrenByEmpId) {
+        this.version = version;
+        this.membersByEmpId = membersByEmpId;
+        this.membersByListId = membersByListId;
+        this.childrenByEmpId = childrenByEmpId;
+    }
+
+    public static OrgGraph empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(long version) {
+        return new Builder(version);
+    }
+
+    /**
+     * Increases with every rebuild, so logs can tell which graph answered
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return membersByEmpId.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public Optional<Member> findMember(OrgUnitType type, String empId) {
+        return Optional.ofNullable(membersByEmpId.getOrDefault(type, Map.of()).get(empId));
+    }
+
+    /**
+     * All reviewers of the type, in no particular order
+     */
+    public Collection<Member> membersOf(OrgUnitType type) {
+        return membersByEmpId.getOrDefault(type, Map.of()).values();
+    }
+
+    /**
+     * @param type type of the reviewer owning the list, e.g. ADVISOR for an advisor list
+     */
+    public Optional<Member> findListOwner(OrgUnitType type, String listId) {
+        return Optional.ofNullable(membersByListId.getOrDefault(type, Map.of()).get(listId));
+    }
+
+    public Optional<Member> parentOf(Member member) {
+        OrgUnitType parentType = parentType(member.type());
+        if (parentType == null || member.parentEmpId() == null) {
+            return Optional.empty();
+        }
+        return findMember(parentType, member.parentEmpId());
+    }
+
+    /**
+     * Reviewers reporting directly to the member
+     */
+    public List<Member> childrenOf(Member member) {
+        return childrenByEmpId.getOrDefault(member.type(), Map.of()).getOrDefault(member.empId(), List.of());
+    }
+
+    /**
+     * @return true if the member is the given reviewer or reports to them at any depth
+     */
+    public boolean isUnder(Member member, OrgUnitType ancestorType, String ancestorEmpId) {
+        Member current = member;
+        while (current != null) {
+            if (current.type() == ancestorType && current.empId().equals(ancestorEmpId)) {
+                return true;
+            }
+            current = parentOf(current).orElse(null);
+        }
+        return false;
+    }
+
+    /**
+     * Type of the reviewers one level up, null for student affairs
+     */
+    public static OrgUnitType parentType(OrgUnitType type) {
+        return switch (type) {
+            case ADVISOR -> OrgUnitType.DEPARTMENT_SECRETARY;
+            case DEPARTMENT_SECRETARY -> OrgUnitType.DEAN_OFFICER;
+            case DEAN_OFFICER -> OrgUnitType.STUDENT_AFFAIRS;
+            default -> null;
+        };
+    }
+
+    /**
+     * Node type of a reviewer, or null for users that are not part of the hierarchy
+     */
+    public static OrgUnitType reviewerType(User user) {
+        if (user instanceof Advisor) {
+            return OrgUnitType.ADVISOR;
+        } else if (user instanceof DepartmentSecretary) {
+            return OrgUnitType.DEPARTMENT_SECRETARY;
+        } else if (user instanceof DeanOfficer) {
+            return OrgUnitType.DEAN_OFFICER;
+        } else if (user instanceof StudentAffairs) {
+            return OrgUnitType.STUDENT_AFFAIRS;
+        }
+        return null;
+    }
+
+    public static String reviewerEmpId(User user) {
+        if (user instanceof Advisor advisor) {
+            return advisor.getEmpId();
+        } else if (user instanceof DepartmentSecretary secretary) {
+            return secretary.getEmpId();
+        } else if (user instanceof DeanOfficer deanOfficer) {
+            return deanOfficer.getEmpId();
+        } else if (user instanceof StudentAffairs studentAffairs) {
+            return studentAffairs.getEmpId();
+        }
+        return null;
+    }
+
+    /**
+     * Collects members from the top down and freezes them into a graph
+     */
+    public static final class Builder {
+
+        private final long version;
+        private final Map<OrgUnitType, Map<String, Member>> membersByEmpId = new EnumMap<>(OrgUnitType.class);
+
+        private Builder(long version) {
+            this.version = version;
+        }
+
+        public Builder add(Member member) {
+            if (member.empId() == null) {
+                return this;
+            }
+            membersByEmpId.computeIfAbsent(member.type(), type -> new HashMap<>()).put(member.empId(), member);
+            return this;
+        }
+
+        public OrgGraph build() {
+            Map<OrgUnitType, Map<String, Member>> byEmpId = new EnumMap<>(OrgUnitType.class);
+            Map<OrgUnitType, Map<String, Member>> byListId = new EnumMap<>(OrgUnitType.class);
+            Map<OrgUnitType, Map<String, List<Member>>> children = new EnumMap<>(OrgUnitType.class);
+
+            for (Map.Entry<OrgUnitType, Map<String, Member>> entry : membersByEmpId.entrySet()) {
+                OrgUnitType type = entry.getKey();
+                byEmpId.put(type, Map.copyOf(entry.getValue()));
+
+                Map<String, Member> owners = new HashMap<>();
+                for (Member member : entry.getValue().values()) {
+                    if (member.listId() != null) {
+                        owners.put(member.listId(), member);
+                    }
+                    OrgUnitType parentType = parentType(type);
+                    if (parentType != null && member.parentEmpId() != null) {
+                        children.computeIfAbsent(parentType, key -> new HashMap<>())
+                                .computeIfAbsent(member.parentEmpId(), key -> new ArrayList<>())
+                                .add(member);
+                    }
+                }
+                byListId.put(type, Map.copyOf(owners));
+            }
+            children.replaceAll((type, byParent) -> {
+                byParent.replaceAll((parentEmpId, members) -> List.copyOf(members));
+                return Collections.unmodifiableMap(byParent);
+            });
+
+            return new OrgGraph(version, Collections.unmodifiableMap(byEmpId), Collections.unmodifiableMap(byListId),
+                    Collections.unmodifiableMap(children));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.agms.backend.service.ubys;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the UBYS export from a file or classpath resource, by default the
+ * bundled data/ubys.json sample.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ubys.source", havingValue = "file", matchIfMissing = true)
+public class FileUbysDataSource implements UbysDataSource {
+
+    private final Resource exportResource;
+
+    public FileUbysDataSource(@Value("${ubys.file.location:classpath:data/ubys.json}") Resource exportResource) {
+        this.exportResource = exportResource;
+        log.info("UBYS data will be read from {}", exportResource.getDescription());
+    }
+
+    @Override
+    public InputStream openExport() throws IOException {
+        return exportResource.getInputStream();
+    }
+
+    @Override
+    public long getLastModified() {
+        try {
+            return exportResource.isFile() ? exportResource.lastModified() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return exportResource.getDescription();
+    }
+
+    public Resource getExportResource() {
+        return exportResource;
+    }
+}
@@ -0,0 +1,364 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.exception.UbysUnavailableException;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Talks to a remote UBYS registrar service over HTTP.
+ * <p>
+ * Expected endpoints, relative to {@code ubys.http.base-url}:
+ * <ul>
+ * <li>{@code GET /export} - the full export in the ubys.json format</li>
+ * <li>{@code GET /students/{studentNumber}} - a single student record, 404 if unknown</li>
+ * <li>{@code POST /students/batch} - body is a JSON array of student numbers, the
+ * answer a JSON object of the known ones keyed by student number</li>
+ * </ul>
+ * Every call is bounded so that a slow registrar cannot pin request threads:
+ * connections are pooled and kept alive by the shared {@link HttpClient}, each
+ * request has its own timeout, a bulkhead caps concurrent calls, a circuit
+ * breaker rejects calls while UBYS keeps failing, and student lookups are
+ * hedged with a second request when the first one is slower than usual.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ubys.source", havingValue = "http")
+public class HttpUbysDataSource implements UbysDataSource {
+
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final Duration exportTimeout;
+    private final Duration bulkheadWait;
+    private final Duration hedgeDelay;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final UbysCircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private final AtomicLong hedgedCalls = new AtomicLong();
+
+    public HttpUbysDataSource(
+            ObjectMapper objectMapper,
+            @Value("${ubys.http.base-url}") String baseUrl,
+            @Value("${ubys.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${ubys.http.request-timeout-ms:2000}") long requestTimeoutMs,
+            @Value("${ubys.http.export-timeout-ms:30000}") long exportTimeoutMs,
+            @Value("${ubys.http.max-concurrent-calls:16}") int maxConcurrentCalls,
+            @Value("${ubys.http.bulkhead-wait-ms:100}") long bulkheadWaitMs,
+            @Value("${ubys.http.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ubys.http.circuit-breaker.open-ms:30000}") long circuitOpenMs,
+            @Value("${ubys.http.hedge-delay-ms:300}") long hedgeDelayMs) {
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.exportTimeout = Duration.ofMillis(exportTimeoutMs);
+        this.bulkheadWait = Duration.ofMillis(bulkheadWaitMs);
+        this.hedgeDelay = Duration.ofMillis(hedgeDelayMs);
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new UbysCircuitBreaker(failureThreshold, Duration.ofMillis(circuitOpenMs));
+        this.objectMapper = objectMapper.copy();
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        // A single client is shared by all calls so that its connection pool keeps
+        // connections to UBYS alive between requests
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        log.info("UBYS data will be fetched from {} (timeout: {} ms, max concurrent calls: {}, hedge after: {} ms)",
+                baseUri, requestTimeoutMs, maxConcurrentCalls, hedgeDelayMs);
+    }
+
+    @Override
+    public InputStream openExport() {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("export"))
+                .timeout(exportTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        // The export is large, so it is streamed to the caller and never hedged
+        HttpResponse<InputStream> response = call("export", exportTimeout,
+                () -> send(request, HttpResponse.BodyHandlers.ofInputStream(), this::requireSuccess));
+        return response.body();
+    }
+
+    @Override
+    public Optional<UbysStudentRecord> fetchStudent(String studentNumber) {
+        URI uri = baseUri.resolve("students/" + URLEncoder.encode(studentNumber, StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response = call("student " + studentNumber, requestTimeout.plus(hedgeDelay),
+                () -> hedged(() -> send(request, HttpResponse.BodyHandlers.ofByteArray(),
+                        this::requireSuccessOrNotFound)));
+
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(response.body(), UbysStudentRecord.class));
+        } catch (IOException e) {
+            throw new UbysUnavailableException("UBYS returned an unreadable record for student " + studentNumber, e);
+        }
+    }
+
+    @Override
+    public Map<String, UbysStudentRecord> fetchStudents(Collection<String> studentNumbers) {
+        if (studentNumbers.isEmpty()) {
+            return Map.of();
+        }
+
+        byte[] requestBody;
+        try {
+            requestBody = objectMapper.writeValueAsBytes(studentNumbers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize student numbers", e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("students/batch"))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody))
+                .build();
+
+        // A batch lookup only reads, so it is as safe to hedge as a single lookup
+        String description = studentNumbers.size() + " students";
+        HttpResponse<byte[]> response = call(description, requestTimeout.plus(hedgeDelay),
+                () -> hedged(() -> send(request, HttpResponse.BodyHandlers.ofByteArray(), this::requireSuccess)));
+
+        try {
+            return objectMapper.readValue(response.body(), new TypeReference<Map<String, UbysStudentRecord>>() {
+            });
+        } catch (IOException e) {
+            throw new UbysUnavailableException("UBYS returned an unreadable batch for " + description, e);
+        }
+    }
+
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return baseUri.toString();
+    }
+
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("source", getDescription());
+        status.put("circuitState", circuitBreaker.getState().name());
+        status.put("availableCalls", bulkhead.availablePermits());
+        status.put("rejectedCalls", rejectedCalls.get());
+        status.put("hedgedCalls", hedgedCalls.get());
+        return status;
+    }
+
+    /**
+     * Runs one logical call through the circuit breaker and the bulkhead and
+     * waits at most {@code timeout} for its result. A call that is given up on
+     * is cancelled, which aborts its HTTP exchange.
+     */
+    private <T> T call(String description, Duration timeout, CallSupplier<T> supplier) {
+        boolean acquired = false;
+        boolean permitted = false;
+        CompletableFuture<T> future = null;
+        try {
+            acquired = bulkhead.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                rejectedCalls.incrementAndGet();
+                throw new UbysUnavailableException("Too many concurrent UBYS calls, rejected call for " + description);
+            }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                rejectedCalls.incrementAndGet();
+                throw new UbysUnavailableException("UBYS is unavailable (circuit open), rejected call for "
+                        + description);
+            }
+            permitted = true;
+
+            try {
+                future = supplier.get();
+                T result = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                circuitBreaker.recordSuccess();
+                return result;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                circuitBreaker.recordFailure();
+                throw new UbysUnavailableException("UBYS did not answer within " + timeout.toMillis() + " ms for "
+                        + description, e);
+            } catch (ExecutionException e) {
+                circuitBreaker.recordFailure();
+                log.warn("UBYS call for {} failed: {}", description, e.getCause().getMessage());
+                throw new UbysUnavailableException("UBYS call for " + description + " failed", e.getCause());
+            } catch (RuntimeException e) {
+                // Thrown before a future existed; still counts, or a half-open trial permit would leak
+                circuitBreaker.recordFailure();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (future != null) {
+                future.cancel(true);
+            }
+            if (permitted) {
+                circuitBreaker.recordFailure();
+            }
+            throw new UbysUnavailableException("Interrupted while calling UBYS for " + description, e);
+        } finally {
+            if (acquired) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    /**
+     * Sends the request and, if it has not completed after the hedge delay,
+     * sends it once more; whichever succeeds first wins. Both attempts must fail
+     * for the hedged call to fail. The second request takes its own bulkhead
+     * permit and is skipped when none is free, so hedging never adds load while
+     * UBYS is saturated. Once the result is settled the other attempt is cancelled.
+     */
+    private <T> CompletableFuture<T> hedged(CallSupplier<T> attempt) {
+        CompletableFuture<T> primary = attempt.get();
+        if (hedgeDelay.isZero()) {
+            return primary;
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<T> hedge = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<T>> hedgeAttempt = new AtomicReference<>();
+        CompletableFuture.delayedExecutor(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (primary.isDone() || result.isDone() || !bulkhead.tryAcquire()) {
+                // Nothing to hedge or no room for it; mirror the primary instead of sending again
+                primary.whenComplete(completeInto(hedge));
+                return;
+            }
+            hedgedCalls.incrementAndGet();
+            CompletableFuture<T> started;
+            try {
+                started = attempt.get();
+            } catch (RuntimeException e) {
+                bulkhead.release();
+                hedge.completeExceptionally(e);
+                return;
+            }
+            started.whenComplete((value, error) -> bulkhead.release());
+            started.whenComplete(completeInto(hedge));
+            hedgeAttempt.set(started);
+            if (result.isDone()) {
+                started.cancel(true);
+            }
+        });
+
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<T, Throwable> firstSuccess = (value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(error);
+            }
+        };
+        primary.whenComplete(firstSuccess);
+        hedge.whenComplete(firstSuccess);
+        result.whenComplete((value, error) -> {
+            primary.cancel(true);
+            CompletableFuture<T> started = hedgeAttempt.get();
+            if (started != null) {
+                started.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Sends the request and checks its response. Cancelling the returned
+     * future aborts the exchange, which a plain {@code thenApply} would not.
+     */
+    private <B> CompletableFuture<HttpResponse<B>> send(HttpRequest request, HttpResponse.BodyHandler<B> handler,
+                                                       UnaryOperator<HttpResponse<B>> check) {
+        CompletableFuture<HttpResponse<B>> exchange = httpClient.sendAsync(request, handler);
+        CompletableFuture<HttpResponse<B>> checked = exchange.thenApply(check);
+        checked.whenComplete((response, error) -> {
+            if (checked.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return checked;
+    }
+
+    private static <T> BiConsumer<T, Throwable> completeInto(CompletableFuture<T> target) {
+        return (value, error) -> {
+            if (error != null) {
+                target.completeExceptionally(error);
+            } else {
+                target.complete(value);
+            }
+        };
+    }
+
+    private <B> HttpResponse<B> requireSuccess(HttpResponse<B> response) {
+        if (response.statusCode() / 100 != 2) {
+            closeQuietly(response.body());
+            throw new UncheckedIOException(new IOException("UBYS responded with HTTP " + response.statusCode()));
+        }
+        return response;
+    }
+
+    private <B> HttpResponse<B> requireSuccessOrNotFound(HttpResponse<B> response) {
+        return response.statusCode() == 404 ? response : requireSuccess(response);
+    }
+
+    private static void closeQuietly(Object body) {
+        if (body instanceof InputStream) {
+            try {
+                ((InputStream) body).close();
+            } catch (IOException ignored) {
+                // Nothing useful to do, the response is discarded anyway
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface CallSupplier<T> {
+        CompletableFuture<T> get();
+    }
+}
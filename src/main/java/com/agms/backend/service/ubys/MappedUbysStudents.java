@@ -0,0 +1,269 @@
+package com.agms.backend.service.ubys;
+
+import static com.agms.backend.service.ubys.UbysBinaryCompiler.*;
+
+import com.agms.backend.model.ubys.UbysCourseRecord;
+import com.agms.backend.model.ubys.UbysDocument;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import com.agms.backend.model.ubys.UbysUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only student section backed by a memory-mapped binary snapshot written
+ * by {@link UbysBinaryCompiler}. Nothing is deserialized up front: a lookup is
+ * a binary search over the fixed-width index comparing raw UTF-8 bytes, and
+ * only the record that was asked for is decoded. The heap cost is therefore
+ * independent of the number of students; the page cache holds the data.
+ * <p>
+ * Only absolute buffer reads are used, so one instance can be shared by any
+ * number of threads.
+ * <p>
+ * The file is mapped as one buffer addressed with int offsets, so snapshots are
+ * limited to {@link UbysBinaryCompiler#MAX_SNAPSHOT_SIZE} bytes; the compiler
+ * refuses larger exports and {@link #open(Path)} refuses larger files.
+ */
+public final class MappedUbysStudents extends AbstractMap<String, UbysStudentRecord> {
+
+    private final ByteBuffer buffer;
+    private final int studentCount;
+    private final int stringOffsetsAt;
+    private final int stringDataAt;
+    private final int indexAt;
+    private final int coursesAt;
+    private final int staffAt;
+    private final int staffLength;
+    private final boolean hasStudents;
+
+    private MappedUbysStudents(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(MAGIC_AT) != MAGIC) {
+            throw new IOException("Not a UBYS binary snapshot");
+        }
+        if (buffer.getInt(FORMAT_VERSION_AT) != FORMAT_VERSION) {
+            throw new IOException("Unsupported UBYS binary snapshot version " + buffer.getInt(FORMAT_VERSION_AT));
+        }
+        this.studentCount = buffer.getInt(STUDENT_COUNT_AT);
+        this.stringOffsetsAt = offset(buffer, STRING_OFFSETS_AT);
+        this.stringDataAt = offset(buffer, STRING_DATA_AT);
+        this.indexAt = offset(buffer, INDEX_AT);
+        this.coursesAt = offset(buffer, COURSES_AT);
+        this.staffAt = offset(buffer, STAFF_AT);
+        this.staffLength = buffer.getInt(STAFF_LENGTH_AT);
+        this.hasStudents = (buffer.getInt(HEADER_FLAGS_AT) & HEADER_HAS_STUDENTS) != 0;
+        if ((long) staffAt + staffLength > buffer.capacity()) {
+            throw new IOException("Truncated UBYS binary snapshot");
+        }
+    }
+
+    /**
+     * Maps the binary snapshot read-only. The mapping stays valid after the file
+     * is replaced on disk and is released once this instance is unreachable.
+     *
+     * @throws IOException if the file cannot be mapped or is not a valid snapshot
+     */
+    public static MappedUbysStudents open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_SNAPSHOT_SIZE) {
+                throw new IOException("UBYS binary snapshot " + file + " has " + channel.size()
+                        + " bytes, more than the " + MAX_SNAPSHOT_SIZE + " a single mapping can address");
+            }
+            return new MappedUbysStudents(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a section offset from the header, which the compiler wrote as a long
+     */
+    private static int offset(ByteBuffer buffer, int at) throws IOException {
+        long offset = buffer.getLong(at);
+        if (offset < HEADER_SIZE || offset > buffer.capacity()) {
+            throw new IOException("Corrupt UBYS binary snapshot: section offset " + offset + " out of range");
+        }
+        return (int) offset;
+    }
+
+    /**
+     * @return false if the export the snapshot was compiled from had no students section
+     */
+    public boolean hasStudents() {
+        return hasStudents;
+    }
+
+    /**
+     * Decodes the staff sections stored next to the students
+     */
+    public UbysDocument readStaff(ObjectMapper objectMapper) throws IOException {
+        byte[] staffJson = new byte[staffLength];
+        buffer.get(staffAt, staffJson);
+        return objectMapper.readValue(staffJson, UbysDocument.class);
+    }
+
+    // ========== MAP VIEW ==========
+
+    @Override
+    public int size() {
+        return studentCount;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String studentNumber && indexOf(studentNumber) >= 0;
+    }
+
+    @Override
+    public UbysStudentRecord get(Object key) {
+        if (!(key instanceof String studentNumber)) {
+            return null;
+        }
+        int entry = indexOf(studentNumber);
+        return entry >= 0 ? decode(entry) : null;
+    }
+
+    /**
+     * Iterates in student number order, decoding each record as it is reached
+     */
+    @Override
+    public Set<Map.Entry<String, UbysStudentRecord>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, UbysStudentRecord>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < studentCount;
+                    }
+
+                    @Override
+                    public Map.Entry<String, UbysStudentRecord> next() {
+                        if (next >= studentCount) {
+                            throw new NoSuchElementException();
+                        }
+                        int entry = next++;
+                        return new SimpleImmutableEntry<>(string(field(entry, KEY)), decode(entry));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return studentCount;
+            }
+        };
+    }
+
+    // ========== DECODING ==========
+
+    private int indexOf(String studentNumber) {
+        byte[] key = studentNumber.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = studentCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareString(field(mid, KEY), key);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private UbysStudentRecord decode(int entry) {
+        int flags = field(entry, FLAGS);
+
+        UbysUser user = null;
+        if ((flags & HAS_USER) != 0) {
+            user = UbysUser.builder()
+                    .id(string(field(entry, USER_ID)))
+                    .firstName(string(field(entry, FIRST_NAME)))
+                    .lastName(string(field(entry, LAST_NAME)))
+                    .email(string(field(entry, EMAIL)))
+                    .role(string(field(entry, ROLE)))
+                    .build();
+        }
+
+        List<UbysCourseRecord> courses = null;
+        if ((flags & HAS_COURSES) != 0) {
+            int firstCourse = field(entry, FIRST_COURSE);
+            int courseCount = field(entry, COURSE_COUNT);
+            courses = new ArrayList<>(courseCount);
+            for (int i = 0; i < courseCount; i++) {
+                courses.add(decodeCourse(coursesAt + (firstCourse + i) * COURSE_ENTRY_SIZE));
+            }
+        }
+
+        return UbysStudentRecord.builder()
+                .studentNumber(string(field(entry, STUDENT_NUMBER)))
+                .advisorId(string(field(entry, ADVISOR_ID)))
+                .department(string(field(entry, DEPARTMENT)))
+                .user(user)
+                .semester(field(entry, SEMESTER))
+                .courses(courses)
+                .build();
+    }
+
+    private UbysCourseRecord decodeCourse(int position) {
+        int credit = buffer.getInt(position + COURSE_CREDIT);
+        if (credit == NULL_COURSE) {
+            return null;
+        }
+        return UbysCourseRecord.builder()
+                .code(string(buffer.getInt(position + COURSE_CODE)))
+                .name(string(buffer.getInt(position + COURSE_NAME)))
+                .grade(string(buffer.getInt(position + COURSE_GRADE)))
+                .credit(credit)
+                .build();
+    }
+
+    private int field(int entry, int offset) {
+        return buffer.getInt(indexAt + entry * INDEX_ENTRY_SIZE + offset);
+    }
+
+    private String string(int id) {
+        if (id == NO_STRING) {
+            return null;
+        }
+        int start = buffer.getInt(stringOffsetsAt + id * 4);
+        int end = buffer.getInt(stringOffsetsAt + (id + 1) * 4);
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringDataAt + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares a table string with the key by unsigned UTF-8 bytes, the order the
+     * index was sorted in, without decoding it
+     */
+    private int compareString(int id, byte[] key) {
+        int start = stringDataAt + buffer.getInt(stringOffsetsAt + id * 4);
+        int length = stringDataAt + buffer.getInt(stringOffsetsAt + (id + 1) * 4) - start;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int comparison = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+}
@@ -0,0 +1,342 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.ubys.UbysCourseRecord;
+import com.agms.backend.model.ubys.UbysDocument;
+import com.agms.backend.model.ubys.UbysStaffRecord;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a UBYS JSON export into the binary snapshot format read by
+ * {@link MappedUbysStudents}. All integers are big-endian; string fields are
+ * ids into a shared string table, -1 meaning null.
+ *
+ * <pre>
+ * header      64 bytes, see the *_AT offsets below
+ * string table  int[stringCount + 1] offsets into the UTF-8 string data, then the data
+ * index       one fixed-width entry per student, sorted by the unsigned UTF-8
+ *             bytes of the student number, so lookups are a binary search
+ * courses     fixed-width course entries; each student owns a contiguous run
+ * staff       the four staff sections as JSON, they are small and read eagerly
+ * </pre>
+ *
+ * The target is written to a temporary file and moved into place atomically, so
+ * nodes that still map the previous version keep reading a consistent file.
+ * <p>
+ * The reader maps the file as a single buffer with int offsets, so a compiled
+ * snapshot is limited to {@link #MAX_SNAPSHOT_SIZE} bytes. Exports that would
+ * exceed it are rejected while compiling; serve those from JSON instead
+ * ({@code ubys.binary.enabled=false}).
+ */
+public final class UbysBinaryCompiler {
+
+    static final int MAGIC = 0x55425953; // "UBYS"
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * Largest snapshot a single {@link java.nio.MappedByteBuffer} can address
+     */
+    public static final long MAX_SNAPSHOT_SIZE = Integer.MAX_VALUE;
+
+    // Header layout
+    static final int HEADER_SIZE = 64;
+    static final int MAGIC_AT = 0;
+    static final int FORMAT_VERSION_AT = 4;
+    static final int STUDENT_COUNT_AT = 8;
+    static final int STRING_COUNT_AT = 12;
+    static final int STRING_OFFSETS_AT = 16;
+    static final int STRING_DATA_AT = 24;
+    static final int INDEX_AT = 32;
+    static final int COURSES_AT = 40;
+    static final int STAFF_AT = 48;
+    static final int STAFF_LENGTH_AT = 56;
+    static final int HEADER_FLAGS_AT = 60;
+
+    static final int HEADER_HAS_STUDENTS = 1;
+
+    // Index entry layout
+    static final int INDEX_ENTRY_SIZE = 52;
+    static final int KEY = 0;
+    static final int STUDENT_NUMBER = 4;
+    static final int ADVISOR_ID = 8;
+    static final int DEPARTMENT = 12;
+    static final int USER_ID = 16;
+    static final int FIRST_NAME = 20;
+    static final int LAST_NAME = 24;
+    static final int EMAIL = 28;
+    static final int ROLE = 32;
+    static final int SEMESTER = 36;
+    static final int FIRST_COURSE = 40;
+    static final int COURSE_COUNT = 44;
+    static final int FLAGS = 48;
+
+    static final int HAS_USER = 1;
+    static final int HAS_COURSES = 2;
+
+    // Course entry layout
+    static final int COURSE_ENTRY_SIZE = 16;
+    static final int COURSE_CODE = 0;
+    static final int COURSE_NAME = 4;
+    static final int COURSE_GRADE = 8;
+    static final int COURSE_CREDIT = 12;
+
+    static final int NO_STRING = -1;
+
+    /**
+     * Credit of a course entry that stands for a null element of the course list
+     */
+    static final int NULL_COURSE = Integer.MIN_VALUE;
+
+    private static final TypeReference<Map<String, UbysStaffRecord>> STAFF_SECTION =
+            new TypeReference<Map<String, UbysStaffRecord>>() {
+            };
+
+    private UbysBinaryCompiler() {
+    }
+
+    /**
+     * Compiles the export into the target file. Students are read one record at
+     * a time, so only the string table and the index are held in memory while
+     * compiling; course entries are spooled to a temporary file.
+     *
+     * @param export       the JSON export; closed when this method returns
+     * @param target       the binary file to create or replace
+     * @param objectMapper mapper configured for the UBYS record types
+     * @return number of students written
+     * @throws IOException if the export cannot be read or parsed, the compiled snapshot would exceed
+     *                     {@link #MAX_SNAPSHOT_SIZE}, or the target cannot be written
+     */
+    public static int compile(InputStream export, Path target, ObjectMapper objectMapper) throws IOException {
+        return compile(export, target, objectMapper, MAX_SNAPSHOT_SIZE);
+    }
+
+    static int compile(InputStream export, Path target, ObjectMapper objectMapper, long maxSize)
+            throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        StringTable strings = new StringTable();
+        List<IndexEntry> index = new ArrayList<>();
+        UbysDocument.UbysDocumentBuilder staff = UbysDocument.builder();
+        boolean hasStudents = false;
+        int courseCount = 0;
+
+        Path courseSpool = Files.createTempFile(directory, "ubys-courses", ".tmp");
+        Path compiled = Files.createTempFile(directory, "ubys-snapshot", ".tmp");
+        try {
+            try (JsonParser parser = objectMapper.createParser(export);
+                    DataOutputStream courses = new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(courseSpool)))) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("UBYS export must be a JSON object");
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String section = parser.getCurrentName();
+                    JsonToken valueToken = parser.nextToken();
+                    if (valueToken != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+
+                    switch (section) {
+                        case "studentAffairs" -> staff.studentAffairs(objectMapper.readValue(parser, STAFF_SECTION));
+                        case "deanOfficers" -> staff.deanOfficers(objectMapper.readValue(parser, STAFF_SECTION));
+                        case "departmentSecretaries" ->
+                            staff.departmentSecretaries(objectMapper.readValue(parser, STAFF_SECTION));
+                        case "advisors" -> staff.advisors(objectMapper.readValue(parser, STAFF_SECTION));
+                        case "students" -> {
+                            hasStudents = true;
+                            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                String key = parser.getCurrentName();
+                                parser.nextToken();
+                                UbysStudentRecord studentRecord = objectMapper.readValue(parser,
+                                        UbysStudentRecord.class);
+                                index.add(toIndexEntry(key, studentRecord, courseCount, strings));
+                                courseCount += writeCourses(studentRecord.getCourses(), courses, strings);
+                                // Give up as soon as the students alone no longer fit, not after spooling them all
+                                checkSize(HEADER_SIZE + 4L * (strings.size() + 1) + strings.dataLength()
+                                        + (long) INDEX_ENTRY_SIZE * index.size()
+                                        + (long) COURSE_ENTRY_SIZE * courseCount, maxSize);
+                            }
+                        }
+                        default -> parser.skipChildren();
+                    }
+                }
+            }
+
+            index.sort((a, b) -> Arrays.compareUnsigned(a.key(), b.key()));
+            byte[] staffJson = objectMapper.writeValueAsBytes(staff.build());
+            writeFile(compiled, strings, index, courseSpool, courseCount, staffJson, hasStudents, maxSize);
+            Files.move(compiled, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return index.size();
+        } finally {
+            Files.deleteIfExists(courseSpool);
+            Files.deleteIfExists(compiled);
+        }
+    }
+
+    private static IndexEntry toIndexEntry(String key, UbysStudentRecord studentRecord, int firstCourse,
+            StringTable strings) {
+        int[] fields = new int[INDEX_ENTRY_SIZE / 4];
+        int flags = 0;
+        fields[KEY / 4] = strings.id(key);
+        fields[STUDENT_NUMBER / 4] = strings.id(studentRecord.getStudentNumber());
+        fields[ADVISOR_ID / 4] = strings.id(studentRecord.getAdvisorId());
+        fields[DEPARTMENT / 4] = strings.id(studentRecord.getDepartment());
+        if (studentRecord.getUser() != null) {
+            flags |= HAS_USER;
+            fields[USER_ID / 4] = strings.id(studentRecord.getUser().getId());
+            fields[FIRST_NAME / 4] = strings.id(studentRecord.getUser().getFirstName());
+            fields[LAST_NAME / 4] = strings.id(studentRecord.getUser().getLastName());
+            fields[EMAIL / 4] = strings.id(studentRecord.getUser().getEmail());
+            fields[ROLE / 4] = strings.id(studentRecord.getUser().getRole());
+        } else {
+            fields[USER_ID / 4] = NO_STRING;
+            fields[FIRST_NAME / 4] = NO_STRING;
+            fields[LAST_NAME / 4] = NO_STRING;
+            fields[EMAIL / 4] = NO_STRING;
+            fields[ROLE / 4] = NO_STRING;
+        }
+        fields[SEMESTER / 4] = studentRecord.getSemester();
+        fields[FIRST_COURSE / 4] = firstCourse;
+        if (studentRecord.getCourses() != null) {
+            flags |= HAS_COURSES;
+            fields[COURSE_COUNT / 4] = studentRecord.getCourses().size();
+        }
+        fields[FLAGS / 4] = flags;
+        return new IndexEntry(key.getBytes(StandardCharsets.UTF_8), fields);
+    }
+
+    private static int writeCourses(List<UbysCourseRecord> courses, DataOutputStream out, StringTable strings)
+            throws IOException {
+        if (courses == null) {
+            return 0;
+        }
+        for (UbysCourseRecord course : courses) {
+            if (course == null) {
+                out.writeInt(NO_STRING);
+                out.writeInt(NO_STRING);
+                out.writeInt(NO_STRING);
+                out.writeInt(NULL_COURSE);
+                continue;
+            }
+            out.writeInt(strings.id(course.getCode()));
+            out.writeInt(strings.id(course.getName()));
+            out.writeInt(strings.id(course.getGrade()));
+            out.writeInt(course.getCredit());
+        }
+        return courses.size();
+    }
+
+    private static void writeFile(Path file, StringTable strings, List<IndexEntry> index, Path courseSpool,
+            int courseCount, byte[] staffJson, boolean hasStudents, long maxSize) throws IOException {
+        long stringOffsetsAt = HEADER_SIZE;
+        long stringDataAt = stringOffsetsAt + 4L * (strings.size() + 1);
+        long indexAt = stringDataAt + strings.dataLength();
+        long coursesAt = indexAt + (long) INDEX_ENTRY_SIZE * index.size();
+        long staffAt = coursesAt + (long) COURSE_ENTRY_SIZE * courseCount;
+        checkSize(staffAt + staffJson.length, maxSize);
+
+        try (OutputStream fileOut = Files.newOutputStream(file);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(index.size());
+            out.writeInt(strings.size());
+            out.writeLong(stringOffsetsAt);
+            out.writeLong(stringDataAt);
+            out.writeLong(indexAt);
+            out.writeLong(coursesAt);
+            out.writeLong(staffAt);
+            out.writeInt(staffJson.length);
+            out.writeInt(hasStudents ? HEADER_HAS_STUDENTS : 0);
+
+            strings.writeTo(out);
+
+            for (IndexEntry entry : index) {
+                for (int field : entry.fields()) {
+                    out.writeInt(field);
+                }
+            }
+
+            out.flush();
+            Files.copy(courseSpool, fileOut);
+            fileOut.write(staffJson);
+        }
+    }
+
+    private static void checkSize(long size, long maxSize) throws IOException {
+        if (size > maxSize) {
+            throw new IOException("UBYS export is too large for the binary snapshot format: it needs more than "
+                    + size + " bytes and a snapshot is limited to " + maxSize
+                    + "; set ubys.binary.enabled=false to serve it from JSON");
+        }
+    }
+
+    private record IndexEntry(byte[] key, int[] fields) {
+    }
+
+    /**
+     * Deduplicating string table; departments, grades and course codes repeat
+     * across students and are stored once
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private long dataLength;
+
+        int id(String value) {
+            if (value == null) {
+                return NO_STRING;
+            }
+            Integer id = ids.get(value);
+            if (id != null) {
+                return id;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ids.put(value, values.size());
+            values.add(bytes);
+            dataLength += bytes.length;
+            return values.size() - 1;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        long dataLength() {
+            return dataLength;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] value : values) {
+                offset += value.length;
+                out.writeInt(offset);
+            }
+            for (byte[] value : values) {
+                out.write(value);
+            }
+        }
+    }
+}
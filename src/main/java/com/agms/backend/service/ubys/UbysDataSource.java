@@ -0,0 +1,71 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.ubys.UbysStudentRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Where UBYS data comes from. {@link com.agms.backend.service.UbysService}
+ * builds its snapshot from {@link #openExport()} and only falls back to
+ * {@link #fetchStudent(String)} for students missing from the snapshot.
+ * The implementation is selected with the {@code ubys.source} property.
+ */
+public interface UbysDataSource {
+
+    /**
+     * Opens the full UBYS export. The caller is responsible for closing the stream.
+     *
+     * @throws IOException if the export cannot be read
+     * @throws com.agms.backend.exception.UbysUnavailableException if a remote
+     *         source refuses or fails the call
+     */
+    InputStream openExport() throws IOException;
+
+    /**
+     * Looks up a single student directly at the source.
+     * Sources whose export is already complete have nothing more to offer and
+     * return an empty result.
+     */
+    default Optional<UbysStudentRecord> fetchStudent(String studentNumber) {
+        return Optional.empty();
+    }
+
+    /**
+     * Looks up several students directly at the source in one call.
+     * Unknown student numbers are left out of the result.
+     */
+    default Map<String, UbysStudentRecord> fetchStudents(Collection<String> studentNumbers) {
+        return Map.of();
+    }
+
+    /**
+     * @return true if calls go over the network and may be slow or unavailable
+     */
+    default boolean isRemote() {
+        return false;
+    }
+
+    /**
+     * @return last modification time of the export in epoch milliseconds, or -1
+     *         if the source cannot tell without reading it
+     */
+    default long getLastModified() {
+        return -1;
+    }
+
+    /**
+     * @return human readable description of the source, e.g. its location
+     */
+    String getDescription();
+
+    /**
+     * @return runtime health details of the source for diagnostics
+     */
+    default Map<String, Object> getStatus() {
+        return Map.of("source", getDescription());
+    }
+}
@@ -0,0 +1,120 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.Course;
+import com.agms.backend.model.ubys.UbysCourseRecord;
+import com.agms.backend.model.ubys.UbysStaffRecord;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import com.agms.backend.model.ubys.UbysUser;
+import com.agms.backend.model.users.Advisor;
+import com.agms.backend.model.users.DeanOfficer;
+import com.agms.backend.model.users.DepartmentSecretary;
+import com.agms.backend.model.users.Student;
+import com.agms.backend.model.users.StudentAffairs;
+import com.agms.backend.model.users.User;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps UBYS records to entities. Shared by the in-memory snapshot and the
+ * streaming importer so both paths produce identical entities.
+ */
+@Slf4j
+public final class UbysEntityMapper {
+
+    private UbysEntityMapper() {
+    }
+
+    /**
+     * Creates a Student object for database persistence (without transient
+     * attributes)
+     */
+    public static Student toStudent(String studentNumber, UbysStudentRecord studentRecord) {
+        // Get department directly from student data (object-oriented approach)
+        String department = studentRecord.getDepartment();
+        if (department == null) {
+            department = "Unknown"; // Default department
+            log.warn("Department not found for student {}", studentNumber);
+        }
+
+        Student student = Student.builder()
+                .studentNumber(studentNumber)
+                .department(department)
+                .build();
+
+        // ID will be auto-generated, so we don't need to set it manually
+        applyUserData(student, studentRecord.getUser());
+
+        // Note: The advisor relationship is set by the caller from the record's advisorId
+        return student;
+    }
+
+    /**
+     * Creates a Student object with all transient attributes calculated
+     */
+    public static Student toStudentWithTransientAttributes(String studentNumber, UbysStudentRecord studentRecord) {
+        // Start with the base student for database
+        Student student = toStudent(studentNumber, studentRecord);
+
+        student.setSemester(studentRecord.getSemester());
+
+        // Process courses and calculate GPA and total credits
+        if (studentRecord.getCourses() != null) {
+            List<Course> courses = new ArrayList<>(studentRecord.getCourses().size());
+            for (UbysCourseRecord courseRecord : studentRecord.getCourses()) {
+                courses.add(courseRecord.toCourse());
+            }
+            student.setCourses(courses);
+        }
+
+        return student;
+    }
+
+    public static StudentAffairs toStudentAffairs(String empId, UbysStaffRecord studentAffairsRecord) {
+        StudentAffairs studentAffairs = StudentAffairs.builder()
+                .empId(empId)
+                .build();
+
+        applyUserData(studentAffairs, studentAffairsRecord.getUser());
+        return studentAffairs;
+    }
+
+    public static DeanOfficer toDeanOfficer(String empId, UbysStaffRecord deanOfficerRecord) {
+        DeanOfficer deanOfficer = DeanOfficer.builder()
+                .empId(empId)
+                .faculty(deanOfficerRecord.getFaculty())
+                .build();
+
+        applyUserData(deanOfficer, deanOfficerRecord.getUser());
+        return deanOfficer;
+    }
+
+    public static DepartmentSecretary toDepartmentSecretary(String empId, UbysStaffRecord departmentSecretaryRecord) {
+        DepartmentSecretary departmentSecretary = DepartmentSecretary.builder()
+                .empId(empId)
+                .department(departmentSecretaryRecord.getDepartment())
+                .build();
+
+        applyUserData(departmentSecretary, departmentSecretaryRecord.getUser());
+        return departmentSecretary;
+    }
+
+    public static Advisor toAdvisor(String empId, UbysStaffRecord advisorRecord) {
+        Advisor advisor = Advisor.builder()
+                .empId(empId)
+                .department(advisorRecord.getDepartment())
+                .build();
+
+        applyUserData(advisor, advisorRecord.getUser());
+        return advisor;
+    }
+
+    private static void applyUserData(User user, UbysUser userData) {
+        if (userData != null) {
+            user.setFirstName(userData.getFirstName());
+            user.setLastName(userData.getLastName());
+            user.setEmail(userData.getEmail());
+        }
+    }
+}
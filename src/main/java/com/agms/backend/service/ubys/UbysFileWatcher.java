@@ -0,0 +1,129 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.service.UbysService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot-reloads the UBYS snapshot when the export file of a file-backed source
+ * changes on disk, so corrected grades are served without restarting the node.
+ * Parsing happens on the watcher thread; request threads keep reading the
+ * previous snapshot until the new one is swapped in.
+ * <p>
+ * The parent directory is watched rather than the file itself, so exports that
+ * are replaced by an atomic rename are picked up too. Resources that are not
+ * plain files (e.g. inside a jar) cannot be watched and are left alone.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ubys.file.watch", havingValue = "true", matchIfMissing = true)
+public class UbysFileWatcher {
+
+    private final UbysDataSource dataSource;
+    private final UbysService ubysService;
+    private final long debounceMs;
+
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    public UbysFileWatcher(UbysDataSource dataSource, UbysService ubysService,
+            @Value("${ubys.file.watch-debounce-ms:500}") long debounceMs) {
+        this.dataSource = dataSource;
+        this.ubysService = ubysService;
+        this.debounceMs = debounceMs;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!(dataSource instanceof FileUbysDataSource fileDataSource)
+                || !fileDataSource.getExportResource().isFile()) {
+            log.info("UBYS source {} is not a plain file, hot reload disabled", dataSource.getDescription());
+            return;
+        }
+
+        Path exportFile = fileDataSource.getExportResource().getFile().toPath().toAbsolutePath();
+        watchService = FileSystems.getDefault().newWatchService();
+        exportFile.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+
+        watcherThread = new Thread(() -> watch(exportFile), "ubys-file-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("Watching {} for UBYS changes", exportFile);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+    }
+
+    private void watch(Path exportFile) {
+        Path fileName = exportFile.getFileName();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean exportChanged = affects(key, fileName);
+
+                // Editors and copy tools write in several steps; wait until the file settles
+                if (exportChanged) {
+                    WatchKey next;
+                    while ((next = watchService.poll(debounceMs, TimeUnit.MILLISECONDS)) != null) {
+                        affects(next, fileName);
+                    }
+                    reload(exportFile);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    /**
+     * Drains and resets the key
+     *
+     * @return true if one of its events concerns the export file
+     */
+    private boolean affects(WatchKey key, Path fileName) {
+        boolean affected = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (fileName.equals(event.context())) {
+                affected = true;
+            }
+        }
+        key.reset();
+        return affected;
+    }
+
+    private void reload(Path exportFile) {
+        try {
+            UbysSnapshot snapshot = ubysService.reload();
+            log.info("Reloaded UBYS snapshot {} from {} ({} students)", snapshot.getVersion(), exportFile,
+                    snapshot.getStudentCount());
+        } catch (Exception e) {
+            // A half-written or invalid export must not take the node down; the old snapshot stays live
+            log.error("Could not reload UBYS from {}, keeping the previous snapshot: {}", exportFile,
+                    e.getMessage());
+        }
+    }
+}
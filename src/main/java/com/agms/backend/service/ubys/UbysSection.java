@@ -0,0 +1,45 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.ubys.UbysStaffRecord;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+
+/**
+ * Top-level sections of a UBYS export together with their record type.
+ */
+public final class UbysSection<R> {
+
+    public static final UbysSection<UbysStaffRecord> STUDENT_AFFAIRS =
+            new UbysSection<>("studentAffairs", UbysStaffRecord.class);
+    public static final UbysSection<UbysStaffRecord> DEAN_OFFICERS =
+            new UbysSection<>("deanOfficers", UbysStaffRecord.class);
+    public static final UbysSection<UbysStaffRecord> DEPARTMENT_SECRETARIES =
+            new UbysSection<>("departmentSecretaries", UbysStaffRecord.class);
+    public static final UbysSection<UbysStaffRecord> ADVISORS =
+            new UbysSection<>("advisors", UbysStaffRecord.class);
+    public static final UbysSection<UbysStudentRecord> STUDENTS =
+            new UbysSection<>("students", UbysStudentRecord.class);
+
+    private final String name;
+    private final Class<R> recordType;
+
+    private UbysSection(String name, Class<R> recordType) {
+        this.name = name;
+        this.recordType = recordType;
+    }
+
+    /**
+     * @return JSON field name of the section in the export
+     */
+    public String getName() {
+        return name;
+    }
+
+    public Class<R> getRecordType() {
+        return recordType;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
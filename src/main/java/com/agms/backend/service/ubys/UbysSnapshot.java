@@ -0,0 +1,243 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.ubys.UbysDocument;
+import com.agms.backend.model.ubys.UbysStaffRecord;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Immutable, fully indexed view of one UBYS export.
+ * A snapshot is parsed once and then shared by all readers; reloading UBYS
+ * produces a new snapshot with a higher version instead of mutating this one.
+ */
+@Slf4j
+public final class UbysSnapshot {
+
+    /**
+     * Built-in department to faculty catalog, only consulted for departments whose
+     * secretary the export does not link to a faculty.
+     */
+    private static final Map<String, String> DEFAULT_FACULTY_BY_DEPARTMENT = Map.ofEntries(
+            Map.entry("Computer Engineering", "Faculty of Engineering"),
+            Map.entry("Electronics and Communication Engineering", "Faculty of Engineering"),
+            Map.entry("Civil Engineering", "Faculty of Engineering"),
+            Map.entry("Mechanical Engineering", "Faculty of Engineering"),
+            Map.entry("Bioengineering", "Faculty of Engineering"),
+            Map.entry("Environmental Engineering", "Faculty of Engineering"),
+            Map.entry("Energy Systems Engineering", "Faculty of Engineering"),
+            Map.entry("Food Engineering", "Faculty of Engineering"),
+            Map.entry("Chemical Engineering", "Faculty of Engineering"),
+            Map.entry("Materials Science and Engineering", "Faculty of Engineering"),
+            Map.entry("Physics", "Faculty of Science"),
+            Map.entry("Photonics", "Faculty of Science"),
+            Map.entry("Chemistry", "Faculty of Science"),
+            Map.entry("Mathematics", "Faculty of Science"),
+            Map.entry("Molecular Biology and Genetics", "Faculty of Science"),
+            Map.entry("Industrial Design", "Faculty of Architecture and Design"),
+            Map.entry("Architecture", "Faculty of Architecture and Design"),
+            Map.entry("City and Regional Planning", "Faculty of Architecture and Design"));
+
+    private final long version;
+    private final Instant loadedAt;
+    private final Map<String, UbysStudentRecord> studentsByNumber;
+    private final Map<String, UbysStaffRecord> studentAffairsByEmpId;
+    private final Map<String, UbysStaffRecord> deanOfficersByEmpId;
+    private final Map<String, UbysStaffRecord> departmentSecretariesByEmpId;
+    private final Map<String, UbysStaffRecord> advisorsByEmpId;
+    private final Map<String, String> facultyByDepartment;
+
+    private UbysSnapshot(long version, Instant loadedAt,
+            Map<String, UbysStudentRecord> studentsByNumber,
+            Map<String, UbysStaffRecord> studentAffairsByEmpId,
+            Map<String, UbysStaffRecord> deanOfficersByEmpId,
+            Map<String, UbysStaffRecord> departmentSecretariesByEmpId,
+            Map<String, UbysStaffRecord> advisorsByEmpId,
+            Map<String, String> facultyByDepartment) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.studentsByNumber = studentsByNumber;
+        this.studentAffairsByEmpId = studentAffairsByEmpId;
+        this.deanOfficersByEmpId = deanOfficersByEmpId;
+        this.departmentSecretariesByEmpId = departmentSecretariesByEmpId;
+        this.advisorsByEmpId = advisorsByEmpId;
+        this.facultyByDepartment = facultyByDepartment;
+    }
+
+    /**
+     * Builds a snapshot from a parsed UBYS document.
+     * Map keys of each section are authoritative for student numbers and empIds,
+     * matching how the sections were always read.
+     */
+    public static UbysSnapshot of(long version, UbysDocument document) {
+        return of(version, document, freeze(document.getStudents()));
+    }
+
+    /**
+     * Builds a snapshot whose students come from an already immutable section,
+     * e.g. a {@link MappedUbysStudents}, instead of the document. The staff
+     * sections are still taken from the document.
+     */
+    public static UbysSnapshot of(long version, UbysDocument document, Map<String, UbysStudentRecord> students) {
+        Map<String, UbysStaffRecord> deanOfficers = freeze(document.getDeanOfficers());
+        Map<String, UbysStaffRecord> departmentSecretaries = freeze(document.getDepartmentSecretaries());
+
+        return new UbysSnapshot(
+                version,
+                Instant.now(),
+                students,
+                freeze(document.getStudentAffairs()),
+                deanOfficers,
+                departmentSecretaries,
+                freeze(document.getAdvisors()),
+                indexFaculties(departmentSecretaries, deanOfficers));
+    }
+
+    /**
+     * Indexes the faculty of every department that has a secretary in the export, as the
+     * export links them. Departments it leaves unlinked fall back to the built-in catalog,
+     * and are logged so the export can be completed.
+     */
+    private static Map<String, String> indexFaculties(Map<String, UbysStaffRecord> departmentSecretaries,
+            Map<String, UbysStaffRecord> deanOfficers) {
+        Map<String, String> faculties = new LinkedHashMap<>();
+        if (departmentSecretaries == null) {
+            return Collections.unmodifiableMap(faculties);
+        }
+
+        Set<String> fromCatalog = new TreeSet<>();
+        for (UbysStaffRecord secretary : departmentSecretaries.values()) {
+            String department = secretary.getDepartment();
+            if (department == null || faculties.containsKey(department)) {
+                continue;
+            }
+            String faculty = exportedFacultyOf(secretary, deanOfficerId -> {
+                UbysStaffRecord deanOfficer = deanOfficers != null ? deanOfficers.get(deanOfficerId) : null;
+                return deanOfficer != null ? deanOfficer.getFaculty() : null;
+            });
+            if (faculty == null) {
+                faculty = catalogFacultyOf(department);
+                if (faculty != null) {
+                    fromCatalog.add(department);
+                }
+            }
+            if (faculty != null) {
+                faculties.put(department, faculty);
+            }
+        }
+        if (!fromCatalog.isEmpty()) {
+            log.warn("UBYS export does not link {} departments to a faculty, using the built-in catalog for: {}",
+                    fromCatalog.size(), fromCatalog);
+        }
+        return Collections.unmodifiableMap(faculties);
+    }
+
+    /**
+     * Faculty of a department secretary's department as the export states it: the
+     * secretary's own faculty, or that of the dean officer it references
+     *
+     * @param facultyOfDeanOfficer faculty of a dean officer by empId, null if unknown
+     * @return null if the export does not link the secretary to a faculty
+     */
+    public static String exportedFacultyOf(UbysStaffRecord secretary, Function<String, String> facultyOfDeanOfficer) {
+        if (secretary.getFaculty() != null) {
+            return secretary.getFaculty();
+        }
+        return secretary.getDeanOfficerId() != null ? facultyOfDeanOfficer.apply(secretary.getDeanOfficerId()) : null;
+    }
+
+    /**
+     * Faculty of the department in the built-in catalog, the fallback for departments the
+     * export does not link to a faculty
+     */
+    public static String catalogFacultyOf(String department) {
+        return department == null ? null : DEFAULT_FACULTY_BY_DEPARTMENT.get(department);
+    }
+
+    private static <T> Map<String, T> freeze(Map<String, T> section) {
+        // Sections missing from the export stay null so callers can report them
+        return section == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(section));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public Optional<UbysStudentRecord> findStudent(String studentNumber) {
+        return studentsByNumber == null ? Optional.empty() : Optional.ofNullable(studentsByNumber.get(studentNumber));
+    }
+
+    public Optional<UbysStaffRecord> findAdvisor(String empId) {
+        return advisorsByEmpId == null ? Optional.empty() : Optional.ofNullable(advisorsByEmpId.get(empId));
+    }
+
+    public Optional<UbysStaffRecord> findDepartmentSecretary(String empId) {
+        return departmentSecretariesByEmpId == null ? Optional.empty()
+                : Optional.ofNullable(departmentSecretariesByEmpId.get(empId));
+    }
+
+    public Optional<UbysStaffRecord> findDeanOfficer(String empId) {
+        return deanOfficersByEmpId == null ? Optional.empty() : Optional.ofNullable(deanOfficersByEmpId.get(empId));
+    }
+
+    /**
+     * @return faculty name for the department, from the export where it links the department
+     *         and from the built-in catalog otherwise, or null if it is not known
+     */
+    public String getFacultyForDepartment(String department) {
+        if (department == null) {
+            return null;
+        }
+        String faculty = facultyByDepartment.get(department);
+        return faculty != null ? faculty : catalogFacultyOf(department);
+    }
+
+    public Map<String, UbysStudentRecord> getStudentsByNumber() {
+        return studentsByNumber;
+    }
+
+    public Map<String, UbysStaffRecord> getStudentAffairsByEmpId() {
+        return studentAffairsByEmpId;
+    }
+
+    public Map<String, UbysStaffRecord> getDeanOfficersByEmpId() {
+        return deanOfficersByEmpId;
+    }
+
+    public Map<String, UbysStaffRecord> getDepartmentSecretariesByEmpId() {
+        return departmentSecretariesByEmpId;
+    }
+
+    public Map<String, UbysStaffRecord> getAdvisorsByEmpId() {
+        return advisorsByEmpId;
+    }
+
+    public int getStudentCount() {
+        return studentsByNumber == null ? 0 : studentsByNumber.size();
+    }
+
+    /**
+     * Rebuilds the document this snapshot was created from
+     */
+    public UbysDocument toDocument() {
+        return UbysDocument.builder()
+                .studentAffairs(studentAffairsByEmpId)
+                .deanOfficers(deanOfficersByEmpId)
+                .departmentSecretaries(departmentSecretariesByEmpId)
+                .advisors(advisorsByEmpId)
+                .students(studentsByNumber)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.agms.backend.service.ubys;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.agms.backend.model.ubys.UbysStudentRecord;
+
+/**
+ * Published after a reload swapped in a snapshot that differs from the
+ * previous one. Lists the students whose records were added, changed or
+ * removed, so listeners can evict or refresh only those entries instead of
+ * everything.
+ */
+public final class UbysSnapshotChangedEvent {
+
+    private final long previousVersion;
+    private final long version;
+    private final Set<String> changedStudentNumbers;
+    private final boolean staffChanged;
+
+    private UbysSnapshotChangedEvent(long previousVersion, long version, Set<String> changedStudentNumbers,
+            boolean staffChanged) {
+        this.previousVersion = previousVersion;
+        this.version = version;
+        this.changedStudentNumbers = changedStudentNumbers;
+        this.staffChanged = staffChanged;
+    }
+
+    /**
+     * Computes the per-student delta between two snapshots. Records are
+     * immutable values, so unchanged students compare equal field by field.
+     */
+    public static UbysSnapshotChangedEvent between(UbysSnapshot previous, UbysSnapshot current) {
+        Map<String, UbysStudentRecord> before = orEmpty(previous.getStudentsByNumber());
+        Map<String, UbysStudentRecord> after = orEmpty(current.getStudentsByNumber());
+
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, UbysStudentRecord> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String studentNumber : before.keySet()) {
+            if (!after.containsKey(studentNumber)) {
+                changed.add(studentNumber);
+            }
+        }
+
+        boolean staffChanged = !Objects.equals(previous.getStudentAffairsByEmpId(), current.getStudentAffairsByEmpId())
+                || !Objects.equals(previous.getDeanOfficersByEmpId(), current.getDeanOfficersByEmpId())
+                || !Objects.equals(previous.getDepartmentSecretariesByEmpId(),
+                        current.getDepartmentSecretariesByEmpId())
+                || !Objects.equals(previous.getAdvisorsByEmpId(), current.getAdvisorsByEmpId());
+
+        return new UbysSnapshotChangedEvent(previous.getVersion(), current.getVersion(),
+                Collections.unmodifiableSet(changed), staffChanged);
+    }
+
+    private static <T> Map<String, T> orEmpty(Map<String, T> section) {
+        return section == null ? Map.of() : section;
+    }
+
+    public long getPreviousVersion() {
+        return previousVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return numbers of the students that were added, changed or removed
+     */
+    public Set<String> getChangedStudentNumbers() {
+        return changedStudentNumbers;
+    }
+
+    /**
+     * @return true if any staff section (student affairs, dean officers,
+     *         secretaries, advisors) differs
+     */
+    public boolean isStaffChanged() {
+        return staffChanged;
+    }
+
+    /**
+     * @return true if the new snapshot has the same content as the previous one
+     */
+    public boolean isEmpty() {
+        return changedStudentNumbers.isEmpty() && !staffChanged;
+    }
+}
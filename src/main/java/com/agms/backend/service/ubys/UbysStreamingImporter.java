@@ -0,0 +1,103 @@
+package com.agms.backend.service.ubys;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Reads a UBYS export record by record with Jackson's streaming parser.
+ * Only one record plus the current batch is held in memory at a time, so heap
+ * usage does not grow with the size of the export.
+ */
+@Component
+public class UbysStreamingImporter {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+
+    public UbysStreamingImporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy();
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * Streams one section of the export, mapping each record and handing the
+     * results to the consumer in batches of at most {@code batchSize}.
+     * Other sections are skipped without being materialized.
+     *
+     * @param inputStream the export; closed when this method returns
+     * @param section     the section to read
+     * @param mapper      maps (record key, record) to the emitted element; returning
+     *                    null drops the record
+     * @param batchSize   maximum number of elements per batch
+     * @param consumer    receives each batch; the list is not reused afterwards
+     * @return number of records read from the section
+     * @throws IOException if the export cannot be read or the section is missing
+     */
+    public <R, E> int importSection(InputStream inputStream, UbysSection<R> section,
+            BiFunction<String, R, E> mapper, int batchSize, Consumer<List<E>> consumer) throws IOException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("UBYS export must be a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if (!section.getName().equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_OBJECT) {
+                    throw new IOException("'" + section + "' section must be a JSON object in UBYS export");
+                }
+                return readRecords(parser, section, mapper, batchSize, consumer);
+            }
+        }
+
+        throw new IOException("'" + section + "' section not found in UBYS export");
+    }
+
+    private <R, E> int readRecords(JsonParser parser, UbysSection<R> section, BiFunction<String, R, E> mapper,
+            int batchSize, Consumer<List<E>> consumer) throws IOException {
+        List<E> batch = new ArrayList<>(batchSize);
+        int recordCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+
+            R record = parser.readValueAs(section.getRecordType());
+            recordCount++;
+
+            E element = mapper.apply(key, record);
+            if (element != null) {
+                batch.add(element);
+            }
+            if (batch.size() == batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+        return recordCount;
+    }
+}
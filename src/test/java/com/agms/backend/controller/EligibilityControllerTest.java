@@ -0,0 +1,95 @@
+package com.agms.backend.controller;
+
+import com.agms.backend.model.users.DepartmentSecretary;
+import com.agms.backend.model.users.Student;
+import com.agms.backend.model.users.User;
+import com.agms.backend.repository.DeanOfficerRepository;
+import com.agms.backend.repository.DepartmentSecretaryRepository;
+import com.agms.backend.repository.EligibilitySnapshotRepository;
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.repository.StudentRepository;
+import com.agms.backend.support.TestDatabase;
+import com.agms.backend.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Students' standing is for the staff above them to read and for student
+ * affairs alone to recompute.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EligibilityControllerTest {
+
+    private static final String TERM = "2025-Fall";
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentAffairsRepository studentAffairsRepository;
+
+    @Autowired
+    private DeanOfficerRepository deanOfficerRepository;
+
+    @Autowired
+    private DepartmentSecretaryRepository departmentSecretaryRepository;
+
+    @Autowired
+    private EligibilitySnapshotRepository eligibilitySnapshotRepository;
+
+    @Test
+    void onlyStaffReadsAndOnlyStudentAffairsRefreshes() throws Exception {
+        Student student = studentRepository.findAll().get(0);
+        DepartmentSecretary secretary = departmentSecretaryRepository.findAll().get(0);
+        String refresh = "{\"studentNumbers\":[\"" + student.getStudentNumber() + "\"]}";
+
+        mockMvc.perform(as(get("/api/eligibility/" + TERM), student))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(as(post("/api/eligibility/" + TERM + "/refresh"), student)
+                        .contentType(MediaType.APPLICATION_JSON).content(refresh))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(as(post("/api/eligibility/" + TERM + "/refresh"), secretary)
+                        .contentType(MediaType.APPLICATION_JSON).content(refresh))
+                .andExpect(status().isForbidden());
+        assertThat(eligibilitySnapshotRepository.count()).isZero();
+
+        mockMvc.perform(as(post("/api/eligibility/" + TERM + "/refresh"), studentAffairsRepository.findAll().get(0))
+                        .contentType(MediaType.APPLICATION_JSON).content(refresh))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].studentNumber").value(student.getStudentNumber()));
+        mockMvc.perform(as(get("/api/eligibility/" + TERM), deanOfficerRepository.findAll().get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(as(get("/api/eligibility/" + TERM), secretary))
+                .andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder as(MockHttpServletRequestBuilder request, User user) {
+        return request.with(authentication(TestUsers.authentication(user)));
+    }
+}
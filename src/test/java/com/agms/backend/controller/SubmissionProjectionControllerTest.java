@@ -0,0 +1,89 @@
+package com.agms.backend.controller;
+
+import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionStatus;
+import com.agms.backend.repository.RegularGraduationJobRepository;
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.service.SubmissionService;
+import com.agms.backend.support.RegularGraduations;
+import com.agms.backend.support.TestDatabase;
+import com.agms.backend.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Student affairs repairing a submission status that was changed behind the
+ * event log's back; nobody else may trigger the rebuild.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SubmissionProjectionControllerTest {
+
+    private static final String TERM = "2025-Fall";
+    private static final String REBUILD = "/api/admin/submission-projections/rebuild";
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private RegularGraduationJobRepository jobRepository;
+
+    @Autowired
+    private StudentAffairsRepository studentAffairsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void onlyStudentAffairsRebuildsTheProjectionsFromTheEventLog() throws Exception {
+        RegularGraduations.startAndAwait(submissionService, jobRepository,
+                studentAffairsRepository.findAll().get(0), TERM);
+        Submission submission = submissionRepository.findByStatus(SubmissionStatus.PENDING).stream()
+                .filter(pending -> TERM.equals(pending.getTerm()))
+                .findFirst()
+                .orElseThrow();
+        jdbc.update("UPDATE submission SET status = ? WHERE submission_id = ?",
+                SubmissionStatus.APPROVED_BY_DEPT.name(), submission.getSubmissionId());
+
+        mockMvc.perform(post(REBUILD).with(authentication(TestUsers.authentication(submission.getStudent()))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post(REBUILD).with(authentication(TestUsers.authentication(
+                        submission.getStudent().getAdvisor()))))
+                .andExpect(status().isForbidden());
+        assertThat(submissionRepository.findById(submission.getSubmissionId()).orElseThrow().getStatus())
+                .isEqualTo(SubmissionStatus.APPROVED_BY_DEPT);
+
+        mockMvc.perform(post(REBUILD).with(authentication(TestUsers.authentication(
+                        studentAffairsRepository.findAll().get(0)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.correctedSubmissions").value(1));
+        assertThat(submissionRepository.findById(submission.getSubmissionId()).orElseThrow().getStatus())
+                .isEqualTo(SubmissionStatus.PENDING);
+    }
+}
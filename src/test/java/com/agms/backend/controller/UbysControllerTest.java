@@ -0,0 +1,62 @@
+package com.agms.backend.controller;
+
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.repository.StudentRepository;
+import com.agms.backend.support.TestDatabase;
+import com.agms.backend.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The public UBYS endpoints stay public, but what the data source serves is
+ * only shown to staff.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UbysControllerTest {
+
+    private static final String SNAPSHOT = "/api/ubys/snapshot";
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentAffairsRepository studentAffairsRepository;
+
+    @Test
+    void snapshotInfoIsForStaffOnly() throws Exception {
+        mockMvc.perform(get(SNAPSHOT))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(SNAPSHOT).with(authentication(TestUsers.authentication(
+                        studentRepository.findAll().get(0)))))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get(SNAPSHOT).with(authentication(TestUsers.authentication(
+                        studentAffairsRepository.findAll().get(0)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.studentCount").isNumber());
+
+        mockMvc.perform(get("/api/ubys/student/S101/exists"))
+                .andExpect(status().isOk());
+    }
+}
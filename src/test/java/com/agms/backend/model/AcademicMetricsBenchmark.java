@@ -0,0 +1,105 @@
+package com.agms.backend.model;
+
+import com.agms.backend.model.curriculum.Curriculum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the String based legacy metrics with {@link AcademicRecord}
+ * on the same course lists: GPA, total credit, curriculum completion and
+ * eligibility per student. Run through {@code AcademicMetricsBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AcademicMetricsBenchmark {
+
+    private static final String[] GRADES = { "AA", "BA", "BB", "CB", "CC", "DC", "DD", "FD", "FF" };
+
+    @Param({ "4", "40" })
+    public int coursesPerStudent;
+
+    private List<List<Course>> students;
+
+    @Setup
+    public void createStudents() {
+        Random random = new Random(42);
+        students = new ArrayList<>(1000);
+        for (int s = 0; s < 1000; s++) {
+            List<Course> courses = new ArrayList<>(coursesPerStudent);
+            courses.add(new Course("ENG101", "English I", GRADES[random.nextInt(GRADES.length)], 3));
+            courses.add(new Course("ENG102", "English II", GRADES[random.nextInt(GRADES.length)], 3));
+            courses.add(new Course("MATH101", "Calculus I", GRADES[random.nextInt(GRADES.length)], 4));
+            for (int c = 3; c < coursesPerStudent; c++) {
+                courses.add(new Course("CENG" + (100 + random.nextInt(400)), "Elective",
+                        GRADES[random.nextInt(GRADES.length)], 1 + random.nextInt(6)));
+            }
+            students.add(courses);
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (List<Course> courses : students) {
+            LegacyAcademicMetrics metrics = LegacyAcademicMetrics.of(courses);
+            blackhole.consume(metrics.getGpa());
+            blackhole.consume(metrics.getTotalCredit());
+            blackhole.consume(metrics.isEligibleForGraduation());
+        }
+    }
+
+    @Benchmark
+    public void academicRecord(Blackhole blackhole) {
+        for (List<Course> courses : students) {
+            AcademicRecord academicRecord = AcademicRecord.of(courses);
+            boolean completed = Curriculum.LEGACY.isCompletedBy(academicRecord);
+            blackhole.consume(academicRecord.getGpa());
+            blackhole.consume(academicRecord.getTotalCredit());
+            blackhole.consume(Curriculum.LEGACY.isEligibleForGraduation(academicRecord, completed));
+        }
+    }
+
+    /**
+     * Re-checking an already built record, as Student does when its
+     * curriculum changes.
+     */
+    @Benchmark
+    public void academicRecordReevaluation(Blackhole blackhole, PrebuiltRecords prebuilt) {
+        for (AcademicRecord academicRecord : prebuilt.records) {
+            boolean completed = Curriculum.LEGACY.isCompletedBy(academicRecord);
+            blackhole.consume(Curriculum.LEGACY.isEligibleForGraduation(academicRecord, completed));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PrebuiltRecords {
+
+        private List<AcademicRecord> records;
+
+        @Setup
+        public void build(AcademicMetricsBenchmark benchmark) {
+            records = new ArrayList<>(benchmark.students.size());
+            for (List<Course> courses : benchmark.students) {
+                records.add(AcademicRecord.of(courses));
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.agms.backend.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link AcademicMetricsBenchmark} when started with -Dbenchmark=true;
+ * JMH prints its own result table.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AcademicMetricsBenchmarkTest {
+
+    @Test
+    void compareLegacyAndAcademicRecord() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(AcademicMetricsBenchmark.class.getName() + "\\.")
+                .shouldFailOnError(true)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).isNotEmpty();
+    }
+}
@@ -0,0 +1,88 @@
+package com.agms.backend.model;
+
+import com.agms.backend.model.users.Student;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks on randomized course lists that Student and Course, which now go
+ * through {@link AcademicRecord}, agree with {@link LegacyAcademicMetrics}.
+ */
+class AcademicRecordEquivalenceTest {
+
+    private static final long SEED = Long.getLong("academic-record.seed", 20240501L);
+    private static final int ITERATIONS = 50_000;
+
+    private static final String[] CODES = { "ENG101", "ENG102", "MATH101", "CENG111", "PHYS101", "MATH102", null };
+    private static final String[] GRADES = {
+            "AA", "BA", "BB", "CB", "CC", "DC", "DD", "FD", "FF",
+            "aa", "Ba", "cc", "dd", "dc", "ff", "XX", "", "A", null };
+
+    @Test
+    void studentMetricsMatchLegacyLogic() {
+        Random random = new Random(SEED);
+        int completed = 0;
+        int eligible = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<Course> courses = randomCourses(random);
+            LegacyAcademicMetrics expected = LegacyAcademicMetrics.of(courses);
+
+            Student student = new Student();
+            student.setCourses(courses);
+
+            String context = "seed " + SEED + ", iteration " + i + ": " + courses;
+            assertThat(student.getGpa()).as(context).isEqualTo(expected.getGpa());
+            assertThat(student.getTotalCredit()).as(context).isEqualTo(expected.getTotalCredit());
+            assertThat(student.isCurriculumCompleted()).as(context).isEqualTo(expected.isCurriculumCompleted());
+            assertThat(student.isEligibleForGraduation()).as(context).isEqualTo(expected.isEligibleForGraduation());
+
+            completed += expected.isCurriculumCompleted() ? 1 : 0;
+            eligible += expected.isEligibleForGraduation() ? 1 : 0;
+        }
+
+        // Make sure the generator reaches the interesting branches
+        assertThat(completed).isPositive();
+        assertThat(eligible).isPositive();
+    }
+
+    @Test
+    void courseGpaPointsMatchLegacySwitch() {
+        for (String grade : GRADES) {
+            Course course = new Course("CENG111", "Course", grade, 3);
+            assertThat(course.getGpaPoints()).as(grade).isEqualTo(LegacyAcademicMetrics.gpaPoints(grade));
+        }
+    }
+
+    /**
+     * Mostly four-course lists built around the required courses so that
+     * completed and eligible students are common, plus null entries, odd
+     * grades and non-positive credits.
+     */
+    static List<Course> randomCourses(Random random) {
+        int size = random.nextInt(3) == 0 ? random.nextInt(7) : 4;
+        if (random.nextInt(50) == 0) {
+            return null;
+        }
+
+        List<Course> courses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(40) == 0) {
+                courses.add(null);
+                continue;
+            }
+            String code = i < 3 && random.nextInt(5) > 0 ? CODES[i] : CODES[random.nextInt(CODES.length)];
+            String grade = random.nextInt(3) > 0
+                    ? GRADES[random.nextInt(7)]
+                    : GRADES[random.nextInt(GRADES.length)];
+            int credit = random.nextInt(12) == 0 ? -random.nextInt(2) : 1 + random.nextInt(8);
+            courses.add(new Course(code, "Course " + i, grade, credit));
+        }
+        return courses;
+    }
+}
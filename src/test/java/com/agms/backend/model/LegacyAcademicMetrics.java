@@ -0,0 +1,136 @@
+package com.agms.backend.model;
+
+import java.util.List;
+
+/**
+ * The String based GPA, credit and curriculum logic that Student and Course
+ * used before {@link AcademicRecord}, kept as the reference for equivalence
+ * tests and benchmarks.
+ */
+public final class LegacyAcademicMetrics {
+
+    private final double gpa;
+    private final int totalCredit;
+    private final boolean curriculumCompleted;
+    private final boolean eligibleForGraduation;
+
+    private LegacyAcademicMetrics(double gpa, int totalCredit, boolean curriculumCompleted,
+            boolean eligibleForGraduation) {
+        this.gpa = gpa;
+        this.totalCredit = totalCredit;
+        this.curriculumCompleted = curriculumCompleted;
+        this.eligibleForGraduation = eligibleForGraduation;
+    }
+
+    public static LegacyAcademicMetrics of(List<Course> courses) {
+        if (courses == null || courses.isEmpty()) {
+            return new LegacyAcademicMetrics(0.0, 0, false, false);
+        }
+
+        double totalGpaPoints = 0.0;
+        int totalCredits = 0;
+
+        for (Course course : courses) {
+            if (course != null && course.getCredit() > 0) {
+                totalCredits += course.getCredit();
+                totalGpaPoints += (gpaPoints(course.getGrade()) * course.getCredit());
+            }
+        }
+
+        double gpa = totalCredits > 0 ? Math.round((totalGpaPoints / totalCredits) * 100.0) / 100.0 : 0.0;
+        boolean curriculumCompleted = checkCurriculumCompletion(courses);
+        boolean eligible = gpa >= 2.0 && curriculumCompleted && totalCredits >= 23;
+        return new LegacyAcademicMetrics(gpa, totalCredits, curriculumCompleted, eligible);
+    }
+
+    /**
+     * Former Course.getGpaPoints. It threw a NullPointerException for a null
+     * grade; AcademicRecord scores that as 0 on purpose, and so does this copy.
+     */
+    public static double gpaPoints(String grade) {
+        if (grade == null) {
+            return 0.0;
+        }
+        switch (grade) {
+            case "AA":
+                return 4.0;
+            case "BA":
+                return 3.5;
+            case "BB":
+                return 3.0;
+            case "CB":
+                return 2.5;
+            case "CC":
+                return 2.0;
+            case "DC":
+                return 1.5;
+            case "DD":
+                return 1.0;
+            case "FF":
+                return 0.0;
+            default:
+                return 0.0;
+        }
+    }
+
+    private static boolean checkCurriculumCompletion(List<Course> courses) {
+        if (courses.size() != 4) {
+            return false;
+        }
+
+        String[] requiredCourses = { "ENG101", "ENG102", "MATH101" };
+        int requiredCoursesFound = 0;
+        for (String requiredCourse : requiredCourses) {
+            boolean found = courses.stream()
+                    .anyMatch(course -> course != null && requiredCourse.equals(course.getCode()));
+            if (found) {
+                requiredCoursesFound++;
+            }
+        }
+        if (requiredCoursesFound != 3) {
+            return false;
+        }
+
+        for (Course course : courses) {
+            if (course == null || !isPassingGrade(course.getGrade())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPassingGrade(String grade) {
+        if (grade == null) {
+            return false;
+        }
+        switch (grade.toUpperCase()) {
+            case "AA":
+            case "BA":
+            case "BB":
+            case "CB":
+            case "CC":
+            case "DD":
+                return true;
+            case "FD":
+            case "FF":
+            default:
+                return false;
+        }
+    }
+
+    public double getGpa() {
+        return gpa;
+    }
+
+    public int getTotalCredit() {
+        return totalCredit;
+    }
+
+    public boolean isCurriculumCompleted() {
+        return curriculumCompleted;
+    }
+
+    public boolean isEligibleForGraduation() {
+        return eligibleForGraduation;
+    }
+}
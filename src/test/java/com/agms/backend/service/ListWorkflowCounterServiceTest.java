@@ -0,0 +1,131 @@
+package com.agms.backend.service;
+
+import com.agms.backend.model.ListWorkflowCounter;
+import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionStatus;
+import com.agms.backend.repository.ListWorkflowCounterRepository;
+import com.agms.backend.repository.RegularGraduationJobRepository;
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.support.RegularGraduations;
+import com.agms.backend.support.TestDatabase;
+import com.agms.backend.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rebuilds of the workflow counters running next to each other and next to
+ * status changes must neither fail nor lose a change.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ListWorkflowCounterServiceTest {
+
+    private static final String TERM = "2025-Fall";
+    private static final int REBUILDERS = 4;
+    private static final int REBUILDS_EACH = 15;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private ListWorkflowCounterService listWorkflowCounterService;
+
+    @Autowired
+    private ListWorkflowCounterRepository counterRepository;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private RegularGraduationJobRepository jobRepository;
+
+    @Autowired
+    private StudentAffairsRepository studentAffairsRepository;
+
+    @Test
+    void concurrentRebuildsAndTransitionsKeepCountersExact() throws Exception {
+        RegularGraduations.startAndAwait(submissionService, jobRepository,
+                studentAffairsRepository.findAll().get(0), TERM);
+        List<Submission> pending = submissionRepository.findByStatus(SubmissionStatus.PENDING).stream()
+                .filter(submission -> TERM.equals(submission.getTerm()))
+                .toList();
+        assertThat(pending).isNotEmpty();
+
+        ExecutorService executor = Executors.newFixedThreadPool(REBUILDERS + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            for (int i = 0; i < REBUILDERS; i++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < REBUILDS_EACH; r++) {
+                        listWorkflowCounterService.rebuild();
+                    }
+                    return null;
+                }));
+            }
+            // Two reviewers working through the submissions meanwhile
+            for (int worker = 0; worker < 2; worker++) {
+                List<Submission> share = new ArrayList<>();
+                for (int i = worker; i < pending.size(); i += 2) {
+                    share.add(pending.get(i));
+                }
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (Submission submission : share) {
+                        TestUsers.runAs(submission.getStudent().getAdvisor(),
+                                () -> submissionService.approveSubmission(submission.getSubmissionId()));
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> task : tasks) {
+                // Rethrows whatever a rebuild or a transition failed with
+                task.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, ListWorkflowCounter> maintained = counters();
+        listWorkflowCounterService.rebuild();
+        Map<String, ListWorkflowCounter> rebuilt = counters();
+
+        assertThat(maintained).isEqualTo(rebuilt);
+        int approved = rebuilt.values().stream()
+                .filter(counter -> counter.getParentListId() == null)
+                .mapToInt(ListWorkflowCounter::getApprovedByAdvisorCount)
+                .sum();
+        assertThat(approved).isGreaterThanOrEqualTo(pending.size());
+    }
+
+    private Map<String, ListWorkflowCounter> counters() {
+        return counterRepository.findAll().stream()
+                .collect(Collectors.toMap(ListWorkflowCounter::getListId, Function.identity()));
+    }
+}
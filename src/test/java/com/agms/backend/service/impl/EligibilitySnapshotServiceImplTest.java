@@ -0,0 +1,111 @@
+package com.agms.backend.service.impl;
+
+import com.agms.backend.model.EligibilitySnapshot;
+import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionStatus;
+import com.agms.backend.repository.EligibilitySnapshotRepository;
+import com.agms.backend.repository.RegularGraduationJobRepository;
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.service.SubmissionService;
+import com.agms.backend.service.UbysService;
+import com.agms.backend.support.RegularGraduations;
+import com.agms.backend.support.TestDatabase;
+import com.agms.backend.support.TestExports;
+import com.agms.backend.support.TestUsers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A UBYS correction during a graduation in progress reaches the snapshots of
+ * undecided students only; decided ones keep the standing they were judged on.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EligibilitySnapshotServiceImplTest {
+
+    private static final String TERM = "2025-Fall";
+    private static final Path EXPORT = TestExports.copyOfBundled();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+        registry.add("ubys.file.location", () -> "file:" + EXPORT);
+    }
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private UbysService ubysService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private EligibilitySnapshotRepository eligibilitySnapshotRepository;
+
+    @Autowired
+    private RegularGraduationJobRepository jobRepository;
+
+    @Autowired
+    private StudentAffairsRepository studentAffairsRepository;
+
+    @Test
+    void ubysChangeRefreshesOnlyStudentsWithoutDecision() throws Exception {
+        RegularGraduations.startAndAwait(submissionService, jobRepository,
+                studentAffairsRepository.findAll().get(0), TERM);
+
+        List<Submission> pending = submissionRepository.findByStatus(SubmissionStatus.PENDING).stream()
+                .filter(submission -> TERM.equals(submission.getTerm()))
+                .toList();
+        assertThat(pending).hasSizeGreaterThanOrEqualTo(2);
+        Submission decided = pending.get(0);
+        Submission undecided = pending.get(1);
+        String decidedStudent = decided.getStudent().getStudentNumber();
+        String undecidedStudent = undecided.getStudent().getStudentNumber();
+
+        TestUsers.runAs(decided.getStudent().getAdvisor(),
+                () -> submissionService.approveSubmission(decided.getSubmissionId()));
+
+        Map<String, EligibilitySnapshot> before = snapshots(decidedStudent, undecidedStudent);
+
+        // A late grade correction: one of each student's courses becomes FF
+        TestExports.update(EXPORT, export -> {
+            failFirstCourse(export, decidedStudent);
+            failFirstCourse(export, undecidedStudent);
+        });
+        ubysService.reload();
+
+        Map<String, EligibilitySnapshot> after = snapshots(decidedStudent, undecidedStudent);
+        assertThat(after.get(decidedStudent).getGpa()).isEqualTo(before.get(decidedStudent).getGpa());
+        assertThat(after.get(decidedStudent).getUbysVersion()).isEqualTo(before.get(decidedStudent).getUbysVersion());
+        assertThat(after.get(undecidedStudent).getGpa()).isLessThan(before.get(undecidedStudent).getGpa());
+        assertThat(after.get(undecidedStudent).getUbysVersion())
+                .isGreaterThan(before.get(undecidedStudent).getUbysVersion());
+    }
+
+    private Map<String, EligibilitySnapshot> snapshots(String... studentNumbers) {
+        return eligibilitySnapshotRepository.findByTermAndStudentNumberIn(TERM, List.of(studentNumbers)).stream()
+                .collect(Collectors.toMap(EligibilitySnapshot::getStudentNumber, Function.identity()));
+    }
+
+    private static void failFirstCourse(ObjectNode export, String studentNumber) {
+        JsonNode courses = export.get("students").get(studentNumber).get("courses");
+        ((ObjectNode) courses.get(0)).put("grade", "FF");
+    }
+}
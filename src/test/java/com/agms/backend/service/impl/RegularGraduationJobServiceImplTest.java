@@ -0,0 +1,140 @@
+package com.agms.backend.service.impl;
+
+import com.agms.backend.AgmsBackendApplication;
+import com.agms.backend.model.RegularGraduationJob;
+import com.agms.backend.model.RegularGraduationJobStatus;
+import com.agms.backend.model.users.StudentAffairs;
+import com.agms.backend.repository.RegularGraduationJobRepository;
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.repository.StudentRepository;
+import com.agms.backend.service.GraduationHierarchyBuilder;
+import com.agms.backend.service.RegularGraduationJobService;
+import com.agms.backend.support.RegularGraduations;
+import com.agms.backend.support.TestDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two nodes with their own node ids work on one regular graduation job in a
+ * shared database, while a third, dead node still holds the lease of one
+ * partition and one department list is cut off from the hierarchy. Each node
+ * is a full application context.
+ */
+class RegularGraduationJobServiceImplTest {
+
+    private static final String TERM = "2025-Fall";
+    private static final String DEAD_NODE = "node-dead";
+    private static final long DEAD_LEASE_MS = 10_000;
+
+    @Test
+    void nodesShareTheJobAndTakeOverExpiredLeases() throws Exception {
+        String url = TestDatabase.createDatabase();
+        try (ConfigurableApplicationContext nodeA = startNode(url, "node-a", "create");
+                ConfigurableApplicationContext nodeB = startNode(url, "node-b", "none")) {
+            JdbcTemplate jdbc = nodeA.getBean(JdbcTemplate.class);
+            RegularGraduationJobRepository jobRepository = nodeA.getBean(RegularGraduationJobRepository.class);
+
+            // Commit the hierarchy and the job as startRegularGraduation does, without starting workers yet
+            StudentAffairs studentAffairs = nodeA.getBean(StudentAffairsRepository.class).findAll().get(0);
+            RegularGraduationJob job = new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class))
+                    .execute(status -> {
+                        nodeA.getBean(GraduationHierarchyBuilder.class).build(TERM, studentAffairs);
+                        return nodeA.getBean(RegularGraduationJobService.class).createJob(TERM);
+                    });
+
+            // A department list cut off from the hierarchy, as a schema without the NOT NULL columns allows;
+            // its students belong to the partition outside the hierarchy now
+            String detachedDeptList = nodeA.getBean(StudentRepository.class)
+                    .findGraduationCandidatesAfter("", PageRequest.of(0, 1)).get(0).getDeptListId();
+            jdbc.execute("ALTER TABLE department_list ALTER COLUMN faculty_list_id DROP NOT NULL");
+            jdbc.update("UPDATE department_list SET faculty_list_id = NULL WHERE dept_list_id = ?", detachedDeptList);
+
+            // A node that claimed a partition and died before finishing it
+            Long deadPartition = jdbc.queryForObject("SELECT MIN(id) FROM regular_graduation_partition " +
+                    "WHERE job_id = ? AND dept_list_id IS NOT NULL AND dept_list_id <> ?", Long.class,
+                    job.getJobId(), detachedDeptList);
+            Timestamp deadLeaseExpiresAt = new Timestamp(System.currentTimeMillis() + DEAD_LEASE_MS);
+            jdbc.update("UPDATE regular_graduation_partition SET lease_owner = ?, lease_expires_at = ? WHERE id = ?",
+                    DEAD_NODE, deadLeaseExpiresAt, deadPartition);
+
+            nodeA.getBean(RegularGraduationJobService.class).processJobs();
+            nodeB.getBean(RegularGraduationJobService.class).processJobs();
+
+            // The live nodes finish everything else, but leave the partition alone while its lease is valid
+            awaitOtherPartitionsCompleted(jdbc, job.getJobId(), deadPartition, deadLeaseExpiresAt);
+            Map<String, Object> held = jdbc.queryForMap("SELECT completed, lease_owner " +
+                    "FROM regular_graduation_partition WHERE id = ?", deadPartition);
+            assertThat(System.currentTimeMillis()).isLessThan(deadLeaseExpiresAt.getTime());
+            assertThat(held).containsEntry("completed", false).containsEntry("lease_owner", DEAD_NODE);
+            assertThat(jobRepository.findByTerm(TERM).orElseThrow().getStatus())
+                    .isEqualTo(RegularGraduationJobStatus.RUNNING);
+
+            RegularGraduationJob finished = RegularGraduations.awaitCompletion(jobRepository, TERM);
+
+            assertThat(finished.getStatus()).isEqualTo(RegularGraduationJobStatus.COMPLETED);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM regular_graduation_partition " +
+                    "WHERE job_id = ? AND NOT completed", Long.class, job.getJobId())).isZero();
+            assertThat(jdbc.queryForObject("SELECT lease_owner FROM regular_graduation_partition WHERE id = ?",
+                    String.class, deadPartition)).isNull();
+
+            // Every student was looked at exactly once, the detached ones too, and nobody got two submissions
+            Map<String, Object> progress = jdbc.queryForMap("SELECT SUM(processed_count) AS processed, " +
+                    "SUM(eligible_count) AS eligible FROM regular_graduation_partition WHERE job_id = ?",
+                    job.getJobId());
+            long studentCount = nodeA.getBean(StudentRepository.class).count();
+            long submissionCount = jdbc.queryForObject("SELECT COUNT(*) FROM submission WHERE term = ?",
+                    Long.class, TERM);
+            List<String> duplicated = jdbc.queryForList("SELECT student_number FROM submission WHERE term = ? " +
+                    "GROUP BY student_number HAVING COUNT(*) > 1", String.class, TERM);
+            assertThat(((Number) progress.get("processed")).longValue()).isEqualTo(studentCount);
+            assertThat(((Number) progress.get("eligible")).longValue()).isEqualTo(submissionCount);
+            assertThat(submissionCount).isPositive();
+            assertThat(duplicated).isEmpty();
+        }
+    }
+
+    /**
+     * Node A creates the schema and the seed data, node B only connects. The
+     * settings are passed as arguments so they win over application.properties.
+     * Small chunks and a short poll interval make the nodes interleave and
+     * notice the expired lease soon after it runs out.
+     */
+    private static ConfigurableApplicationContext startNode(String url, String nodeId, String ddlAuto) {
+        return new SpringApplicationBuilder(AgmsBackendApplication.class)
+                .profiles("test")
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--app.data.initialization.enabled=" + "create".equals(ddlAuto),
+                        "--server.port=0",
+                        "--regular-graduation.node-id=" + nodeId,
+                        "--regular-graduation.chunk-size=2",
+                        "--regular-graduation.lease-ms=2000",
+                        "--regular-graduation.poll-interval-ms=500");
+    }
+
+    private static void awaitOtherPartitionsCompleted(JdbcTemplate jdbc, String jobId, Long deadPartition,
+            Timestamp deadline) throws InterruptedException {
+        while (System.currentTimeMillis() < deadline.getTime()) {
+            long open = jdbc.queryForObject("SELECT COUNT(*) FROM regular_graduation_partition " +
+                    "WHERE job_id = ? AND id <> ? AND NOT completed", Long.class, jobId, deadPartition);
+            if (open == 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("The live nodes did not finish their partitions before the dead lease expired");
+    }
+}
@@ -0,0 +1,269 @@
+package com.agms.backend.service.impl;
+
+import com.agms.backend.dto.SubmissionTimelineResponse;
+import com.agms.backend.exception.ForbiddenException;
+import com.agms.backend.exception.GlobalExceptionHandler;
+import com.agms.backend.exception.TransitionConflictException;
+import com.agms.backend.model.AdvisorList;
+import com.agms.backend.model.ListWorkflowCounter;
+import com.agms.backend.model.Submission;
+import com.agms.backend.model.SubmissionEvent;
+import com.agms.backend.model.SubmissionStatus;
+import com.agms.backend.model.users.Advisor;
+import com.agms.backend.model.users.Student;
+import com.agms.backend.model.users.StudentAffairs;
+import com.agms.backend.repository.AdvisorListRepository;
+import com.agms.backend.repository.ListWorkflowCounterRepository;
+import com.agms.backend.repository.RegularGraduationJobRepository;
+import com.agms.backend.repository.StudentAffairsRepository;
+import com.agms.backend.repository.StudentRepository;
+import com.agms.backend.repository.SubmissionEventRepository;
+import com.agms.backend.repository.SubmissionRepository;
+import com.agms.backend.service.SubmissionService;
+import com.agms.backend.support.RegularGraduations;
+import com.agms.backend.support.TestDatabase;
+import com.agms.backend.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Reviewers deciding on the same submission at the same time: the conditional
+ * status update lets exactly one of them through. Likewise an advisor list is
+ * finalized once. And who gets to read a submission's history.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SubmissionServiceImplTest {
+
+    private static final String TERM = "2025-Fall";
+    private static final int REVIEWERS = 8;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private SubmissionEventRepository submissionEventRepository;
+
+    @Autowired
+    private ListWorkflowCounterRepository counterRepository;
+
+    @Autowired
+    private RegularGraduationJobRepository jobRepository;
+
+    @Autowired
+    private StudentAffairsRepository studentAffairsRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AdvisorListRepository advisorListRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void concurrentApprovalsOfOneSubmissionSucceedOnce() throws Exception {
+        Submission submission = pendingSubmissions().get(0);
+        String submissionId = submission.getSubmissionId();
+        Advisor advisor = submission.getStudent().getAdvisor();
+        String advisorListId = submission.getAdvisorList().getAdvisorListId();
+
+        ListWorkflowCounter counterBefore = counterRepository.findById(advisorListId).orElseThrow();
+        List<SubmissionEvent> timelineBefore = timeline(submissionId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(REVIEWERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> approvals = new ArrayList<>();
+        try {
+            for (int i = 0; i < REVIEWERS; i++) {
+                approvals.add(executor.submit(() -> {
+                    start.await();
+                    return TestUsers.runAs(advisor, () -> submissionService.approveSubmission(submissionId));
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            List<TransitionConflictException> conflicts = new ArrayList<>();
+            for (Future<?> approval : approvals) {
+                try {
+                    approval.get(1, TimeUnit.MINUTES);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(TransitionConflictException.class);
+                    conflicts.add((TransitionConflictException) e.getCause());
+                }
+            }
+
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(conflicts).hasSize(REVIEWERS - 1).allSatisfy(conflict -> {
+                assertThat(conflict.getResourceId()).isEqualTo(submissionId);
+                assertThat(conflict.getExpectedState()).isEqualTo(SubmissionStatus.PENDING.name());
+                assertThat(conflict.getActualState()).isEqualTo(SubmissionStatus.APPROVED_BY_ADVISOR.name());
+                assertThat(new GlobalExceptionHandler().handleTransitionConflictException(conflict).getStatusCode())
+                        .isEqualTo(HttpStatus.CONFLICT);
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(submissionRepository.findById(submissionId).orElseThrow().getStatus())
+                .isEqualTo(SubmissionStatus.APPROVED_BY_ADVISOR);
+
+        // The counter moved by one submission, not by one per reviewer
+        ListWorkflowCounter counterAfter = counterRepository.findById(advisorListId).orElseThrow();
+        assertThat(counterAfter.getPendingCount()).isEqualTo(counterBefore.getPendingCount() - 1);
+        assertThat(counterAfter.getApprovedByAdvisorCount())
+                .isEqualTo(counterBefore.getApprovedByAdvisorCount() + 1);
+
+        // And the event log got a single transition
+        List<SubmissionEvent> timelineAfter = timeline(submissionId);
+        assertThat(timelineAfter).hasSize(timelineBefore.size() + 1);
+        SubmissionEvent approval = timelineAfter.get(timelineAfter.size() - 1);
+        assertThat(approval.getOldStatus()).isEqualTo(SubmissionStatus.PENDING);
+        assertThat(approval.getNewStatus()).isEqualTo(SubmissionStatus.APPROVED_BY_ADVISOR);
+    }
+
+    @Test
+    void timelineIsOnlyReadableByUsersWithAccessToTheSubmission() throws Exception {
+        Submission submission = pendingSubmissions().get(1);
+        String submissionId = submission.getSubmissionId();
+        Student owner = submission.getStudent();
+        Student otherStudent = studentRepository.findAll().stream()
+                .filter(student -> !student.getStudentNumber().equals(owner.getStudentNumber()))
+                .findFirst()
+                .orElseThrow();
+        StudentAffairs studentAffairs = studentAffairsRepository.findAll().get(0);
+
+        SubmissionTimelineResponse ownTimeline = TestUsers.runAs(owner,
+                () -> submissionService.getSubmissionTimeline(submissionId, null, 50));
+        assertThat(ownTimeline.getEvents()).isNotEmpty();
+        assertThat(TestUsers.runAs(submission.getStudent().getAdvisor(),
+                () -> submissionService.getSubmissionTimeline(submissionId, null, 50)).getEvents())
+                .hasSameSizeAs(ownTimeline.getEvents());
+        assertThat(TestUsers.runAs(studentAffairs,
+                () -> submissionService.getSubmissionTimeline(submissionId, null, 50)).getEvents())
+                .hasSameSizeAs(ownTimeline.getEvents());
+
+        assertThatThrownBy(() -> TestUsers.runAs(otherStudent,
+                () -> submissionService.getSubmissionTimeline(submissionId, null, 50)))
+                .isInstanceOfSatisfying(ForbiddenException.class, forbidden ->
+                        assertThat(new GlobalExceptionHandler().handleForbiddenException(forbidden).getStatusCode())
+                                .isEqualTo(HttpStatus.FORBIDDEN));
+    }
+
+    @Test
+    void advisorListIsFinalizedOnce() throws Exception {
+        List<Submission> submissions = submissionsOfOneAdvisor(0);
+        Advisor advisor = submissions.get(0).getStudent().getAdvisor();
+        decideAll(submissions);
+
+        assertThat(TestUsers.runAs(advisor, () -> submissionService.finalizeMyList())).isTrue();
+        AdvisorList finalized = advisorListRepository.findByAdvisorEmpId(advisor.getEmpId()).orElseThrow();
+        assertThat(finalized.getIsFinalized()).isTrue();
+
+        // Finalizing again is a conflict, and leaves the list as it was
+        assertThatThrownBy(() -> TestUsers.runAs(advisor, () -> submissionService.finalizeMyList()))
+                .isInstanceOfSatisfying(TransitionConflictException.class, conflict -> {
+                    assertThat(conflict.getResourceId()).isEqualTo(finalized.getAdvisorListId());
+                    assertThat(conflict.getExpectedState()).isEqualTo("OPEN");
+                    assertThat(conflict.getActualState()).isEqualTo("FINALIZED");
+                    assertThat(new GlobalExceptionHandler().handleTransitionConflictException(conflict)
+                            .getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                });
+        assertThat(advisorListRepository.findByAdvisorEmpId(advisor.getEmpId()).orElseThrow().getVersion())
+                .isEqualTo(finalized.getVersion());
+    }
+
+    @Test
+    void advisorListIsNotFinalizedOverAPendingSubmission() throws Exception {
+        List<Submission> submissions = submissionsOfOneAdvisor(1);
+        Advisor advisor = submissions.get(0).getStudent().getAdvisor();
+        decideAll(submissions);
+
+        // A submission that is pending again without the counters knowing, as one created
+        // between the count and the update would be
+        jdbc.update("UPDATE submission SET status = ? WHERE submission_id = ?",
+                SubmissionStatus.PENDING.name(), submissions.get(0).getSubmissionId());
+
+        try {
+            assertThat(TestUsers.runAs(advisor, () -> submissionService.finalizeMyList())).isFalse();
+            assertThat(advisorListRepository.findByAdvisorEmpId(advisor.getEmpId()).orElseThrow().getIsFinalized())
+                    .isFalse();
+        } finally {
+            // Back in line with the counters for the other tests
+            jdbc.update("UPDATE submission SET status = ? WHERE submission_id = ?",
+                    SubmissionStatus.APPROVED_BY_ADVISOR.name(), submissions.get(0).getSubmissionId());
+        }
+    }
+
+    /**
+     * The pending submissions of one advisor, counting advisors from the last one so
+     * the first pending submissions are left to the other tests
+     */
+    private List<Submission> submissionsOfOneAdvisor(int fromLast) throws InterruptedException {
+        Map<String, List<Submission>> byAdvisor = new LinkedHashMap<>();
+        for (Submission submission : pendingSubmissions()) {
+            byAdvisor.computeIfAbsent(submission.getStudent().getAdvisor().getEmpId(), key -> new ArrayList<>())
+                    .add(submission);
+        }
+        List<List<Submission>> advisors = new ArrayList<>(byAdvisor.values());
+        assertThat(advisors).hasSizeGreaterThan(2);
+        return advisors.get(advisors.size() - 1 - fromLast);
+    }
+
+    private void decideAll(List<Submission> submissions) {
+        for (Submission submission : submissions) {
+            TestUsers.runAs(submission.getStudent().getAdvisor(),
+                    () -> submissionService.approveSubmission(submission.getSubmissionId()));
+        }
+    }
+
+    /**
+     * The pending submissions of the term, starting its regular graduation the
+     * first time
+     */
+    private List<Submission> pendingSubmissions() throws InterruptedException {
+        if (jobRepository.findByTerm(TERM).isEmpty()) {
+            RegularGraduations.startAndAwait(submissionService, jobRepository,
+                    studentAffairsRepository.findAll().get(0), TERM);
+        }
+        return submissionRepository.findByStatus(SubmissionStatus.PENDING).stream()
+                .filter(pending -> TERM.equals(pending.getTerm()))
+                .toList();
+    }
+
+    private List<SubmissionEvent> timeline(String submissionId) {
+        return submissionEventRepository.findTimeline(submissionId, PageRequest.of(0, 100));
+    }
+}
@@ -0,0 +1,121 @@
+package com.agms.backend.service.impl;
+
+import com.agms.backend.dto.UbysSyncReport;
+import com.agms.backend.repository.AdvisorRepository;
+import com.agms.backend.repository.StudentRepository;
+import com.agms.backend.service.UbysSyncService;
+import com.agms.backend.support.TestDatabase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the incremental sync against an export that changes on disk after the
+ * initial import, and checks that records whose own fields did not change are
+ * still re-linked when their parent changes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UbysSyncServiceImplTest {
+
+    private static final Path EXPORT = createExport();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+        registry.add("ubys.file.location", () -> "file:" + EXPORT);
+    }
+
+    @Autowired
+    private UbysSyncService ubysSyncService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AdvisorRepository advisorRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void relinksRecordsWhoseParentChanged() throws IOException {
+        assertThat(studentRepository.findByStudentNumber("S999").orElseThrow().getAdvisor()).isNull();
+        assertThat(advisorRepository.findByEmpId("ADV101").orElseThrow().getDepartmentSecretary().getEmpId())
+                .isEqualTo("DS101");
+
+        // The advisor of S999 appears, and DS999 takes over Computer Engineering from DS101
+        ObjectNode export = (ObjectNode) objectMapper.readTree(EXPORT.toFile());
+        ((ObjectNode) export.get("advisors")).set("ADV999", objectMapper.valueToTree(Map.of(
+                "empId", "ADV999",
+                "department", "Computer Engineering",
+                "user", user("U999", "advisorADV999@iyte.edu.tr", "ADVISOR"))));
+        ObjectNode secretaries = (ObjectNode) export.get("departmentSecretaries");
+        ((ObjectNode) secretaries.get("DS101")).put("department", "Archived Department");
+        secretaries.set("DS999", objectMapper.valueToTree(Map.of(
+                "empId", "DS999",
+                "department", "Computer Engineering",
+                "deanOfficerId", "DO101",
+                "user", user("U998", "secretaryDS999@iyte.edu.tr", "DEPARTMENT_SECRETARY"))));
+        objectMapper.writeValue(EXPORT.toFile(), export);
+
+        UbysSyncReport report = ubysSyncService.synchronize();
+
+        assertThat(report.getStatus()).isEqualTo("COMPLETED");
+        assertThat(studentRepository.findByStudentNumber("S999").orElseThrow().getAdvisor().getEmpId())
+                .isEqualTo("ADV999");
+        assertThat(advisorRepository.findByEmpId("ADV101").orElseThrow().getDepartmentSecretary().getEmpId())
+                .isEqualTo("DS999");
+        assertThat(advisorRepository.findByEmpId("ADV999").orElseThrow().getDepartmentSecretary().getEmpId())
+                .isEqualTo("DS999");
+
+        // Nothing changed since, so the next run writes nothing
+        UbysSyncReport secondReport = ubysSyncService.synchronize();
+        assertThat(secondReport.getTotalWritten()).isZero();
+    }
+
+    /**
+     * The bundled export plus student S999, whose advisor ADV999 is not part
+     * of it yet
+     */
+    private static Path createExport() {
+        try {
+            ObjectMapper objectMapper = new ObjectMapper();
+            ObjectNode export;
+            try (InputStream in = new ClassPathResource("data/ubys.json").getInputStream()) {
+                export = (ObjectNode) objectMapper.readTree(in);
+            }
+            ObjectNode student = ((ObjectNode) export.get("students").get("S101")).deepCopy();
+            student.put("studentNumber", "S999");
+            student.put("advisorId", "ADV999");
+            ((ObjectNode) student.get("user")).put("id", "U997").put("email", "s999@std.iyte.edu.tr");
+            ((ObjectNode) export.get("students")).set("S999", student);
+
+            Path file = Files.createTempFile("ubys", ".json");
+            file.toFile().deleteOnExit();
+            objectMapper.writeValue(file.toFile(), export);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, String> user(String id, String email, String role) {
+        return Map.of("id", id, "firstName", "Test", "lastName", "User", "email", email, "role", role);
+    }
+}
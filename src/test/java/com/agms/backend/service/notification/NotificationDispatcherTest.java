@@ -0,0 +1,138 @@
+package com.agms.backend.service.notification;
+
+import com.agms.backend.model.NotificationOutbox;
+import com.agms.backend.model.NotificationStatus;
+import com.agms.backend.repository.NotificationOutboxRepository;
+import com.agms.backend.service.notification.WorkflowNotificationService.NotifiedSubmission;
+import com.agms.backend.support.TestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Workflow notifications going from the outbox to a mail relay that accepts
+ * them, turns them away for a while, or keeps turning them away.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final SmtpStandInServer SMTP = startSmtp();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+        registry.add("spring.mail.port", SMTP::getPort);
+        registry.add("notification.retry.max-attempts", () -> MAX_ATTEMPTS);
+        // Failed notifications are due again right away instead of after a backoff
+        registry.add("notification.retry.backoff-ms", () -> 0);
+    }
+
+    @AfterAll
+    static void stopSmtp() throws IOException {
+        SMTP.close();
+    }
+
+    @Autowired
+    private WorkflowNotificationService workflowNotificationService;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void deliversRetriesAndDeadLetters() {
+        // Delivered on the first attempt
+        reject("first@std.iyte.edu.tr");
+        assertThat(dispatcher.dispatch()).isEqualTo(1);
+        List<SmtpStandInServer.ReceivedMessage> received = SMTP.getReceivedMessages();
+        assertThat(received).singleElement().satisfies(message -> {
+            assertThat(message.recipients()).containsExactly("first@std.iyte.edu.tr");
+            assertThat(message.data())
+                    .contains("Subject: Your graduation application was rejected")
+                    .contains("Reason: Missing internship report");
+        });
+        assertThat(outbox("first@std.iyte.edu.tr").getStatus()).isEqualTo(NotificationStatus.SENT);
+
+        // A transient failure, then delivered on the retry
+        SMTP.clear();
+        SMTP.failNext(1);
+        reject("second@std.iyte.edu.tr");
+        assertThat(dispatcher.dispatch()).isZero();
+        NotificationOutbox failed = outbox("second@std.iyte.edu.tr");
+        assertThat(failed.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("451");
+        assertThat(SMTP.getReceivedMessages()).isEmpty();
+
+        assertThat(dispatcher.dispatch()).isEqualTo(1);
+        NotificationOutbox retried = outbox("second@std.iyte.edu.tr");
+        assertThat(retried.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(retried.getAttempts()).isEqualTo(2);
+        assertThat(retried.getLastError()).isNull();
+        assertThat(SMTP.getReceivedMessages()).singleElement()
+                .satisfies(message -> assertThat(message.recipients()).containsExactly("second@std.iyte.edu.tr"));
+
+        // Failing every attempt, dead-lettered after the last one and not tried again
+        SMTP.clear();
+        SMTP.failNext(MAX_ATTEMPTS);
+        reject("third@std.iyte.edu.tr");
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            assertThat(dispatcher.dispatch()).isZero();
+        }
+        NotificationOutbox dead = outbox("third@std.iyte.edu.tr");
+        assertThat(dead.getStatus()).isEqualTo(NotificationStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(dead.getLastError()).contains("451");
+
+        assertThat(dispatcher.dispatch()).isZero();
+        assertThat(outbox("third@std.iyte.edu.tr").getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(SMTP.getReceivedMessages()).isEmpty();
+        assertThat(SMTP.getRejectedCount()).isEqualTo(1 + MAX_ATTEMPTS);
+    }
+
+    /**
+     * Enqueues the rejection notice of a submission of the student with this email,
+     * as a rejection by an advisor does
+     */
+    private void reject(String studentEmail) {
+        NotifiedSubmission submission = new NotifiedSubmission("SUB-" + studentEmail, "S-" + studentEmail,
+                studentEmail, null, null);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                workflowNotificationService.submissionsRejected(List.of(submission), "ADVISOR",
+                        "Missing internship report"));
+    }
+
+    private NotificationOutbox outbox(String recipient) {
+        return outboxRepository.findAll().stream()
+                .filter(notification -> recipient.equals(notification.getRecipient()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static SmtpStandInServer startSmtp() {
+        try {
+            return new SmtpStandInServer().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.agms.backend.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the SMTP relay, speaking just enough plain SMTP for JavaMail on
+ * an ephemeral loopback port: no authentication and no TLS, as the test
+ * profile sends. Received messages are kept in memory, so tests can check what
+ * {@link NotificationDispatcher} delivered. Failures can be injected to
+ * exercise its retries and dead-lettering; an injected failure answers the
+ * message with a transient 451.
+ */
+@Slf4j
+public class SmtpStandInServer implements AutoCloseable {
+
+    private static final String HOSTNAME = "agms-smtp-stand-in";
+
+    /**
+     * One message as the relay received it
+     *
+     * @param data the message as sent after DATA, headers included, dot-stuffing removed
+     */
+    public record ReceivedMessage(long id, String from, List<String> recipients, String data, Instant receivedAt) {
+    }
+
+    private final List<ReceivedMessage> received = new ArrayList<>();
+    private final AtomicLong messageIds = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicInteger failuresToInject = new AtomicInteger();
+
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+
+    public SmtpStandInServer start() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor = Executors.newCachedThreadPool();
+        executor.submit(this::acceptLoop);
+
+        log.info("SMTP stand-in listening on port {}", getPort());
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Answers the next {@code count} messages with a 451 instead of accepting them
+     */
+    public void failNext(int count) {
+        failuresToInject.set(count);
+    }
+
+    /**
+     * Messages received so far, oldest first
+     */
+    public synchronized List<ReceivedMessage> getReceivedMessages() {
+        return new ArrayList<>(received);
+    }
+
+    /**
+     * Messages answered with an injected failure so far
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public synchronized void clear() {
+        received.clear();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> handleConnection(socket));
+            } catch (SocketException e) {
+                // Closed on shutdown
+                return;
+            } catch (IOException e) {
+                log.warn("SMTP stand-in failed to accept a connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void handleConnection(Socket socket) {
+        try (socket;
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            OutputStream out = socket.getOutputStream();
+            reply(out, "220 " + HOSTNAME + " ESMTP ready");
+
+            String from = null;
+            List<String> recipients = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase(Locale.ROOT) : line;
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-" + HOSTNAME + "\r\n250 8BITMIME");
+                    case "HELO" -> reply(out, "250 " + HOSTNAME);
+                    case "MAIL" -> {
+                        from = address(line);
+                        recipients.clear();
+                        reply(out, "250 OK");
+                    }
+                    case "RCPT" -> {
+                        if (from == null) {
+                            reply(out, "503 MAIL first");
+                        } else {
+                            recipients.add(address(line));
+                            reply(out, "250 OK");
+                        }
+                    }
+                    case "DATA" -> {
+                        if (recipients.isEmpty()) {
+                            reply(out, "503 RCPT first");
+                        } else {
+                            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                            String data = readData(reader);
+                            if (data == null) {
+                                return;
+                            }
+                            reply(out, accept(from, recipients, data));
+                            from = null;
+                            recipients.clear();
+                        }
+                    }
+                    case "RSET" -> {
+                        from = null;
+                        recipients.clear();
+                        reply(out, "250 OK");
+                    }
+                    case "NOOP" -> reply(out, "250 OK");
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            log.debug("SMTP stand-in connection closed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stores the message, or turns it away while failures are to be injected
+     *
+     * @return the reply to the end of the message
+     */
+    private String accept(String from, List<String> recipients, String data) {
+        if (failuresToInject.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+            rejectedCount.incrementAndGet();
+            return "451 4.3.0 Injected failure, try again later";
+        }
+
+        ReceivedMessage message = new ReceivedMessage(messageIds.incrementAndGet(), from, List.copyOf(recipients),
+                data, Instant.now());
+        synchronized (this) {
+            received.add(message);
+        }
+        log.debug("SMTP stand-in received message {} from {} to {}", message.id(), from, recipients);
+        return "250 OK queued as " + message.id();
+    }
+
+    /**
+     * Reads the message up to the line holding a single dot
+     *
+     * @return the message, or null if the client went away before finishing it
+     */
+    private static String readData(BufferedReader reader) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.equals(".")) {
+                return data.toString();
+            }
+            data.append(line.startsWith(".") ? line.substring(1) : line).append("\r\n");
+        }
+        return null;
+    }
+
+    /**
+     * The address of a MAIL FROM or RCPT TO command, without the angle brackets
+     */
+    private static String address(String line) {
+        int start = line.indexOf('<');
+        int end = line.indexOf('>', start + 1);
+        if (start >= 0 && end > start) {
+            return line.substring(start + 1, end);
+        }
+        int colon = line.indexOf(':');
+        return colon >= 0 ? line.substring(colon + 1).trim() : "";
+    }
+
+    private static void reply(OutputStream out, String reply) throws IOException {
+        out.write((reply + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -0,0 +1,193 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.exception.UbysUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpUbysDataSourceTest {
+
+    private static final String STUDENT = "S101";
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_MS = 300;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UbysStandInServer ubys;
+
+    @BeforeEach
+    void startUbys() throws Exception {
+        ubys = new UbysStandInServer(objectMapper, new ClassPathResource("data/ubys.json")).start();
+    }
+
+    @AfterEach
+    void stopUbys() {
+        ubys.close();
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailuresAndStopsCallingUbys() {
+        HttpUbysDataSource dataSource = dataSource(16, 100, 2000, 0);
+        ubys.setFailing(true);
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> dataSource.fetchStudent(STUDENT)).isInstanceOf(UbysUnavailableException.class);
+        }
+        assertThat(dataSource.getStatus()).containsEntry("circuitState", "OPEN");
+
+        assertThatThrownBy(() -> dataSource.fetchStudent(STUDENT))
+                .isInstanceOf(UbysUnavailableException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(ubys.getRequestCount()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void successfulTrialCallClosesTheCircuit() throws Exception {
+        HttpUbysDataSource dataSource = openCircuit();
+        ubys.setFailing(false);
+        Thread.sleep(OPEN_MS + 50);
+
+        assertThat(dataSource.fetchStudent(STUDENT)).isPresent();
+        assertThat(dataSource.getStatus()).containsEntry("circuitState", "CLOSED");
+        assertThat(dataSource.fetchStudent(STUDENT)).isPresent();
+    }
+
+    @Test
+    void failedTrialCallReopensTheCircuit() throws Exception {
+        HttpUbysDataSource dataSource = openCircuit();
+        Thread.sleep(OPEN_MS + 50);
+        int requestsBeforeTrial = ubys.getRequestCount();
+
+        assertThatThrownBy(() -> dataSource.fetchStudent(STUDENT)).isInstanceOf(UbysUnavailableException.class);
+        assertThat(ubys.getRequestCount()).isEqualTo(requestsBeforeTrial + 1);
+        assertThat(dataSource.getStatus()).containsEntry("circuitState", "OPEN");
+
+        assertThatThrownBy(() -> dataSource.fetchStudent(STUDENT))
+                .isInstanceOf(UbysUnavailableException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(ubys.getRequestCount()).isEqualTo(requestsBeforeTrial + 1);
+    }
+
+    @Test
+    void timedOutTrialCallReopensTheCircuit() throws Exception {
+        HttpUbysDataSource dataSource = dataSource(16, 100, 200, 0);
+        ubys.setFailing(true);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> dataSource.fetchStudent(STUDENT)).isInstanceOf(UbysUnavailableException.class);
+        }
+        ubys.setFailing(false);
+        ubys.setLatencyMs(1000);
+        Thread.sleep(OPEN_MS + 50);
+
+        assertThatThrownBy(() -> dataSource.fetchStudent(STUDENT)).isInstanceOf(UbysUnavailableException.class);
+        assertThat(dataSource.getStatus()).containsEntry("circuitState", "OPEN");
+        awaitAvailableCalls(dataSource, 16);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondTheLimit() throws Exception {
+        int maxConcurrentCalls = 2;
+        int callers = 6;
+        HttpUbysDataSource dataSource = dataSource(maxConcurrentCalls, 50, 5000, 0);
+        ubys.setLatencyMs(500);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return dataSource.fetchStudent(STUDENT);
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<?> result : results) {
+            try {
+                result.get(10, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause())
+                        .isInstanceOf(UbysUnavailableException.class)
+                        .hasMessageContaining("Too many concurrent");
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isEqualTo(maxConcurrentCalls);
+        assertThat(rejected).isEqualTo(callers - maxConcurrentCalls);
+        assertThat(ubys.getMaxConcurrentRequests()).isLessThanOrEqualTo(maxConcurrentCalls);
+        assertThat(dataSource.getStatus())
+                .containsEntry("rejectedCalls", (long) (callers - maxConcurrentCalls))
+                .containsEntry("availableCalls", maxConcurrentCalls)
+                .containsEntry("circuitState", "CLOSED");
+    }
+
+    @Test
+    void slowLookupIsHedgedWhenThereIsRoom() throws Exception {
+        HttpUbysDataSource dataSource = dataSource(2, 100, 2000, 50);
+        ubys.setLatencyMs(300);
+
+        assertThat(dataSource.fetchStudent(STUDENT)).isPresent();
+        assertThat(dataSource.getStatus()).containsEntry("hedgedCalls", 1L);
+        assertThat(ubys.getRequestCount()).isEqualTo(2);
+        // The losing attempt is cancelled and gives its permit back
+        awaitAvailableCalls(dataSource, 2);
+    }
+
+    @Test
+    void hedgeIsSkippedWhenTheBulkheadIsFull() throws Exception {
+        HttpUbysDataSource dataSource = dataSource(1, 100, 2000, 50);
+        ubys.setLatencyMs(300);
+
+        assertThat(dataSource.fetchStudent(STUDENT)).isPresent();
+        assertThat(dataSource.getStatus()).containsEntry("hedgedCalls", 0L);
+        assertThat(ubys.getRequestCount()).isEqualTo(1);
+        awaitAvailableCalls(dataSource, 1);
+    }
+
+    private HttpUbysDataSource openCircuit() {
+        HttpUbysDataSource dataSource = dataSource(16, 100, 2000, 0);
+        ubys.setFailing(true);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> dataSource.fetchStudent(STUDENT)).isInstanceOf(UbysUnavailableException.class);
+        }
+        assertThat(dataSource.getStatus()).containsEntry("circuitState", "OPEN");
+        return dataSource;
+    }
+
+    /**
+     * Permits of abandoned attempts are returned on the HTTP client's threads,
+     * shortly after the caller got its answer.
+     */
+    private static void awaitAvailableCalls(HttpUbysDataSource dataSource, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!Integer.valueOf(expected).equals(dataSource.getStatus().get("availableCalls"))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dataSource.getStatus()).containsEntry("availableCalls", expected);
+    }
+
+    private HttpUbysDataSource dataSource(int maxConcurrentCalls, long bulkheadWaitMs, long requestTimeoutMs,
+                                          long hedgeDelayMs) {
+        return new HttpUbysDataSource(objectMapper, ubys.getBaseUrl(), 1000, requestTimeoutMs, 5000,
+                maxConcurrentCalls, bulkheadWaitMs, FAILURE_THRESHOLD, OPEN_MS, hedgeDelayMs);
+    }
+}
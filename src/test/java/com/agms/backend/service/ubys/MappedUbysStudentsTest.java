@@ -0,0 +1,82 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.ubys.UbysDocument;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round trip of the bundled export through {@link UbysBinaryCompiler}, and the
+ * size limit of the single-buffer mapping on both sides.
+ */
+class MappedUbysStudentsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void servesTheSameRecordsAsTheJsonExport() throws IOException {
+        UbysDocument document;
+        try (InputStream in = new ClassPathResource("data/ubys.json").getInputStream()) {
+            document = objectMapper.readValue(in, UbysDocument.class);
+        }
+        Path snapshotFile = tempDir.resolve("ubys-snapshot.bin");
+        try (InputStream in = new ClassPathResource("data/ubys.json").getInputStream()) {
+            assertThat(UbysBinaryCompiler.compile(in, snapshotFile, objectMapper))
+                    .isEqualTo(document.getStudents().size());
+        }
+
+        MappedUbysStudents students = MappedUbysStudents.open(snapshotFile);
+
+        assertThat(students).isEqualTo(document.getStudents());
+        assertThat(students.get("missing")).isNull();
+        UbysDocument staff = students.readStaff(objectMapper);
+        assertThat(staff.getAdvisors()).isEqualTo(document.getAdvisors());
+        assertThat(staff.getDepartmentSecretaries()).isEqualTo(document.getDepartmentSecretaries());
+    }
+
+    @Test
+    void compileRejectsExportsOverTheSizeLimit() throws IOException {
+        Path snapshotFile = tempDir.resolve("ubys-snapshot.bin");
+
+        try (InputStream in = new ClassPathResource("data/ubys.json").getInputStream()) {
+            assertThatThrownBy(() -> UbysBinaryCompiler.compile(in, snapshotFile, objectMapper, 1024))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("too large for the binary snapshot format")
+                    .hasMessageContaining("ubys.binary.enabled=false");
+        }
+
+        // Neither the target nor the temporary files are left behind
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void openRejectsFilesOverTheMappingLimit() throws IOException {
+        Path snapshotFile = tempDir.resolve("huge.bin");
+        try (RandomAccessFile file = new RandomAccessFile(snapshotFile.toFile(), "rw")) {
+            // Sparse, so this does not use disk space
+            file.setLength(UbysBinaryCompiler.MAX_SNAPSHOT_SIZE + 1);
+        }
+
+        assertThatThrownBy(() -> MappedUbysStudents.open(snapshotFile))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("more than the " + UbysBinaryCompiler.MAX_SNAPSHOT_SIZE);
+    }
+}
@@ -0,0 +1,56 @@
+package com.agms.backend.service.ubys;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes UBYS exports of any size for the benchmarks: one advisor-less
+ * students section whose records all have the same shape.
+ */
+final class SyntheticUbysExport {
+
+    private SyntheticUbysExport() {
+    }
+
+    static void write(ObjectMapper objectMapper, Path target, int studentCount, int coursesPerStudent)
+            throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(target.toFile(), JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeObjectFieldStart(UbysSection.ADVISORS.getName());
+            json.writeEndObject();
+            json.writeObjectFieldStart(UbysSection.STUDENTS.getName());
+            for (int i = 0; i < studentCount; i++) {
+                String studentNumber = String.format("S%08d", i);
+                json.writeObjectFieldStart(studentNumber);
+                json.writeStringField("studentNumber", studentNumber);
+                json.writeStringField("advisorId", "ADV" + (i % 500));
+                json.writeStringField("department", "Computer Engineering");
+                json.writeObjectFieldStart("user");
+                json.writeStringField("id", "U" + i);
+                json.writeStringField("firstName", "First" + i);
+                json.writeStringField("lastName", "Last" + i);
+                json.writeStringField("email", "student" + i + "@std.iyte.edu.tr");
+                json.writeStringField("role", "STUDENT");
+                json.writeEndObject();
+                json.writeNumberField("semester", 8);
+                json.writeArrayFieldStart("courses");
+                for (int c = 0; c < coursesPerStudent; c++) {
+                    json.writeStartObject();
+                    json.writeStringField("code", "CENG" + (100 + c));
+                    json.writeStringField("name", "Course " + c);
+                    json.writeStringField("grade", "BA");
+                    json.writeNumberField("credit", 3);
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+    }
+}
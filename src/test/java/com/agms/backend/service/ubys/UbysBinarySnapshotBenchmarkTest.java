@@ -0,0 +1,108 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.ubys.UbysDocument;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the heap footprint and lookup latency of a snapshot parsed from
+ * JSON with one served from the memory-mapped binary format, on a synthetic
+ * export. Run with -Dbenchmark=true; -Dbenchmark.students=N and
+ * -Dbenchmark.lookups=N change the export size and the number of lookups.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UbysBinarySnapshotBenchmarkTest {
+
+    private static final int COURSES_PER_STUDENT = 40;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mappedSnapshotKeepsStudentsOffHeap() throws IOException {
+        int studentCount = Integer.getInteger("benchmark.students", 50_000);
+        int lookups = Integer.getInteger("benchmark.lookups", 200_000);
+        Path export = tempDir.resolve("ubys.json");
+        Path snapshotFile = tempDir.resolve("ubys-snapshot.bin");
+        SyntheticUbysExport.write(objectMapper, export, studentCount, COURSES_PER_STUDENT);
+
+        long startNanos = System.nanoTime();
+        try (InputStream inputStream = Files.newInputStream(export)) {
+            UbysBinaryCompiler.compile(inputStream, snapshotFile, objectMapper);
+        }
+        log.info("Compiled {} students: {} MB of JSON -> {} MB in {} ms", studentCount, Files.size(export) >> 20,
+                Files.size(snapshotFile) >> 20, (System.nanoTime() - startNanos) / 1_000_000);
+
+        long baseline = usedHeap();
+        startNanos = System.nanoTime();
+        UbysSnapshot jsonSnapshot;
+        try (InputStream inputStream = Files.newInputStream(export)) {
+            jsonSnapshot = UbysSnapshot.of(1, objectMapper.readValue(inputStream, UbysDocument.class));
+        }
+        long jsonLoadMs = (System.nanoTime() - startNanos) / 1_000_000;
+        long jsonHeap = usedHeap() - baseline;
+        List<String> keys = new ArrayList<>(jsonSnapshot.getStudentsByNumber().keySet());
+        long jsonLookupNanos = measureLookups(jsonSnapshot, keys, lookups);
+        jsonSnapshot = null;
+
+        baseline = usedHeap();
+        startNanos = System.nanoTime();
+        MappedUbysStudents students = MappedUbysStudents.open(snapshotFile);
+        UbysSnapshot mappedSnapshot = UbysSnapshot.of(2, students.readStaff(objectMapper), students);
+        long mappedLoadMs = (System.nanoTime() - startNanos) / 1_000_000;
+        long mappedHeap = usedHeap() - baseline;
+        long mappedLookupNanos = measureLookups(mappedSnapshot, keys, lookups);
+
+        log.info("json:   load {} ms, heap {} MB, lookup {} ns/op", jsonLoadMs, jsonHeap >> 20, jsonLookupNanos);
+        log.info("mapped: load {} ms, heap {} MB, lookup {} ns/op", mappedLoadMs, mappedHeap >> 20,
+                mappedLookupNanos);
+
+        assertThat(keys).hasSize(studentCount);
+        assertThat(mappedHeap).isLessThan(jsonHeap / 10);
+    }
+
+    /**
+     * Average time of a lookup that decodes the record, after a warm-up round
+     */
+    private static long measureLookups(UbysSnapshot snapshot, List<String> keys, int lookups) {
+        Random random = new Random(42);
+        int found = 0;
+        for (int i = 0; i < lookups; i++) {
+            found += snapshot.findStudent(keys.get(random.nextInt(keys.size()))).isPresent() ? 1 : 0;
+        }
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            found += snapshot.findStudent(keys.get(random.nextInt(keys.size()))).isPresent() ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        assertThat(found).as("lookups of known students").isEqualTo(2 * lookups);
+        return elapsed / lookups;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,152 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.ubys.UbysDocument;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import com.agms.backend.model.users.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the streaming student import with the former full-document path
+ * on a synthetic export. Run with -Dbenchmark=true, the export size can be
+ * changed with -Dbenchmark.students=N.
+ *
+ * Peak live heap is the largest heap occupancy observed right after a GC
+ * while the import runs, which excludes garbage that was never retained.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UbysImportBenchmarkTest {
+
+    private static final int COURSES_PER_STUDENT = 40;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void streamingImportKeepsLiveHeapFlat() throws Exception {
+        int studentCount = Integer.getInteger("benchmark.students", 50_000);
+        Path export = tempDir.resolve("ubys.json");
+        SyntheticUbysExport.write(objectMapper, export, studentCount, COURSES_PER_STUDENT);
+        log.info("Synthetic UBYS export: {} students, {} MB", studentCount, Files.size(export) >> 20);
+
+        // Warm up both paths on a small prefix of the same shape
+        Path warmup = tempDir.resolve("warmup.json");
+        SyntheticUbysExport.write(objectMapper, warmup, 2_000, COURSES_PER_STUDENT);
+        for (int i = 0; i < 3; i++) {
+            importFullDocument(warmup);
+            importStreaming(warmup);
+        }
+
+        Measurement legacy = measure("full document", () -> importFullDocument(export));
+        Measurement streaming = measure("streaming", () -> importStreaming(export));
+
+        assertThat(legacy.records()).isEqualTo(studentCount);
+        assertThat(streaming.records()).isEqualTo(studentCount);
+        assertThat(streaming.peakLiveHeap()).isLessThan(legacy.peakLiveHeap() / 2);
+    }
+
+    /**
+     * The path before the streaming importer: bind the whole export, then map
+     * every record while the document is still reachable.
+     */
+    private int importFullDocument(Path export) throws IOException {
+        UbysDocument document = objectMapper.readValue(export.toFile(), UbysDocument.class);
+        List<Student> students = new ArrayList<>(document.getStudents().size());
+        for (Map.Entry<String, UbysStudentRecord> entry : document.getStudents().entrySet()) {
+            students.add(UbysEntityMapper.toStudent(entry.getKey(), entry.getValue()));
+            if (students.size() == UbysStreamingImporter.DEFAULT_BATCH_SIZE) {
+                students.clear();
+            }
+        }
+        return document.getStudents().size();
+    }
+
+    private int importStreaming(Path export) throws IOException {
+        UbysStreamingImporter importer = new UbysStreamingImporter(objectMapper);
+        try (InputStream in = Files.newInputStream(export)) {
+            return importer.importSection(in, UbysSection.STUDENTS, UbysEntityMapper::toStudent,
+                    UbysStreamingImporter.DEFAULT_BATCH_SIZE, batch -> {
+                    });
+        }
+    }
+
+    private Measurement measure(String name, Callable<Integer> importer) throws Exception {
+        System.gc();
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Set<String> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .map(MemoryPoolMXBean::getName)
+                .collect(Collectors.toSet());
+        long baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        AtomicLong peakAfterGc = new AtomicLong(baseline);
+        NotificationListener listener = (Notification notification, Object handback) -> {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long used = 0;
+            for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                if (heapPools.contains(pool.getKey())) {
+                    used += pool.getValue().getUsed();
+                }
+            }
+            peakAfterGc.accumulateAndGet(used, Math::max);
+        };
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        collectors.forEach(gc -> ((NotificationEmitter) gc).addNotificationListener(listener, null, null));
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        int records;
+        try {
+            records = importer.call();
+        } finally {
+            for (GarbageCollectorMXBean gc : collectors) {
+                ((NotificationEmitter) gc).removeNotificationListener(listener);
+            }
+        }
+        long wallMillis = (System.nanoTime() - start) / 1_000_000;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Measurement measurement = new Measurement(records, wallMillis, allocated, peakAfterGc.get() - baseline);
+        log.info("{}: {} records in {} ms, {} MB allocated, peak live heap {} MB", name, records,
+                wallMillis, allocated >> 20, measurement.peakLiveHeap() >> 20);
+        return measurement;
+    }
+
+    private record Measurement(int records, long wallMillis, long allocatedBytes, long peakLiveHeap) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.agms.backend.service.ubys;
+
+import com.agms.backend.model.ubys.UbysDocument;
+import com.agms.backend.model.ubys.UbysStudentRecord;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stand-in for the remote UBYS registrar, serving the endpoints
+ * {@link HttpUbysDataSource} expects from a bundled export on an ephemeral
+ * port. Latency and failures can be switched at runtime to exercise the HTTP
+ * client's timeouts, bulkhead, circuit breaker and hedging.
+ */
+@Slf4j
+public class UbysStandInServer implements AutoCloseable {
+
+    private final Resource exportResource;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long latencyMs;
+    private volatile boolean failing;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private Map<String, UbysStudentRecord> studentsByNumber = Map.of();
+
+    public UbysStandInServer(ObjectMapper objectMapper, Resource exportResource) {
+        this.objectMapper = objectMapper.copy();
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.exportResource = exportResource;
+    }
+
+    public UbysStandInServer start() throws IOException {
+        try (InputStream inputStream = exportResource.getInputStream()) {
+            UbysDocument document = objectMapper.readValue(inputStream, UbysDocument.class);
+            if (document.getStudents() != null) {
+                studentsByNumber = Map.copyOf(document.getStudents());
+            }
+        }
+
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/export", this::handleExport);
+        server.createContext("/students/", this::handleStudent);
+        server.start();
+
+        log.info("UBYS stand-in listening on port {}", server.getAddress().getPort());
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Delays every following request by {@code latencyMs} before answering it.
+     */
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    /**
+     * Answers every following request with 503 while {@code failing} is set.
+     */
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    /**
+     * @return number of requests received so far
+     */
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * @return the most requests that were being served at the same time
+     */
+    public int getMaxConcurrentRequests() {
+        return maxInFlight.get();
+    }
+
+    private void handleExport(HttpExchange exchange) throws IOException {
+        try {
+            if (injectFaults(exchange)) {
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            try (InputStream inputStream = exportResource.getInputStream();
+                    OutputStream outputStream = exchange.getResponseBody()) {
+                inputStream.transferTo(outputStream);
+            }
+        } finally {
+            finish(exchange);
+        }
+    }
+
+    private void handleStudent(HttpExchange exchange) throws IOException {
+        try {
+            if (injectFaults(exchange)) {
+                return;
+            }
+            String path = exchange.getRequestURI().getRawPath();
+            if ("/students/batch".equals(path) && "POST".equals(exchange.getRequestMethod())) {
+                handleStudentBatch(exchange);
+                return;
+            }
+            String studentNumber = URLDecoder.decode(path.substring("/students/".length()), StandardCharsets.UTF_8);
+
+            UbysStudentRecord studentRecord = studentsByNumber.get(studentNumber);
+            if (studentRecord == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(studentRecord);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } finally {
+            finish(exchange);
+        }
+    }
+
+    private void handleStudentBatch(HttpExchange exchange) throws IOException {
+        List<String> studentNumbers = objectMapper.readValue(exchange.getRequestBody(),
+                new TypeReference<List<String>>() {
+                });
+
+        Map<String, UbysStudentRecord> found = new LinkedHashMap<>();
+        for (String studentNumber : studentNumbers) {
+            UbysStudentRecord studentRecord = studentsByNumber.get(studentNumber);
+            if (studentRecord != null) {
+                found.put(studentNumber, studentRecord);
+            }
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(found);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * Counts the request, applies the current latency and, while failing,
+     * answers 503 instead of serving it.
+     *
+     * @return true if the request was already answered with an error
+     */
+    private boolean injectFaults(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        long delay = latencyMs;
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (failing) {
+            exchange.sendResponseHeaders(503, -1);
+            return true;
+        }
+        return false;
+    }
+
+    private void finish(HttpExchange exchange) {
+        inFlight.decrementAndGet();
+        exchange.close();
+    }
+}
@@ -0,0 +1,41 @@
+package com.agms.backend.support;
+
+import com.agms.backend.model.RegularGraduationJob;
+import com.agms.backend.model.RegularGraduationJobStatus;
+import com.agms.backend.model.users.StudentAffairs;
+import com.agms.backend.repository.RegularGraduationJobRepository;
+import com.agms.backend.service.SubmissionService;
+
+import java.time.Duration;
+
+/**
+ * Starts regular graduation for a term as student affairs and waits for the
+ * partitioned job to finish.
+ */
+public final class RegularGraduations {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private RegularGraduations() {
+    }
+
+    public static RegularGraduationJob startAndAwait(SubmissionService submissionService,
+            RegularGraduationJobRepository jobRepository, StudentAffairs studentAffairs, String term)
+            throws InterruptedException {
+        TestUsers.runAs(studentAffairs, () -> submissionService.startRegularGraduation(term));
+        return awaitCompletion(jobRepository, term);
+    }
+
+    public static RegularGraduationJob awaitCompletion(RegularGraduationJobRepository jobRepository, String term)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            RegularGraduationJob job = jobRepository.findByTerm(term).orElseThrow();
+            if (job.getStatus() != RegularGraduationJobStatus.RUNNING) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Regular graduation of term " + term + " did not finish within " + TIMEOUT);
+    }
+}
@@ -0,0 +1,52 @@
+package com.agms.backend.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Consumer;
+
+/**
+ * Writable copies of the bundled UBYS export, for tests that change UBYS
+ * data while the application runs.
+ */
+public final class TestExports {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private TestExports() {
+    }
+
+    /**
+     * @return a temporary copy of data/ubys.json
+     */
+    public static Path copyOfBundled() {
+        try (InputStream in = new ClassPathResource("data/ubys.json").getInputStream()) {
+            Path file = Files.createTempFile("ubys", ".json");
+            file.toFile().deleteOnExit();
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rewrites the export after applying the change to its JSON tree
+     */
+    public static void update(Path export, Consumer<ObjectNode> change) {
+        try {
+            ObjectNode tree = (ObjectNode) OBJECT_MAPPER.readTree(export.toFile());
+            change.accept(tree);
+            OBJECT_MAPPER.writeValue(export.toFile(), tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}